@@ -0,0 +1,197 @@
+package com.amazon.benchmark;
+
+import com.amazon.dao.impl.DBConnection;
+import com.amazon.dao.impl.ProductServiceDaoImpl;
+import com.amazon.model.BatchResult;
+import com.amazon.model.Product;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Represents the database of the DB backed benchmarks, shared by every benchmark of a fork
+ * </p>
+ *
+ * <p>
+ * Unless the database_url key is set, an in-memory H2 database in PostgreSQL mode stands in for the
+ * application database and is created from the schema.sql resource. Placing and cancelling orders use
+ * data-modifying WITH queries that H2 does not support, on H2 those benchmarks are skipped for the DB backed
+ * service and they need a PostgreSQL database given with -jvmArgsAppend "-Ddatabase_url=jdbc:postgresql://... -Duser=... -Dpassword=...". Point it at a scratch
+ * database, the products and orders of the benchmark user are added to it when it has no products
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+final class BenchmarkDatabase {
+
+    static final long USER_ID = 1;
+    static final int PRODUCT_COUNT = 10000;
+    static final int ORDER_COUNT = 100;
+    private static final String H2_URL = "jdbc:h2:mem:amazon;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE";
+    private static final String COUNT_PRODUCTS_QUERY = "SELECT COUNT(*) FROM PRODUCT";
+    private static final String INSERT_ORDER_QUERY = "INSERT INTO ORDERS (PRODUCT_ID, QUANTITY, PRICE, PRODUCT_NAME, USER_ID, PAYMENT_TYPE) "
+            + "VALUES (?, 1, ?, ?, ?, ?::payment_types)";
+    private static final String SELECT_PRODUCT_IDS_QUERY = "SELECT ID FROM PRODUCT ORDER BY ID";
+    private static long[] productIds;
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * <p>
+     * Creates and fills the database on the first call of the fork
+     * </p>
+     *
+     * @return Represents the ids of the products in the database
+     */
+    static synchronized long[] setUp() {
+        if (null != productIds) {
+            return productIds;
+        }
+
+        if (null == System.getProperty("database_url") && null == System.getenv("AMAZON_DATABASE_URL")) {
+            System.setProperty("database_url", H2_URL);
+            System.setProperty("user", "sa");
+            System.setProperty("password", "");
+        }
+
+        try {
+            if (isH2()) {
+                runScript("schema.sql");
+            }
+
+            if (0 == countProducts()) {
+                addOrders(addProducts());
+            }
+            productIds = getProductIds();
+        } catch (SQLException | InterruptedException | IOException exception) {
+            throw new IllegalStateException("The benchmark database could not be set up", exception);
+        }
+        return productIds;
+    }
+
+    static boolean isH2() {
+        return DBConnection.getInstance().getConfiguration().getUrl().startsWith("jdbc:h2:");
+    }
+
+    /**
+     * @return Represents the products of the benchmark user, with a stock that the order benchmarks never use up
+     */
+    static List<Product> newProducts() {
+        final List<Product> products = new ArrayList<>(PRODUCT_COUNT);
+        final Product.Category[] categories = Product.Category.values();
+
+        for (int index = 0; index < PRODUCT_COUNT; index++) {
+            final Product product = new Product();
+
+            product.setName("product" + index);
+            product.setDescription("description of the benchmark product " + index);
+            product.setAvailable(Long.MAX_VALUE / 2);
+            product.setPrice(10.0 + index % 1000);
+            product.setCategory(categories[index % categories.length]);
+            product.setUpdatedTime(new Timestamp(System.currentTimeMillis()));
+            product.setUserId(USER_ID);
+            products.add(product);
+        }
+        return products;
+    }
+
+    private static List<Product> addProducts() {
+        final List<Product> products = newProducts();
+        final BatchResult batchResult = ProductServiceDaoImpl.getInstance().addAll(products);
+
+        if (!batchResult.getFailures().isEmpty()) {
+            throw new IllegalStateException(batchResult.getFailures().values().iterator().next());
+        }
+        return products;
+    }
+
+    private static void addOrders(final List<Product> products) throws SQLException, InterruptedException {
+        final DBConnection dbConnection = DBConnection.getInstance();
+
+        try (final Connection connection = dbConnection.get()) {
+            final PreparedStatement statement = connection.prepareStatement(INSERT_ORDER_QUERY);
+
+            for (int index = 0; index < ORDER_COUNT; index++) {
+                final Product product = products.get(index);
+
+                statement.setLong(1, product.getId());
+                statement.setDouble(2, product.getPrice());
+                statement.setString(3, product.getName());
+                statement.setLong(4, USER_ID);
+                statement.setString(5, "CASH_ON_DELIVERY");
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            statement.close();
+            dbConnection.release(connection);
+        }
+    }
+
+    private static long countProducts() throws SQLException, InterruptedException {
+        final DBConnection dbConnection = DBConnection.getInstance();
+
+        try (final Connection connection = dbConnection.get()) {
+            final ResultSet result = connection.prepareStatement(COUNT_PRODUCTS_QUERY).executeQuery();
+            final long count = result.next() ? result.getLong(1) : 0;
+
+            result.close();
+            dbConnection.release(connection);
+
+            return count;
+        }
+    }
+
+    private static long[] getProductIds() throws SQLException, InterruptedException {
+        final DBConnection dbConnection = DBConnection.getInstance();
+
+        try (final Connection connection = dbConnection.get()) {
+            final ResultSet result = connection.prepareStatement(SELECT_PRODUCT_IDS_QUERY).executeQuery();
+            final List<Long> ids = new ArrayList<>();
+
+            while (result.next()) {
+                ids.add(result.getLong(1));
+            }
+            result.close();
+            dbConnection.release(connection);
+
+            return ids.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+
+    private static void runScript(final String resourceName) throws SQLException, InterruptedException, IOException {
+        final String script;
+
+        try (final InputStream resource = BenchmarkDatabase.class.getClassLoader().getResourceAsStream(resourceName)) {
+            if (null == resource) {
+                throw new IOException(String.format("The %s resource is missing", resourceName));
+            }
+            script = new String(resource.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        final DBConnection dbConnection = DBConnection.getInstance();
+
+        try (final Connection connection = dbConnection.get()) {
+            final Statement statement = connection.createStatement();
+
+            for (final String sql : script.replaceAll("(?m)^--.*$", "").split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+            statement.close();
+            dbConnection.release(connection);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.amazon.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.BenchmarkList;
+import org.openjdk.jmh.runner.BenchmarkListEntry;
+import org.openjdk.jmh.runner.Defaults;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.format.OutputFormatFactory;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+import org.openjdk.jmh.runner.options.VerboseMode;
+import org.openjdk.jmh.util.Optional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+
+/**
+ * <p>
+ * Represents the main class of the benchmark jar, it takes the usual JMH command line options and always
+ * adds the GC profiler so every result comes with its allocation rate and allocated bytes per operation. The
+ * help and list options are handed to the JMH main class
+ * </p>
+ *
+ * <p>
+ * Without a database_url the DB backed benchmarks run on H2, see {@link BenchmarkDatabase}, which cannot place
+ * orders. Unless the service parameter is given, the order benchmark is then left out of the run and run
+ * afterwards for the in-memory service only, and a result file gets the results of both runs
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public final class BenchmarkRunner {
+
+    private static final String ORDER_BENCHMARK = ProductServiceBenchmark.class.getName() + ".placeAndCancelOrder";
+    private static final String ORDER_BENCHMARK_PATTERN = "^" + ORDER_BENCHMARK.replace(".", "\\.") + "$";
+    private static final String OTHER_BENCHMARKS_PATTERN = "^(?!" + ORDER_BENCHMARK_PATTERN.substring(1) + ")";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList() || commandLineOptions.shouldListWithParams()
+                || commandLineOptions.shouldListProfilers() || commandLineOptions.shouldListResultFormats()) {
+            Main.main(args);
+
+            return;
+        }
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+
+        if (!isGcProfiled(commandLineOptions)) {
+            options.addProfiler(GCProfiler.class);
+        }
+
+        if (isDatabaseGiven(commandLineOptions) || commandLineOptions.getParameter("service").hasValue()
+                || !isSelected(commandLineOptions, ORDER_BENCHMARK)) {
+            new Runner(options.build()).run();
+
+            return;
+        }
+        final List<RunResult> results = new ArrayList<>();
+
+        if (hasOtherBenchmarks(commandLineOptions)) {
+            results.addAll(new Runner(new OptionsBuilder().parent(options.build())
+                    .exclude(ORDER_BENCHMARK_PATTERN).build()).run());
+        }
+        System.out.println("\nH2 cannot place orders, running " + ORDER_BENCHMARK + " for the memory service only");
+        results.addAll(new Runner(new OptionsBuilder().parent(options.build())
+                .exclude(OTHER_BENCHMARKS_PATTERN).param("service", "memory").build()).run());
+        writeResults(commandLineOptions, results);
+    }
+
+    /**
+     * @return True if the forks are pointed at a database by the AMAZON_DATABASE_URL variable or a
+     * -Ddatabase_url argument, the way {@link BenchmarkDatabase} decides whether to stand in with H2
+     */
+    private static boolean isDatabaseGiven(final CommandLineOptions commandLineOptions) {
+        if (null != System.getenv("AMAZON_DATABASE_URL") || null != System.getProperty("database_url")) {
+            return true;
+        }
+
+        for (final Optional<Collection<String>> jvmArgs : List.of(commandLineOptions.getJvmArgs(),
+                commandLineOptions.getJvmArgsPrepend(), commandLineOptions.getJvmArgsAppend())) {
+            for (final String jvmArg : jvmArgs.orElse(List.of())) {
+                if (jvmArg.startsWith("-Ddatabase_url=")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSelected(final CommandLineOptions commandLineOptions, final String benchmark) {
+        return findBenchmarks(commandLineOptions).stream().anyMatch(entry -> benchmark.equals(entry.getUsername()));
+    }
+
+    private static boolean hasOtherBenchmarks(final CommandLineOptions commandLineOptions) {
+        return findBenchmarks(commandLineOptions).stream()
+                .anyMatch(entry -> !ORDER_BENCHMARK.equals(entry.getUsername()));
+    }
+
+    private static SortedSet<BenchmarkListEntry> findBenchmarks(final CommandLineOptions commandLineOptions) {
+        final List<String> includes = new ArrayList<>(commandLineOptions.getIncludes());
+
+        if (includes.isEmpty()) {
+            includes.add(".*");
+        }
+        return BenchmarkList.defaultList().find(OutputFormatFactory.createFormatInstance(System.out, VerboseMode.SILENT),
+                includes, commandLineOptions.getExcludes());
+    }
+
+    /**
+     * <p>
+     * Writes the results of both runs to the result file, each run wrote only its own results to it
+     * </p>
+     */
+    private static void writeResults(final CommandLineOptions commandLineOptions, final List<RunResult> results) {
+        if (!commandLineOptions.getResult().hasValue() && !commandLineOptions.getResultFormat().hasValue()) {
+            return;
+        }
+        final ResultFormatType format = commandLineOptions.getResultFormat().orElse(Defaults.RESULT_FORMAT);
+        final String fileName = commandLineOptions.getResult()
+                .orElse(Defaults.RESULT_FILE_PREFIX + "." + format.toString().toLowerCase());
+
+        ResultFormatFactory.getInstance(format, fileName).writeOut(results);
+    }
+
+    private static boolean isGcProfiled(final CommandLineOptions commandLineOptions) {
+        for (final ProfilerConfig profiler : commandLineOptions.getProfilers()) {
+            if ("gc".equals(profiler.getKlass()) || GCProfiler.class.getName().equals(profiler.getKlass())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package com.amazon.benchmark;
+
+import com.amazon.dao.impl.DBConnection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures the throughput of taking a connection from the {@link DBConnection} pool and handing it back
+ * with 1 to 64 threads. The pool holds at most pool.max_size connections, 15 by default, so from 16 threads
+ * on the threads wait for each other and the score shows the cost of the contention
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+
+    private DBConnection dbConnection;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.setUp();
+        dbConnection = DBConnection.getInstance();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Connection getRelease1Thread() throws SQLException, InterruptedException {
+        return getRelease();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Connection getRelease4Threads() throws SQLException, InterruptedException {
+        return getRelease();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Connection getRelease16Threads() throws SQLException, InterruptedException {
+        return getRelease();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Connection getRelease64Threads() throws SQLException, InterruptedException {
+        return getRelease();
+    }
+
+    private Connection getRelease() throws SQLException, InterruptedException {
+        final Connection connection = dbConnection.get();
+
+        dbConnection.release(connection);
+
+        return connection;
+    }
+}
@@ -0,0 +1,496 @@
+package com.amazon.benchmark;
+
+import com.amazon.controller.AuthenticationController;
+import com.amazon.controller.ProductController;
+import com.amazon.controller.UserController;
+import com.amazon.dao.impl.DBConnection;
+import com.amazon.metrics.DaoMetrics;
+import com.amazon.metrics.LatencyHistogram;
+import com.amazon.model.BatchResult;
+import com.amazon.model.Cart;
+import com.amazon.model.Order;
+import com.amazon.model.Page;
+import com.amazon.model.Product;
+import com.amazon.model.Session;
+import com.amazon.model.User;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Represents a headless load generator that drives the controllers the way the views do, with many shoppers
+ * and sellers at once, and reports the throughput and the latency percentiles of every operation
+ * </p>
+ *
+ * <p>
+ * Every simulated user signs up and signs in through the {@link AuthenticationController} and then runs on a
+ * thread of its own, waiting an exponentially distributed think time between two actions. A shopper picks its
+ * actions by the configured weights: browse reads a page of products and one of them, cart adds a product to the
+ * cart and lists it, keeping the ten latest, order orders a unit of a product and cancel reads the first page of
+ * its orders and cancels one of them, if there is any. A seller adds its products once and then either browses
+ * its own products or updates the price of one of them. This is a closed model, a user waits for its action
+ * before thinking again, so a slow server also lowers the offered load. An action that fails, by returning false
+ * or by throwing, is timed in a histogram of its own and counted by its cause, and a cancel that finds no order
+ * is counted as skipped rather than timed. The latencies of the warm up are not reported, the report ends with
+ * the latencies of every DAO method
+ * </p>
+ *
+ * <p>
+ * The database is the one of the {@link BenchmarkDatabase}, an in-memory H2 database unless -Ddatabase_url
+ * points at PostgreSQL. Ordering and cancelling use queries that H2 does not support, on H2 they are left out
+ * of the shopper mix. The options are given as key=value arguments or system properties
+ * </p>
+ * <pre>
+ *     java -cp target/benchmarks.jar com.amazon.benchmark.LoadGenerator shoppers=50 sellers=5 duration=60 \
+ *         warmup=10 think_ms=100 mix=browse:60,cart:20,order:15,cancel:5 seller_mix=browse:50,update:50
+ * </pre>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class LoadGenerator {
+
+    private static final String PASSWORD = "Load@1234";
+    private static final String ADDRESS = "12/34 load street";
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_CART_SIZE = 10;
+    private static final String[] OPERATIONS = {"browse", "cart", "order", "cancel", "seller_browse", "update"};
+
+    private final AuthenticationController authenticationController;
+    private final ProductController productController;
+    private final UserController userController;
+    private final Map<String, String> options;
+    private final Map<String, LatencyHistogram> histograms;
+    private final Map<String, LatencyHistogram> failureHistograms;
+    private final Map<String, LongAdder> skips;
+    private final Map<String, LongAdder> errorCauses;
+    private final LatencyHistogram signInHistogram;
+    private final String runId;
+    private final long[] productIds;
+    private volatile boolean isMeasuring;
+    private volatile boolean isRunning;
+
+    private LoadGenerator(final Map<String, String> options, final long[] productIds) {
+        authenticationController = AuthenticationController.getInstance();
+        productController = ProductController.getInstance();
+        userController = UserController.getInstance();
+        this.options = options;
+        this.productIds = productIds;
+        histograms = new LinkedHashMap<>();
+        failureHistograms = new LinkedHashMap<>();
+        skips = new LinkedHashMap<>();
+        errorCauses = new ConcurrentHashMap<>();
+        signInHistogram = new LatencyHistogram();
+        runId = Long.toString(System.currentTimeMillis() % 1_000_000, 36);
+
+        for (final String operation : OPERATIONS) {
+            histograms.put(operation, new LatencyHistogram());
+            failureHistograms.put(operation, new LatencyHistogram());
+            skips.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final Map<String, String> options = new LinkedHashMap<>();
+
+        for (final String arg : args) {
+            final int separator = arg.indexOf('=');
+
+            if (separator <= 0) {
+                System.out.println("Options are given as key=value, see the LoadGenerator class comment");
+                return;
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        // the database is set up first, it chooses the url the controllers connect to
+        new LoadGenerator(options, BenchmarkDatabase.setUp()).run();
+    }
+
+    private void run() throws InterruptedException {
+        final int shopperCount = getInt("shoppers", 20);
+        final int sellerCount = getInt("sellers", 2);
+        final long durationNanos = TimeUnit.SECONDS.toNanos(getInt("duration", 30));
+        final long warmupNanos = TimeUnit.SECONDS.toNanos(getInt("warmup", 5));
+        final double thinkMillis = Math.max(0, Double.parseDouble(getOption("think_ms", "100")));
+        final Mix shopperMix = new Mix(BenchmarkDatabase.isH2()
+                ? withoutOrders(getOption("mix", "browse:60,cart:20,order:15,cancel:5"))
+                : getOption("mix", "browse:60,cart:20,order:15,cancel:5"));
+        final Mix sellerMix = new Mix(getOption("seller_mix", "browse:50,update:50"));
+
+        System.out.printf("signing up %d shoppers and %d sellers\n", shopperCount, sellerCount);
+        final List<Thread> threads = new ArrayList<>();
+        final CountDownLatch ready = new CountDownLatch(shopperCount + sellerCount);
+
+        for (int index = 0; index < shopperCount + sellerCount; index++) {
+            final boolean isSeller = index >= shopperCount;
+            final Long userId = signUp(index);
+            final Thread thread = new Thread(() -> {
+                final List<Long> ownProductIds = isSeller ? addProducts(userId) : List.of();
+
+                ready.countDown();
+                awaitStart(ready);
+
+                while (isRunning) {
+                    think(thinkMillis);
+
+                    if (!isRunning) {
+                        break;
+                    }
+
+                    if (isSeller) {
+                        sell(sellerMix.next(), userId, ownProductIds);
+                    } else {
+                        shop(shopperMix.next(), userId);
+                    }
+                }
+            }, (isSeller ? "seller-" : "shopper-") + index);
+
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        isRunning = true;
+        threads.forEach(Thread::start);
+        ready.await();
+        System.out.printf("warming up for %d s\n", TimeUnit.NANOSECONDS.toSeconds(warmupNanos));
+        TimeUnit.NANOSECONDS.sleep(warmupNanos);
+        histograms.values().forEach(LatencyHistogram::reset);
+        failureHistograms.values().forEach(LatencyHistogram::reset);
+        DaoMetrics.getInstance().reset();
+        skips.values().forEach(LongAdder::reset);
+        errorCauses.clear();
+        isMeasuring = true;
+        final long start = System.nanoTime();
+
+        System.out.printf("measuring for %d s\n", TimeUnit.NANOSECONDS.toSeconds(durationNanos));
+        TimeUnit.NANOSECONDS.sleep(durationNanos);
+        isMeasuring = false;
+        final long elapsedNanos = System.nanoTime() - start;
+
+        isRunning = false;
+
+        for (final Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        report(elapsedNanos);
+    }
+
+    /**
+     * @return Represents the id of the new user, the email and phone number are made unique by the run id
+     */
+    private Long signUp(final int index) {
+        final User user = new User();
+        final String email = String.format("load%su%d@amazon.com", runId, index);
+
+        user.setName("load" + index);
+        user.setEmail(email);
+        user.setPassword(PASSWORD);
+        user.setAddress(ADDRESS);
+        user.setPhoneNumber(String.format("9%09d", Math.floorMod(Long.parseLong(runId, 36) * 100_000 + index, 1_000_000_000L)));
+
+        if (!authenticationController.signUp(user)) {
+            throw new IllegalStateException(String.format("The user %s could not be signed up", email));
+        }
+        final long start = System.nanoTime();
+        final Session session = authenticationController.signIn(email, PASSWORD);
+
+        signInHistogram.record(System.nanoTime() - start);
+
+        if (null == session) {
+            throw new IllegalStateException(String.format("The user %s could not sign in", email));
+        }
+        return userController.getDetail(session.getUserId()).getId();
+    }
+
+    private List<Long> addProducts(final Long userId) {
+        final List<Product> products = new ArrayList<>();
+        final Product.Category[] categories = Product.Category.values();
+
+        for (int index = 0; index < getInt("seller_products", 20); index++) {
+            final Product product = new Product();
+
+            product.setName("load product" + index);
+            product.setDescription("product of the load generator seller " + userId);
+            product.setAvailable(Long.MAX_VALUE / 2);
+            product.setPrice(100.0 + index);
+            product.setCategory(categories[index % categories.length]);
+            product.setUpdatedTime(new Timestamp(System.currentTimeMillis()));
+            product.setUserId(userId);
+            products.add(product);
+        }
+        final BatchResult batchResult = productController.addAll(products);
+
+        if (!batchResult.getFailures().isEmpty()) {
+            throw new IllegalStateException(batchResult.getFailures().values().iterator().next());
+        }
+        return batchResult.getIds();
+    }
+
+    private void shop(final String action, final Long userId) {
+        switch (action) {
+            case "browse" -> measure("browse", () -> {
+                final Page<Product> page = productController.getProductPage(null, PAGE_SIZE);
+
+                return Outcome.of(!page.getItems().isEmpty() && null != productController.get(randomProductId()));
+            });
+            case "cart" -> measure("cart", () -> {
+                final Product product = productController.get(randomProductId());
+                final Cart cart = new Cart();
+
+                cart.setUserId(userId);
+                cart.setProductId(product.getId());
+                cart.setProductName(product.getName());
+                cart.setPrice(product.getPrice());
+                cart.setQuantity(1L);
+                final boolean isAdded = productController.addToCart(cart);
+                final List<Cart> cartList = productController.getCartList(userId);
+
+                if (cartList.size() > MAX_CART_SIZE) {
+                    productController.removeCart(cartList.get(0).getId());
+                }
+                return Outcome.of(isAdded);
+            });
+            case "order" -> measure("order", () -> {
+                final Order order = new Order();
+
+                order.setUserId(userId);
+                order.setProductId(randomProductId());
+                order.setQuantity(1L);
+                order.setPaymentType(Order.Payment.CASH_ON_DELIVERY);
+
+                return Outcome.of(productController.order(order));
+            });
+            case "cancel" -> measure("cancel", () -> {
+                final List<Order> orders = productController.getOrderPage(userId, null, PAGE_SIZE).getItems();
+
+                if (orders.isEmpty()) {
+                    return Outcome.SKIPPED;
+                }
+                return Outcome.of(productController.cancelOrder(orders.get(0).getId()));
+            });
+            default -> throw new IllegalArgumentException(String.format("Unknown shopper action %s", action));
+        }
+    }
+
+    private void sell(final String action, final Long userId, final List<Long> ownProductIds) {
+        switch (action) {
+            case "browse" -> measure("seller_browse", () ->
+                    Outcome.of(!productController.getUserProductPage(userId, null, PAGE_SIZE).getItems().isEmpty()));
+            case "update" -> measure("update", () -> {
+                final Long productId = ownProductIds.get(ThreadLocalRandom.current().nextInt(ownProductIds.size()));
+                final Product product = productController.get(productId);
+
+                product.setPrice(100.0 + ThreadLocalRandom.current().nextInt(1000));
+                product.setUpdatedTime(new Timestamp(System.currentTimeMillis()));
+
+                return Outcome.of(productController.update(productId, product));
+            });
+            default -> throw new IllegalArgumentException(String.format("Unknown seller action %s", action));
+        }
+    }
+
+    /**
+     * <p>
+     * Times the action, the latency of a failed action goes to the failure histogram of the operation and the
+     * failure is counted by its exception class, or as "returned false". A skipped action is only counted
+     * </p>
+     */
+    private void measure(final String operation, final Action action) {
+        final long start = System.nanoTime();
+        Outcome outcome;
+        String cause = "returned false";
+
+        try {
+            outcome = action.run();
+        } catch (Exception exception) {
+            outcome = Outcome.FAILED;
+            cause = exception.getClass().getName();
+        }
+        final long latency = System.nanoTime() - start;
+
+        if (!isMeasuring) {
+            return;
+        }
+
+        switch (outcome) {
+            case DONE -> histograms.get(operation).record(latency);
+            case SKIPPED -> skips.get(operation).increment();
+            default -> {
+                failureHistograms.get(operation).record(latency);
+                errorCauses.computeIfAbsent(operation + " " + cause, key -> new LongAdder()).increment();
+            }
+        }
+    }
+
+    /**
+     * @return Represents the shopper mix without the order and cancel actions, which always fail on H2
+     */
+    private static String withoutOrders(final String mix) {
+        final List<String> pairs = new ArrayList<>();
+
+        for (final String pair : mix.split(",")) {
+            final String action = pair.trim().split(":")[0];
+
+            if ("order".equals(action) || "cancel".equals(action)) {
+                System.out.printf("skipping the %s action, H2 cannot run its queries\n", action);
+            } else {
+                pairs.add(pair);
+            }
+        }
+
+        if (pairs.isEmpty()) {
+            throw new IllegalArgumentException(String.format("The mix %s has no action H2 can run", mix));
+        }
+        return String.join(",", pairs);
+    }
+
+    private long randomProductId() {
+        return productIds[ThreadLocalRandom.current().nextInt(productIds.length)];
+    }
+
+    private static void think(final double meanMillis) {
+        if (meanMillis <= 0) {
+            return;
+        }
+        final double millis = -meanMillis * Math.log(1 - ThreadLocalRandom.current().nextDouble());
+
+        try {
+            TimeUnit.MICROSECONDS.sleep((long) (millis * 1000));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitStart(final CountDownLatch ready) {
+        try {
+            ready.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void report(final long elapsedNanos) {
+        final double seconds = elapsedNanos / 1e9;
+
+        System.out.printf("\n%-14s %9s %7s %7s %9s %9s %9s %9s %9s %9s\n", "operation", "count", "errors",
+                "skipped", "ops/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms");
+        printRow("sign_in", signInHistogram, 0, 0, 0);
+
+        for (final String operation : OPERATIONS) {
+            printRow(operation, histograms.get(operation), failureHistograms.get(operation).getCount(),
+                    skips.get(operation).sum(), seconds);
+        }
+
+        if (!errorCauses.isEmpty()) {
+            System.out.printf("\n%-14s %9s %9s %9s %9s %9s %9s\n", "failed", "count", "p50 ms", "p95 ms", "p99 ms",
+                    "p999 ms", "max ms");
+
+            for (final String operation : OPERATIONS) {
+                final LatencyHistogram histogram = failureHistograms.get(operation);
+
+                if (0 < histogram.getCount()) {
+                    System.out.printf("%-14s %9d %9.3f %9.3f %9.3f %9.3f %9.3f\n", operation, histogram.getCount(),
+                            histogram.getPercentileMillis(50), histogram.getPercentileMillis(95),
+                            histogram.getPercentileMillis(99), histogram.getPercentileMillis(99.9),
+                            histogram.getMaxNanos() / 1e6);
+                }
+            }
+            System.out.println("\nerrors by cause");
+            errorCauses.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry ->
+                    System.out.printf("%-60s %9d\n", entry.getKey(), entry.getValue().sum()));
+        }
+        System.out.printf("\n%s", DBConnection.getInstance().getStatistics());
+        System.out.printf("\n%s", DaoMetrics.getInstance().dump());
+    }
+
+    /**
+     * @param seconds Represents the measured time the throughput is given for, 0 for the set up operations
+     */
+    private static void printRow(final String operation, final LatencyHistogram histogram, final long errorCount,
+                                 final long skipCount, final double seconds) {
+        if (0 == histogram.getCount() && 0 == errorCount && 0 == skipCount) {
+            return;
+        }
+        System.out.printf("%-14s %9d %7d %7d %9.1f %9.3f %9.3f %9.3f %9.3f %9.3f\n", operation,
+                histogram.getCount(), errorCount, skipCount, 0 == seconds ? 0 : histogram.getCount() / seconds,
+                histogram.getPercentileMillis(50), histogram.getPercentileMillis(95), histogram.getPercentileMillis(99),
+                histogram.getPercentileMillis(99.9), histogram.getMaxNanos() / 1e6);
+    }
+
+    private String getOption(final String key, final String defaultValue) {
+        return options.getOrDefault(key, System.getProperty(key, defaultValue));
+    }
+
+    private int getInt(final String key, final int defaultValue) {
+        return Integer.parseInt(getOption(key, String.valueOf(defaultValue)));
+    }
+
+    @FunctionalInterface
+    private interface Action {
+
+        Outcome run() throws Exception;
+    }
+
+    /**
+     * <p>
+     * Represents how an action ended, a skipped action had nothing to do, such as a cancel without an order
+     * </p>
+     */
+    private enum Outcome {
+        DONE, FAILED, SKIPPED;
+
+        private static Outcome of(final boolean isDone) {
+            return isDone ? DONE : FAILED;
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the weighted actions of a user, given as action:weight pairs separated by commas
+     * </p>
+     */
+    private static class Mix {
+
+        private final String[] actions;
+        private final int[] cumulativeWeights;
+
+        private Mix(final String mix) {
+            final String[] pairs = mix.split(",");
+
+            actions = new String[pairs.length];
+            cumulativeWeights = new int[pairs.length];
+            int total = 0;
+
+            for (int index = 0; index < pairs.length; index++) {
+                final String[] pair = pairs[index].trim().split(":");
+
+                actions[index] = pair[0];
+                total += Integer.parseInt(pair[1]);
+                cumulativeWeights[index] = total;
+            }
+
+            if (0 >= total) {
+                throw new IllegalArgumentException(String.format("The mix %s has no weight", mix));
+            }
+        }
+
+        private String next() {
+            final int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+
+            for (int index = 0; index < actions.length; index++) {
+                if (value < cumulativeWeights[index]) {
+                    return actions[index];
+                }
+            }
+            return actions[actions.length - 1];
+        }
+    }
+}
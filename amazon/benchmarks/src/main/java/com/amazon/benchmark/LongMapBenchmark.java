@@ -0,0 +1,127 @@
+package com.amazon.benchmark;
+
+import com.amazon.collection.ConcurrentLongHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the {@link ConcurrentLongHashMap} with the boxed {@link HashMap} and {@link ConcurrentHashMap}
+ * it replaced in the in-memory services
+ * </p>
+ *
+ * <p>
+ * The populate benchmarks build a whole map, run them with -prof gc and the gc.alloc.rate.norm column
+ * is the footprint of a map of that size. The lookup benchmarks read every key of a populated map in a
+ * shuffled order, the way requests for random ids hit the in-memory stores
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LongMapBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private Map<Long, Object> hashMap;
+    private Map<Long, Object> concurrentHashMap;
+    private ConcurrentLongHashMap<Object> longHashMap;
+    private long[] lookupKeys;
+    private Object value;
+
+    @Setup
+    public void setUp() {
+        value = new Object();
+        hashMap = populateHashMap();
+        concurrentHashMap = populateConcurrentHashMap();
+        longHashMap = populateLongHashMap();
+        lookupKeys = new long[size];
+
+        for (int index = 0; index < size; index++) {
+            lookupKeys[index] = index + 1;
+        }
+        final Random random = new Random(42);
+
+        for (int index = size - 1; index > 0; index--) {
+            final int swap = random.nextInt(index + 1);
+            final long key = lookupKeys[index];
+
+            lookupKeys[index] = lookupKeys[swap];
+            lookupKeys[swap] = key;
+        }
+    }
+
+    @Benchmark
+    public Map<Long, Object> populateHashMap() {
+        final Map<Long, Object> map = new HashMap<>();
+
+        for (long id = 1; id <= size; id++) {
+            map.put(id, value);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<Long, Object> populateConcurrentHashMap() {
+        final Map<Long, Object> map = new ConcurrentHashMap<>();
+
+        for (long id = 1; id <= size; id++) {
+            map.put(id, value);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public ConcurrentLongHashMap<Object> populateLongHashMap() {
+        final ConcurrentLongHashMap<Object> map = new ConcurrentLongHashMap<>();
+
+        for (long id = 1; id <= size; id++) {
+            map.put(id, value);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public void lookupHashMap(final Blackhole blackhole) {
+        for (final long id : lookupKeys) {
+            blackhole.consume(hashMap.get(id));
+        }
+    }
+
+    @Benchmark
+    public void lookupConcurrentHashMap(final Blackhole blackhole) {
+        for (final long id : lookupKeys) {
+            blackhole.consume(concurrentHashMap.get(id));
+        }
+    }
+
+    @Benchmark
+    public void lookupLongHashMap(final Blackhole blackhole) {
+        for (final long id : lookupKeys) {
+            blackhole.consume(longHashMap.get(id));
+        }
+    }
+}
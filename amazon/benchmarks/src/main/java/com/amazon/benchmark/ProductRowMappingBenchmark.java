@@ -0,0 +1,102 @@
+package com.amazon.benchmark;
+
+import com.amazon.dao.ProductServiceDao;
+import com.amazon.dao.impl.DBConnection;
+import com.amazon.dao.impl.ProductServiceDaoImpl;
+import com.amazon.dao.impl.mapper.ProductRowMapper;
+import com.amazon.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Measures the cost of reading and mapping the 10000 product rows of the benchmark database
+ * </p>
+ *
+ * <p>
+ * The readRows benchmark runs the product query and reads the id of every row, the mapRows benchmark runs
+ * the same query and maps every row with the {@link ProductRowMapper}, so the difference between them is
+ * the mapping cost of 10000 rows. The streamAllProducts benchmark reads the rows through the
+ * {@link ProductServiceDao} cursor the way the application does. Run with -prof gc, the
+ * gc.alloc.rate.norm column is the allocation of 10000 rows
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductRowMappingBenchmark {
+
+    private static final String SELECT_PRODUCTS_QUERY = "SELECT " + ProductRowMapper.COLUMNS + " FROM PRODUCT ORDER BY ID";
+
+    private DBConnection dbConnection;
+    private ProductRowMapper productRowMapper;
+    private ProductServiceDao productServiceDao;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.setUp();
+        dbConnection = DBConnection.getInstance();
+        productRowMapper = ProductRowMapper.getInstance();
+        productServiceDao = ProductServiceDaoImpl.getInstance();
+    }
+
+    @Benchmark
+    public long readRows() throws SQLException, InterruptedException {
+        try (final Connection connection = dbConnection.get()) {
+            final PreparedStatement statement = connection.prepareStatement(SELECT_PRODUCTS_QUERY);
+            final ResultSet result = statement.executeQuery();
+            long idSum = 0;
+
+            while (result.next()) {
+                idSum += result.getLong(1);
+            }
+            result.close();
+            dbConnection.release(connection);
+
+            return idSum;
+        }
+    }
+
+    @Benchmark
+    public void mapRows(final Blackhole blackhole) throws SQLException, InterruptedException {
+        try (final Connection connection = dbConnection.get()) {
+            final PreparedStatement statement = connection.prepareStatement(SELECT_PRODUCTS_QUERY);
+            final ResultSet result = statement.executeQuery();
+
+            while (result.next()) {
+                blackhole.consume(productRowMapper.map(result));
+            }
+            result.close();
+            dbConnection.release(connection);
+        }
+    }
+
+    @Benchmark
+    public void streamAllProducts(final Blackhole blackhole) {
+        try (final Stream<Product> products = productServiceDao.streamAllProducts()) {
+            products.forEach(blackhole::consume);
+        }
+    }
+}
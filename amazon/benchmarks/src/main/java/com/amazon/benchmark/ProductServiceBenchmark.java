@@ -0,0 +1,144 @@
+package com.amazon.benchmark;
+
+import com.amazon.exception.UnavailableQuantityException;
+import com.amazon.model.Order;
+import com.amazon.model.Page;
+import com.amazon.model.Product;
+import com.amazon.service.Impl2.ProductServiceImpl2;
+import com.amazon.service.ProductService;
+import com.amazon.service.impl.ProductServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the in-memory {@link ProductServiceImpl} with the DB backed {@link ProductServiceImpl2} on the
+ * same 10000 products and 100 orders of one user
+ * </p>
+ *
+ * <p>
+ * The get benchmark reads a random product, for the DB backed service it is mostly answered by its product
+ * cache. The page benchmarks read a page of 20 products after a random cursor and the first page of the
+ * orders of the user. The placeAndCancelOrder benchmark orders one unit of a random product and cancels the
+ * order again so the stock and the order list do not grow, for the DB backed service it needs PostgreSQL,
+ * see {@link BenchmarkDatabase}. On H2 the {@link BenchmarkRunner} only runs it for the in-memory service
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"memory", "database"})
+    private String service;
+
+    private ProductService productService;
+    private long[] productIds;
+
+    @Setup
+    public void setUp() throws UnavailableQuantityException {
+        if ("memory".equals(service)) {
+            productService = ProductServiceImpl.getInstance();
+
+            for (final Product product : BenchmarkDatabase.newProducts()) {
+                productService.add(product);
+            }
+            productIds = productService.getAllProducts().stream().mapToLong(Product::getId).sorted().toArray();
+
+            for (int index = 0; index < BenchmarkDatabase.ORDER_COUNT; index++) {
+                productService.order(newOrder(productIds[index]));
+            }
+        } else {
+            productIds = BenchmarkDatabase.setUp();
+            productService = ProductServiceImpl2.getInstance();
+        }
+    }
+
+    @Benchmark
+    public Product get() {
+        return productService.get(randomProductId());
+    }
+
+    @Benchmark
+    public Page<Product> getProductPage() {
+        return productService.getProductPage(Page.encodeCursor(randomProductId()), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<Product> getUserProductPage() {
+        return productService.getUserProductPage(BenchmarkDatabase.USER_ID, Page.encodeCursor(randomProductId()), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<Order> getOrderPage() {
+        return productService.getOrderPage(BenchmarkDatabase.USER_ID, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Order> getOrderList() {
+        return productService.getOrderList(BenchmarkDatabase.USER_ID);
+    }
+
+    @Benchmark
+    public boolean placeAndCancelOrder(final OrderSupport orderSupport) throws UnavailableQuantityException {
+        final Order order = newOrder(randomProductId());
+
+        productService.order(order);
+
+        return productService.cancelOrder(order.getId());
+    }
+
+    private long randomProductId() {
+        return productIds[ThreadLocalRandom.current().nextInt(productIds.length)];
+    }
+
+    private static Order newOrder(final long productId) {
+        final Order order = new Order();
+
+        order.setProductId(productId);
+        order.setQuantity(1L);
+        order.setUserId(BenchmarkDatabase.USER_ID);
+        order.setPaymentType(Order.Payment.CASH_ON_DELIVERY);
+
+        return order;
+    }
+
+    /**
+     * <p>
+     * Represents the check that the database can place orders, only the order benchmark uses it so the other
+     * benchmarks still run on H2. It only fails when the database service is asked for explicitly
+     * </p>
+     */
+    @State(Scope.Benchmark)
+    public static class OrderSupport {
+
+        @Setup
+        public void setUp(final ProductServiceBenchmark benchmark) {
+            if ("database".equals(benchmark.service) && BenchmarkDatabase.isH2()) {
+                throw new IllegalStateException("Orders are placed with data-modifying WITH queries that H2 does not "
+                        + "support, run the order benchmark with -jvmArgsAppend -Ddatabase_url=jdbc:postgresql://...");
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.amazon.benchmark;
+
+import com.amazon.model.User;
+import com.amazon.validation.UserRules;
+import com.amazon.validation.ValidationError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the compiled {@link UserRules} with the String.matches checks the user validators made before,
+ * every benchmark validates the same 1000 users of which every tenth is invalid
+ * </p>
+ *
+ * <p>
+ * The stringMatches benchmark is the previous validators, the compiledRules benchmark checks the users a
+ * field at a time the way the views do and the ruleSetBatch benchmark checks them as one batch with the
+ * errors collected. Run with -prof gc to compare the allocated bytes of the compiled patterns
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private static final int USER_COUNT = 1000;
+
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        users = new ArrayList<>(USER_COUNT);
+
+        for (int index = 0; index < USER_COUNT; index++) {
+            final User user = new User();
+            final boolean isValid = 0 != index % 10;
+
+            user.setName(isValid ? "user" + index : "u");
+            user.setEmail(String.format("user%d@mail.com", index));
+            user.setPassword("Passw0rd@" + index);
+            user.setAddress(index + "/12 main street");
+            user.setPhoneNumber(Long.toString((isValid ? 6000000000L : 1000000000L) + index));
+            users.add(user);
+        }
+    }
+
+    @Benchmark
+    public int stringMatches() {
+        int validCount = 0;
+
+        for (final User user : users) {
+            if (user.getName().matches("^[a-zA-Z][a-zA-Z0-9]{3,16}")
+                    && user.getEmail().matches("^[a-zA-z]+[a-zA-Z0-9_.\\S]+@[a-z]{3,}\\.[a-z\\S]{2,3}$")
+                    && user.getPassword().matches("^(?=.*\\d)(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%]).\\S{7,20}$")
+                    && user.getAddress().matches("^[0-9]+/[0-9]{1,3}[\\w*\\s*[0-9]*]{2,}")
+                    && user.getPhoneNumber().matches("^[6-9][0-9]{9}+$")) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    public int compiledRules() {
+        int validCount = 0;
+
+        for (final User user : users) {
+            if (UserRules.NAME.isValid(user.getName()) && UserRules.EMAIL.isValid(user.getEmail())
+                    && UserRules.PASSWORD.isValid(user.getPassword()) && UserRules.ADDRESS.isValid(user.getAddress())
+                    && UserRules.PHONE_NUMBER.isValid(user.getPhoneNumber())) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    public List<ValidationError> ruleSetBatch() {
+        return UserRules.USER.validateAll(users);
+    }
+
+    @Benchmark
+    public int phoneNumberMatches() {
+        int validCount = 0;
+
+        for (final User user : users) {
+            if (user.getPhoneNumber().matches("^[6-9][0-9]{9}+$")) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    public int phoneNumberRule() {
+        int validCount = 0;
+
+        for (final User user : users) {
+            if (UserRules.PHONE_NUMBER.isValid(user.getPhoneNumber())) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+}
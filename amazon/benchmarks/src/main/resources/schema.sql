@@ -0,0 +1,15 @@
+-- Schema of the H2 stand-in database, in PostgreSQL mode so the DAO queries run unchanged
+CREATE DOMAIN IF NOT EXISTS product_category AS ENUM ('MOBILE_PHONES', 'FOOTWEAR', 'ELECTRONICS', 'CLOTHING',
+    'KITCHEN_APPLIANCES', 'SPORTS', 'BOOKS', 'TOYS');
+CREATE DOMAIN IF NOT EXISTS payment_types AS ENUM ('CASH_ON_DELIVERY', 'CREDIT_OR_DEBIT_CART', 'NET_BANKING',
+    'OTHER_UPI_PAYMENTS');
+CREATE TABLE IF NOT EXISTS USERS (ID BIGSERIAL PRIMARY KEY, NAME VARCHAR(30), EMAIL VARCHAR(60) UNIQUE,
+    PASSWORD VARCHAR(30), ADDRESS VARCHAR(100), PHONE_NUMBER VARCHAR(10) UNIQUE);
+CREATE TABLE IF NOT EXISTS PRODUCT (ID BIGSERIAL PRIMARY KEY, NAME VARCHAR(60), DESCRIPTION VARCHAR(200),
+    AVAILABLE BIGINT, PRICE FLOAT8, CATEGORY product_category, UPDATED_TIME TIMESTAMP, USER_ID BIGINT);
+CREATE INDEX IF NOT EXISTS PRODUCT_USER_ID ON PRODUCT (USER_ID, ID);
+CREATE TABLE IF NOT EXISTS CART (ID BIGSERIAL PRIMARY KEY, PRODUCT_ID BIGINT, NAME VARCHAR(60), QUANTITY BIGINT,
+    PRICE FLOAT8, USER_ID BIGINT);
+CREATE TABLE IF NOT EXISTS ORDERS (ID BIGSERIAL PRIMARY KEY, PRODUCT_ID BIGINT, QUANTITY BIGINT, PRODUCT_NAME VARCHAR(60),
+    PRICE FLOAT8, USER_ID BIGINT, PAYMENT_TYPE payment_types);
+CREATE INDEX IF NOT EXISTS ORDERS_USER_ID ON ORDERS (USER_ID, ID);
@@ -1,7 +1,11 @@
 package com.amazon;
 
+import com.amazon.dao.impl.DBConnection;
+import com.amazon.http.HttpApiServer;
 import com.amazon.view.AuthenticationView;
 
+import java.io.IOException;
+
 /**
  * <p>
  *     Represents the activation of an application
@@ -13,11 +17,17 @@ public class Activator {
 
     /**
      * <p>
-     *     Represents the starting point the program
+     *     Represents the starting point the program, the http argument serves the JSON API instead of the menu
      * </p>
      * @param args Represents the command line arguments
+     * @throws IOException Represents any error occur while starting the HTTP API
      */
-    public static void main(final String[] args) {
+    public static void main(final String[] args) throws IOException {
+        if (0 < args.length && "http".equalsIgnoreCase(args[0])) {
+            new HttpApiServer(DBConnection.getInstance().getConfiguration()).start();
+
+            return;
+        }
         AuthenticationView.getInstance().displayMenu();
     }
 }
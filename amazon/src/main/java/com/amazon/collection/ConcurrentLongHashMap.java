@@ -0,0 +1,384 @@
+package com.amazon.collection;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Represents a concurrent hash map from primitive long keys to objects
+ * </p>
+ *
+ * <p>
+ * The keys and values are stored in two parallel arrays with open addressing and linear probing, so an
+ * entry costs one long and one reference instead of a boxed {@link Long} key and a map node. The map is
+ * split in sections, each guarded by its own {@link StampedLock}. Reads are optimistic and take no lock
+ * unless a write to the same section happens meanwhile. Null values are not supported
+ * </p>
+ *
+ * @param <V> Represents the type of the values
+ * @author Roshan B
+ * @version 1.0
+ */
+public class ConcurrentLongHashMap<V> {
+
+    private static final int DEFAULT_SECTION_COUNT = 16;
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final float FILL_FACTOR = 0.66f;
+
+    private final Section<V>[] sections;
+    private final int sectionMask;
+
+    public ConcurrentLongHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_SECTION_COUNT);
+    }
+
+    /**
+     * @param expectedSize Represents the number of entries the map is sized for up front
+     * @param sectionCount Represents the number of independently locked sections, rounded up to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongHashMap(final int expectedSize, final int sectionCount) {
+        final int count = powerOfTwo(Math.max(1, sectionCount));
+        final int sectionCapacity = powerOfTwo((int) Math.ceil(Math.max(1, expectedSize / count) / FILL_FACTOR) + 1);
+
+        sections = (Section<V>[]) Array.newInstance(Section.class, count);
+        sectionMask = count - 1;
+
+        for (int index = 0; index < count; index++) {
+            sections[index] = new Section<>(Math.max(4, sectionCapacity));
+        }
+    }
+
+    public V get(final long key) {
+        final long hash = hash(key);
+
+        return getSection(hash).get(key, (int) hash);
+    }
+
+    public boolean containsKey(final long key) {
+        return null != get(key);
+    }
+
+    /**
+     * @return Represents the previous value of the key or null if the key was absent
+     */
+    public V put(final long key, final V value) {
+        final long hash = hash(key);
+
+        return getSection(hash).compute(key, (int) hash, previous -> requireValue(value), true);
+    }
+
+    /**
+     * @return Represents the previous value of the key, the given value is stored only if the key was absent
+     */
+    public V putIfAbsent(final long key, final V value) {
+        final long hash = hash(key);
+
+        return getSection(hash).compute(key, (int) hash, current -> null == current ? requireValue(value) : current, true);
+    }
+
+    /**
+     * @return Represents the removed value or null if the key was absent
+     */
+    public V remove(final long key) {
+        final long hash = hash(key);
+
+        return getSection(hash).compute(key, (int) hash, previous -> null, true);
+    }
+
+    /**
+     * <p>
+     * Replaces the value of the key with the result of the function, all while holding the lock of the
+     * key's section. The function receives null when the key is absent and a null result removes the key
+     * </p>
+     *
+     * @return Represents the new value or null if the key is absent afterwards
+     */
+    public V compute(final long key, final Function<V, V> remapping) {
+        final long hash = hash(key);
+
+        return getSection(hash).compute(key, (int) hash, remapping, false);
+    }
+
+    /**
+     * <p>
+     * Same as {@link #compute(long, Function)} but the function is only called when the key is present
+     * </p>
+     */
+    public V computeIfPresent(final long key, final Function<V, V> remapping) {
+        return compute(key, current -> null == current ? null : remapping.apply(current));
+    }
+
+    public int size() {
+        int size = 0;
+
+        for (final Section<V> section : sections) {
+            size += section.size;
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+
+    /**
+     * @return Represents a snapshot of the keys in no particular order
+     */
+    public long[] keys() {
+        final long[][] sectionKeys = new long[sections.length][];
+        int size = 0;
+
+        for (int index = 0; index < sections.length; index++) {
+            sectionKeys[index] = sections[index].keys();
+            size += sectionKeys[index].length;
+        }
+        final long[] keys = new long[size];
+        int position = 0;
+
+        for (final long[] keysOfSection : sectionKeys) {
+            System.arraycopy(keysOfSection, 0, keys, position, keysOfSection.length);
+            position += keysOfSection.length;
+        }
+        return keys;
+    }
+
+    /**
+     * @return Represents a snapshot of the values in no particular order
+     */
+    public List<V> values() {
+        final List<V> values = new ArrayList<>(size());
+
+        for (final Section<V> section : sections) {
+            section.addValues(values);
+        }
+        return values;
+    }
+
+    public void clear() {
+        for (final Section<V> section : sections) {
+            section.clear();
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the section of the hash, taken from the high bits so it does not follow the slot in the section
+     * </p>
+     */
+    private Section<V> getSection(final long hash) {
+        return sections[(int) (hash >>> 32) & sectionMask];
+    }
+
+    private static long hash(final long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+
+        return hash ^ (hash >>> 32);
+    }
+
+    private static int powerOfTwo(final int value) {
+        return 1 << (32 - Integer.numberOfLeadingZeros(Math.max(1, value) - 1));
+    }
+
+    private static <V> V requireValue(final V value) {
+        if (null == value) {
+            throw new NullPointerException("Null values are not supported");
+        }
+        return value;
+    }
+
+    /**
+     * <p>
+     * Represents one section of the map, an open addressing table where an empty slot is a null value
+     * </p>
+     */
+    private static final class Section<V> {
+
+        private final StampedLock lock = new StampedLock();
+        private long[] keys;
+        private Object[] values;
+        private volatile int size;
+        private int resizeThreshold;
+
+        private Section(final int capacity) {
+            keys = new long[capacity];
+            values = new Object[capacity];
+            resizeThreshold = (int) (capacity * FILL_FACTOR);
+        }
+
+        @SuppressWarnings("unchecked")
+        private V get(final long key, final int hash) {
+            long stamp = lock.tryOptimisticRead();
+            Object value = find(keys, values, key, hash);
+
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    value = find(keys, values, key, hash);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return (V) value;
+        }
+
+        private static Object find(final long[] keys, final Object[] values, final long key, final int hash) {
+            if (keys.length != values.length) {
+                return null;
+            }
+            final int mask = keys.length - 1;
+            int slot = hash & mask;
+
+            for (int probe = 0; probe < keys.length; probe++) {
+                final Object value = values[slot];
+
+                if (null == value) {
+                    return null;
+                } else if (keys[slot] == key) {
+                    return value;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        /**
+         * @return Represents the previous value when returnPrevious is true, otherwise the new value
+         */
+        @SuppressWarnings("unchecked")
+        private V compute(final long key, final int hash, final Function<V, V> remapping, final boolean returnPrevious) {
+            final long stamp = lock.writeLock();
+
+            try {
+                final int mask = keys.length - 1;
+                int slot = hash & mask;
+
+                while (null != values[slot] && keys[slot] != key) {
+                    slot = (slot + 1) & mask;
+                }
+                final V previous = (V) values[slot];
+                final V value = remapping.apply(previous);
+
+                if (null == value) {
+                    if (null != previous) {
+                        delete(slot);
+                    }
+                } else if (null != previous) {
+                    values[slot] = value;
+                } else {
+                    keys[slot] = key;
+                    values[slot] = value;
+                    size++;
+
+                    if (size > resizeThreshold) {
+                        rehash(keys.length * 2);
+                    }
+                }
+                return returnPrevious ? previous : value;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * <p>
+         * Empties the slot and shifts back the entries of the same probe run so no lookup stops early
+         * </p>
+         */
+        private void delete(final int removedSlot) {
+            final int mask = keys.length - 1;
+            int emptySlot = removedSlot;
+            int slot = removedSlot;
+
+            values[emptySlot] = null;
+            size--;
+
+            while (true) {
+                slot = (slot + 1) & mask;
+
+                if (null == values[slot]) {
+                    return;
+                }
+                final int idealSlot = (int) hash(keys[slot]) & mask;
+
+                if (((slot - idealSlot) & mask) >= ((slot - emptySlot) & mask)) {
+                    keys[emptySlot] = keys[slot];
+                    values[emptySlot] = values[slot];
+                    values[slot] = null;
+                    emptySlot = slot;
+                }
+            }
+        }
+
+        private void rehash(final int capacity) {
+            final long[] oldKeys = keys;
+            final Object[] oldValues = values;
+            final long[] newKeys = new long[capacity];
+            final Object[] newValues = new Object[capacity];
+            final int mask = capacity - 1;
+
+            for (int index = 0; index < oldKeys.length; index++) {
+                if (null != oldValues[index]) {
+                    int slot = (int) hash(oldKeys[index]) & mask;
+
+                    while (null != newValues[slot]) {
+                        slot = (slot + 1) & mask;
+                    }
+                    newKeys[slot] = oldKeys[index];
+                    newValues[slot] = oldValues[index];
+                }
+            }
+            values = newValues;
+            keys = newKeys;
+            resizeThreshold = (int) (capacity * FILL_FACTOR);
+        }
+
+        private long[] keys() {
+            final long stamp = lock.readLock();
+
+            try {
+                final long[] sectionKeys = new long[size];
+                int position = 0;
+
+                for (int index = 0; index < values.length; index++) {
+                    if (null != values[index]) {
+                        sectionKeys[position++] = keys[index];
+                    }
+                }
+                return position == sectionKeys.length ? sectionKeys : Arrays.copyOf(sectionKeys, position);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void addValues(final List<V> target) {
+            final long stamp = lock.readLock();
+
+            try {
+                for (final Object value : values) {
+                    if (null != value) {
+                        target.add((V) value);
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private void clear() {
+            final long stamp = lock.writeLock();
+
+            try {
+                Arrays.fill(values, null);
+                size = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.amazon.collection;
+
+/**
+ * <p>
+ * Represents a concurrent multimap from primitive long keys to sorted sets of primitive long values, used
+ * for secondary indexes such as the ids of the orders of a user
+ * </p>
+ *
+ * <p>
+ * The values of a key are kept in a {@link ConcurrentLongSortedSet}, so a write only shifts the values of one
+ * chunk however many values the key holds. The values of a key are guarded by their own monitor and readers
+ * get a copy, so no caller ever sees a chunk being changed
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class ConcurrentLongMultimap {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final ConcurrentLongHashMap<ConcurrentLongSortedSet> values;
+
+    public ConcurrentLongMultimap() {
+        values = new ConcurrentLongHashMap<>();
+    }
+
+    /**
+     * @return True if the value was not already present for the key
+     */
+    public boolean put(final long key, final long value) {
+        final boolean[] isAdded = new boolean[1];
+
+        values.compute(key, current -> {
+            final ConcurrentLongSortedSet keyValues = null == current ? new ConcurrentLongSortedSet() : current;
+
+            isAdded[0] = keyValues.add(value);
+
+            return keyValues;
+        });
+
+        return isAdded[0];
+    }
+
+    /**
+     * @return True if the value was present for the key, the key is dropped with its last value
+     */
+    public boolean remove(final long key, final long value) {
+        final boolean[] isRemoved = new boolean[1];
+
+        values.computeIfPresent(key, current -> {
+            isRemoved[0] = current.remove(value);
+
+            return current.isEmpty() ? null : current;
+        });
+
+        return isRemoved[0];
+    }
+
+    /**
+     * @return Represents a copy of the sorted values of the key
+     */
+    public long[] get(final long key) {
+        final ConcurrentLongSortedSet keyValues = values.get(key);
+
+        return null == keyValues ? EMPTY : keyValues.toArray();
+    }
+
+    /**
+     * @return Represents at most limit sorted values of the key that are greater than the given value
+     */
+    public long[] getAfter(final long key, final long after, final int limit) {
+        final ConcurrentLongSortedSet keyValues = values.get(key);
+
+        return null == keyValues ? EMPTY : keyValues.getAfter(after, limit);
+    }
+
+    public boolean containsKey(final long key) {
+        return values.containsKey(key);
+    }
+
+    public long[] removeAll(final long key) {
+        final ConcurrentLongSortedSet keyValues = values.remove(key);
+
+        return null == keyValues ? EMPTY : keyValues.toArray();
+    }
+
+    /**
+     * @return Represents the number of keys
+     */
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,212 @@
+package com.amazon.collection;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Represents a thread safe sorted set of primitive long values, used as an ordered index of ids that can be
+ * paged from any id without visiting the ids before it
+ * </p>
+ *
+ * <p>
+ * The values are kept in a list of sorted chunks of at most {@value #CHUNK_SIZE} values ordered by their first
+ * value, so a write only shifts the values of one chunk however many values the set holds. Ids are handed out
+ * in increasing order, so most writes append to the last chunk and a full last chunk is followed by a new one
+ * instead of being split. A small set starts with a small chunk that grows on demand. The set is guarded by
+ * its own monitor and readers get a copy, so no caller ever sees a chunk being changed
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class ConcurrentLongSortedSet {
+
+    private static final int CHUNK_SIZE = 512;
+
+    private Chunk[] chunks = new Chunk[]{new Chunk()};
+    private int chunkCount = 1;
+    private int size;
+
+    /**
+     * @return True if the value was not already present
+     */
+    public synchronized boolean add(final long value) {
+        int index = findChunk(value);
+        Chunk chunk = chunks[index];
+        final int position = Arrays.binarySearch(chunk.values, 0, chunk.size, value);
+
+        if (position >= 0) {
+            return false;
+        }
+        int insertion = -position - 1;
+
+        if (CHUNK_SIZE == chunk.size) {
+            if (CHUNK_SIZE == insertion) {
+                chunk = insertChunk(index + 1, new Chunk());
+                insertion = 0;
+            } else {
+                final Chunk upper = insertChunk(index + 1, chunk.split());
+
+                if (insertion > chunk.size) {
+                    insertion -= chunk.size;
+                    chunk = upper;
+                }
+            }
+        }
+        chunk.insert(insertion, value);
+        size++;
+
+        return true;
+    }
+
+    /**
+     * @return True if the value was present
+     */
+    public synchronized boolean remove(final long value) {
+        final int index = findChunk(value);
+        final Chunk chunk = chunks[index];
+        final int position = Arrays.binarySearch(chunk.values, 0, chunk.size, value);
+
+        if (position < 0) {
+            return false;
+        }
+        chunk.delete(position);
+        size--;
+
+        if (index + 1 < chunkCount && chunk.size + chunks[index + 1].size <= CHUNK_SIZE / 2) {
+            chunk.append(chunks[index + 1]);
+            deleteChunk(index + 1);
+        } else if (0 == chunk.size && 1 < chunkCount) {
+            deleteChunk(index);
+        }
+        return true;
+    }
+
+    public synchronized boolean isEmpty() {
+        return 0 == size;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return Represents a copy of the sorted values
+     */
+    public synchronized long[] toArray() {
+        final long[] result = new long[size];
+        int count = 0;
+
+        for (int index = 0; index < chunkCount; index++) {
+            System.arraycopy(chunks[index].values, 0, result, count, chunks[index].size);
+            count += chunks[index].size;
+        }
+        return result;
+    }
+
+    /**
+     * @return Represents at most limit sorted values that are greater than the given value
+     */
+    public synchronized long[] getAfter(final long after, final int limit) {
+        final long[] result = new long[Math.min(size, Math.max(0, limit))];
+        int index = findChunk(after);
+        final int position = Arrays.binarySearch(chunks[index].values, 0, chunks[index].size, after);
+        int from = position >= 0 ? position + 1 : -position - 1;
+        int count = 0;
+
+        while (count < result.length && index < chunkCount) {
+            final int length = Math.min(chunks[index].size - from, result.length - count);
+
+            System.arraycopy(chunks[index].values, from, result, count, length);
+            count += length;
+            from = 0;
+            index++;
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * @return Represents the index of the last chunk starting at or before the value, the first chunk if none
+     */
+    private int findChunk(final long value) {
+        int low = 1;
+        int high = chunkCount - 1;
+
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+
+            if (chunks[middle].values[0] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low - 1;
+    }
+
+    private Chunk insertChunk(final int index, final Chunk chunk) {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        }
+        System.arraycopy(chunks, index, chunks, index + 1, chunkCount - index);
+        chunks[index] = chunk;
+        chunkCount++;
+
+        return chunk;
+    }
+
+    private void deleteChunk(final int index) {
+        System.arraycopy(chunks, index + 1, chunks, index, chunkCount - index - 1);
+        chunks[--chunkCount] = null;
+    }
+
+    /**
+     * <p>
+     * Represents up to {@value #CHUNK_SIZE} sorted values, the array grows from a few values as they are added
+     * </p>
+     */
+    private static final class Chunk {
+
+        private long[] values = new long[4];
+        private int size;
+
+        private void insert(final int position, final long value) {
+            ensureCapacity(size + 1);
+            System.arraycopy(values, position, values, position + 1, size - position);
+            values[position] = value;
+            size++;
+        }
+
+        private void delete(final int position) {
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            size--;
+        }
+
+        private void append(final Chunk next) {
+            ensureCapacity(size + next.size);
+            System.arraycopy(next.values, 0, values, size, next.size);
+            size += next.size;
+        }
+
+        /**
+         * @return Represents the upper half of the values, which are removed from this chunk
+         */
+        private Chunk split() {
+            final Chunk upper = new Chunk();
+            final int half = size / 2;
+
+            upper.ensureCapacity(size - half);
+            System.arraycopy(values, half, upper.values, 0, size - half);
+            upper.size = size - half;
+            size = half;
+
+            return upper;
+        }
+
+        private void ensureCapacity(final int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, Math.min(CHUNK_SIZE, Math.max(capacity, values.length * 2)));
+            }
+        }
+    }
+}
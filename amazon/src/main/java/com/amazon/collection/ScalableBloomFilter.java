@@ -0,0 +1,175 @@
+package com.amazon.collection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * Represents a scalable bloom filter of strings, it answers whether a string might have been added or was
+ * definitely never added
+ * </p>
+ *
+ * <p>
+ * The filter starts with one layer sized for the expected number of strings. When a layer is full a new
+ * layer twice as large with half the false positive rate is added, so the overall false positive rate stays
+ * below the configured one however many strings are added. Strings can not be removed. The bits are
+ * kept in atomic arrays, so a string added by one thread is seen by every later lookup
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class ScalableBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private volatile Layer[] layers;
+    private volatile long count;
+
+    /**
+     * @param expectedCount     Represents the number of strings the first layer is sized for
+     * @param falsePositiveRate Represents the wanted rate of false positives, between 0 and 1
+     */
+    public ScalableBloomFilter(final long expectedCount, final double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        layers = new Layer[]{new Layer(Math.max(64, expectedCount), falsePositiveRate * (1 - TIGHTENING_RATIO))};
+    }
+
+    /**
+     * @return False if the value was definitely never added, true if it might have been
+     */
+    public boolean mightContain(final String value) {
+        if (null == value) {
+            return false;
+        }
+        final long hash = hash(value);
+
+        for (final Layer layer : layers) {
+            if (layer.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized void add(final String value) {
+        if (null == value) {
+            return;
+        }
+        Layer layer = layers[layers.length - 1];
+
+        if (layer.count >= layer.capacity) {
+            final Layer[] grown = new Layer[layers.length + 1];
+
+            System.arraycopy(layers, 0, grown, 0, layers.length);
+            layer = new Layer(layer.capacity * GROWTH_FACTOR, layer.falsePositiveRate * TIGHTENING_RATIO);
+            grown[layers.length] = layer;
+            layers = grown;
+        }
+        layer.add(hash(value));
+        count++;
+    }
+
+    /**
+     * @return Represents the number of strings added
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public int getLayerCount() {
+        return layers.length;
+    }
+
+    /**
+     * @return Represents the number of bits of every layer
+     */
+    public long getBitCount() {
+        long bitCount = 0;
+
+        for (final Layer layer : layers) {
+            bitCount += layer.bitCount;
+        }
+        return bitCount;
+    }
+
+    /**
+     * <p>
+     * Represents the 64 bit FNV-1a hash of the characters followed by the murmur finalizer
+     * </p>
+     */
+    private static long hash(final String value) {
+        long hash = 0xCBF29CE484222325L;
+
+        for (int index = 0; index < value.length(); index++) {
+            hash ^= value.charAt(index);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * <p>
+     * Represents one plain bloom filter, the bit positions of a string are derived from the two halves of its
+     * hash
+     * </p>
+     */
+    private static final class Layer {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+        private final long capacity;
+        private final double falsePositiveRate;
+        private long count;
+
+        private Layer(final long capacity, final double falsePositiveRate) {
+            final long bitCount = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+            this.bits = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE, (bitCount + 63) >>> 6));
+            this.bitCount = (long) bits.length() << 6;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+        }
+
+        private boolean mightContain(final long hash) {
+            final int firstHash = (int) hash;
+            final int secondHash = (int) (hash >>> 32);
+
+            for (int index = 0; index < hashCount; index++) {
+                final long bit = Math.floorMod(firstHash + (long) index * secondHash, bitCount);
+
+                if (0 == (bits.get((int) (bit >>> 6)) & (1L << bit))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * <p>
+         * Sets the bits of the hash, the adds are serialized by the filter so no bit set meanwhile is lost
+         * </p>
+         */
+        private void add(final long hash) {
+            final int firstHash = (int) hash;
+            final int secondHash = (int) (hash >>> 32);
+
+            for (int index = 0; index < hashCount; index++) {
+                final long bit = Math.floorMod(firstHash + (long) index * secondHash, bitCount);
+                final int word = (int) (bit >>> 6);
+
+                bits.set(word, bits.get(word) | (1L << bit));
+            }
+            count++;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.amazon.collection;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Represents an arena of strings kept outside the java heap
+ * </p>
+ *
+ * <p>
+ * Every string is written as its UTF-8 length followed by its bytes into a slot of direct buffer chunks, and is
+ * known by a long reference to its slot. A string never spans two chunks. Slots are rounded up to a few size
+ * classes and a released slot is handed out again to the next string of the same class, so replacing strings
+ * keeps the arena at the size of the strings in use instead of growing with every change
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class StringArena {
+
+    /**
+     * Represents the reference of a null string
+     */
+    public static final long NULL = -1;
+
+    private static final int CHUNK_SHIFT = 24;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int SMALL_SLOT_ALIGNMENT = 16;
+    private static final int SMALL_SLOT_LIMIT = 1024;
+
+    private final Map<Integer, FreeSlots> freeSlots;
+    private volatile ByteBuffer[] chunks;
+    private long position;
+    private long releasedBytes;
+
+    public StringArena() {
+        freeSlots = new HashMap<>();
+        chunks = new ByteBuffer[0];
+    }
+
+    /**
+     * <p>
+     * Copies the string into the arena
+     * </p>
+     *
+     * @param value Represents the string to keep
+     * @return Represents the reference of the string or {@link #NULL} if the string is null
+     */
+    public synchronized long add(final String value) {
+        return null == value ? NULL : add(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * <p>
+     * Replaces the string of the reference, the reference is kept when the string is unchanged and its slot is
+     * released otherwise
+     * </p>
+     *
+     * @param reference Represents the reference returned by {@link #add(String)}
+     * @param value     Represents the new string
+     * @return Represents the reference of the new string or {@link #NULL} if the string is null
+     */
+    public synchronized long replace(final long reference, final String value) {
+        if (null == value) {
+            release(reference);
+
+            return NULL;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        if (NULL != reference) {
+            final ByteBuffer chunk = chunks[(int) (reference >>> CHUNK_SHIFT)];
+            final int offset = (int) (reference & CHUNK_MASK);
+
+            if (chunk.getInt(offset) == bytes.length
+                    && chunk.slice(offset + LENGTH_BYTES, bytes.length).equals(ByteBuffer.wrap(bytes))) {
+                return reference;
+            }
+            release(reference);
+        }
+        return add(bytes);
+    }
+
+    /**
+     * @param reference Represents the reference returned by {@link #add(String)}
+     * @return Represents a new copy of the string or null for {@link #NULL}
+     */
+    public String get(final long reference) {
+        if (NULL == reference) {
+            return null;
+        }
+        final ByteBuffer chunk = chunks[(int) (reference >>> CHUNK_SHIFT)];
+        final int offset = (int) (reference & CHUNK_MASK);
+        final byte[] bytes = new byte[chunk.getInt(offset)];
+
+        chunk.get(offset + LENGTH_BYTES, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * <p>
+     * Marks the string as no longer used, its slot is given to a later string of the same size class
+     * </p>
+     *
+     * @param reference Represents the reference returned by {@link #add(String)}
+     */
+    public synchronized void release(final long reference) {
+        if (NULL == reference) {
+            return;
+        }
+        final int slotSize = slotSize(chunks[(int) (reference >>> CHUNK_SHIFT)].getInt((int) (reference & CHUNK_MASK)));
+
+        freeSlots.computeIfAbsent(slotSize, ignored -> new FreeSlots()).push(reference);
+        releasedBytes += slotSize;
+    }
+
+    /**
+     * @return Represents the number of bytes reserved outside the heap
+     */
+    public long getCapacity() {
+        return (long) chunks.length * CHUNK_SIZE;
+    }
+
+    /**
+     * @return Represents the bytes of the slots in use, including the rounding of each slot to its size class
+     */
+    public synchronized long getUsedBytes() {
+        return position - releasedBytes;
+    }
+
+    /**
+     * @return Represents the bytes of the released slots waiting for a string of their size class
+     */
+    public synchronized long getReleasedBytes() {
+        return releasedBytes;
+    }
+
+    private long add(final byte[] bytes) {
+        final int slotSize = slotSize(bytes.length);
+
+        if (slotSize > CHUNK_SIZE) {
+            throw new IllegalArgumentException("String of " + bytes.length + " bytes does not fit in the arena");
+        }
+        final FreeSlots free = freeSlots.get(slotSize);
+        final long reference;
+
+        if (null != free && !free.isEmpty()) {
+            reference = free.pop();
+            releasedBytes -= slotSize;
+        } else {
+            reference = allocate(slotSize);
+        }
+        final ByteBuffer chunk = chunks[(int) (reference >>> CHUNK_SHIFT)];
+        final int offset = (int) (reference & CHUNK_MASK);
+
+        chunk.putInt(offset, bytes.length);
+        chunk.put(offset + LENGTH_BYTES, bytes);
+
+        return reference;
+    }
+
+    private long allocate(final int slotSize) {
+        final int offset = (int) (position & CHUNK_MASK);
+
+        if (offset + slotSize > CHUNK_SIZE) {
+            position += CHUNK_SIZE - offset;
+        }
+        final int chunkIndex = (int) (position >>> CHUNK_SHIFT);
+
+        if (chunkIndex == chunks.length) {
+            final ByteBuffer[] grown = Arrays.copyOf(chunks, chunkIndex + 1);
+
+            grown[chunkIndex] = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            chunks = grown;
+        }
+        final long reference = position;
+
+        position += slotSize;
+
+        return reference;
+    }
+
+    /**
+     * <p>
+     * Represents the slot of a string of the given length, small slots are rounded to 16 bytes and larger
+     * ones to a quarter of their highest power of two, so at most a quarter of a large slot is unused
+     * </p>
+     */
+    private static int slotSize(final int length) {
+        final long size = (long) LENGTH_BYTES + length;
+        final long step = size <= SMALL_SLOT_LIMIT ? SMALL_SLOT_ALIGNMENT : Long.highestOneBit(size) / 4;
+
+        return (int) Math.min(Integer.MAX_VALUE, (size + step - 1) / step * step);
+    }
+
+    /**
+     * <p>
+     * Represents a stack of the references of released slots of one size class
+     * </p>
+     */
+    private static final class FreeSlots {
+
+        private long[] references = new long[8];
+        private int count;
+
+        private void push(final long reference) {
+            if (count == references.length) {
+                references = Arrays.copyOf(references, count * 2);
+            }
+            references[count++] = reference;
+        }
+
+        private long pop() {
+            return references[--count];
+        }
+
+        private boolean isEmpty() {
+            return 0 == count;
+        }
+    }
+}
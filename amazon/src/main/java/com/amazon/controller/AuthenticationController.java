@@ -1,5 +1,6 @@
 package com.amazon.controller;
 
+import com.amazon.model.Session;
 import com.amazon.model.User;
 import com.amazon.service.AuthenticationService;
 import com.amazon.service.Impl2.AuthenticationServiceImpl2;
@@ -50,12 +51,35 @@ public class AuthenticationController {
      *
      * @param email    User's email
      * @param password User's password
-     * @return Boolean value from the validateUser method on service
+     * @return Represents the {@link Session} of the user or null if the email and password do not match
      */
-    public boolean signIn(final String email, final String password) {
+    public Session signIn(final String email, final String password) {
         return authenticationService2.signIn(email, password);
     }
 
+    /**
+     * <p>
+     * Gets the session of the signed in user from memory
+     * </p>
+     *
+     * @param sessionId Represents the id of the {@link Session}
+     * @return Represents the {@link Session} or null if it does not exist or has expired
+     */
+    public Session getSession(final String sessionId) {
+        return authenticationService2.getSession(sessionId);
+    }
+
+    /**
+     * <p>
+     * Ends the session of the user
+     * </p>
+     *
+     * @param sessionId Represents the id of the {@link Session}
+     */
+    public void signOut(final String sessionId) {
+        authenticationService2.signOut(sessionId);
+    }
+
 
     /**
      * <p>
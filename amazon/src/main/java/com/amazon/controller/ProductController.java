@@ -1,7 +1,10 @@
 package com.amazon.controller;
 
+import com.amazon.exception.UnavailableQuantityException;
+import com.amazon.model.BatchResult;
 import com.amazon.model.Cart;
 import com.amazon.model.Order;
+import com.amazon.model.Page;
 import com.amazon.model.Product;
 import com.amazon.model.User;
 import com.amazon.service.Impl2.ProductServiceImpl2;
@@ -10,6 +13,7 @@ import com.amazon.service.ProductService;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -53,6 +57,18 @@ public class ProductController {
         return productService2.add(product);
     }
 
+    /**
+     * <p>
+     * adds the products to the product list in batches
+     * </p>
+     *
+     * @param products Represents the {@link Product} list to add
+     * @return Represents the generated id and the failure reason of every row as {@link BatchResult}
+     */
+    public BatchResult addAll(final List<Product> products) {
+        return productService2.addAll(products);
+    }
+
     /**
      * <p>
      * Gets the products from product list
@@ -64,6 +80,30 @@ public class ProductController {
         return productService2.getAllProducts();
     }
 
+    /**
+     * <p>
+     * Gets the products one by one from product list, the stream must be closed once it is no longer needed
+     * </p>
+     *
+     * @return Represents the {@link Stream} of {@link Product}
+     */
+    public Stream<Product> streamAllProducts() {
+        return productService2.streamAllProducts();
+    }
+
+    /**
+     * <p>
+     * Provides one page of the products ordered by id
+     * </p>
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link Page} of {@link Product}
+     */
+    public Page<Product> getProductPage(final String cursor, final int pageSize) {
+        return productService2.getProductPage(cursor, pageSize);
+    }
+
     /**
      * <p>
      * Represents the product details that the user create
@@ -76,6 +116,20 @@ public class ProductController {
         return productService2.getUserProduct(userId);
     }
 
+    /**
+     * <p>
+     * Provides one page of the products that the user create ordered by id
+     * </p>
+     *
+     * @param userId   Represents admin id
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link Page} of {@link Product} created by the user
+     */
+    public Page<Product> getUserProductPage(final Long userId, final String cursor, final int pageSize) {
+        return productService2.getUserProductPage(userId, cursor, pageSize);
+    }
+
     /**
      * <p>
      * get the product object from the product list
@@ -120,8 +174,9 @@ public class ProductController {
      *
      * @param order Represents {@link Order}
      * @return True if the order is added to the order list
+     * @throws UnavailableQuantityException if the product does not have the ordered quantity available
      */
-    public boolean order(final Order order) {
+    public boolean order(final Order order) throws UnavailableQuantityException {
         return productService2.order(order);
     }
 
@@ -136,6 +191,20 @@ public class ProductController {
         return productService2.getOrderList(userId);
     }
 
+    /**
+     * <p>
+     * Provides one page of the orders of the user ordered by id
+     * </p>
+     *
+     * @param userId   Represents the id of the {@link User}
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of orders in the page
+     * @return Represents the {@link Page} of {@link Order}
+     */
+    public Page<Order> getOrderPage(final Long userId, final String cursor, final int pageSize) {
+        return productService2.getOrderPage(userId, cursor, pageSize);
+    }
+
     /**
      * <p>
      *     Represents the order details of the particular order id
@@ -160,6 +229,20 @@ public class ProductController {
         return productService2.cancelOrder(orderId);
     }
 
+    /**
+     * <p>
+     *     Represents the order of every product in the cart of the user
+     * </p>
+     *
+     * @param userId      Represents the id of the {@link User}
+     * @param paymentType Represents the payment type of the orders
+     * @return Represents the placed {@link Order} of every cart line, empty if the cart is empty
+     * @throws UnavailableQuantityException if any product does not have the quantity in the cart available
+     */
+    public List<Order> checkoutCart(final Long userId, final Order.Payment paymentType) throws UnavailableQuantityException {
+        return productService2.checkoutCart(userId, paymentType);
+    }
+
     /**
      * <p>
      *     Represents adding a product to the cart
@@ -1,12 +1,20 @@
 package com.amazon.controller;
 
+import com.amazon.metrics.DaoMetrics;
+import com.amazon.model.ImportResult;
+import com.amazon.model.Page;
 import com.amazon.model.User;
 import com.amazon.service.Impl2.UserServiceImpl2;
 import com.amazon.service.impl.UserServiceImpl;
 import com.amazon.service.ProductService;
+import com.amazon.service.UserImporter;
 import com.amazon.service.UserService;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -21,10 +29,12 @@ public class UserController {
     private static final UserController USER_CONTROLLER = new UserController();
     private  final UserService userService;
     private final UserService userService2;
+    private final UserImporter userImporter;
 
     private UserController() {
         userService = UserServiceImpl.getInstance();
         userService2 = UserServiceImpl2.getInstance();
+        userImporter = new UserImporter(userService2);
     }
 
     /**
@@ -65,9 +75,50 @@ public class UserController {
     /**
      * Represents all the {@link User} details in the usersList
      * @return Represents collection of {@link User}
+     * @deprecated Loads every user into memory at once, use {@link #streamAllUsers()} or
+     * {@link #getUserPage(String, int)} instead
      */
+    @Deprecated
     public Collection<User> getAllUser() {return userService2.getAllUser();}
 
+    /**
+     * <p>
+     * Gets the users without the passwords one by one, the stream must be closed once it is no longer needed
+     * </p>
+     *
+     * @return Represents the {@link Stream} of {@link User}
+     */
+    public Stream<User> streamAllUsers() {
+        return userService2.streamAllUsers();
+    }
+
+    /**
+     * <p>
+     * Gets one page of the users without the passwords
+     * </p>
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of users in the page
+     * @return Represents the {@link Page} of {@link User}
+     */
+    public Page<User> getUserPage(final String cursor, final int pageSize) {
+        return userService2.getUserPage(cursor, pageSize);
+    }
+
+    /**
+     * <p>
+     * Imports the users of the CSV stream in bulk, the rejected rows are written to the report with the reason
+     * </p>
+     *
+     * @param csv          Represents the CSV stream of the users
+     * @param rejectedRows Represents the report of the rejected rows
+     * @return Represents the counts of the import as {@link ImportResult}
+     * @throws IOException Represents any error occur while reading the rows or writing the report
+     */
+    public ImportResult importUsers(final Reader csv, final Writer rejectedRows) throws IOException {
+        return userImporter.importUsers(csv, rejectedRows);
+    }
+
     /**
      * <p>
      * Represents the user update
@@ -80,5 +131,15 @@ public class UserController {
     public boolean update(final User user, final Long userId) {
         return userService2.update(user,userId);
     }
-}
 
+    /**
+     * <p>
+     * Represents the latency and error table of every DAO method and of the connection pool waits
+     * </p>
+     *
+     * @return Represents the plain text report of the {@link DaoMetrics}
+     */
+    public String getDaoMetrics() {
+        return DaoMetrics.getInstance().dump();
+    }
+}
@@ -40,9 +40,9 @@ public interface AuthenticationServiceDao {
      *
      * @param email    User's email id
      * @param password User's password
-     * @return True if email and password match the user from the users list
+     * @return Represents the {@link User} whose email and password match or null if none does
      */
-    boolean signIn(final String email, final String password);
+    User signIn(final String email, final String password);
 
     /**
      * <p>
@@ -1,8 +1,11 @@
 package com.amazon.dao;
 
 import com.amazon.dao.impl.ProductServiceDaoImpl;
+import com.amazon.exception.UnavailableQuantityException;
+import com.amazon.model.BatchResult;
 import com.amazon.model.Cart;
 import com.amazon.model.Order;
+import com.amazon.model.Page;
 import com.amazon.model.Product;
 
 import com.amazon.model.User;
@@ -12,6 +15,7 @@ import com.amazon.service.impl.ProductServiceImpl;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -44,6 +48,16 @@ public interface ProductServiceDao {
      */
     boolean add(final Product product);
 
+    /**
+     * <p>
+     * Adds the products to the product list in batches
+     * </p>
+     *
+     * @param products Represents the {@link Product} list to add
+     * @return Represents the generated id and the failure reason of every row as {@link BatchResult}
+     */
+    BatchResult addAll(final List<Product> products);
+
     /**
      * <p>
      * Provide the collection view of the products value
@@ -53,6 +67,27 @@ public interface ProductServiceDao {
      */
     Collection<Product> getAllProducts();
 
+    /**
+     * <p>
+     * Provides the products one by one as they are read from the database, the stream holds a connection
+     * until it is closed or fully read so it must be closed, preferably with try-with-resources
+     * </p>
+     *
+     * @return Represents the {@link Stream} of {@link Product}
+     */
+    Stream<Product> streamAllProducts();
+
+    /**
+     * <p>
+     * Provides one page of the products ordered by id
+     * </p>
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link Page} of {@link Product}
+     */
+    Page<Product> getProductPage(final String cursor, final int pageSize);
+
     /**
      * <p>
      *     Represents the product details that the user create
@@ -63,6 +98,18 @@ public interface ProductServiceDao {
      */
     Map<Long, Product> getUserProduct(final Long userId);
 
+    /**
+     * <p>
+     * Provides one page of the products that the user create ordered by id
+     * </p>
+     *
+     * @param userId   Represents admin id
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link Page} of {@link Product} created by the user
+     */
+    Page<Product> getUserProductPage(final Long userId, final String cursor, final int pageSize);
+
     /**
      * <p>
      * Gets the product from product list using productId
@@ -147,12 +194,13 @@ public interface ProductServiceDao {
     boolean updateQuantityInProduct(final Long quantity, final Long productId);
 
     /**
-     * Represents the order of {@link Product}
+     * Represents the order of {@link Product}, the stock is taken and the order is added atomically
      *
      * @param order Represents {@link Order}
      * @return True if the order is added to the order list
+     * @throws UnavailableQuantityException if the product does not have the ordered quantity available
      */
-    boolean order(final Order order);
+    boolean order(final Order order) throws UnavailableQuantityException;
 
     /**
      * Retrieve the List of {@link Order}
@@ -161,6 +209,18 @@ public interface ProductServiceDao {
      */
     List<Order> getOrderList(final Long userId);
 
+    /**
+     * <p>
+     * Provides one page of the orders of the user ordered by id
+     * </p>
+     *
+     * @param userId   Represents the id of the {@link User}
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of orders in the page
+     * @return Represents the {@link Page} of {@link Order}
+     */
+    Page<Order> getOrderPage(final Long userId, final String cursor, final int pageSize);
+
     /**
      * Represents the order details of the particular order id
      * @param orderId Represents the id of the {@link Product}
@@ -170,8 +230,19 @@ public interface ProductServiceDao {
 
     /**
      * Represents the cancelling the order of the particular order id
-     * @param orderId Represents the id of the {@link Product}
-     * @return Represents {@link Order}
+     * @param orderId Represents the id of the {@link Order}
+     * @return Represents the id of the {@link Product} of the cancelled order, or null if there is no such order
+     */
+    Long cancelOrder(final Long orderId);
+
+    /**
+     * Represents the order of every product in the cart of the user, the cart is emptied and the stock is
+     * taken in one transaction
+     *
+     * @param userId      Represents the id of the {@link User}
+     * @param paymentType Represents the payment type of the orders
+     * @return Represents the placed {@link Order} of every cart line, empty if the cart is empty
+     * @throws UnavailableQuantityException if any product does not have the quantity in the cart available
      */
-    boolean cancelOrder(final Long orderId);
+    List<Order> checkoutCart(final Long userId, final Order.Payment paymentType) throws UnavailableQuantityException;
 }
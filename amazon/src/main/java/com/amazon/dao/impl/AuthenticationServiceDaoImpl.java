@@ -1,7 +1,9 @@
 package com.amazon.dao.impl;
 
 import com.amazon.dao.AuthenticationServiceDao;
+import com.amazon.dao.impl.mapper.UserRowMapper;
 import com.amazon.exception.DBException;
+import com.amazon.metrics.DaoMetrics;
 import com.amazon.model.User;
 
 import java.sql.Connection;
@@ -19,11 +21,19 @@ import java.sql.SQLException;
  */
 public class AuthenticationServiceDaoImpl implements AuthenticationServiceDao {
 
-    private static final AuthenticationServiceDao AUTHENTICATION_SERVICE = new AuthenticationServiceDaoImpl();
+    private static final AuthenticationServiceDao AUTHENTICATION_SERVICE = DaoMetrics.getInstance().instrument(AuthenticationServiceDao.class,
+            new AuthenticationServiceDaoImpl());
+    private static final String EMAIL_EXISTS_QUERY = "SELECT 1 FROM USERS WHERE EMAIL = ? LIMIT 1";
+    private static final String NUMBER_EXISTS_QUERY = "SELECT 1 FROM USERS WHERE PHONE_NUMBER = ? LIMIT 1";
+    private static final String SIGN_IN_QUERY = "SELECT " + UserRowMapper.COLUMNS + " FROM USERS WHERE EMAIL = ? AND PASSWORD = ?";
     private final DBConnection dbConnection ;
+    private final UserExistenceFilter userExistenceFilter;
+    private final UserRowMapper userRowMapper;
 
     private AuthenticationServiceDaoImpl() {
         dbConnection = DBConnection.getInstance();
+        userExistenceFilter = UserExistenceFilter.getInstance();
+        userRowMapper = UserRowMapper.getInstance();
     }
 
     /**
@@ -53,6 +63,7 @@ public class AuthenticationServiceDaoImpl implements AuthenticationServiceDao {
             statement.setString(3, user.getPassword());
             statement.setString(4, user.getAddress());
             statement.setString(5, user.getPhoneNumber());
+            userExistenceFilter.add(user);
             statement.execute();
             dbConnection.release(connection);
 
@@ -69,21 +80,21 @@ public class AuthenticationServiceDaoImpl implements AuthenticationServiceDao {
      *
      * @param email    User's email id
      * @param password User's password
-     * @return True if email and password match the user from the users list
+     * @return Represents the {@link User} whose email and password match or null if none does
      * @throws DBException Represents any error occur while executing a query
      */
-    public boolean signIn(String email, String password) {
+    public User signIn(String email, String password) {
         try (final Connection connection = dbConnection.get()) {
-            final String query = "SELECT * FROM USERS WHERE EMAIL = ? AND PASSWORD =?";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(SIGN_IN_QUERY);
 
             statement.setString(1, email);
             statement.setString(2, password);
             final ResultSet resultSet = statement.executeQuery();
+            final User user = resultSet.next() ? userRowMapper.map(resultSet) : null;
 
             dbConnection.release(connection);
 
-            return resultSet.next();
+            return user;
         } catch (SQLException | InterruptedException exception) {
             throw new DBException(exception.getMessage());
         }
@@ -91,7 +102,8 @@ public class AuthenticationServiceDaoImpl implements AuthenticationServiceDao {
 
     /**
      * <p>
-     * Check whether the  user email is already exist in user list
+     * Check whether the  user email is already exist in user list, an email the {@link UserExistenceFilter}
+     * has never seen is answered without a query
      * </p>
      *
      * @param email User's email
@@ -99,25 +111,13 @@ public class AuthenticationServiceDaoImpl implements AuthenticationServiceDao {
      * @throws DBException Represents any error occur while executing a query
      */
     public boolean isUserEmailExists(String email) {
-        try (final Connection connection = dbConnection.get()) {
-            final String query = "SELECT * FROM USERS WHERE EMAIL = ?";
-
-            final PreparedStatement statement = connection.prepareStatement(query);
-
-            statement.setString(1, email);
-            final ResultSet result = statement.executeQuery();
-
-            dbConnection.release(connection);
-
-            return result.next();
-        } catch (SQLException | InterruptedException exception) {
-            throw new DBException(exception.getMessage());
-        }
+        return userExistenceFilter.mightContainEmail(email) && isExists(EMAIL_EXISTS_QUERY, email);
     }
 
     /**
      * <p>
-     * Check whether the  user email is already exist in user list
+     * Check whether the  user email is already exist in user list, a phone number the
+     * {@link UserExistenceFilter} has never seen is answered without a query
      * </p>
      *
      * @param phoneNumber User's email
@@ -125,16 +125,28 @@ public class AuthenticationServiceDaoImpl implements AuthenticationServiceDao {
      * @throws DBException Represents any error occur while executing a query
      */
     public boolean isNumberExists(String phoneNumber) {
+        return userExistenceFilter.mightContainPhoneNumber(phoneNumber) && isExists(NUMBER_EXISTS_QUERY, phoneNumber);
+    }
+
+    /**
+     * <p>
+     * Runs the existence query of a possible hit, it reads a single row of the index on the column
+     * </p>
+     */
+    private boolean isExists(final String query, final String value) {
         try (final Connection connection = dbConnection.get()) {
-            final String query = "SELECT * FROM USERS WHERE PHONE_NUMBER = ?";
             final PreparedStatement statement = connection.prepareStatement(query);
 
-            statement.setString(1, phoneNumber);
+            statement.setString(1, value);
             final ResultSet result = statement.executeQuery();
+            final boolean isExists = result.next();
 
             dbConnection.release(connection);
 
-            return result.next();
+            if (!isExists) {
+                userExistenceFilter.recordFalsePositive();
+            }
+            return isExists;
         } catch (SQLException | InterruptedException exception) {
             throw new DBException(exception.getMessage());
         }
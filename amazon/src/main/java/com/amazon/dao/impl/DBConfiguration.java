@@ -0,0 +1,174 @@
+package com.amazon.dao.impl;
+
+import com.amazon.dao.impl.pool.PoolConfiguration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * <p>
+ * Represents the database settings, loaded once from the ApplicationProperties resource on the classpath
+ * </p>
+ *
+ * <p>
+ * Every key can be overridden by a system property of the same name or by an environment variable
+ * named AMAZON_ followed by the key in upper case with dots replaced by underscores,
+ * for example AMAZON_DATABASE_URL or AMAZON_POOL_MIN_SIZE
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class DBConfiguration {
+
+    private static final String RESOURCE_NAME = "ApplicationProperties";
+    private static final String ENVIRONMENT_PREFIX = "AMAZON_";
+    private static final String CONNECTION_PREFIX = "connection.";
+
+    private static DBConfiguration DB_CONFIGURATION;
+    private final Properties properties;
+
+    private DBConfiguration(final Properties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * <p>
+     * Represents the configuration shared by the whole application, the resource is read only once. The overrides
+     * are looked up on every read, so they still apply to the shared configuration
+     * </p>
+     *
+     * @return Represents {@link DBConfiguration}
+     */
+    public static synchronized DBConfiguration getInstance() {
+        if (null == DB_CONFIGURATION) {
+            DB_CONFIGURATION = load();
+        }
+        return DB_CONFIGURATION;
+    }
+
+    /**
+     * <p>
+     * Represents loading the configuration from the classpath resource
+     * </p>
+     *
+     * @return Represents {@link DBConfiguration}
+     */
+    private static DBConfiguration load() {
+        final Properties properties = new Properties();
+
+        try (InputStream resource = DBConfiguration.class.getClassLoader().getResourceAsStream(RESOURCE_NAME)) {
+            if (null != resource) {
+                properties.load(resource);
+            }
+        } catch (IOException exception) {
+            exception.printStackTrace();
+        }
+
+        return new DBConfiguration(properties);
+    }
+
+    /**
+     * <p>
+     * Represents the value of the key after applying the system property and environment overrides
+     * </p>
+     *
+     * @param key Represents the property key
+     * @return Represents the value or null if the key is not configured
+     */
+    public String get(final String key) {
+        final String systemValue = System.getProperty(key);
+
+        if (null != systemValue) {
+            return systemValue;
+        }
+        final String environmentValue = System.getenv(ENVIRONMENT_PREFIX + key.toUpperCase(Locale.ROOT).replace('.', '_'));
+
+        return null != environmentValue ? environmentValue : properties.getProperty(key);
+    }
+
+    public String getUrl() {
+        return get("database_url");
+    }
+
+    /**
+     * <p>
+     * Represents the driver properties used for every new connection, keys starting with connection. are
+     * passed to the driver without the prefix
+     * </p>
+     *
+     * @return Represents the user, password and driver settings as {@link Properties}
+     */
+    public Properties getConnectionProperties() {
+        final Properties connectionProperties = new Properties();
+
+        for (final String key : properties.stringPropertyNames()) {
+            if (key.startsWith(CONNECTION_PREFIX)) {
+                connectionProperties.setProperty(key.substring(CONNECTION_PREFIX.length()), get(key));
+            }
+        }
+        final String user = get("user");
+        final String password = get("password");
+
+        if (null != user) {
+            connectionProperties.setProperty("user", user);
+        }
+
+        if (null != password) {
+            connectionProperties.setProperty("password", password);
+        }
+
+        return connectionProperties;
+    }
+
+    /**
+     * <p>
+     * Represents the pool settings, keys that are not configured keep their defaults
+     * </p>
+     *
+     * @return Represents {@link PoolConfiguration}
+     */
+    public PoolConfiguration getPoolConfiguration() {
+        final PoolConfiguration configuration = new PoolConfiguration();
+
+        configuration.setMinSize(getInt("pool.min_size", configuration.getMinSize()));
+        configuration.setMaxSize(getInt("pool.max_size", configuration.getMaxSize()));
+        configuration.setAcquireTimeoutMillis(getLong("pool.acquire_timeout_ms", configuration.getAcquireTimeoutMillis()));
+        configuration.setValidationIntervalMillis(getLong("pool.validation_interval_ms", configuration.getValidationIntervalMillis()));
+        configuration.setLeakDetectionThresholdMillis(getLong("pool.leak_detection_threshold_ms", configuration.getLeakDetectionThresholdMillis()));
+        configuration.setLeakTraceEnabled(getBoolean("pool.leak_trace", configuration.isLeakTraceEnabled()));
+        configuration.setStatementCacheSize(getInt("pool.statement_cache_size", configuration.getStatementCacheSize()));
+        configuration.setSlowQueryThresholdMillis(getLong("pool.slow_query_threshold_ms", configuration.getSlowQueryThresholdMillis()));
+        configuration.setSlowQueryLogFile(null == get("pool.slow_query_log") ? configuration.getSlowQueryLogFile() : get("pool.slow_query_log"));
+        configuration.setSlowQueryQueueSize(getInt("pool.slow_query_queue_size", configuration.getSlowQueryQueueSize()));
+        configuration.setMinSize(Math.min(configuration.getMinSize(), configuration.getMaxSize()));
+
+        return configuration;
+    }
+
+    public int getInt(final String key, final int defaultValue) {
+        final String value = get(key);
+
+        return null == value ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    public long getLong(final String key, final long defaultValue) {
+        final String value = get(key);
+
+        return null == value ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    public double getDouble(final String key, final double defaultValue) {
+        final String value = get(key);
+
+        return null == value ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    public boolean getBoolean(final String key, final boolean defaultValue) {
+        final String value = get(key);
+
+        return null == value ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+}
@@ -1,13 +1,16 @@
 package com.amazon.dao.impl;
 
-import java.io.FileInputStream;
-import java.io.IOException;
+import com.amazon.dao.impl.pool.ConnectionPool;
+import com.amazon.dao.impl.pool.PoolConfiguration;
+import com.amazon.dao.impl.pool.PoolStatistics;
+import com.amazon.exception.DBException;
+import com.amazon.metrics.DaoMetrics;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.logging.Logger;
 
 /**
  * <p>
@@ -20,96 +23,155 @@ import java.util.concurrent.BlockingQueue;
 
 public class DBConnection {
 
+    private static final Logger LOGGER = Logger.getLogger(DBConnection.class.getName());
     private static DBConnection DB_CONNECTION;
-    private final Integer maxSize ;
-    private static BlockingQueue<Connection> pool;
-
+    private final DBConfiguration configuration;
+    private final Properties connectionProperties;
+    private final ConnectionPool pool;
+    private final DaoMetrics daoMetrics;
+    private final String startupReport;
 
     private DBConnection() {
-        maxSize = 15;
-        pool = new ArrayBlockingQueue<>(maxSize);
+        final long startTime = System.nanoTime();
+
+        configuration = DBConfiguration.getInstance();
+        connectionProperties = configuration.getConnectionProperties();
+        final PoolConfiguration poolConfiguration = configuration.getPoolConfiguration();
+        final long configurationTime = System.nanoTime();
 
-        initializeObjects();
+        pool = new ConnectionPool(this::getConnection, poolConfiguration);
+        daoMetrics = DaoMetrics.getInstance();
+        final int opened = initializeObjects(poolConfiguration.getMinSize());
+        final long endTime = System.nanoTime();
+
+        startupReport = String.format("database pool started in %.1f ms (configuration %.1f ms, %d of %d minimum connections opened in parallel in %.1f ms, maximum %d opened on demand)",
+                (endTime - startTime) / 1_000_000.0, (configurationTime - startTime) / 1_000_000.0, opened,
+                poolConfiguration.getMinSize(), (endTime - configurationTime) / 1_000_000.0, poolConfiguration.getMaxSize());
+        LOGGER.info(startupReport);
     }
 
     /**
      * <p>
-     * Represents the instance of DBConnection class can be created for only once
+     * Represents the instance of DBConnection class can be created for only once, the {@link UserExistenceFilter}
+     * is built right after the pool is started
      * </p>
      *
      * @return Represents {@link DBConnection }
      */
-    public static DBConnection getInstance() {
+    public static synchronized DBConnection getInstance() {
         if (null == DB_CONNECTION) {
             DB_CONNECTION = new DBConnection();
+            final long startTime = System.nanoTime();
+
+            try {
+                UserExistenceFilter.getInstance().warmUp();
+                LOGGER.info(String.format("user filters built in %.1f ms", (System.nanoTime() - startTime) / 1_000_000.0));
+            } catch (DBException exception) {
+                LOGGER.warning("user filters not built, the checks query the users until they are: " + exception.getMessage());
+            }
         }
         return DB_CONNECTION;
     }
 
     /**
      * <p>
-     * Represent the object pool pattern's object initialization,
+     * Represent the object pool pattern's object initialization, only the minimum connections are opened
+     * here and in parallel, the pool opens the rest when they are first needed
      * </p>
+     *
+     * @param minSize Represents the number of connections to open
+     * @return Represents the number of connections opened
      */
-    private void initializeObjects() {
+    private int initializeObjects(final int minSize) {
         try {
-            for (int i = 0; i < maxSize; i++) {
-                final Connection connection = getConnection();
-
-                if (null != connection) {
-                    pool.offer(connection);
-                }
-            }
+            return pool.fill(minSize);
         } catch (SQLException exception) {
             exception.printStackTrace();
+
+            return pool.getStatistics().getTotalConnections();
         }
     }
 
     /**
      * <p>
-     * Represents the database connection for the given database url, name and password
+     * Represents the database connection for the configured database url, name and password
      * </p>
      *
      * @return Connection object
      * @throws SQLException if any error occur in connection it throws a sql exception
      */
     private Connection getConnection() throws SQLException {
-        final Properties properties = new Properties();
-        try (FileInputStream file = new FileInputStream("C:\\Users\\krith\\IdeaProjects\\amazon\\src\\main\\resources\\ApplicationProperties")) {
-            properties.load(file);
-            final String url = properties.getProperty("database_url");
-            final String user = properties.getProperty("user");
-            final String password = properties.getProperty("password");
-
-            return DriverManager.getConnection(url, user, password);
-        } catch (IOException exception) {
-            return null;
-        }
+        return DriverManager.getConnection(configuration.getUrl(), connectionProperties);
     }
 
     /**
      * <p>
-     * Represents getting the connection object
+     * Represents getting the connection object, closing the returned connection hands it back to the pool. The
+     * wait is recorded by the {@link DaoMetrics} apart from the time of the DAO call
      * </p>
      *
      * @return Connection object
      * @throws InterruptedException if any error occur during getting connection it throws the InterruptedException
+     * @throws SQLException if no connection becomes free within the acquire timeout
      */
 
-    public Connection get() throws InterruptedException {
-        return pool.take();
+    public Connection get() throws InterruptedException, SQLException {
+        final long start = System.nanoTime();
+
+        try {
+            return pool.acquire();
+        } finally {
+            daoMetrics.recordPoolWait(System.nanoTime() - start);
+        }
     }
 
     /**
      * <p>
-     * Represents the connection object to release from the source
+     * Represents the connection object to release from the source, releasing the same connection twice has no effect
      * </p>
      *
      * @param connection Represents the connection object
      */
     public void release(final Connection connection) {
         if (null != connection) {
-            pool.offer(connection);
+            try {
+                connection.close();
+            } catch (SQLException exception) {
+                exception.printStackTrace();
+            }
         }
     }
+
+    /**
+     * <p>
+     * Represents the current wait time and utilization gauges of the connection pool
+     * </p>
+     *
+     * @return Represents {@link PoolStatistics}
+     */
+    public PoolStatistics getStatistics() {
+        return pool.getStatistics();
+    }
+
+    /**
+     * <p>
+     * Represents the settings the connections were opened with
+     * </p>
+     *
+     * @return Represents {@link DBConfiguration}
+     */
+    public DBConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * <p>
+     * Represents how long the configuration load and the initial connections took
+     * </p>
+     *
+     * @return Represents the start up timing report
+     */
+    public String getStartupReport() {
+        return startupReport;
+    }
 }
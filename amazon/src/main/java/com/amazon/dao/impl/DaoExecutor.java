@@ -0,0 +1,112 @@
+package com.amazon.dao.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Represents the executor that runs blocking DAO calls for the asynchronous DAO services
+ * </p>
+ *
+ * <p>
+ * On a runtime with virtual threads every call gets its own virtual thread and a semaphore sized to the
+ * connection pool bounds how many run at once, so thousands of pending calls cost no platform threads.
+ * On older runtimes a fixed pool of platform threads of the same size is used instead
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class DaoExecutor {
+
+    private static DaoExecutor DAO_EXECUTOR;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final boolean virtualThreads;
+
+    private DaoExecutor(final int concurrency) {
+        final ExecutorService virtualThreadExecutor = newVirtualThreadExecutor();
+
+        virtualThreads = null != virtualThreadExecutor;
+
+        if (virtualThreads) {
+            executor = virtualThreadExecutor;
+            permits = new Semaphore(concurrency);
+        } else {
+            executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+                final Thread thread = new Thread(runnable, "dao-executor");
+
+                thread.setDaemon(true);
+
+                return thread;
+            });
+            permits = null;
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the object of {@link DaoExecutor} can be created for only once, its concurrency is the
+     * maximum size of the connection pool
+     * </p>
+     *
+     * @return Represents {@link DaoExecutor}
+     */
+    public static synchronized DaoExecutor getInstance() {
+        if (null == DAO_EXECUTOR) {
+            DAO_EXECUTOR = new DaoExecutor(DBConnection.getInstance().getStatistics().getMaxSize());
+        }
+        return DAO_EXECUTOR;
+    }
+
+    /**
+     * <p>
+     * Runs the blocking call asynchronously
+     * </p>
+     *
+     * @param call Represents the blocking DAO call
+     * @param <T>  Represents the result type
+     * @return Represents the {@link CompletableFuture} completed with the call's result or exception
+     */
+    public <T> CompletableFuture<T> submit(final Supplier<T> call) {
+        if (null == permits) {
+            return CompletableFuture.supplyAsync(call, executor);
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                return call.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * @return True if the calls run on virtual threads
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * <p>
+     * Represents the virtual thread per task executor, looked up reflectively so the application still
+     * compiles and runs for Java 17. It is shared with the HTTP API, which runs every request on its own
+     * virtual thread
+     * </p>
+     *
+     * @return Represents the executor or null if the runtime has no virtual threads
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            return null;
+        }
+    }
+}
@@ -1,24 +1,39 @@
 package com.amazon.dao.impl;
 
 import com.amazon.dao.ProductServiceDao;
+import com.amazon.dao.impl.mapper.CartRowMapper;
+import com.amazon.dao.impl.mapper.OrderRowMapper;
+import com.amazon.dao.impl.mapper.ProductRowMapper;
 import com.amazon.exception.DBException;
+import com.amazon.exception.UnavailableQuantityException;
+import com.amazon.metrics.DaoMetrics;
+import com.amazon.model.BatchResult;
 import com.amazon.model.Cart;
 import com.amazon.model.Order;
+import com.amazon.model.Page;
 import com.amazon.model.Product;
 import com.amazon.model.User;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>
@@ -30,11 +45,47 @@ import java.util.Map;
  */
 public class ProductServiceDaoImpl implements ProductServiceDao {
 
-    private static final ProductServiceDao PRODUCT_SERVICE_DAO = new ProductServiceDaoImpl();
+    private static final ProductServiceDao PRODUCT_SERVICE_DAO = DaoMetrics.getInstance().instrument(ProductServiceDao.class,
+            new ProductServiceDaoImpl());
+    private static final String INSERT_PRODUCT_QUERY = "INSERT INTO PRODUCT (NAME, DESCRIPTION, AVAILABLE, PRICE, CATEGORY, UPDATED_TIME, USER_ID) values (?,?,?,?,?::product_category,?,?)";
+    private static final String SELECT_PRODUCTS_QUERY = "SELECT " + ProductRowMapper.COLUMNS + " FROM PRODUCT";
+    private static final String SELECT_PRODUCT_QUERY = SELECT_PRODUCTS_QUERY + " WHERE ID = ?";
+    private static final String SELECT_PRODUCT_PAGE_QUERY = SELECT_PRODUCTS_QUERY + " WHERE ID > ? ORDER BY ID LIMIT ?";
+    private static final String SELECT_USER_PRODUCTS_QUERY = SELECT_PRODUCTS_QUERY + " WHERE USER_ID = ?";
+    private static final String SELECT_USER_PRODUCT_PAGE_QUERY = SELECT_PRODUCTS_QUERY + " WHERE USER_ID = ? AND ID > ? ORDER BY ID LIMIT ?";
+    private static final String SELECT_CARTS_QUERY = "SELECT " + CartRowMapper.COLUMNS + " FROM CART WHERE USER_ID = ?";
+    private static final String SELECT_CART_QUERY = "SELECT " + CartRowMapper.COLUMNS + " FROM CART WHERE ID = ?";
+    private static final String SELECT_ORDERS_QUERY = "SELECT " + OrderRowMapper.COLUMNS + " FROM ORDERS WHERE USER_ID = ?";
+    private static final String SELECT_ORDER_PAGE_QUERY = SELECT_ORDERS_QUERY + " AND ID > ? ORDER BY ID LIMIT ?";
+    private static final String SELECT_ORDER_QUERY = "SELECT " + OrderRowMapper.COLUMNS + " FROM ORDERS WHERE ID = ?";
+    private static final String ORDER_QUERY = "WITH STOCK AS (UPDATE PRODUCT SET AVAILABLE = AVAILABLE - ? WHERE ID = ? AND AVAILABLE >= ? RETURNING ID, NAME, PRICE) "
+            + "INSERT INTO ORDERS (PRODUCT_ID, QUANTITY, PRICE, PRODUCT_NAME, USER_ID, PAYMENT_TYPE) SELECT ID, ?, PRICE, NAME, ?, ?::payment_types FROM STOCK "
+            + "RETURNING ID, PRODUCT_NAME, PRICE";
+    private static final String CANCEL_ORDER_QUERY = "WITH CANCELLED AS (DELETE FROM ORDERS WHERE ID = ? RETURNING PRODUCT_ID, QUANTITY), "
+            + "RESTOCKED AS (UPDATE PRODUCT SET AVAILABLE = AVAILABLE + CANCELLED.QUANTITY FROM CANCELLED WHERE PRODUCT.ID = CANCELLED.PRODUCT_ID) "
+            + "SELECT PRODUCT_ID FROM CANCELLED";
+    private static final String CHECKOUT_CART_QUERY = "DELETE FROM CART WHERE USER_ID = ? RETURNING " + CartRowMapper.COLUMNS;
+    private static final String CHECKOUT_STOCK_QUERY = "UPDATE PRODUCT SET AVAILABLE = PRODUCT.AVAILABLE - LINES.QUANTITY "
+            + "FROM UNNEST(?::bigint[], ?::bigint[]) AS LINES (PRODUCT_ID, QUANTITY) "
+            + "WHERE PRODUCT.ID = LINES.PRODUCT_ID AND PRODUCT.AVAILABLE >= LINES.QUANTITY RETURNING PRODUCT.ID, PRODUCT.NAME, PRODUCT.PRICE";
+    private static final String CHECKOUT_ORDER_QUERY = "INSERT INTO ORDERS (PRODUCT_ID, QUANTITY, PRICE, PRODUCT_NAME, USER_ID, PAYMENT_TYPE) "
+            + "SELECT LINES.PRODUCT_ID, LINES.QUANTITY, LINES.PRICE, LINES.NAME, ?, ?::payment_types "
+            + "FROM UNNEST(?::bigint[], ?::bigint[], ?::float8[], ?::text[]) WITH ORDINALITY AS LINES (PRODUCT_ID, QUANTITY, PRICE, NAME, LINE) "
+            + "ORDER BY LINES.LINE RETURNING " + OrderRowMapper.COLUMNS;
     private final DBConnection dbConnection;
+    private final ProductRowMapper productRowMapper;
+    private final CartRowMapper cartRowMapper;
+    private final OrderRowMapper orderRowMapper;
+    private final int batchSize;
+    private final int fetchSize;
 
     private ProductServiceDaoImpl() {
         dbConnection = DBConnection.getInstance();
+        productRowMapper = ProductRowMapper.getInstance();
+        cartRowMapper = CartRowMapper.getInstance();
+        orderRowMapper = OrderRowMapper.getInstance();
+        batchSize = Math.max(1, dbConnection.getConfiguration().getInt("product.batch_size", 1000));
+        fetchSize = Math.max(1, dbConnection.getConfiguration().getInt("product.fetch_size", 500));
     }
 
     /**
@@ -59,16 +110,9 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
      */
     public boolean add(final Product product) {
         try (final Connection connection = dbConnection.get()) {
-            final String query = "INSERT INTO PRODUCT (NAME, DESCRIPTION, AVAILABLE, PRICE, CATEGORY, UPDATED_TIME, USER_ID) values (?,?,?,?,?::product_category,?,?)";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(INSERT_PRODUCT_QUERY);
 
-            statement.setString(1, product.getName());
-            statement.setString(2, product.getDescription());
-            statement.setLong(3,product.getAvailable());
-            statement.setDouble(4, product.getPrice());
-            statement.setString(5, product.getCategory().toString());
-            statement.setTimestamp(6, product.getUpdatedTime());
-            statement.setLong(7, product.getUserId());
+            setProduct(statement, product);
             statement.executeUpdate();
             dbConnection.release(connection);
 
@@ -78,6 +122,140 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
         }
     }
 
+    /**
+     * <p>
+     * Adds the products to the product list using JDBC batches of the configured batch size, each batch is
+     * committed on its own. When a batch is rejected its rows are retried one by one so only the failing
+     * rows are reported
+     * </p>
+     *
+     * @param products Represents the {@link Product} list to add
+     * @return Represents the generated id and the failure reason of every row as {@link BatchResult}
+     * @throws DBException Represents any error occur while executing a query
+     */
+    public BatchResult addAll(final List<Product> products) {
+        final BatchResult batchResult = new BatchResult(products.size());
+
+        try (final Connection connection = dbConnection.get();
+             final PreparedStatement statement = connection.prepareStatement(INSERT_PRODUCT_QUERY, new String[]{"id"})) {
+            final List<Integer> batchRows = new ArrayList<>(batchSize);
+
+            connection.setAutoCommit(false);
+
+            for (int row = 0; row < products.size(); row++) {
+                final Product product = products.get(row);
+                final String reason = getMissingField(product);
+
+                if (null != reason) {
+                    batchResult.addFailure(row, reason);
+                    continue;
+                }
+                setProduct(statement, product);
+                statement.addBatch();
+                batchRows.add(row);
+
+                if (batchRows.size() >= batchSize) {
+                    executeBatch(connection, statement, products, batchRows, batchResult);
+                }
+            }
+
+            if (!batchRows.isEmpty()) {
+                executeBatch(connection, statement, products, batchRows, batchResult);
+            }
+            connection.setAutoCommit(true);
+
+            return batchResult;
+        } catch (SQLException | InterruptedException exception) {
+            throw new DBException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Executes and commits the pending batch, falling back to one insert per row under a savepoint when the
+     * batch is rejected
+     * </p>
+     */
+    private void executeBatch(final Connection connection, final PreparedStatement statement, final List<Product> products,
+                              final List<Integer> batchRows, final BatchResult batchResult) throws SQLException {
+        try {
+            statement.executeBatch();
+            final ResultSet generatedKeys = statement.getGeneratedKeys();
+
+            for (final Integer row : batchRows) {
+                if (generatedKeys.next()) {
+                    setGeneratedId(products.get(row), row, generatedKeys.getLong(1), batchResult);
+                }
+            }
+            generatedKeys.close();
+            connection.commit();
+        } catch (BatchUpdateException exception) {
+            statement.clearBatch();
+            connection.rollback();
+
+            for (final Integer row : batchRows) {
+                final Savepoint savepoint = connection.setSavepoint();
+
+                try {
+                    setProduct(statement, products.get(row));
+                    statement.executeUpdate();
+                    final ResultSet generatedKeys = statement.getGeneratedKeys();
+
+                    if (generatedKeys.next()) {
+                        setGeneratedId(products.get(row), row, generatedKeys.getLong(1), batchResult);
+                    }
+                    generatedKeys.close();
+                    connection.releaseSavepoint(savepoint);
+                } catch (SQLException rowException) {
+                    connection.rollback(savepoint);
+                    batchResult.addFailure(row, rowException.getMessage());
+                }
+            }
+            connection.commit();
+        }
+        batchRows.clear();
+    }
+
+    private void setGeneratedId(final Product product, final int row, final long id, final BatchResult batchResult) {
+        product.setId(id);
+        batchResult.setId(row, id);
+    }
+
+    /**
+     * <p>
+     * Represents the first mandatory {@link Product} field that is missing, checked before the row is sent
+     * </p>
+     *
+     * @return Represents the failure reason or null if the product can be inserted
+     */
+    private String getMissingField(final Product product) {
+        if (null == product) {
+            return "product is missing";
+        } else if (null == product.getName()) {
+            return "name is missing";
+        } else if (null == product.getCategory()) {
+            return "category is missing";
+        } else if (null == product.getAvailable()) {
+            return "available quantity is missing";
+        } else if (null == product.getPrice()) {
+            return "price is missing";
+        } else if (null == product.getUserId()) {
+            return "user id is missing";
+        }
+
+        return null;
+    }
+
+    private void setProduct(final PreparedStatement statement, final Product product) throws SQLException {
+        statement.setString(1, product.getName());
+        statement.setString(2, product.getDescription());
+        statement.setLong(3, product.getAvailable());
+        statement.setDouble(4, product.getPrice());
+        statement.setString(5, product.getCategory().toString());
+        statement.setTimestamp(6, null == product.getUpdatedTime() ? Timestamp.valueOf(LocalDateTime.now()) : product.getUpdatedTime());
+        statement.setLong(7, product.getUserId());
+    }
+
     /**
      * <p>
      * Provide the collection view of the products value
@@ -89,28 +267,104 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
     public Collection<Product> getAllProducts() {
         try (final Connection connection = dbConnection.get()) {
             final Collection<Product> productList = new ArrayList<>();
-            final String query = "SELECT * FROM PRODUCT";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(SELECT_PRODUCTS_QUERY);
             final ResultSet result = statement.executeQuery();
 
             while (result.next()) {
-                final Product product = new Product();
-
-                product.setId(result.getLong("ID"));
-                product.setName(result.getString("NAME"));
-                product.setDescription(result.getString("DESCRIPTION"));
-                product.setAvailable(result.getLong("AVAILABLE"));
-                product.setPrice(result.getDouble("PRICE"));
-                product.setCategory(Product.Category.valueOf(result.getString("CATEGORY")));
-                product.setUpdatedTime(result.getTimestamp("UPDATED_TIME"));
-                product.setUserId(result.getLong("USER_ID"));
-                productList.add(product);
+                productList.add(productRowMapper.map(result));
             }
             dbConnection.release(connection);
 
             return productList;
 
-        } catch (SQLException | InterruptedException exception) {;
+        } catch (SQLException | InterruptedException exception) {
+            throw new DBException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Provides the products one by one through a server side cursor that fetches the configured number of
+     * rows per round trip. The connection is returned to the pool when the stream is closed or fully read
+     * </p>
+     *
+     * @return Represents the {@link Stream} of {@link Product}
+     * @throws DBException Represents any error occur while executing a query
+     */
+    public Stream<Product> streamAllProducts() {
+        final Connection connection;
+
+        try {
+            connection = dbConnection.get();
+        } catch (SQLException | InterruptedException exception) {
+            throw new DBException(exception.getMessage());
+        }
+
+        try {
+            connection.setAutoCommit(false);
+            final PreparedStatement statement = connection.prepareStatement(SELECT_PRODUCTS_QUERY);
+
+            statement.setFetchSize(fetchSize);
+            final ResultSet result = statement.executeQuery();
+            final Runnable closeStream = () -> {
+                try {
+                    result.close();
+                } catch (SQLException ignored) {
+                }
+                dbConnection.release(connection);
+            };
+
+            return StreamSupport.stream(new Spliterators.AbstractSpliterator<Product>(Long.MAX_VALUE,
+                    Spliterator.ORDERED | Spliterator.NONNULL) {
+
+                public boolean tryAdvance(final Consumer<? super Product> action) {
+                    try {
+                        if (!result.next()) {
+                            closeStream.run();
+
+                            return false;
+                        }
+                        action.accept(productRowMapper.map(result));
+
+                        return true;
+                    } catch (SQLException exception) {
+                        closeStream.run();
+                        throw new DBException(exception.getMessage());
+                    }
+                }
+            }, false).onClose(closeStream);
+        } catch (SQLException exception) {
+            dbConnection.release(connection);
+            throw new DBException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Provides one page of the products ordered by id, the page continues after the id held by the cursor
+     * so its cost does not grow with the page number
+     * </p>
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link Page} of {@link Product}
+     * @throws IllegalArgumentException if the page size is less than one
+     * @throws DBException Represents any error occur while executing a query
+     */
+    public Page<Product> getProductPage(final String cursor, final int pageSize) {
+        Page.requirePageSize(pageSize);
+
+        try (final Connection connection = dbConnection.get()) {
+            final PreparedStatement statement = connection.prepareStatement(SELECT_PRODUCT_PAGE_QUERY);
+
+            statement.setLong(1, Page.decodeCursor(cursor));
+            statement.setInt(2, pageSize + 1);
+            final Page<Product> page = getProductPage(statement.executeQuery(), pageSize);
+
+            dbConnection.release(connection);
+
+            return page;
+        } catch (SQLException | InterruptedException exception) {
             throw new DBException(exception.getMessage());
         }
     }
@@ -126,23 +380,14 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
         final Map<Long, Product> productList = new HashMap<>();
 
         try (final Connection connection = dbConnection.get()) {
-            final String query = "SELECT * FROM PRODUCT WHERE USER_ID = ?";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(SELECT_USER_PRODUCTS_QUERY);
 
             statement.setLong(1, userId);
             final ResultSet result = statement.executeQuery();
 
             while (result.next()) {
-                final Product product = new Product();
-
-                product.setId(result.getLong("ID"));
-                product.setName(result.getString("NAME"));
-                product.setDescription(result.getString("DESCRIPTION"));
-                product.setAvailable(result.getLong("AVAILABLE"));
-                product.setPrice(result.getDouble("PRICE"));
-                product.setCategory(Product.Category.valueOf(result.getString("CATEGORY")));
-                product.setUpdatedTime(result.getTimestamp("UPDATED_TIME"));
-                product.setUserId(result.getLong("USER_ID"));
+                final Product product = productRowMapper.map(result);
+
                 productList.put(product.getId(), product);
             }
             dbConnection.release(connection);
@@ -153,6 +398,56 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
         return productList;
     }
 
+    /**
+     * <p>
+     * Provides one page of the products that the user create ordered by id
+     * </p>
+     *
+     * @param userId   Represents admin id
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link Page} of {@link Product} created by the user
+     * @throws IllegalArgumentException if the page size is less than one
+     * @throws DBException Represents any error occur while executing a query
+     */
+    public Page<Product> getUserProductPage(final Long userId, final String cursor, final int pageSize) {
+        Page.requirePageSize(pageSize);
+
+        try (final Connection connection = dbConnection.get()) {
+            final PreparedStatement statement = connection.prepareStatement(SELECT_USER_PRODUCT_PAGE_QUERY);
+
+            statement.setLong(1, userId);
+            statement.setLong(2, Page.decodeCursor(cursor));
+            statement.setInt(3, pageSize + 1);
+            final Page<Product> page = getProductPage(statement.executeQuery(), pageSize);
+
+            dbConnection.release(connection);
+
+            return page;
+        } catch (SQLException | InterruptedException exception) {
+            throw new DBException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the page built from a query that asked for one row more than the page size, the extra row
+     * only tells whether a next page exists
+     * </p>
+     */
+    private Page<Product> getProductPage(final ResultSet result, final int pageSize) throws SQLException {
+        final List<Product> products = new ArrayList<>(pageSize);
+
+        while (products.size() < pageSize && result.next()) {
+            products.add(productRowMapper.map(result));
+        }
+        final boolean hasNext = result.next();
+
+        result.close();
+
+        return new Page<>(products, hasNext ? Page.encodeCursor(products.get(products.size() - 1).getId()) : null);
+    }
+
     /**
      * <p>
      * Gets the product from product list using productId
@@ -164,23 +459,14 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
      */
     public Product get(final Long productId) {
         try (final Connection connection = dbConnection.get()) {
-            final String query = "SELECT * FROM PRODUCT WHERE ID = ?";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(SELECT_PRODUCT_QUERY);
 
             statement.setLong(1, productId);
             final ResultSet result = statement.executeQuery();
 
             if (result.next()) {
-                final Product product = new Product();
-
-                product.setId(result.getLong("ID"));
-                product.setName(result.getString("NAME"));
-                product.setDescription(result.getString("DESCRIPTION"));
-                product.setAvailable(result.getLong("AVAILABLE"));
-                product.setPrice(result.getDouble("PRICE"));
-                product.setCategory(Product.Category.valueOf(result.getString("CATEGORY")));
-                product.setUpdatedTime(result.getTimestamp("UPDATED_TIME"));
-                product.setUserId(result.getLong("USER_ID"));
+                final Product product = productRowMapper.map(result);
+
                 dbConnection.release(connection);
 
                 return product;
@@ -259,13 +545,19 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
     public boolean addToCart(final Cart cart) {
         try (final Connection connection = dbConnection.get()) {
             final String query = "INSERT INTO CART (PRODUCT_ID, QUANTITY, PRICE, USER_ID, NAME) VALUES (?,?,?,?,?)";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(query, new String[]{"id"});
             statement.setLong(1, cart.getProductId());
             statement.setLong(2, cart.getQuantity());
             statement.setDouble(3, cart.getPrice());
             statement.setLong(4, cart.getUserId());
             statement.setString(5, cart.getProductName());
             statement.execute();
+            final ResultSet generatedKeys = statement.getGeneratedKeys();
+
+            if (generatedKeys.next()) {
+                cart.setId(generatedKeys.getLong(1));
+            }
+            generatedKeys.close();
             dbConnection.release(connection);
 
             return true;
@@ -285,22 +577,13 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
     public List<Cart> getCartList(final Long id) {
         try (final Connection connection = dbConnection.get()) {
             final List<Cart> cartList = new LinkedList<>();
-            final String query = "SELECT * FROM CART WHERE USER_ID = ?";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(SELECT_CARTS_QUERY);
 
             statement.setLong(1, id);
             final ResultSet result = statement.executeQuery();
 
             while (result.next()) {
-                final Cart cart = new Cart();
-
-                cart.setId(result.getLong("ID"));
-                cart.setProductId(result.getLong("PRODUCT_ID"));
-                cart.setProductName(result.getString("NAME"));
-                cart.setQuantity(result.getLong("QUANTITY"));
-                cart.setPrice(result.getDouble("PRICE"));
-                cart.setUserId(result.getLong("USER_ID"));
-                cartList.add(cart);
+                cartList.add(cartRowMapper.map(result));
             }
             dbConnection.release(connection);
 
@@ -320,25 +603,19 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
      */
     public Cart getCart(final Long id) {
         try (final Connection connection = dbConnection.get()) {
-            final String query = "SELECT * FROM CART WHERE ID = ?";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(SELECT_CART_QUERY);
 
             statement.setLong(1, id);
             final ResultSet result = statement.executeQuery();
 
             if (result.next()) {
-                final Cart cart = new Cart();
-
-                cart.setId(result.getLong("ID"));
-                cart.setProductId(result.getLong("PRODUCT_ID"));
-                cart.setProductName(result.getString("PRODUCT_NAME"));
-                cart.setQuantity(result.getLong("QUANTITY"));
-                cart.setPrice(result.getDouble("TOTAL_PRICE"));
-                cart.setUserId(result.getLong("USER_ID"));
+                final Cart cart = cartRowMapper.map(result);
+
                 dbConnection.release(connection);
 
                 return cart;
             }
+            dbConnection.release(connection);
 
             return null;
         } catch (SQLException | InterruptedException exception) {
@@ -454,37 +731,166 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
      *     Represents the order of {@link Product}
      * </p>
      *
+     * <p>
+     *     The stock is decremented only when enough is available and the order is inserted from the
+     *     decremented row in the same statement, so the check, the decrement and the insert are one atomic
+     *     round trip and concurrent buyers can never take more than is available. The name and price of the
+     *     order are taken from the product row
+     * </p>
+     *
      * @param order Represents {@link Order}
      * @return True if the order is added to the order list
+     * @throws UnavailableQuantityException if the product does not have the ordered quantity available
      * @throws DBException Represents any error occur while executing a query
      */
-    public boolean order(final Order order) {
+    public boolean order(final Order order) throws UnavailableQuantityException {
+        if (null == order.getQuantity() || order.getQuantity() <= 0) {
+            throw new UnavailableQuantityException("Quantity must be greater than zero");
+        }
+
         try (final Connection connection = dbConnection.get()) {
-            final String orderQuery = "INSERT INTO ORDERS (PRODUCT_ID, QUANTITY, PRICE, PRODUCT_NAME, USER_ID, PAYMENT_TYPE) VALUES (?,?,?,?,?,?::payment_types)";
-            final PreparedStatement statement = connection.prepareStatement(orderQuery);
+            final PreparedStatement statement = connection.prepareStatement(ORDER_QUERY);
 
-            statement.setLong(1, order.getProductId());
-            statement.setLong(2, order.getQuantity());
-            statement.setDouble(3, order.getPrice());
-            statement.setString(4, order.getProductName());
+            statement.setLong(1, order.getQuantity());
+            statement.setLong(2, order.getProductId());
+            statement.setLong(3, order.getQuantity());
+            statement.setLong(4, order.getQuantity());
             statement.setLong(5, order.getUserId());
             statement.setString(6, String.valueOf(order.getPaymentType()));
-            statement.execute();
-
-            final String productQuery = "UPDATE PRODUCT SET AVAILABLE = AVAILABLE - ? WHERE ID = ? ";
-            final PreparedStatement statement1 = connection.prepareStatement(productQuery);
+            final ResultSet result = statement.executeQuery();
+            final boolean isOrdered = result.next();
 
-            statement1.setLong(1, order.getQuantity());
-            statement1.setLong(2, order.getProductId());
-            statement1.execute();
+            if (isOrdered) {
+                order.setId(result.getLong(1));
+                order.setProductName(result.getString(2));
+                order.setPrice(result.getDouble(3));
+            }
+            result.close();
             dbConnection.release(connection);
 
+            if (!isOrdered) {
+                throw new UnavailableQuantityException("Un available quantity");
+            }
+
             return true;
         } catch (SQLException | InterruptedException exception) {
             throw new DBException(exception.getMessage());
         }
     }
 
+    /**
+     * <p>
+     *     Represents the order of every product in the cart of the user
+     * </p>
+     *
+     * <p>
+     *     The cart is emptied, the stock of every product is taken and the order lines are inserted in one
+     *     transaction of three statements whatever the size of the cart. The stock is taken with one guarded
+     *     update over all the products, so the checkout fails as a whole when any product is short
+     * </p>
+     *
+     * @param userId      Represents the id of the {@link User}
+     * @param paymentType Represents the payment type of the orders
+     * @return Represents the placed {@link Order} of every cart line, empty if the cart is empty
+     * @throws UnavailableQuantityException if any product does not have the quantity in the cart available
+     * @throws DBException Represents any error occur while executing a query
+     */
+    public List<Order> checkoutCart(final Long userId, final Order.Payment paymentType) throws UnavailableQuantityException {
+        try (final Connection connection = dbConnection.get()) {
+            connection.setAutoCommit(false);
+
+            try {
+                final List<Order> orderList = checkoutCart(connection, userId, paymentType);
+
+                connection.commit();
+                connection.setAutoCommit(true);
+                dbConnection.release(connection);
+
+                return orderList;
+            } catch (SQLException | UnavailableQuantityException exception) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+                throw exception;
+            }
+        } catch (SQLException | InterruptedException exception) {
+            throw new DBException(exception.getMessage());
+        }
+    }
+
+    private List<Order> checkoutCart(final Connection connection, final Long userId, final Order.Payment paymentType)
+            throws SQLException, UnavailableQuantityException {
+        final PreparedStatement cartStatement = connection.prepareStatement(CHECKOUT_CART_QUERY);
+
+        cartStatement.setLong(1, userId);
+        final ResultSet cartResult = cartStatement.executeQuery();
+        final List<Cart> cartList = new ArrayList<>();
+        final Map<Long, Long> productQuantities = new LinkedHashMap<>();
+
+        while (cartResult.next()) {
+            final Cart cart = cartRowMapper.map(cartResult);
+
+            cartList.add(cart);
+            productQuantities.merge(cart.getProductId(), cart.getQuantity(), Long::sum);
+        }
+        cartResult.close();
+
+        if (cartList.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final PreparedStatement stockStatement = connection.prepareStatement(CHECKOUT_STOCK_QUERY);
+
+        stockStatement.setArray(1, connection.createArrayOf("bigint", productQuantities.keySet().toArray()));
+        stockStatement.setArray(2, connection.createArrayOf("bigint", productQuantities.values().toArray()));
+        final ResultSet stockResult = stockStatement.executeQuery();
+        final Map<Long, Product> products = new HashMap<>();
+
+        while (stockResult.next()) {
+            final Product product = new Product();
+
+            product.setId(stockResult.getLong(1));
+            product.setName(stockResult.getString(2));
+            product.setPrice(stockResult.getDouble(3));
+            products.put(product.getId(), product);
+        }
+        stockResult.close();
+
+        if (products.size() != productQuantities.size()) {
+            productQuantities.keySet().removeAll(products.keySet());
+
+            throw new UnavailableQuantityException("Un available quantity for the products " + productQuantities.keySet());
+        }
+        final Object[] productIds = new Object[cartList.size()];
+        final Object[] quantities = new Object[cartList.size()];
+        final Object[] prices = new Object[cartList.size()];
+        final Object[] productNames = new Object[cartList.size()];
+
+        for (int line = 0; line < cartList.size(); line++) {
+            final Product product = products.get(cartList.get(line).getProductId());
+
+            productIds[line] = product.getId();
+            quantities[line] = cartList.get(line).getQuantity();
+            prices[line] = product.getPrice();
+            productNames[line] = product.getName();
+        }
+        final PreparedStatement orderStatement = connection.prepareStatement(CHECKOUT_ORDER_QUERY);
+
+        orderStatement.setLong(1, userId);
+        orderStatement.setString(2, String.valueOf(paymentType));
+        orderStatement.setArray(3, connection.createArrayOf("bigint", productIds));
+        orderStatement.setArray(4, connection.createArrayOf("bigint", quantities));
+        orderStatement.setArray(5, connection.createArrayOf("float8", prices));
+        orderStatement.setArray(6, connection.createArrayOf("text", productNames));
+        final ResultSet orderResult = orderStatement.executeQuery();
+        final List<Order> orderList = new ArrayList<>(cartList.size());
+
+        while (orderResult.next()) {
+            orderList.add(orderRowMapper.map(orderResult));
+        }
+        orderResult.close();
+
+        return orderList;
+    }
+
     /**
      * <p>
      *      Retrieve the List of {@link User} order
@@ -497,23 +903,13 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
     public List<Order> getOrderList(final Long userId) {
         try (final Connection connection = dbConnection.get()) {
             final List<Order> orderList = new ArrayList<>();
-            final String query = "SELECT * FROM ORDERS WHERE USER_ID = ?";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(SELECT_ORDERS_QUERY);
 
             statement.setLong(1, userId);
             final ResultSet result = statement.executeQuery();
 
             while (result.next()) {
-                final Order order = new Order();
-
-                order.setId(result.getLong("ID"));
-                order.setProductId(result.getLong("PRODUCT_ID"));
-                order.setQuantity(result.getLong("QUANTITY"));
-                order.setProductName(result.getString("PRODUCT_NAME"));
-                order.setPrice(result.getDouble("PRICE"));
-                order.setUserId(result.getLong("USER_ID"));
-                order.setPaymentType(Order.Payment.valueOf(result.getString("PAYMENT_TYPE")));
-                orderList.add(order);
+                orderList.add(orderRowMapper.map(result));
             }
             dbConnection.release(connection);
 
@@ -523,6 +919,44 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
         }
     }
 
+    /**
+     * <p>
+     * Provides one page of the orders of the user ordered by id
+     * </p>
+     *
+     * @param userId   Represents the id of the {@link User}
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of orders in the page
+     * @return Represents the {@link Page} of {@link Order}
+     * @throws IllegalArgumentException if the page size is less than one
+     * @throws DBException Represents any error occur while executing a query
+     */
+    public Page<Order> getOrderPage(final Long userId, final String cursor, final int pageSize) {
+        Page.requirePageSize(pageSize);
+
+        try (final Connection connection = dbConnection.get()) {
+            final PreparedStatement statement = connection.prepareStatement(SELECT_ORDER_PAGE_QUERY);
+
+            statement.setLong(1, userId);
+            statement.setLong(2, Page.decodeCursor(cursor));
+            statement.setInt(3, pageSize + 1);
+            final ResultSet result = statement.executeQuery();
+            final List<Order> orderList = new ArrayList<>(pageSize);
+
+            while (orderList.size() < pageSize && result.next()) {
+                orderList.add(orderRowMapper.map(result));
+            }
+            final boolean hasNext = result.next();
+
+            result.close();
+            dbConnection.release(connection);
+
+            return new Page<>(orderList, hasNext ? Page.encodeCursor(orderList.get(orderList.size() - 1).getId()) : null);
+        } catch (SQLException | InterruptedException exception) {
+            throw new DBException(exception.getMessage());
+        }
+    }
+
     /**
      * Represents the order details of the particular order id
      * @param orderId Represents the id of the {@link Product}
@@ -531,21 +965,12 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
      */
     public Order getOrder(final Long orderId) {
         try (final Connection connection = dbConnection.get()) {
-            final String query = "SELECT * FROM ORDERS WHERE USER_ID = ?";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(SELECT_ORDER_QUERY);
 
             statement.setLong(1, orderId);
             final ResultSet result = statement.executeQuery();
-            final Order order = new Order();
+            final Order order = result.next() ? orderRowMapper.map(result) : null;
 
-            if (result.next()) {
-                order.setId(result.getLong("ID"));
-                order.setProductId(result.getLong("PRODUCT_ID"));
-                order.setQuantity(result.getLong("PRODUCT_COUNT"));
-                order.setPrice(result.getDouble("PRICE"));
-                order.setUserId(result.getLong("USER_ID"));
-                order.setPaymentType(Order.Payment.valueOf(result.getString("PAYMENT_TYPE")));
-            }
             dbConnection.release(connection);
 
             return order;
@@ -555,29 +980,24 @@ public class ProductServiceDaoImpl implements ProductServiceDao {
     }
 
     /**
-     * Represents the cancelling the order of the particular order id
-     * @param orderId Represents the id of the {@link Product}
-     * @return Represents {@link Order}
+     * Represents the cancelling the order of the particular order id, the order is deleted and its quantity
+     * is given back to the product in one statement
+     * @param orderId Represents the id of the {@link Order}
+     * @return Represents the id of the {@link Product} of the cancelled order, or null if there is no such order
      * @throws DBException Represents any error occur while executing a query
      */
-    public boolean cancelOrder(final Long orderId) {
+    public Long cancelOrder(final Long orderId) {
         try (final Connection connection = dbConnection.get()) {
-            final String query = "DELETE FROM ORDERS WHERE ID = ?";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(CANCEL_ORDER_QUERY);
 
             statement.setLong(1, orderId);
-            statement.execute();
-
-            final Order order = getOrder(orderId);
-            final String productQuery = "UPDATE PRODUCT SET AVAILABLE = AVAILABLE + ? WHERE ID = ? ";
-            final PreparedStatement statement1 = connection.prepareStatement(productQuery);
+            final ResultSet result = statement.executeQuery();
+            final Long productId = result.next() ? result.getLong(1) : null;
 
-            statement1.setLong(1, order.getQuantity());
-            statement1.setLong(2, order.getProductId());
-            statement1.execute();
+            result.close();
             dbConnection.release(connection);
 
-            return true;
+            return productId;
         } catch (SQLException | InterruptedException exception) {
             throw new DBException(exception.getMessage());
         }
@@ -0,0 +1,316 @@
+package com.amazon.dao.impl;
+
+import com.amazon.collection.ScalableBloomFilter;
+import com.amazon.exception.DBException;
+import com.amazon.model.User;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * Represents the bloom filters of the emails and phone numbers of the {@link User} rows, kept in front of
+ * the sign up checks so a value that was never used is answered without a query
+ * </p>
+ *
+ * <p>
+ * The filters are built from the USERS table when the {@link DBConnection} pool starts, and every email and
+ * phone number written afterwards through the DAOs is added to them before the write, so a check never misses
+ * a user that is being inserted. A bloom filter can not forget a value, so deleted users and failed writes stay
+ * in the filters as possible hits that the query answers, and the filters are rebuilt in the background once
+ * the deleted users pass a quarter of the users. While the filters are not built every check runs the query,
+ * and a start up build that failed is retried in the background by the next check, at most every few seconds
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class UserExistenceFilter {
+
+    private static final String SELECT_USER_KEYS_QUERY = "SELECT EMAIL, PHONE_NUMBER FROM USERS";
+    private static final double STALE_RATIO = 0.25;
+    private static final long RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final Logger LOGGER = Logger.getLogger(UserExistenceFilter.class.getName());
+    private static UserExistenceFilter USER_EXISTENCE_FILTER;
+
+    private final DBConnection dbConnection;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+    private final int fetchSize;
+    private final AtomicLong skippedCount;
+    private final AtomicLong falsePositiveCount;
+    private volatile Filters filters;
+    private List<User> pendingUsers;
+    private long removedCount;
+    private boolean isRebuilding;
+    private boolean isRebuildSubmitted;
+    private boolean hasFailed;
+    private long failedTime;
+
+    private UserExistenceFilter(final DBConnection dbConnection) {
+        final DBConfiguration configuration = dbConnection.getConfiguration();
+
+        this.dbConnection = dbConnection;
+        expectedUsers = Math.max(1, configuration.getLong("user.filter.expected_users", 100000));
+        falsePositiveRate = configuration.getDouble("user.filter.false_positive_rate", 0.01);
+        fetchSize = Math.max(1, configuration.getInt("user.fetch_size", 500));
+        skippedCount = new AtomicLong();
+        falsePositiveCount = new AtomicLong();
+    }
+
+    /**
+     * <p>
+     * Represents the object of {@link UserExistenceFilter} can be created for only once, it is sized by the
+     * user.filter.expected_users and user.filter.false_positive_rate keys
+     * </p>
+     *
+     * @return Represents {@link UserExistenceFilter}
+     */
+    public static UserExistenceFilter getInstance() {
+        final DBConnection dbConnection = DBConnection.getInstance();
+
+        synchronized (UserExistenceFilter.class) {
+            if (null == USER_EXISTENCE_FILTER) {
+                USER_EXISTENCE_FILTER = new UserExistenceFilter(dbConnection);
+            }
+            return USER_EXISTENCE_FILTER;
+        }
+    }
+
+    /**
+     * <p>
+     * Builds the filters from the USERS table, called once the connection pool is started so the first sign up
+     * does not pay for the scan. After a failure the checks run the query until a later build works
+     * </p>
+     *
+     * @throws DBException Represents any error occur while reading the users
+     */
+    public void warmUp() {
+        build();
+    }
+
+    /**
+     * @return False if no user has the email, true if the query has to tell
+     */
+    public boolean mightContainEmail(final String email) {
+        final Filters current = getFilters();
+
+        return null == current || isPossibleHit(current.emails.mightContain(email));
+    }
+
+    /**
+     * @return False if no user has the phone number, true if the query has to tell
+     */
+    public boolean mightContainPhoneNumber(final String phoneNumber) {
+        final Filters current = getFilters();
+
+        return null == current || isPossibleHit(current.phoneNumbers.mightContain(phoneNumber));
+    }
+
+    /**
+     * <p>
+     * Counts a possible hit that the query found to be absent
+     * </p>
+     */
+    public void recordFalsePositive() {
+        falsePositiveCount.incrementAndGet();
+    }
+
+    /**
+     * <p>
+     * Adds the email and phone number of the user, called before the user is written so a concurrent check
+     * can not skip the query for it
+     * </p>
+     *
+     * @param user Represents the {@link User} to be added or updated
+     */
+    public synchronized void add(final User user) {
+        if (null != filters) {
+            filters.add(user);
+        }
+
+        if (isRebuilding) {
+            pendingUsers.add(user);
+        }
+    }
+
+    /**
+     * <p>
+     * Counts the removed users and starts a rebuild when too many of them are left in the filters
+     * </p>
+     *
+     * @param count Represents the number of removed users
+     */
+    public void recordRemoval(final long count) {
+        synchronized (this) {
+            removedCount += count;
+
+            if (isRebuilding || null == filters || removedCount <= filters.emails.getCount() * STALE_RATIO) {
+                return;
+            }
+        }
+        rebuildInBackground();
+    }
+
+    public long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    public long getFalsePositiveCount() {
+        return falsePositiveCount.get();
+    }
+
+    private boolean isPossibleHit(final boolean mightContain) {
+        if (!mightContain) {
+            skippedCount.incrementAndGet();
+        }
+        return mightContain;
+    }
+
+    /**
+     * @return Represents the filters or null while they are not built, in which case a build is started in the
+     * background and the caller runs the query
+     */
+    private Filters getFilters() {
+        final Filters current = filters;
+
+        if (null != current) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (isRebuilding || isRebuildSubmitted
+                    || (hasFailed && System.nanoTime() - failedTime < RETRY_DELAY_NANOS)) {
+                return null;
+            }
+        }
+        rebuildInBackground();
+
+        return null;
+    }
+
+    /**
+     * <p>
+     * Builds the filters on the {@link DaoExecutor}, only one build is submitted at a time
+     * </p>
+     */
+    private void rebuildInBackground() {
+        synchronized (this) {
+            if (isRebuildSubmitted) {
+                return;
+            }
+            isRebuildSubmitted = true;
+        }
+        DaoExecutor.getInstance().submit(() -> {
+            build();
+
+            return null;
+        }).whenComplete((result, exception) -> {
+            synchronized (this) {
+                isRebuildSubmitted = false;
+                hasFailed = null != exception;
+                failedTime = System.nanoTime();
+            }
+
+            if (null != exception) {
+                LOGGER.warning("user filters not built, the checks query the users until they are: "
+                        + (null == exception.getCause() ? exception : exception.getCause()).getMessage());
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Builds new filters from the USERS table and swaps them in. Users written during the scan are kept aside
+     * and added before the swap, so none of them is missed
+     * </p>
+     */
+    private void build() {
+        synchronized (this) {
+            if (isRebuilding) {
+                return;
+            }
+            isRebuilding = true;
+            pendingUsers = new ArrayList<>();
+        }
+        Filters rebuilt = null;
+
+        try {
+            rebuilt = scanUsers();
+        } finally {
+            synchronized (this) {
+                if (null != rebuilt) {
+                    for (final User user : pendingUsers) {
+                        rebuilt.add(user);
+                    }
+                    filters = rebuilt;
+                    removedCount = 0;
+                }
+                pendingUsers = null;
+                isRebuilding = false;
+            }
+        }
+    }
+
+    private Filters scanUsers() {
+        try (final Connection connection = dbConnection.get()) {
+            final Filters rebuilt = new Filters(expectedUsers, falsePositiveRate);
+
+            connection.setAutoCommit(false);
+
+            try {
+                final PreparedStatement statement = connection.prepareStatement(SELECT_USER_KEYS_QUERY);
+
+                statement.setFetchSize(fetchSize);
+                final ResultSet result = statement.executeQuery();
+
+                while (result.next()) {
+                    rebuilt.emails.add(result.getString(1));
+                    rebuilt.phoneNumbers.add(result.getString(2));
+                }
+                result.close();
+                connection.commit();
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            dbConnection.release(connection);
+
+            return rebuilt;
+        } catch (SQLException | InterruptedException exception) {
+            throw new DBException(exception.getMessage());
+        }
+    }
+
+    public String toString() {
+        final Filters current = filters;
+
+        return null == current ? "user filters not built\n" : String.format(
+                "emails : %d\nphone numbers : %d\nbits : %d\nskipped queries : %d\nfalse positives : %d\n",
+                current.emails.getCount(), current.phoneNumbers.getCount(),
+                current.emails.getBitCount() + current.phoneNumbers.getBitCount(), getSkippedCount(),
+                getFalsePositiveCount());
+    }
+
+    private static class Filters {
+
+        private final ScalableBloomFilter emails;
+        private final ScalableBloomFilter phoneNumbers;
+
+        private Filters(final long expectedUsers, final double falsePositiveRate) {
+            emails = new ScalableBloomFilter(expectedUsers, falsePositiveRate);
+            phoneNumbers = new ScalableBloomFilter(expectedUsers, falsePositiveRate);
+        }
+
+        private void add(final User user) {
+            emails.add(user.getEmail());
+            phoneNumbers.add(user.getPhoneNumber());
+        }
+    }
+}
@@ -1,15 +1,29 @@
 package com.amazon.dao.impl;
 
 import com.amazon.dao.UserServiceDao;
+import com.amazon.dao.impl.mapper.UserProfileRowMapper;
+import com.amazon.dao.impl.mapper.UserRowMapper;
 import com.amazon.exception.DBException;
+import com.amazon.metrics.DaoMetrics;
+import com.amazon.model.BatchResult;
+import com.amazon.model.Page;
 import com.amazon.model.User;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>
@@ -21,11 +35,28 @@ import java.util.LinkedList;
  */
 public class UserServiceDaoImpl implements UserServiceDao {
 
-    private static final UserServiceDao USER_SERVICE_DAO = new UserServiceDaoImpl();
+    private static final UserServiceDao USER_SERVICE_DAO = DaoMetrics.getInstance().instrument(UserServiceDao.class,
+            new UserServiceDaoImpl());
+    private static final String SELECT_USERS_QUERY = "SELECT " + UserRowMapper.COLUMNS + " FROM USERS";
+    private static final String SELECT_USER_QUERY = SELECT_USERS_QUERY + " WHERE ID = ?";
+    private static final String SELECT_PROFILES_QUERY = "SELECT " + UserProfileRowMapper.COLUMNS + " FROM USERS ORDER BY ID";
+    private static final String SELECT_PROFILE_PAGE_QUERY = "SELECT " + UserProfileRowMapper.COLUMNS
+            + " FROM USERS WHERE ID > ? ORDER BY ID LIMIT ?";
+    private static final String INSERT_USER_QUERY = "INSERT INTO USERS(NAME, EMAIL, PASSWORD, ADDRESS, PHONE_NUMBER) VALUES (?, ?, ?, ?, ?)";
     private final DBConnection dbConnection ;
+    private final UserRowMapper userRowMapper;
+    private final UserProfileRowMapper userProfileRowMapper;
+    private final UserExistenceFilter userExistenceFilter;
+    private final int batchSize;
+    private final int fetchSize;
 
     private UserServiceDaoImpl() {
        dbConnection = DBConnection.getInstance();
+       userRowMapper = UserRowMapper.getInstance();
+       userProfileRowMapper = UserProfileRowMapper.getInstance();
+       userExistenceFilter = UserExistenceFilter.getInstance();
+       batchSize = Math.max(1, dbConnection.getConfiguration().getInt("user.batch_size", 1000));
+       fetchSize = Math.max(1, dbConnection.getConfiguration().getInt("user.fetch_size", 500));
     }
 
     /**
@@ -51,21 +82,14 @@ public class UserServiceDaoImpl implements UserServiceDao {
      */
     public User getDetails(final Long id) {
         try (final Connection connection = dbConnection.get()) {
-            final String query = "SELECT * FROM USERS WHERE ID = ?";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(SELECT_USER_QUERY);
 
             statement.setLong(1, id);
             final ResultSet result = statement.executeQuery();
 
             if (result.next()) {
-                final User user = new User();
-
-                user.setId(result.getLong(1));
-                user.setName(result.getString(2));
-                user.setEmail(result.getString(3));
-                user.setPassword(result.getString(4));
-                user.setAddress(result.getString(5));
-                user.setPhoneNumber(result.getString(6));
+                final User user = userRowMapper.map(result);
+
                 dbConnection.release(connection);
 
                 return user;
@@ -91,8 +115,10 @@ public class UserServiceDaoImpl implements UserServiceDao {
             final PreparedStatement statement = connection.prepareStatement(query);
 
             statement.setLong(1, user_id);
-            statement.execute();
+            final int removedCount = statement.executeUpdate();
+
             dbConnection.release(connection);
+            userExistenceFilter.recordRemoval(removedCount);
 
             return true;
         } catch (SQLException | InterruptedException exception) {
@@ -101,32 +127,110 @@ public class UserServiceDaoImpl implements UserServiceDao {
     }
 
     /**
-     * Represents all the {@link User} details in the usersList
+     * Represents all the {@link User} details in the usersList without the passwords, read through
+     * {@link #streamAllUsers()}
      *
      * @return Represents collection of {@link User}
      * @throws DBException Represents any error occur while executing a query
+     * @deprecated Loads every user into memory at once, use {@link #streamAllUsers()} or
+     * {@link #getUserPage(String, int)} instead
      */
+    @Deprecated
     public Collection<User> getAllUser() {
+        try (final Stream<User> users = streamAllUsers()) {
+            return users.collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    /**
+     * <p>
+     * Provides the users without the passwords one by one, the rows are fetched from a cursor in batches of
+     * the user.fetch_size key so only one batch is held in memory
+     * </p>
+     *
+     * @return Represents the {@link Stream} of {@link User}
+     * @throws DBException Represents any error occur while executing a query
+     */
+    public Stream<User> streamAllUsers() {
+        final Connection connection;
+
+        try {
+            connection = dbConnection.get();
+        } catch (SQLException | InterruptedException exception) {
+            throw new DBException(exception.getMessage());
+        }
+
+        try {
+            connection.setAutoCommit(false);
+            final PreparedStatement statement = connection.prepareStatement(SELECT_PROFILES_QUERY);
+
+            statement.setFetchSize(fetchSize);
+            final ResultSet result = statement.executeQuery();
+            final Runnable closeStream = () -> {
+                try {
+                    result.close();
+                } catch (SQLException ignored) {
+                }
+                dbConnection.release(connection);
+            };
+
+            return StreamSupport.stream(new Spliterators.AbstractSpliterator<User>(Long.MAX_VALUE,
+                    Spliterator.ORDERED | Spliterator.NONNULL) {
+
+                public boolean tryAdvance(final Consumer<? super User> action) {
+                    try {
+                        if (!result.next()) {
+                            closeStream.run();
+
+                            return false;
+                        }
+                        action.accept(userProfileRowMapper.map(result));
+
+                        return true;
+                    } catch (SQLException exception) {
+                        closeStream.run();
+                        throw new DBException(exception.getMessage());
+                    }
+                }
+            }, false).onClose(closeStream);
+        } catch (SQLException exception) {
+            dbConnection.release(connection);
+            throw new DBException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Provides one page of the users without the passwords ordered by id, the page continues after the id
+     * held by the cursor so its cost does not grow with the page number
+     * </p>
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of users in the page
+     * @return Represents the {@link Page} of {@link User}
+     * @throws IllegalArgumentException if the page size is less than one
+     * @throws DBException Represents any error occur while executing a query
+     */
+    public Page<User> getUserPage(final String cursor, final int pageSize) {
+        Page.requirePageSize(pageSize);
+
         try (final Connection connection = dbConnection.get()) {
-            final String query = "SELECT * FROM USERS";
-            final PreparedStatement statement = connection.prepareStatement(query);
+            final PreparedStatement statement = connection.prepareStatement(SELECT_PROFILE_PAGE_QUERY);
+
+            statement.setLong(1, Page.decodeCursor(cursor));
+            statement.setInt(2, pageSize + 1);
             final ResultSet result = statement.executeQuery();
-            final Collection<User> userList = new LinkedList<>();
+            final List<User> users = new ArrayList<>(pageSize);
 
-            if (result.next()) {
-                final User user = new User();
-
-                user.setId(result.getLong(1));
-                user.setName(result.getString(2));
-                user.setEmail(result.getString(3));
-                user.setPassword(result.getString(4));
-                user.setAddress(result.getString(5));
-                user.setPhoneNumber(result.getString(6));
-                userList.add(user);
+            while (users.size() < pageSize && result.next()) {
+                users.add(userProfileRowMapper.map(result));
             }
+            final boolean hasNext = result.next();
+
+            result.close();
             dbConnection.release(connection);
 
-            return userList;
+            return new Page<>(users, hasNext ? Page.encodeCursor(users.get(users.size() - 1).getId()) : null);
         } catch (SQLException | InterruptedException exception) {
             throw new DBException(exception.getMessage());
         }
@@ -144,7 +248,7 @@ public class UserServiceDaoImpl implements UserServiceDao {
      */
     public boolean update(final User user, final Long userId) {
         try (final Connection connection = dbConnection.get()) {
-            final String query = "UPDATE USERS SET NAME = ?, EMAIL = ?, PASSWORD = ?, ADDRESS = ?, PHONE_NUMBER = ?,  where ID = ?";
+            final String query = "UPDATE USERS SET NAME = ?, EMAIL = ?, PASSWORD = ?, ADDRESS = ?, PHONE_NUMBER = ? WHERE ID = ?";
             final PreparedStatement statement = connection.prepareStatement(query);
 
             statement.setString(1, user.getName());
@@ -153,6 +257,7 @@ public class UserServiceDaoImpl implements UserServiceDao {
             statement.setString(4, user.getAddress());
             statement.setString(5, user.getPhoneNumber());
             statement.setLong(6, userId);
+            userExistenceFilter.add(user);
             statement.execute();
             dbConnection.release(connection);
 
@@ -161,4 +266,109 @@ public class UserServiceDaoImpl implements UserServiceDao {
             throw new DBException(exception.getMessage());
         }
     }
+
+    /**
+     * <p>
+     * Adds the users to the user list using JDBC batches of the user.batch_size key, each batch is committed
+     * on its own. When a batch is rejected its rows are retried one by one so only the failing rows are
+     * reported
+     * </p>
+     *
+     * @param users Represents the {@link User} list to add
+     * @return Represents the generated id and the failure reason of every row as {@link BatchResult}
+     * @throws DBException Represents any error occur while executing a query
+     */
+    public BatchResult addAll(final List<User> users) {
+        final BatchResult batchResult = new BatchResult(users.size());
+
+        try (final Connection connection = dbConnection.get();
+             final PreparedStatement statement = connection.prepareStatement(INSERT_USER_QUERY, new String[]{"id"})) {
+            final List<Integer> batchRows = new ArrayList<>(batchSize);
+
+            connection.setAutoCommit(false);
+
+            for (int row = 0; row < users.size(); row++) {
+                setUser(statement, users.get(row));
+                statement.addBatch();
+                batchRows.add(row);
+
+                if (batchRows.size() >= batchSize) {
+                    executeBatch(connection, statement, users, batchRows, batchResult);
+                }
+            }
+
+            if (!batchRows.isEmpty()) {
+                executeBatch(connection, statement, users, batchRows, batchResult);
+            }
+            connection.setAutoCommit(true);
+
+            return batchResult;
+        } catch (SQLException | InterruptedException exception) {
+            throw new DBException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Executes and commits the pending batch, falling back to one insert per row under a savepoint when the
+     * batch is rejected. Every user of the batch is added to the {@link UserExistenceFilter} before the insert,
+     * a row that fails stays in the filter as a possible hit that the query answers
+     * </p>
+     */
+    private void executeBatch(final Connection connection, final PreparedStatement statement, final List<User> users,
+                              final List<Integer> batchRows, final BatchResult batchResult) throws SQLException {
+        for (final Integer row : batchRows) {
+            userExistenceFilter.add(users.get(row));
+        }
+
+        try {
+            statement.executeBatch();
+            final ResultSet generatedKeys = statement.getGeneratedKeys();
+
+            for (final Integer row : batchRows) {
+                if (generatedKeys.next()) {
+                    setGeneratedId(users.get(row), row, generatedKeys.getLong(1), batchResult);
+                }
+            }
+            generatedKeys.close();
+            connection.commit();
+        } catch (BatchUpdateException exception) {
+            statement.clearBatch();
+            connection.rollback();
+
+            for (final Integer row : batchRows) {
+                final Savepoint savepoint = connection.setSavepoint();
+
+                try {
+                    setUser(statement, users.get(row));
+                    statement.executeUpdate();
+                    final ResultSet generatedKeys = statement.getGeneratedKeys();
+
+                    if (generatedKeys.next()) {
+                        setGeneratedId(users.get(row), row, generatedKeys.getLong(1), batchResult);
+                    }
+                    generatedKeys.close();
+                    connection.releaseSavepoint(savepoint);
+                } catch (SQLException rowException) {
+                    connection.rollback(savepoint);
+                    batchResult.addFailure(row, rowException.getMessage());
+                }
+            }
+            connection.commit();
+        }
+        batchRows.clear();
+    }
+
+    private void setGeneratedId(final User user, final int row, final long id, final BatchResult batchResult) {
+        user.setId(id);
+        batchResult.setId(row, id);
+    }
+
+    private void setUser(final PreparedStatement statement, final User user) throws SQLException {
+        statement.setString(1, user.getName());
+        statement.setString(2, user.getEmail());
+        statement.setString(3, user.getPassword());
+        statement.setString(4, user.getAddress());
+        statement.setString(5, user.getPhoneNumber());
+    }
 }
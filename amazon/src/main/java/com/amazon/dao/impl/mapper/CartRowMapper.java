@@ -0,0 +1,46 @@
+package com.amazon.dao.impl.mapper;
+
+import com.amazon.model.Cart;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Represents the {@link RowMapper} of {@link Cart}
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class CartRowMapper implements RowMapper<Cart> {
+
+    public static final String COLUMNS = "ID, PRODUCT_ID, NAME, QUANTITY, PRICE, USER_ID";
+    private static final CartRowMapper CART_ROW_MAPPER = new CartRowMapper();
+
+    private CartRowMapper() {}
+
+    /**
+     * <p>
+     * Represents the object of {@link CartRowMapper} class can be created for only one time
+     * </p>
+     *
+     * @return Represents {@link CartRowMapper}
+     */
+    public static CartRowMapper getInstance() {
+        return CART_ROW_MAPPER;
+    }
+
+    public Cart map(final ResultSet result) throws SQLException {
+        final Cart cart = new Cart();
+
+        cart.setId(result.getLong(1));
+        cart.setProductId(result.getLong(2));
+        cart.setProductName(result.getString(3));
+        cart.setQuantity(result.getLong(4));
+        cart.setPrice(result.getDouble(5));
+        cart.setUserId(result.getLong(6));
+
+        return cart;
+    }
+}
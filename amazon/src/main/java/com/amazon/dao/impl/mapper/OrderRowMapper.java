@@ -0,0 +1,47 @@
+package com.amazon.dao.impl.mapper;
+
+import com.amazon.model.Order;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Represents the {@link RowMapper} of {@link Order}
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class OrderRowMapper implements RowMapper<Order> {
+
+    public static final String COLUMNS = "ID, PRODUCT_ID, QUANTITY, PRODUCT_NAME, PRICE, USER_ID, PAYMENT_TYPE";
+    private static final OrderRowMapper ORDER_ROW_MAPPER = new OrderRowMapper();
+
+    private OrderRowMapper() {}
+
+    /**
+     * <p>
+     * Represents the object of {@link OrderRowMapper} class can be created for only one time
+     * </p>
+     *
+     * @return Represents {@link OrderRowMapper}
+     */
+    public static OrderRowMapper getInstance() {
+        return ORDER_ROW_MAPPER;
+    }
+
+    public Order map(final ResultSet result) throws SQLException {
+        final Order order = new Order();
+
+        order.setId(result.getLong(1));
+        order.setProductId(result.getLong(2));
+        order.setQuantity(result.getLong(3));
+        order.setProductName(result.getString(4));
+        order.setPrice(result.getDouble(5));
+        order.setUserId(result.getLong(6));
+        order.setPaymentType(Order.Payment.valueOf(result.getString(7)));
+
+        return order;
+    }
+}
@@ -0,0 +1,48 @@
+package com.amazon.dao.impl.mapper;
+
+import com.amazon.model.Product;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Represents the {@link RowMapper} of {@link Product}
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class ProductRowMapper implements RowMapper<Product> {
+
+    public static final String COLUMNS = "ID, NAME, DESCRIPTION, AVAILABLE, PRICE, CATEGORY, UPDATED_TIME, USER_ID";
+    private static final ProductRowMapper PRODUCT_ROW_MAPPER = new ProductRowMapper();
+
+    private ProductRowMapper() {}
+
+    /**
+     * <p>
+     * Represents the object of {@link ProductRowMapper} class can be created for only one time
+     * </p>
+     *
+     * @return Represents {@link ProductRowMapper}
+     */
+    public static ProductRowMapper getInstance() {
+        return PRODUCT_ROW_MAPPER;
+    }
+
+    public Product map(final ResultSet result) throws SQLException {
+        final Product product = new Product();
+
+        product.setId(result.getLong(1));
+        product.setName(result.getString(2));
+        product.setDescription(result.getString(3));
+        product.setAvailable(result.getLong(4));
+        product.setPrice(result.getDouble(5));
+        product.setCategory(Product.Category.valueOf(result.getString(6)));
+        product.setUpdatedTime(result.getTimestamp(7));
+        product.setUserId(result.getLong(8));
+
+        return product;
+    }
+}
@@ -0,0 +1,32 @@
+package com.amazon.dao.impl.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Represents the conversion of the current row of a {@link ResultSet} into a model object
+ * </p>
+ *
+ * <p>
+ * Every mapper publishes the exact column list it reads, queries select those columns in that order so
+ * the mapper reads by position and never looks a column up by name
+ * </p>
+ *
+ * @param <T> Represents the model type
+ * @author Roshan B
+ * @version 1.0
+ */
+public interface RowMapper<T> {
+
+    /**
+     * <p>
+     * Converts the current row, the row must have been selected with the mapper's column list
+     * </p>
+     *
+     * @param result Represents the {@link ResultSet} positioned on a row
+     * @return Represents the model object
+     * @throws SQLException if a column cannot be read
+     */
+    T map(final ResultSet result) throws SQLException;
+}
@@ -0,0 +1,45 @@
+package com.amazon.dao.impl.mapper;
+
+import com.amazon.model.User;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Represents the {@link RowMapper} of the {@link User} profile, the user without the password
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class UserProfileRowMapper implements RowMapper<User> {
+
+    public static final String COLUMNS = "ID, NAME, EMAIL, ADDRESS, PHONE_NUMBER";
+    private static final UserProfileRowMapper USER_PROFILE_ROW_MAPPER = new UserProfileRowMapper();
+
+    private UserProfileRowMapper() {}
+
+    /**
+     * <p>
+     * Represents the object of {@link UserProfileRowMapper} class can be created for only one time
+     * </p>
+     *
+     * @return Represents {@link UserProfileRowMapper}
+     */
+    public static UserProfileRowMapper getInstance() {
+        return USER_PROFILE_ROW_MAPPER;
+    }
+
+    public User map(final ResultSet result) throws SQLException {
+        final User user = new User();
+
+        user.setId(result.getLong(1));
+        user.setName(result.getString(2));
+        user.setEmail(result.getString(3));
+        user.setAddress(result.getString(4));
+        user.setPhoneNumber(result.getString(5));
+
+        return user;
+    }
+}
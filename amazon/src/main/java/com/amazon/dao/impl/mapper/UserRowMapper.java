@@ -0,0 +1,46 @@
+package com.amazon.dao.impl.mapper;
+
+import com.amazon.model.User;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Represents the {@link RowMapper} of {@link User}
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class UserRowMapper implements RowMapper<User> {
+
+    public static final String COLUMNS = "ID, NAME, EMAIL, PASSWORD, ADDRESS, PHONE_NUMBER";
+    private static final UserRowMapper USER_ROW_MAPPER = new UserRowMapper();
+
+    private UserRowMapper() {}
+
+    /**
+     * <p>
+     * Represents the object of {@link UserRowMapper} class can be created for only one time
+     * </p>
+     *
+     * @return Represents {@link UserRowMapper}
+     */
+    public static UserRowMapper getInstance() {
+        return USER_ROW_MAPPER;
+    }
+
+    public User map(final ResultSet result) throws SQLException {
+        final User user = new User();
+
+        user.setId(result.getLong(1));
+        user.setName(result.getString(2));
+        user.setEmail(result.getString(3));
+        user.setPassword(result.getString(4));
+        user.setAddress(result.getString(5));
+        user.setPhoneNumber(result.getString(6));
+
+        return user;
+    }
+}
@@ -0,0 +1,129 @@
+package com.amazon.dao.impl.pool;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * Represents a file the lines are appended to by a writer thread of its own, so the caller only puts the line
+ * in a bounded queue
+ * </p>
+ *
+ * <p>
+ * The file is opened on the first line. The writer takes every queued line before flushing, so a burst costs
+ * one flush. When the queue is full the line is dropped and counted instead of holding up the caller. The
+ * queued lines are written out when the appender is closed or the JVM shuts down
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+final class AsyncFileAppender implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncFileAppender.class.getName());
+    private static final long POLL_MILLIS = 500;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+    private final Path path;
+    private final BlockingQueue<String> lines;
+    private final LongAdder droppedCount;
+    private final Thread writer;
+    private final Thread shutdownHook;
+    private volatile boolean closed;
+
+    AsyncFileAppender(final Path path, final int capacity) {
+        this.path = path;
+        lines = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        droppedCount = new LongAdder();
+        writer = new Thread(this::write, "file-appender-" + path.getFileName());
+        shutdownHook = new Thread(this::close, "file-appender-shutdown-" + path.getFileName());
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * @param line Represents the line without the line separator
+     * @return False if the queue was full or the appender is closed and the line was dropped
+     */
+    boolean append(final String line) {
+        if (closed || !lines.offer(line)) {
+            droppedCount.increment();
+
+            return false;
+        }
+        return true;
+    }
+
+    long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * <p>
+     * Stops taking lines and waits for the queued ones to be written
+     * </p>
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (IllegalStateException ignored) {
+            // the JVM is already shutting down and is running this as its hook
+        }
+    }
+
+    private void write() {
+        BufferedWriter output = null;
+
+        try {
+            while (!closed || !lines.isEmpty()) {
+                String line = lines.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (null == line) {
+                    continue;
+                }
+
+                if (null == output) {
+                    output = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                            StandardOpenOption.APPEND);
+                }
+
+                do {
+                    output.write(line);
+                    output.newLine();
+                } while (null != (line = lines.poll()));
+                output.flush();
+            }
+        } catch (IOException exception) {
+            LOGGER.log(Level.WARNING, String.format("Could not write to %s, later lines are dropped", path), exception);
+            closed = true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (null != output) {
+                try {
+                    output.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
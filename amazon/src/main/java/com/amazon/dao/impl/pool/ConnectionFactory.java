@@ -0,0 +1,26 @@
+package com.amazon.dao.impl.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Represents the source of physical database connections for the {@link ConnectionPool}
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ConnectionFactory {
+
+    /**
+     * <p>
+     * Opens a new physical connection to the database
+     * </p>
+     *
+     * @return Represents the new {@link Connection}
+     * @throws SQLException if the connection cannot be opened
+     */
+    Connection create() throws SQLException;
+}
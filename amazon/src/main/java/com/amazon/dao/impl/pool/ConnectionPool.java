@@ -0,0 +1,421 @@
+package com.amazon.dao.impl.pool;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * Represents a bounded pool of database connections with timed acquisition, validation on borrow,
+ * eviction of broken connections and leak detection
+ * </p>
+ *
+ * <p>
+ * Borrowed connections are handed out as proxies whose {@link Connection#close()} returns the
+ * connection to the pool, so callers may use try-with-resources without destroying the physical connection.
+ * Each physical connection keeps its own {@link StatementCache}. Unless its threshold is negative, the
+ * statements of the borrowed connections are timed by the {@link SlowQueryLog}
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+
+    private final ConnectionFactory connectionFactory;
+    private final PoolConfiguration configuration;
+    private final BlockingDeque<PooledConnection> idleConnections;
+    private final Set<PooledConnection> borrowedConnections;
+    private final Semaphore permits;
+    private final AtomicInteger totalConnections;
+    private final AtomicInteger pendingAcquires;
+    private final LongAdder acquireCount;
+    private final LongAdder timeoutCount;
+    private final LongAdder evictionCount;
+    private final LongAdder leakCount;
+    private final LongAdder statementHitCount;
+    private final LongAdder statementMissCount;
+    private final LongAdder totalWaitNanos;
+    private final AtomicLong maxWaitNanos;
+    private final ScheduledExecutorService housekeeper;
+    private final SlowQueryLog slowQueryLog;
+    private volatile boolean closed;
+
+    public ConnectionPool(final ConnectionFactory connectionFactory, final PoolConfiguration configuration) {
+        this.connectionFactory = connectionFactory;
+        this.configuration = configuration;
+        idleConnections = new LinkedBlockingDeque<>();
+        borrowedConnections = ConcurrentHashMap.newKeySet();
+        permits = new Semaphore(configuration.getMaxSize(), true);
+        totalConnections = new AtomicInteger();
+        pendingAcquires = new AtomicInteger();
+        acquireCount = new LongAdder();
+        timeoutCount = new LongAdder();
+        evictionCount = new LongAdder();
+        leakCount = new LongAdder();
+        statementHitCount = new LongAdder();
+        statementMissCount = new LongAdder();
+        totalWaitNanos = new LongAdder();
+        maxWaitNanos = new AtomicLong();
+        slowQueryLog = 0 > configuration.getSlowQueryThresholdMillis() ? null : new SlowQueryLog(
+                configuration.getSlowQueryThresholdMillis(),
+                new AsyncFileAppender(Path.of(configuration.getSlowQueryLogFile()), configuration.getSlowQueryQueueSize()));
+        housekeeper = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("connection-pool-housekeeper"));
+        housekeeper.scheduleWithFixedDelay(this::houseKeep, configuration.getHousekeepingPeriodMillis(),
+                configuration.getHousekeepingPeriodMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * <p>
+     * Opens physical connections in parallel until the pool holds the given number of connections
+     * </p>
+     *
+     * @param size Represents the number of connections to hold
+     * @return Represents the number of connections opened
+     * @throws SQLException if a connection cannot be opened, the connections that did open stay in the pool
+     */
+    public int fill(final int size) throws SQLException {
+        int required = 0;
+
+        while (reserveSlot(size)) {
+            required++;
+        }
+
+        if (0 == required) {
+            return 0;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(required, daemonThreadFactory("connection-pool-warm-up"));
+        final List<Future<PooledConnection>> connections = new ArrayList<>(required);
+        SQLException failure = null;
+        boolean interrupted = false;
+        int opened = 0;
+
+        for (int i = 0; i < required; i++) {
+            connections.add(executor.submit(this::open));
+        }
+        executor.shutdown();
+
+        for (final Future<PooledConnection> connection : connections) {
+            while (true) {
+                try {
+                    idleConnections.offerLast(connection.get());
+                    opened++;
+                    break;
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                } catch (ExecutionException exception) {
+                    totalConnections.decrementAndGet();
+                    final SQLException cause = exception.getCause() instanceof SQLException
+                            ? (SQLException) exception.getCause() : new SQLException(exception.getCause());
+
+                    if (null == failure) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                    break;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (null != failure) {
+            throw failure;
+        }
+
+        return opened;
+    }
+
+    /**
+     * <p>
+     * Borrows a connection, waiting at most the configured acquire timeout for one to become free
+     * </p>
+     *
+     * @return Represents the borrowed {@link Connection}, closing it returns it to the pool
+     * @throws SQLException         if the pool is closed, the wait times out or a new connection cannot be opened
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public Connection acquire() throws SQLException, InterruptedException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        final long start = System.nanoTime();
+        final long deadline = start + TimeUnit.MILLISECONDS.toNanos(configuration.getAcquireTimeoutMillis());
+
+        pendingAcquires.incrementAndGet();
+        try {
+            if (!permits.tryAcquire(deadline - start, TimeUnit.NANOSECONDS)) {
+                throw timeout();
+            }
+            boolean borrowed = false;
+
+            try {
+                while (true) {
+                    PooledConnection pooledConnection = idleConnections.pollFirst();
+
+                    if (null == pooledConnection && reserveSlot(configuration.getMaxSize())) {
+                        try {
+                            pooledConnection = open();
+                        } catch (SQLException exception) {
+                            totalConnections.decrementAndGet();
+                            throw exception;
+                        }
+                    }
+
+                    if (null == pooledConnection) {
+                        final long remaining = deadline - System.nanoTime();
+
+                        if (remaining <= 0) {
+                            throw timeout();
+                        }
+                        pooledConnection = idleConnections.pollFirst(remaining, TimeUnit.NANOSECONDS);
+                    }
+
+                    if (null != pooledConnection) {
+                        if (isUsable(pooledConnection)) {
+                            final long waitNanos = System.nanoTime() - start;
+                            final Connection connection = pooledConnection.borrow(configuration.isLeakTraceEnabled()
+                                    && configuration.getLeakDetectionThresholdMillis() > 0, waitNanos);
+
+                            recordWait(waitNanos);
+                            borrowedConnections.add(pooledConnection);
+                            borrowed = true;
+
+                            return connection;
+                        }
+                        evict(pooledConnection);
+                    }
+                }
+            } finally {
+                if (!borrowed) {
+                    permits.release();
+                }
+            }
+        } finally {
+            pendingAcquires.decrementAndGet();
+        }
+    }
+
+    /**
+     * <p>
+     * Returns a borrowed connection to the pool, evicting it if it is no longer usable
+     * </p>
+     *
+     * @param pooledConnection Represents the connection being returned
+     */
+    void release(final PooledConnection pooledConnection) {
+        if (!borrowedConnections.remove(pooledConnection)) {
+            return;
+        }
+        pooledConnection.markReturned();
+
+        try {
+            giveBack(pooledConnection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void giveBack(final PooledConnection pooledConnection) {
+        try {
+            final Connection connection = pooledConnection.getConnection();
+
+            if (connection.isClosed()) {
+                evict(pooledConnection);
+                return;
+            }
+
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException exception) {
+            evict(pooledConnection);
+            return;
+        }
+
+        if (closed) {
+            evict(pooledConnection);
+        } else {
+            idleConnections.offerFirst(pooledConnection);
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the current gauges of the pool
+     * </p>
+     *
+     * @return Represents {@link PoolStatistics}
+     */
+    public PoolStatistics getStatistics() {
+        return new PoolStatistics(configuration.getMaxSize(), totalConnections.get(), idleConnections.size(),
+                borrowedConnections.size(), pendingAcquires.get(), acquireCount.sum(), timeoutCount.sum(),
+                evictionCount.sum(), leakCount.sum(), totalWaitNanos.sum(), maxWaitNanos.get(),
+                statementHitCount.sum(), statementMissCount.sum(), null == slowQueryLog ? 0 : slowQueryLog.getLoggedCount(),
+                null == slowQueryLog ? 0 : slowQueryLog.getDroppedCount());
+    }
+
+    /**
+     * <p>
+     * Closes every idle connection and stops the housekeeper, borrowed connections are closed when returned
+     * </p>
+     */
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooledConnection;
+
+        while (null != (pooledConnection = idleConnections.pollFirst())) {
+            evict(pooledConnection);
+        }
+
+        if (null != slowQueryLog) {
+            slowQueryLog.close();
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(final String name) {
+        return runnable -> {
+            final Thread thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+
+    private SQLException timeout() {
+        timeoutCount.increment();
+
+        return new SQLTransientConnectionException(String.format(
+                "Timed out after %d ms waiting for a connection (%d active, %d waiting)",
+                configuration.getAcquireTimeoutMillis(), borrowedConnections.size(), pendingAcquires.get()));
+    }
+
+    private boolean reserveSlot(final int limit) {
+        while (true) {
+            final int current = totalConnections.get();
+
+            if (current >= limit) {
+                return false;
+            }
+
+            if (totalConnections.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private PooledConnection open() throws SQLException {
+        final Connection connection = connectionFactory.create();
+
+        if (null == connection) {
+            throw new SQLException("Connection factory returned no connection");
+        }
+
+        return new PooledConnection(this, connection,
+                new StatementCache(configuration.getStatementCacheSize(), statementHitCount, statementMissCount), slowQueryLog);
+    }
+
+    /**
+     * <p>
+     * Checks whether a connection can be handed out, connections idle for longer than the validation
+     * interval are pinged so a dropped connection is never given to a caller
+     * </p>
+     */
+    private boolean isUsable(final PooledConnection pooledConnection) {
+        try {
+            final Connection connection = pooledConnection.getConnection();
+
+            if (connection.isClosed()) {
+                return false;
+            }
+            final long idleNanos = System.nanoTime() - pooledConnection.getLastReturnedTime();
+
+            return idleNanos < TimeUnit.MILLISECONDS.toNanos(configuration.getValidationIntervalMillis())
+                    || connection.isValid(configuration.getValidationTimeoutSeconds());
+        } catch (SQLException exception) {
+            return false;
+        }
+    }
+
+    private void evict(final PooledConnection pooledConnection) {
+        pooledConnection.closeQuietly();
+        totalConnections.decrementAndGet();
+        evictionCount.increment();
+    }
+
+    private void recordWait(final long waitNanos) {
+        acquireCount.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * <p>
+     * Reports connections borrowed for longer than the leak threshold, evicts idle connections that fail validation
+     * and opens replacements up to the minimum size
+     * </p>
+     */
+    private void houseKeep() {
+        try {
+            final long leakThreshold = configuration.getLeakDetectionThresholdMillis();
+
+            if (leakThreshold > 0) {
+                final long now = System.nanoTime();
+
+                for (final PooledConnection pooledConnection : borrowedConnections) {
+                    if (!pooledConnection.isLeakReported()
+                            && now - pooledConnection.getBorrowedTime() > TimeUnit.MILLISECONDS.toNanos(leakThreshold)) {
+                        pooledConnection.setLeakReported(true);
+                        leakCount.increment();
+                        LOGGER.log(Level.WARNING, String.format("Connection held by %s for more than %d ms, possible leak%s",
+                                pooledConnection.getBorrowerName(), leakThreshold, null == pooledConnection.getBorrowTrace()
+                                        ? ", set pool.leak_trace=true to log where it was borrowed" : ""),
+                                pooledConnection.getBorrowTrace());
+                    }
+                }
+            }
+            final List<PooledConnection> idle = new ArrayList<>(idleConnections);
+
+            for (final PooledConnection pooledConnection : idle) {
+                if (idleConnections.remove(pooledConnection)) {
+                    if (isUsable(pooledConnection)) {
+                        idleConnections.offerLast(pooledConnection);
+                    } else {
+                        evict(pooledConnection);
+                    }
+                }
+            }
+            fill(configuration.getMinSize());
+        } catch (SQLException | RuntimeException exception) {
+            LOGGER.log(Level.WARNING, "Connection pool housekeeping failed", exception);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.amazon.dao.impl.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * <p>
+ * Represents a statement of a borrowed connection that is not kept by the {@link StatementCache}, handed out as a
+ * proxy that reports the connection proxy as its connection and the statement proxy as the statement of its
+ * result sets, so the physical connection can not be reached and closed behind the pool's back
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+final class GuardedStatement implements InvocationHandler {
+
+    private final Statement statement;
+    private final Connection owner;
+
+    private GuardedStatement(final Statement statement, final Connection owner) {
+        this.statement = statement;
+        this.owner = owner;
+    }
+
+    /**
+     * @param type  Represents the statement interface the proxy implements
+     * @param owner Represents the connection proxy the statement reports as its connection
+     * @return Represents the statement proxy
+     */
+    static Object wrap(final Statement statement, final Class<?> type, final Connection owner) {
+        return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type},
+                new GuardedStatement(statement, owner));
+    }
+
+    /**
+     * @return Represents the result set reporting the statement proxy as its statement, any other result as it is
+     */
+    static Object guardResult(final Object result, final Statement proxy) {
+        return result instanceof ResultSet ? new LoggedResultSet((ResultSet) result, null, 0, proxy) : result;
+    }
+
+    /**
+     * <p>
+     * Answers the unwrap calls of a statement proxy, only the proxy itself is handed out
+     * </p>
+     */
+    static Object unwrap(final Object proxy, final Method method, final Object[] args) throws SQLException {
+        final Class<?> type = (Class<?>) args[0];
+
+        if ("isWrapperFor".equals(method.getName())) {
+            return type.isInstance(proxy);
+        }
+
+        if (type.isInstance(proxy)) {
+            return proxy;
+        }
+        throw new SQLException("Pooled statement does not expose a " + type.getName());
+    }
+
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "getConnection":
+                return owner;
+            case "isWrapperFor":
+            case "unwrap":
+                return unwrap(proxy, method, args);
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "Guarded" + statement;
+            default:
+        }
+
+        try {
+            return guardResult(method.invoke(statement, args), (Statement) proxy);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
@@ -0,0 +1,1053 @@
+package com.amazon.dao.impl.pool;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * <p>
+ * Represents a result set read by a statement of the {@link SlowQueryLog}, it counts the rows and ends the
+ * execution of the statement once they are read or the result set is closed. The result sets of the statements
+ * that are not logged are wrapped too, only to hide the driver statement
+ * </p>
+ *
+ * <p>
+ * Every other call is passed on as it is, apart from {@link #getStatement()} which gives the statement proxy and
+ * {@link #unwrap(Class)} which never gives the driver result set, so the physical connection can not be reached
+ * through the result set. The class is written out instead of being a dynamic proxy, because
+ * the getters are called for every column of every row and a proxy boxes the arguments and the value of each
+ * call
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+final class LoggedResultSet implements ResultSet {
+
+    private final ResultSet result;
+    private final SlowQueryLog.LoggedStatement statement;
+    private final int execution;
+    private final Statement owner;
+
+    /**
+     * @param statement Represents the logged statement told about the rows, null if the statement is not logged
+     * @param owner     Represents the statement proxy the result set reports as its statement
+     */
+    LoggedResultSet(final ResultSet result, final SlowQueryLog.LoggedStatement statement, final int execution,
+                    final Statement owner) {
+        this.result = result;
+        this.statement = statement;
+        this.execution = execution;
+        this.owner = owner;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        final boolean hasNext = result.next();
+
+        if (null != statement) {
+            statement.onNext(execution, hasNext);
+        }
+
+        return hasNext;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (null != statement) {
+            statement.onClose(execution);
+        }
+        result.close();
+    }
+
+    @Override
+    public boolean absolute(final int row) throws SQLException {
+        return result.absolute(row);
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        result.afterLast();
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        result.beforeFirst();
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        result.cancelRowUpdates();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        result.clearWarnings();
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        result.deleteRow();
+    }
+
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        return result.findColumn(columnLabel);
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        return result.first();
+    }
+
+    @Override
+    public Array getArray(final String columnLabel) throws SQLException {
+        return result.getArray(columnLabel);
+    }
+
+    @Override
+    public Array getArray(final int columnIndex) throws SQLException {
+        return result.getArray(columnIndex);
+    }
+
+    @Override
+    public InputStream getAsciiStream(final String columnLabel) throws SQLException {
+        return result.getAsciiStream(columnLabel);
+    }
+
+    @Override
+    public InputStream getAsciiStream(final int columnIndex) throws SQLException {
+        return result.getAsciiStream(columnIndex);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
+        return result.getBigDecimal(columnLabel);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
+        return result.getBigDecimal(columnIndex);
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(final String columnLabel, final int scale) throws SQLException {
+        return result.getBigDecimal(columnLabel, scale);
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
+        return result.getBigDecimal(columnIndex, scale);
+    }
+
+    @Override
+    public InputStream getBinaryStream(final String columnLabel) throws SQLException {
+        return result.getBinaryStream(columnLabel);
+    }
+
+    @Override
+    public InputStream getBinaryStream(final int columnIndex) throws SQLException {
+        return result.getBinaryStream(columnIndex);
+    }
+
+    @Override
+    public Blob getBlob(final String columnLabel) throws SQLException {
+        return result.getBlob(columnLabel);
+    }
+
+    @Override
+    public Blob getBlob(final int columnIndex) throws SQLException {
+        return result.getBlob(columnIndex);
+    }
+
+    @Override
+    public boolean getBoolean(final String columnLabel) throws SQLException {
+        return result.getBoolean(columnLabel);
+    }
+
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        return result.getBoolean(columnIndex);
+    }
+
+    @Override
+    public byte getByte(final String columnLabel) throws SQLException {
+        return result.getByte(columnLabel);
+    }
+
+    @Override
+    public byte getByte(final int columnIndex) throws SQLException {
+        return result.getByte(columnIndex);
+    }
+
+    @Override
+    public byte[] getBytes(final String columnLabel) throws SQLException {
+        return result.getBytes(columnLabel);
+    }
+
+    @Override
+    public byte[] getBytes(final int columnIndex) throws SQLException {
+        return result.getBytes(columnIndex);
+    }
+
+    @Override
+    public Reader getCharacterStream(final String columnLabel) throws SQLException {
+        return result.getCharacterStream(columnLabel);
+    }
+
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        return result.getCharacterStream(columnIndex);
+    }
+
+    @Override
+    public Clob getClob(final String columnLabel) throws SQLException {
+        return result.getClob(columnLabel);
+    }
+
+    @Override
+    public Clob getClob(final int columnIndex) throws SQLException {
+        return result.getClob(columnIndex);
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        return result.getConcurrency();
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        return result.getCursorName();
+    }
+
+    @Override
+    public Date getDate(final String columnLabel) throws SQLException {
+        return result.getDate(columnLabel);
+    }
+
+    @Override
+    public Date getDate(final int columnIndex) throws SQLException {
+        return result.getDate(columnIndex);
+    }
+
+    @Override
+    public Date getDate(final String columnLabel, final Calendar calendar) throws SQLException {
+        return result.getDate(columnLabel, calendar);
+    }
+
+    @Override
+    public Date getDate(final int columnIndex, final Calendar calendar) throws SQLException {
+        return result.getDate(columnIndex, calendar);
+    }
+
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        return result.getDouble(columnLabel);
+    }
+
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return result.getDouble(columnIndex);
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return result.getFetchDirection();
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return result.getFetchSize();
+    }
+
+    @Override
+    public float getFloat(final String columnLabel) throws SQLException {
+        return result.getFloat(columnLabel);
+    }
+
+    @Override
+    public float getFloat(final int columnIndex) throws SQLException {
+        return result.getFloat(columnIndex);
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return result.getHoldability();
+    }
+
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        return result.getInt(columnLabel);
+    }
+
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return result.getInt(columnIndex);
+    }
+
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        return result.getLong(columnLabel);
+    }
+
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return result.getLong(columnIndex);
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        return result.getMetaData();
+    }
+
+    @Override
+    public Reader getNCharacterStream(final String columnLabel) throws SQLException {
+        return result.getNCharacterStream(columnLabel);
+    }
+
+    @Override
+    public Reader getNCharacterStream(final int columnIndex) throws SQLException {
+        return result.getNCharacterStream(columnIndex);
+    }
+
+    @Override
+    public NClob getNClob(final String columnLabel) throws SQLException {
+        return result.getNClob(columnLabel);
+    }
+
+    @Override
+    public NClob getNClob(final int columnIndex) throws SQLException {
+        return result.getNClob(columnIndex);
+    }
+
+    @Override
+    public String getNString(final String columnLabel) throws SQLException {
+        return result.getNString(columnLabel);
+    }
+
+    @Override
+    public String getNString(final int columnIndex) throws SQLException {
+        return result.getNString(columnIndex);
+    }
+
+    @Override
+    public Object getObject(final String columnLabel) throws SQLException {
+        return result.getObject(columnLabel);
+    }
+
+    @Override
+    public Object getObject(final int columnIndex) throws SQLException {
+        return result.getObject(columnIndex);
+    }
+
+    @Override
+    public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
+        return result.getObject(columnLabel, type);
+    }
+
+    @Override
+    public Object getObject(final String columnLabel, final Map<String, Class<?>> map) throws SQLException {
+        return result.getObject(columnLabel, map);
+    }
+
+    @Override
+    public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
+        return result.getObject(columnIndex, type);
+    }
+
+    @Override
+    public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
+        return result.getObject(columnIndex, map);
+    }
+
+    @Override
+    public Ref getRef(final String columnLabel) throws SQLException {
+        return result.getRef(columnLabel);
+    }
+
+    @Override
+    public Ref getRef(final int columnIndex) throws SQLException {
+        return result.getRef(columnIndex);
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        return result.getRow();
+    }
+
+    @Override
+    public RowId getRowId(final String columnLabel) throws SQLException {
+        return result.getRowId(columnLabel);
+    }
+
+    @Override
+    public RowId getRowId(final int columnIndex) throws SQLException {
+        return result.getRowId(columnIndex);
+    }
+
+    @Override
+    public SQLXML getSQLXML(final String columnLabel) throws SQLException {
+        return result.getSQLXML(columnLabel);
+    }
+
+    @Override
+    public SQLXML getSQLXML(final int columnIndex) throws SQLException {
+        return result.getSQLXML(columnIndex);
+    }
+
+    @Override
+    public short getShort(final String columnLabel) throws SQLException {
+        return result.getShort(columnLabel);
+    }
+
+    @Override
+    public short getShort(final int columnIndex) throws SQLException {
+        return result.getShort(columnIndex);
+    }
+
+    @Override
+    public Statement getStatement() {
+        return owner;
+    }
+
+    @Override
+    public String getString(final String columnLabel) throws SQLException {
+        return result.getString(columnLabel);
+    }
+
+    @Override
+    public String getString(final int columnIndex) throws SQLException {
+        return result.getString(columnIndex);
+    }
+
+    @Override
+    public Time getTime(final String columnLabel) throws SQLException {
+        return result.getTime(columnLabel);
+    }
+
+    @Override
+    public Time getTime(final int columnIndex) throws SQLException {
+        return result.getTime(columnIndex);
+    }
+
+    @Override
+    public Time getTime(final String columnLabel, final Calendar calendar) throws SQLException {
+        return result.getTime(columnLabel, calendar);
+    }
+
+    @Override
+    public Time getTime(final int columnIndex, final Calendar calendar) throws SQLException {
+        return result.getTime(columnIndex, calendar);
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel) throws SQLException {
+        return result.getTimestamp(columnLabel);
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex) throws SQLException {
+        return result.getTimestamp(columnIndex);
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel, final Calendar calendar) throws SQLException {
+        return result.getTimestamp(columnLabel, calendar);
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex, final Calendar calendar) throws SQLException {
+        return result.getTimestamp(columnIndex, calendar);
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        return result.getType();
+    }
+
+    @Override
+    public URL getURL(final String columnLabel) throws SQLException {
+        return result.getURL(columnLabel);
+    }
+
+    @Override
+    public URL getURL(final int columnIndex) throws SQLException {
+        return result.getURL(columnIndex);
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(final String columnLabel) throws SQLException {
+        return result.getUnicodeStream(columnLabel);
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(final int columnIndex) throws SQLException {
+        return result.getUnicodeStream(columnIndex);
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return result.getWarnings();
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        result.insertRow();
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        return result.isAfterLast();
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        return result.isBeforeFirst();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return result.isClosed();
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        return result.isFirst();
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        return result.isLast();
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> type) {
+        return type.isInstance(this);
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        return result.last();
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        result.moveToCurrentRow();
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        result.moveToInsertRow();
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        return result.previous();
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        result.refreshRow();
+    }
+
+    @Override
+    public boolean relative(final int rows) throws SQLException {
+        return result.relative(rows);
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        return result.rowDeleted();
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        return result.rowInserted();
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        return result.rowUpdated();
+    }
+
+    @Override
+    public void setFetchDirection(final int direction) throws SQLException {
+        result.setFetchDirection(direction);
+    }
+
+    @Override
+    public void setFetchSize(final int rows) throws SQLException {
+        result.setFetchSize(rows);
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> type) throws SQLException {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new SQLException("Pooled result set does not expose a " + type.getName());
+    }
+
+    @Override
+    public void updateArray(final String columnLabel, final Array x) throws SQLException {
+        result.updateArray(columnLabel, x);
+    }
+
+    @Override
+    public void updateArray(final int columnIndex, final Array x) throws SQLException {
+        result.updateArray(columnIndex, x);
+    }
+
+    @Override
+    public void updateAsciiStream(final String columnLabel, final InputStream x) throws SQLException {
+        result.updateAsciiStream(columnLabel, x);
+    }
+
+    @Override
+    public void updateAsciiStream(final int columnIndex, final InputStream x) throws SQLException {
+        result.updateAsciiStream(columnIndex, x);
+    }
+
+    @Override
+    public void updateAsciiStream(final String columnLabel, final InputStream x, final int length) throws SQLException {
+        result.updateAsciiStream(columnLabel, x, length);
+    }
+
+    @Override
+    public void updateAsciiStream(final String columnLabel, final InputStream x, final long length) throws SQLException {
+        result.updateAsciiStream(columnLabel, x, length);
+    }
+
+    @Override
+    public void updateAsciiStream(final int columnIndex, final InputStream x, final int length) throws SQLException {
+        result.updateAsciiStream(columnIndex, x, length);
+    }
+
+    @Override
+    public void updateAsciiStream(final int columnIndex, final InputStream x, final long length) throws SQLException {
+        result.updateAsciiStream(columnIndex, x, length);
+    }
+
+    @Override
+    public void updateBigDecimal(final String columnLabel, final BigDecimal x) throws SQLException {
+        result.updateBigDecimal(columnLabel, x);
+    }
+
+    @Override
+    public void updateBigDecimal(final int columnIndex, final BigDecimal x) throws SQLException {
+        result.updateBigDecimal(columnIndex, x);
+    }
+
+    @Override
+    public void updateBinaryStream(final String columnLabel, final InputStream x) throws SQLException {
+        result.updateBinaryStream(columnLabel, x);
+    }
+
+    @Override
+    public void updateBinaryStream(final int columnIndex, final InputStream x) throws SQLException {
+        result.updateBinaryStream(columnIndex, x);
+    }
+
+    @Override
+    public void updateBinaryStream(final String columnLabel, final InputStream x, final int length) throws SQLException {
+        result.updateBinaryStream(columnLabel, x, length);
+    }
+
+    @Override
+    public void updateBinaryStream(final String columnLabel, final InputStream x, final long length) throws SQLException {
+        result.updateBinaryStream(columnLabel, x, length);
+    }
+
+    @Override
+    public void updateBinaryStream(final int columnIndex, final InputStream x, final int length) throws SQLException {
+        result.updateBinaryStream(columnIndex, x, length);
+    }
+
+    @Override
+    public void updateBinaryStream(final int columnIndex, final InputStream x, final long length) throws SQLException {
+        result.updateBinaryStream(columnIndex, x, length);
+    }
+
+    @Override
+    public void updateBlob(final String columnLabel, final InputStream x) throws SQLException {
+        result.updateBlob(columnLabel, x);
+    }
+
+    @Override
+    public void updateBlob(final String columnLabel, final Blob x) throws SQLException {
+        result.updateBlob(columnLabel, x);
+    }
+
+    @Override
+    public void updateBlob(final int columnIndex, final InputStream x) throws SQLException {
+        result.updateBlob(columnIndex, x);
+    }
+
+    @Override
+    public void updateBlob(final int columnIndex, final Blob x) throws SQLException {
+        result.updateBlob(columnIndex, x);
+    }
+
+    @Override
+    public void updateBlob(final String columnLabel, final InputStream x, final long length) throws SQLException {
+        result.updateBlob(columnLabel, x, length);
+    }
+
+    @Override
+    public void updateBlob(final int columnIndex, final InputStream x, final long length) throws SQLException {
+        result.updateBlob(columnIndex, x, length);
+    }
+
+    @Override
+    public void updateBoolean(final String columnLabel, final boolean x) throws SQLException {
+        result.updateBoolean(columnLabel, x);
+    }
+
+    @Override
+    public void updateBoolean(final int columnIndex, final boolean x) throws SQLException {
+        result.updateBoolean(columnIndex, x);
+    }
+
+    @Override
+    public void updateByte(final String columnLabel, final byte x) throws SQLException {
+        result.updateByte(columnLabel, x);
+    }
+
+    @Override
+    public void updateByte(final int columnIndex, final byte x) throws SQLException {
+        result.updateByte(columnIndex, x);
+    }
+
+    @Override
+    public void updateBytes(final String columnLabel, final byte[] x) throws SQLException {
+        result.updateBytes(columnLabel, x);
+    }
+
+    @Override
+    public void updateBytes(final int columnIndex, final byte[] x) throws SQLException {
+        result.updateBytes(columnIndex, x);
+    }
+
+    @Override
+    public void updateCharacterStream(final String columnLabel, final Reader x) throws SQLException {
+        result.updateCharacterStream(columnLabel, x);
+    }
+
+    @Override
+    public void updateCharacterStream(final int columnIndex, final Reader x) throws SQLException {
+        result.updateCharacterStream(columnIndex, x);
+    }
+
+    @Override
+    public void updateCharacterStream(final String columnLabel, final Reader x, final int length) throws SQLException {
+        result.updateCharacterStream(columnLabel, x, length);
+    }
+
+    @Override
+    public void updateCharacterStream(final String columnLabel, final Reader x, final long length) throws SQLException {
+        result.updateCharacterStream(columnLabel, x, length);
+    }
+
+    @Override
+    public void updateCharacterStream(final int columnIndex, final Reader x, final int length) throws SQLException {
+        result.updateCharacterStream(columnIndex, x, length);
+    }
+
+    @Override
+    public void updateCharacterStream(final int columnIndex, final Reader x, final long length) throws SQLException {
+        result.updateCharacterStream(columnIndex, x, length);
+    }
+
+    @Override
+    public void updateClob(final String columnLabel, final Reader x) throws SQLException {
+        result.updateClob(columnLabel, x);
+    }
+
+    @Override
+    public void updateClob(final String columnLabel, final Clob x) throws SQLException {
+        result.updateClob(columnLabel, x);
+    }
+
+    @Override
+    public void updateClob(final int columnIndex, final Reader x) throws SQLException {
+        result.updateClob(columnIndex, x);
+    }
+
+    @Override
+    public void updateClob(final int columnIndex, final Clob x) throws SQLException {
+        result.updateClob(columnIndex, x);
+    }
+
+    @Override
+    public void updateClob(final String columnLabel, final Reader x, final long length) throws SQLException {
+        result.updateClob(columnLabel, x, length);
+    }
+
+    @Override
+    public void updateClob(final int columnIndex, final Reader x, final long length) throws SQLException {
+        result.updateClob(columnIndex, x, length);
+    }
+
+    @Override
+    public void updateDate(final String columnLabel, final Date x) throws SQLException {
+        result.updateDate(columnLabel, x);
+    }
+
+    @Override
+    public void updateDate(final int columnIndex, final Date x) throws SQLException {
+        result.updateDate(columnIndex, x);
+    }
+
+    @Override
+    public void updateDouble(final String columnLabel, final double x) throws SQLException {
+        result.updateDouble(columnLabel, x);
+    }
+
+    @Override
+    public void updateDouble(final int columnIndex, final double x) throws SQLException {
+        result.updateDouble(columnIndex, x);
+    }
+
+    @Override
+    public void updateFloat(final String columnLabel, final float x) throws SQLException {
+        result.updateFloat(columnLabel, x);
+    }
+
+    @Override
+    public void updateFloat(final int columnIndex, final float x) throws SQLException {
+        result.updateFloat(columnIndex, x);
+    }
+
+    @Override
+    public void updateInt(final String columnLabel, final int x) throws SQLException {
+        result.updateInt(columnLabel, x);
+    }
+
+    @Override
+    public void updateInt(final int columnIndex, final int x) throws SQLException {
+        result.updateInt(columnIndex, x);
+    }
+
+    @Override
+    public void updateLong(final String columnLabel, final long x) throws SQLException {
+        result.updateLong(columnLabel, x);
+    }
+
+    @Override
+    public void updateLong(final int columnIndex, final long x) throws SQLException {
+        result.updateLong(columnIndex, x);
+    }
+
+    @Override
+    public void updateNCharacterStream(final String columnLabel, final Reader x) throws SQLException {
+        result.updateNCharacterStream(columnLabel, x);
+    }
+
+    @Override
+    public void updateNCharacterStream(final int columnIndex, final Reader x) throws SQLException {
+        result.updateNCharacterStream(columnIndex, x);
+    }
+
+    @Override
+    public void updateNCharacterStream(final String columnLabel, final Reader x, final long length) throws SQLException {
+        result.updateNCharacterStream(columnLabel, x, length);
+    }
+
+    @Override
+    public void updateNCharacterStream(final int columnIndex, final Reader x, final long length) throws SQLException {
+        result.updateNCharacterStream(columnIndex, x, length);
+    }
+
+    @Override
+    public void updateNClob(final String columnLabel, final Reader x) throws SQLException {
+        result.updateNClob(columnLabel, x);
+    }
+
+    @Override
+    public void updateNClob(final String columnLabel, final NClob x) throws SQLException {
+        result.updateNClob(columnLabel, x);
+    }
+
+    @Override
+    public void updateNClob(final int columnIndex, final Reader x) throws SQLException {
+        result.updateNClob(columnIndex, x);
+    }
+
+    @Override
+    public void updateNClob(final int columnIndex, final NClob x) throws SQLException {
+        result.updateNClob(columnIndex, x);
+    }
+
+    @Override
+    public void updateNClob(final String columnLabel, final Reader x, final long length) throws SQLException {
+        result.updateNClob(columnLabel, x, length);
+    }
+
+    @Override
+    public void updateNClob(final int columnIndex, final Reader x, final long length) throws SQLException {
+        result.updateNClob(columnIndex, x, length);
+    }
+
+    @Override
+    public void updateNString(final String columnLabel, final String x) throws SQLException {
+        result.updateNString(columnLabel, x);
+    }
+
+    @Override
+    public void updateNString(final int columnIndex, final String x) throws SQLException {
+        result.updateNString(columnIndex, x);
+    }
+
+    @Override
+    public void updateNull(final String columnLabel) throws SQLException {
+        result.updateNull(columnLabel);
+    }
+
+    @Override
+    public void updateNull(final int columnIndex) throws SQLException {
+        result.updateNull(columnIndex);
+    }
+
+    @Override
+    public void updateObject(final String columnLabel, final Object x) throws SQLException {
+        result.updateObject(columnLabel, x);
+    }
+
+    @Override
+    public void updateObject(final int columnIndex, final Object x) throws SQLException {
+        result.updateObject(columnIndex, x);
+    }
+
+    @Override
+    public void updateObject(final String columnLabel, final Object x, final int scaleOrLength) throws SQLException {
+        result.updateObject(columnLabel, x, scaleOrLength);
+    }
+
+    @Override
+    public void updateObject(final String columnLabel, final Object x, final SQLType targetSqlType) throws SQLException {
+        result.updateObject(columnLabel, x, targetSqlType);
+    }
+
+    @Override
+    public void updateObject(final int columnIndex, final Object x, final int scaleOrLength) throws SQLException {
+        result.updateObject(columnIndex, x, scaleOrLength);
+    }
+
+    @Override
+    public void updateObject(final int columnIndex, final Object x, final SQLType targetSqlType) throws SQLException {
+        result.updateObject(columnIndex, x, targetSqlType);
+    }
+
+    @Override
+    public void updateObject(final String columnLabel, final Object x, final SQLType targetSqlType, final int scaleOrLength) throws SQLException {
+        result.updateObject(columnLabel, x, targetSqlType, scaleOrLength);
+    }
+
+    @Override
+    public void updateObject(final int columnIndex, final Object x, final SQLType targetSqlType, final int scaleOrLength) throws SQLException {
+        result.updateObject(columnIndex, x, targetSqlType, scaleOrLength);
+    }
+
+    @Override
+    public void updateRef(final String columnLabel, final Ref x) throws SQLException {
+        result.updateRef(columnLabel, x);
+    }
+
+    @Override
+    public void updateRef(final int columnIndex, final Ref x) throws SQLException {
+        result.updateRef(columnIndex, x);
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        result.updateRow();
+    }
+
+    @Override
+    public void updateRowId(final String columnLabel, final RowId x) throws SQLException {
+        result.updateRowId(columnLabel, x);
+    }
+
+    @Override
+    public void updateRowId(final int columnIndex, final RowId x) throws SQLException {
+        result.updateRowId(columnIndex, x);
+    }
+
+    @Override
+    public void updateSQLXML(final String columnLabel, final SQLXML x) throws SQLException {
+        result.updateSQLXML(columnLabel, x);
+    }
+
+    @Override
+    public void updateSQLXML(final int columnIndex, final SQLXML x) throws SQLException {
+        result.updateSQLXML(columnIndex, x);
+    }
+
+    @Override
+    public void updateShort(final String columnLabel, final short x) throws SQLException {
+        result.updateShort(columnLabel, x);
+    }
+
+    @Override
+    public void updateShort(final int columnIndex, final short x) throws SQLException {
+        result.updateShort(columnIndex, x);
+    }
+
+    @Override
+    public void updateString(final String columnLabel, final String x) throws SQLException {
+        result.updateString(columnLabel, x);
+    }
+
+    @Override
+    public void updateString(final int columnIndex, final String x) throws SQLException {
+        result.updateString(columnIndex, x);
+    }
+
+    @Override
+    public void updateTime(final String columnLabel, final Time x) throws SQLException {
+        result.updateTime(columnLabel, x);
+    }
+
+    @Override
+    public void updateTime(final int columnIndex, final Time x) throws SQLException {
+        result.updateTime(columnIndex, x);
+    }
+
+    @Override
+    public void updateTimestamp(final String columnLabel, final Timestamp x) throws SQLException {
+        result.updateTimestamp(columnLabel, x);
+    }
+
+    @Override
+    public void updateTimestamp(final int columnIndex, final Timestamp x) throws SQLException {
+        result.updateTimestamp(columnIndex, x);
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        return result.wasNull();
+    }
+}
@@ -0,0 +1,153 @@
+package com.amazon.dao.impl.pool;
+
+/**
+ * <p>
+ * Represents the tuning values of the {@link ConnectionPool}
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class PoolConfiguration {
+
+    private int minSize = 2;
+    private int maxSize = 15;
+    private long acquireTimeoutMillis = 30_000;
+    private long validationIntervalMillis = 500;
+    private int validationTimeoutSeconds = 5;
+    private long leakDetectionThresholdMillis = 60_000;
+    private boolean leakTraceEnabled;
+    private long housekeepingPeriodMillis = 30_000;
+    private int statementCacheSize = 32;
+    private long slowQueryThresholdMillis = 500;
+    private String slowQueryLogFile = "slow-query.log";
+    private int slowQueryQueueSize = 10_000;
+
+    /**
+     * @return Represents how many connections are opened at start up and kept open, the rest are opened on demand
+     */
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public void setMinSize(final int minSize) {
+        this.minSize = minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return Represents how long a caller waits for a free connection before the acquire fails
+     */
+    public long getAcquireTimeoutMillis() {
+        return acquireTimeoutMillis;
+    }
+
+    public void setAcquireTimeoutMillis(final long acquireTimeoutMillis) {
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    /**
+     * @return Represents how long a connection may stay idle before it is validated again on borrow
+     */
+    public long getValidationIntervalMillis() {
+        return validationIntervalMillis;
+    }
+
+    public void setValidationIntervalMillis(final long validationIntervalMillis) {
+        this.validationIntervalMillis = validationIntervalMillis;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public void setValidationTimeoutSeconds(final int validationTimeoutSeconds) {
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    /**
+     * @return Represents how long a connection may be borrowed before it is reported as a leak, zero disables it
+     */
+    public long getLeakDetectionThresholdMillis() {
+        return leakDetectionThresholdMillis;
+    }
+
+    public void setLeakDetectionThresholdMillis(final long leakDetectionThresholdMillis) {
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+    }
+
+    /**
+     * @return True if every borrow records the borrower's stack trace for the leak reports, off by default since
+     * filling in a stack trace on every borrow is costly
+     */
+    public boolean isLeakTraceEnabled() {
+        return leakTraceEnabled;
+    }
+
+    public void setLeakTraceEnabled(final boolean leakTraceEnabled) {
+        this.leakTraceEnabled = leakTraceEnabled;
+    }
+
+    public long getHousekeepingPeriodMillis() {
+        return housekeepingPeriodMillis;
+    }
+
+    public void setHousekeepingPeriodMillis(final long housekeepingPeriodMillis) {
+        this.housekeepingPeriodMillis = housekeepingPeriodMillis;
+    }
+
+    /**
+     * @return Represents how many prepared statements each connection keeps, zero disables the cache
+     */
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public void setStatementCacheSize(final int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * @return Represents how long a statement and the wait for its connection may take before it is logged, zero
+     * logs every statement and a negative threshold disables the log
+     */
+    public long getSlowQueryThresholdMillis() {
+        return slowQueryThresholdMillis;
+    }
+
+    public void setSlowQueryThresholdMillis(final long slowQueryThresholdMillis) {
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    public String getSlowQueryLogFile() {
+        return slowQueryLogFile;
+    }
+
+    public void setSlowQueryLogFile(final String slowQueryLogFile) {
+        this.slowQueryLogFile = slowQueryLogFile;
+    }
+
+    /**
+     * @return Represents how many slow queries may wait to be written before new ones are dropped
+     */
+    public int getSlowQueryQueueSize() {
+        return slowQueryQueueSize;
+    }
+
+    public void setSlowQueryQueueSize(final int slowQueryQueueSize) {
+        this.slowQueryQueueSize = slowQueryQueueSize;
+    }
+
+    public String toString() {
+        return String.format("min size : %d\nmax size : %d\nacquire timeout : %d ms\nvalidation interval : %d ms\nleak detection threshold : %d ms\nleak trace : %b\nstatement cache size : %d\nslow query threshold : %d ms\nslow query log : %s\n",
+                minSize, maxSize, acquireTimeoutMillis, validationIntervalMillis, leakDetectionThresholdMillis, leakTraceEnabled, statementCacheSize,
+                slowQueryThresholdMillis, slowQueryLogFile);
+    }
+}
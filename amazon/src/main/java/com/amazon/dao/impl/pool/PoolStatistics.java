@@ -0,0 +1,134 @@
+package com.amazon.dao.impl.pool;
+
+/**
+ * <p>
+ * Represents a point in time snapshot of the {@link ConnectionPool} gauges
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class PoolStatistics {
+
+    private final int maxSize;
+    private final int totalConnections;
+    private final int idleConnections;
+    private final int activeConnections;
+    private final int pendingAcquires;
+    private final long acquireCount;
+    private final long timeoutCount;
+    private final long evictionCount;
+    private final long leakCount;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+    private final long statementCacheHits;
+    private final long statementCacheMisses;
+    private final long slowQueryCount;
+    private final long droppedSlowQueryCount;
+
+    PoolStatistics(final int maxSize, final int totalConnections, final int idleConnections,
+                   final int activeConnections, final int pendingAcquires, final long acquireCount,
+                   final long timeoutCount, final long evictionCount, final long leakCount,
+                   final long totalWaitNanos, final long maxWaitNanos, final long statementCacheHits,
+                   final long statementCacheMisses, final long slowQueryCount, final long droppedSlowQueryCount) {
+        this.maxSize = maxSize;
+        this.totalConnections = totalConnections;
+        this.idleConnections = idleConnections;
+        this.activeConnections = activeConnections;
+        this.pendingAcquires = pendingAcquires;
+        this.acquireCount = acquireCount;
+        this.timeoutCount = timeoutCount;
+        this.evictionCount = evictionCount;
+        this.leakCount = leakCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+        this.statementCacheHits = statementCacheHits;
+        this.statementCacheMisses = statementCacheMisses;
+        this.slowQueryCount = slowQueryCount;
+        this.droppedSlowQueryCount = droppedSlowQueryCount;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getPendingAcquires() {
+        return pendingAcquires;
+    }
+
+    public long getAcquireCount() {
+        return acquireCount;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getLeakCount() {
+        return leakCount;
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    public double getAverageWaitMillis() {
+        return 0 == acquireCount ? 0 : totalWaitNanos / 1_000_000.0 / acquireCount;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitNanos / 1_000_000.0;
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+
+    /**
+     * @return Represents the number of statements that reached the slow query threshold
+     */
+    public long getSlowQueryCount() {
+        return slowQueryCount;
+    }
+
+    /**
+     * @return Represents the slow queries that were not written because the log queue was full
+     */
+    public long getDroppedSlowQueryCount() {
+        return droppedSlowQueryCount;
+    }
+
+    /**
+     * @return Represents the fraction of the maximum pool size that is currently borrowed
+     */
+    public double getUtilization() {
+        return 0 == maxSize ? 0 : (double) activeConnections / maxSize;
+    }
+
+    public String toString() {
+        return String.format("connections : %d/%d (active %d, idle %d, waiting %d)\nacquires : %d (timeouts %d)\nwait : avg %.3f ms, max %.3f ms\nevictions : %d\nleaks : %d\nutilization : %.1f%%\nstatement cache : %d hits, %d misses\nslow queries : %d (dropped %d)\n",
+                totalConnections, maxSize, activeConnections, idleConnections, pendingAcquires, acquireCount, timeoutCount,
+                getAverageWaitMillis(), getMaxWaitMillis(), evictionCount, leakCount, getUtilization() * 100,
+                statementCacheHits, statementCacheMisses, slowQueryCount, droppedSlowQueryCount);
+    }
+}
@@ -0,0 +1,230 @@
+package com.amazon.dao.impl.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * Represents a physical connection owned by the {@link ConnectionPool} together with its borrow state
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+final class PooledConnection {
+
+    private final ConnectionPool pool;
+    private final Connection connection;
+    private final StatementCache statementCache;
+    private final SlowQueryLog slowQueryLog;
+    private final List<SlowQueryLog.LoggedStatement> loggedStatements;
+    private final long createdTime;
+    private volatile long lastReturnedTime;
+    private volatile long borrowedTime;
+    private volatile Thread borrower;
+    private volatile Throwable borrowTrace;
+    private volatile boolean leakReported;
+    private long waitNanos;
+
+    PooledConnection(final ConnectionPool pool, final Connection connection, final StatementCache statementCache,
+                     final SlowQueryLog slowQueryLog) {
+        this.pool = pool;
+        this.connection = connection;
+        this.statementCache = statementCache;
+        this.slowQueryLog = slowQueryLog;
+        loggedStatements = new ArrayList<>();
+        this.createdTime = System.nanoTime();
+        this.lastReturnedTime = createdTime;
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    long getCreatedTime() {
+        return createdTime;
+    }
+
+    long getLastReturnedTime() {
+        return lastReturnedTime;
+    }
+
+    long getBorrowedTime() {
+        return borrowedTime;
+    }
+
+    /**
+     * @return Represents the name of the thread holding the connection, kept without a stack trace so every
+     * leak report can name the borrower
+     */
+    String getBorrowerName() {
+        final Thread thread = borrower;
+
+        return null == thread ? "no thread" : thread.toString();
+    }
+
+    Throwable getBorrowTrace() {
+        return borrowTrace;
+    }
+
+    boolean isLeakReported() {
+        return leakReported;
+    }
+
+    void setLeakReported(final boolean leakReported) {
+        this.leakReported = leakReported;
+    }
+
+    /**
+     * <p>
+     * Marks the connection as borrowed and hands out a fresh proxy for this borrow only, so a stale
+     * holder closing an old proxy can never return a connection someone else is using
+     * </p>
+     *
+     * @param captureTrace True if the borrower's stack trace is recorded for leak reports
+     * @param waitNanos    Represents how long the borrower waited for the connection
+     * @return Represents the {@link Connection} proxy handed to the caller
+     */
+    Connection borrow(final boolean captureTrace, final long waitNanos) {
+        borrowedTime = System.nanoTime();
+        this.waitNanos = waitNanos;
+        leakReported = false;
+        borrower = Thread.currentThread();
+        borrowTrace = captureTrace ? new Throwable("Connection borrowed by " + Thread.currentThread().getName()) : null;
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new Handle());
+    }
+
+    /**
+     * <p>
+     * Keeps the logged statement of the borrow, its running execution ends when the connection is returned
+     * </p>
+     */
+    void track(final SlowQueryLog.LoggedStatement loggedStatement) {
+        loggedStatements.add(loggedStatement);
+    }
+
+    /**
+     * @return Represents the wait for the connection the first time it is called during a borrow, then zero
+     */
+    long takeWaitNanos() {
+        final long borrowWaitNanos = waitNanos;
+
+        waitNanos = 0;
+
+        return borrowWaitNanos;
+    }
+
+    void markReturned() {
+        for (final SlowQueryLog.LoggedStatement loggedStatement : loggedStatements) {
+            loggedStatement.finish();
+        }
+        loggedStatements.clear();
+        statementCache.release();
+        borrower = null;
+        borrowTrace = null;
+        lastReturnedTime = System.nanoTime();
+    }
+
+    /**
+     * <p>
+     * Closes the physical connection, ignoring any error since the connection is being discarded anyway
+     * </p>
+     */
+    void closeQuietly() {
+        statementCache.close();
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /**
+     * <p>
+     * Represents whether the prepareStatement overload goes through the {@link StatementCache}, the SQL alone
+     * or the SQL with the generated keys asked for by a flag or by column names
+     * </p>
+     */
+    private static boolean isCacheable(final Object[] args) {
+        return 1 == args.length || (2 == args.length && (args[1] instanceof Integer || args[1] instanceof String[]));
+    }
+
+    /**
+     * <p>
+     * Represents the per borrow view of the connection, closing it returns the connection to the pool. Unwrapping
+     * gives back the view itself and every statement is handed out as a proxy, the physical connection is never
+     * handed out since closing it or using it after the return would bypass the pool
+     * </p>
+     */
+    private final class Handle implements InvocationHandler {
+
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (returned.compareAndSet(false, true)) {
+                        pool.release(PooledConnection.this);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned.get() || connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled" + connection;
+                case "isWrapperFor":
+                    return ((Class<?>) args[0]).isInstance(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    throw new SQLException("Pooled connection does not expose a " + ((Class<?>) args[0]).getName());
+                default:
+                    if (returned.get()) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+            }
+
+            if ("prepareStatement".equals(method.getName()) && isCacheable(args)) {
+                final PreparedStatement statement = prepare((Connection) proxy, args);
+
+                return null == slowQueryLog ? statement : slowQueryLog.wrap(statement, (String) args[0], PooledConnection.this);
+            }
+
+            try {
+                final Object result = method.invoke(connection, args);
+
+                return result instanceof Statement
+                        ? GuardedStatement.wrap((Statement) result, method.getReturnType(), (Connection) proxy) : result;
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        }
+
+        private PreparedStatement prepare(final Connection proxy, final Object[] args) throws SQLException {
+            final String sql = (String) args[0];
+
+            if (1 == args.length) {
+                return statementCache.prepare(connection, proxy, sql);
+            }
+
+            if (args[1] instanceof Integer) {
+                return statementCache.prepare(connection, proxy, sql, (Integer) args[1], null);
+            }
+            return statementCache.prepare(connection, proxy, sql, Statement.NO_GENERATED_KEYS, (String[]) args[1]);
+        }
+    }
+}
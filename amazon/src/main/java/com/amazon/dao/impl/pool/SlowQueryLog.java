@@ -0,0 +1,296 @@
+package com.amazon.dao.impl.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Represents the log of the statements that took longer than the threshold, written through an
+ * {@link AsyncFileAppender}
+ * </p>
+ *
+ * <p>
+ * Every statement prepared on a borrowed connection is wrapped so its bind parameters, rows and execution
+ * time are kept. A query runs from its execution until its rows are read to the end or its result set,
+ * statement or connection is closed, so the time of a streamed query includes the reading of the stream.
+ * The wait for the connection is given to the first statement of the borrow. A statement whose wait and
+ * execution together reach the threshold is logged as one line with its SQL text and a summary of its
+ * parameters in which strings are replaced by their length, so no email, password or name reaches the file.
+ * Nothing is formatted for the statements below the threshold
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+final class SlowQueryLog implements AutoCloseable {
+
+    private static final int MAX_SQL_LENGTH = 2000;
+
+    private final long thresholdNanos;
+    private final AsyncFileAppender appender;
+    private final LongAdder loggedCount;
+
+    SlowQueryLog(final long thresholdMillis, final AsyncFileAppender appender) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.appender = appender;
+        loggedCount = new LongAdder();
+    }
+
+    /**
+     * @param statement        Represents the statement handed out by the {@link StatementCache}
+     * @param sql              Represents the query text of the statement
+     * @param pooledConnection Represents the borrowed connection the statement runs on
+     * @return Represents the statement proxy that times the executions
+     */
+    PreparedStatement wrap(final PreparedStatement statement, final String sql, final PooledConnection pooledConnection) {
+        final LoggedStatement loggedStatement = new LoggedStatement(statement, sql, pooledConnection);
+
+        pooledConnection.track(loggedStatement);
+
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, loggedStatement);
+    }
+
+    long getLoggedCount() {
+        return loggedCount.sum();
+    }
+
+    long getDroppedCount() {
+        return appender.getDroppedCount();
+    }
+
+    public void close() {
+        appender.close();
+    }
+
+    private void log(final String sql, final Object[] parameters, final int batchSize, final long rows,
+                     final long waitNanos, final long executionNanos) {
+        if (waitNanos + executionNanos < thresholdNanos) {
+            return;
+        }
+        final String query = sql.replaceAll("\\s+", " ").trim();
+
+        loggedCount.increment();
+        appender.append(String.format("%s wait_ms=%.3f exec_ms=%.3f rows=%d%s sql=\"%s\" params=%s", Instant.now(),
+                waitNanos / 1e6, executionNanos / 1e6, rows, 0 < batchSize ? " batch=" + batchSize : "",
+                query.length() > MAX_SQL_LENGTH ? query.substring(0, MAX_SQL_LENGTH) + "..." : query,
+                summarize(parameters)));
+    }
+
+    /**
+     * <p>
+     * Represents the parameters by index, numbers, booleans and times are kept and every other value is
+     * replaced by its type
+     * </p>
+     */
+    private static String summarize(final Object[] parameters) {
+        final StringBuilder summary = new StringBuilder("[");
+
+        for (int index = 1; index < parameters.length; index++) {
+            final Object parameter = parameters[index];
+
+            if (null == parameter) {
+                continue;
+            }
+
+            if (1 < summary.length()) {
+                summary.append(", ");
+            }
+            summary.append(index).append(':');
+
+            if (parameter == NullParameter.NULL) {
+                summary.append("null");
+            } else if (parameter instanceof CharSequence) {
+                summary.append("'***'(").append(((CharSequence) parameter).length()).append(')');
+            } else if (parameter instanceof Number || parameter instanceof Boolean
+                    || parameter instanceof java.util.Date || parameter instanceof java.time.temporal.Temporal) {
+                summary.append(parameter);
+            } else {
+                summary.append('<').append(parameter.getClass().getSimpleName()).append('>');
+            }
+        }
+        return summary.append(']').toString();
+    }
+
+    /**
+     * <p>
+     * Marks a parameter set to SQL NULL, apart from the parameters that were never set
+     * </p>
+     */
+    private enum NullParameter {
+        NULL
+    }
+
+    /**
+     * <p>
+     * Represents the statement proxy, it is only used by the thread borrowing the connection
+     * </p>
+     */
+    final class LoggedStatement implements InvocationHandler {
+
+        private final PreparedStatement statement;
+        private final String sql;
+        private final PooledConnection pooledConnection;
+        private Object[] parameters;
+        private int batchSize;
+        private long startTime;
+        private long waitNanos;
+        private long rows;
+        private int execution;
+        private boolean isRunning;
+
+        private LoggedStatement(final PreparedStatement statement, final String sql,
+                                final PooledConnection pooledConnection) {
+            this.statement = statement;
+            this.sql = sql;
+            this.pooledConnection = pooledConnection;
+            parameters = new Object[8];
+        }
+
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final String name = method.getName();
+
+            switch (name) {
+                case "executeQuery":
+                    finish();
+                    start();
+
+                    try {
+                        final ResultSet result = (ResultSet) invokeTarget(statement, method, args);
+
+                        return new LoggedResultSet(result, this, execution, (Statement) proxy);
+                    } catch (Throwable exception) {
+                        finish();
+                        throw exception;
+                    }
+                case "execute":
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                case "executeBatch":
+                case "executeLargeBatch":
+                    finish();
+                    start();
+
+                    try {
+                        final Object result = invokeTarget(statement, method, args);
+
+                        rows = countRows(result);
+
+                        return result;
+                    } finally {
+                        finish();
+                        batchSize = 0;
+                    }
+                case "addBatch":
+                    batchSize++;
+                    break;
+                case "clearParameters":
+                    Arrays.fill(parameters, null);
+                    break;
+                case "close":
+                    finish();
+                    break;
+                case "isWrapperFor":
+                case "unwrap":
+                    return GuardedStatement.unwrap(proxy, method, args);
+                default:
+                    if (name.startsWith("set") && null != args && 2 <= args.length && args[0] instanceof Integer) {
+                        setParameter((Integer) args[0], name.equals("setNull") ? NullParameter.NULL : args[1]);
+                    }
+            }
+            return GuardedStatement.guardResult(invokeTarget(statement, method, args), (Statement) proxy);
+        }
+
+        /**
+         * <p>
+         * Counts the row read by the result set of the execution, the execution ends with the last row. A result
+         * set left open by an earlier execution of the statement no longer counts
+         * </p>
+         */
+        void onNext(final int resultExecution, final boolean hasNext) {
+            if (resultExecution != execution) {
+                return;
+            }
+
+            if (hasNext) {
+                rows++;
+            } else {
+                finish();
+            }
+        }
+
+        void onClose(final int resultExecution) {
+            if (resultExecution == execution) {
+                finish();
+            }
+        }
+
+        /**
+         * <p>
+         * Ends the running execution, if any, and logs it when it was slow
+         * </p>
+         */
+        void finish() {
+            if (!isRunning) {
+                return;
+            }
+            isRunning = false;
+            log(sql, parameters, batchSize, rows, waitNanos, System.nanoTime() - startTime);
+        }
+
+        private void start() {
+            execution++;
+            waitNanos = pooledConnection.takeWaitNanos();
+            rows = 0;
+            isRunning = true;
+            startTime = System.nanoTime();
+        }
+
+        private void setParameter(final int index, final Object value) {
+            if (index >= parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index + 1, parameters.length * 2));
+            }
+
+            if (0 < index) {
+                parameters[index] = value;
+            }
+        }
+
+        private long countRows(final Object result) throws SQLException {
+            if (result instanceof Boolean) {
+                return (Boolean) result ? -1 : statement.getUpdateCount();
+            }
+
+            if (result instanceof int[]) {
+                return Arrays.stream((int[]) result).filter(count -> 0 < count).asLongStream().sum();
+            }
+
+            if (result instanceof long[]) {
+                return Arrays.stream((long[]) result).filter(count -> 0 < count).sum();
+            }
+
+            if (result instanceof Number) {
+                return ((Number) result).longValue();
+            }
+            return -1;
+        }
+    }
+
+    private static Object invokeTarget(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
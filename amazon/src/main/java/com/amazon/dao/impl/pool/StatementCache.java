@@ -0,0 +1,273 @@
+package com.amazon.dao.impl.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Represents the bounded, least recently used cache of {@link PreparedStatement} of one pooled connection,
+ * keyed by the SQL text and, for the statements that return generated keys, by the keys asked for
+ * </p>
+ *
+ * <p>
+ * Reusing the same statement object lets the driver switch to a server side prepared plan instead of
+ * parsing the query on every call. The cache is only touched by the thread currently borrowing the
+ * connection, so it needs no locking
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+final class StatementCache {
+
+    private final int maxSize;
+    private final Map<Object, CachedStatement> statements;
+    private final List<Statement> borrowStatements;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+
+    StatementCache(final int maxSize, final LongAdder hitCount, final LongAdder missCount) {
+        this.maxSize = maxSize;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        borrowStatements = new ArrayList<>();
+        statements = new LinkedHashMap<>(16, 0.75f, true) {
+
+            protected boolean removeEldestEntry(final Map.Entry<Object, CachedStatement> eldest) {
+                if (size() <= StatementCache.this.maxSize) {
+                    return false;
+                }
+                final CachedStatement statement = eldest.getValue();
+
+                if (statement.inUse) {
+                    borrowStatements.add(statement.statement);
+                } else {
+                    closeQuietly(statement.statement);
+                }
+
+                return true;
+            }
+        };
+    }
+
+    /**
+     * <p>
+     * Gets the cached statement for the query, preparing and caching it on a miss. If the cached statement
+     * is already in use during this borrow an uncached one is prepared and closed when the connection is returned
+     * </p>
+     *
+     * @param connection Represents the physical connection
+     * @param owner      Represents the connection proxy the statement reports as its connection
+     * @param sql        Represents the query text
+     * @return Represents the {@link PreparedStatement}, closing it keeps it in the cache
+     * @throws SQLException if the query cannot be prepared
+     */
+    PreparedStatement prepare(final Connection connection, final Connection owner, final String sql) throws SQLException {
+        return prepare(connection, owner, sql, Statement.NO_GENERATED_KEYS, null);
+    }
+
+    /**
+     * <p>
+     * Same as {@link #prepare(Connection, Connection, String)} for a statement that returns generated keys,
+     * it is cached apart from the statement of the same query that returns none
+     * </p>
+     *
+     * @param autoGeneratedKeys Represents whether the generated keys are returned, ignored if column names are given
+     * @param columnNames       Represents the columns returned as generated keys, or null
+     */
+    PreparedStatement prepare(final Connection connection, final Connection owner, final String sql,
+                              final int autoGeneratedKeys, final String[] columnNames) throws SQLException {
+        if (0 >= maxSize) {
+            return track(prepareStatement(connection, sql, autoGeneratedKeys, columnNames), owner);
+        }
+        final Object key = null == columnNames && Statement.NO_GENERATED_KEYS == autoGeneratedKeys ? sql
+                : new StatementKey(sql, autoGeneratedKeys, columnNames);
+        CachedStatement statement = statements.get(key);
+
+        if (null != statement && statement.inUse) {
+            missCount.increment();
+
+            return track(prepareStatement(connection, sql, autoGeneratedKeys, columnNames), owner);
+        }
+
+        if (null == statement) {
+            missCount.increment();
+            statement = new CachedStatement(prepareStatement(connection, sql, autoGeneratedKeys, columnNames));
+            statements.put(key, statement);
+        } else {
+            hitCount.increment();
+        }
+        statement.inUse = true;
+        statement.owner = owner;
+
+        return statement.proxy;
+    }
+
+    /**
+     * <p>
+     * Ends the current borrow, every cached statement becomes available again and statements that were
+     * not cached are closed. A statement left open by the borrower is cleared of its parameters and batch
+     * so the next borrower does not run them
+     * </p>
+     */
+    void release() {
+        for (final CachedStatement statement : statements.values()) {
+            if (statement.inUse) {
+                statement.inUse = false;
+                statement.clearQuietly();
+            }
+            statement.owner = null;
+        }
+
+        for (final Statement statement : borrowStatements) {
+            closeQuietly(statement);
+        }
+        borrowStatements.clear();
+    }
+
+    /**
+     * <p>
+     * Closes every statement, used when the physical connection is discarded
+     * </p>
+     */
+    void close() {
+        release();
+        final Iterator<CachedStatement> iterator = statements.values().iterator();
+
+        while (iterator.hasNext()) {
+            closeQuietly(iterator.next().statement);
+            iterator.remove();
+        }
+    }
+
+    private static PreparedStatement prepareStatement(final Connection connection, final String sql,
+                                                      final int autoGeneratedKeys, final String[] columnNames)
+            throws SQLException {
+        if (null != columnNames) {
+            return connection.prepareStatement(sql, columnNames);
+        }
+        return Statement.NO_GENERATED_KEYS == autoGeneratedKeys ? connection.prepareStatement(sql)
+                : connection.prepareStatement(sql, autoGeneratedKeys);
+    }
+
+    private PreparedStatement track(final PreparedStatement statement, final Connection owner) {
+        borrowStatements.add(statement);
+
+        return (PreparedStatement) GuardedStatement.wrap(statement, PreparedStatement.class, owner);
+    }
+
+    private static void closeQuietly(final Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /**
+     * <p>
+     * Represents a cached statement, closing its proxy only marks it available for the next caller. Like a
+     * {@link GuardedStatement} it never hands out the driver statement or its result sets
+     * </p>
+     */
+    private static final class CachedStatement implements InvocationHandler {
+
+        private final PreparedStatement statement;
+        private final PreparedStatement proxy;
+        private boolean inUse;
+        private Connection owner;
+
+        private CachedStatement(final PreparedStatement statement) {
+            this.statement = statement;
+            proxy = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, this);
+        }
+
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (inUse) {
+                        inUse = false;
+                        statement.clearParameters();
+                        statement.clearBatch();
+                    }
+                    return null;
+                case "isClosed":
+                    return !inUse || statement.isClosed();
+                case "getConnection":
+                    return owner;
+                case "isWrapperFor":
+                case "unwrap":
+                    return GuardedStatement.unwrap(proxy, method, args);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached" + statement;
+                default:
+                    if (!inUse) {
+                        throw new SQLException("Statement has already been closed");
+                    }
+            }
+
+            try {
+                return GuardedStatement.guardResult(method.invoke(statement, args), this.proxy);
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        }
+
+        private void clearQuietly() {
+            try {
+                statement.clearParameters();
+                statement.clearBatch();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the cache key of a statement that returns generated keys
+     * </p>
+     */
+    private static final class StatementKey {
+
+        private final String sql;
+        private final int autoGeneratedKeys;
+        private final String[] columnNames;
+
+        private StatementKey(final String sql, final int autoGeneratedKeys, final String[] columnNames) {
+            this.sql = sql;
+            this.autoGeneratedKeys = null == columnNames ? autoGeneratedKeys : Statement.RETURN_GENERATED_KEYS;
+            this.columnNames = null == columnNames ? null : columnNames.clone();
+        }
+
+        public boolean equals(final Object object) {
+            if (!(object instanceof StatementKey)) {
+                return false;
+            }
+            final StatementKey key = (StatementKey) object;
+
+            return sql.equals(key.sql) && autoGeneratedKeys == key.autoGeneratedKeys
+                    && Arrays.equals(columnNames, key.columnNames);
+        }
+
+        public int hashCode() {
+            return 31 * (31 * sql.hashCode() + autoGeneratedKeys) + Arrays.hashCode(columnNames);
+        }
+    }
+}
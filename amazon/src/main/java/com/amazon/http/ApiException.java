@@ -0,0 +1,25 @@
+package com.amazon.http;
+
+/**
+ * <p>
+ * Represents a request the API refuses, it is answered with its HTTP status and message
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class ApiException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+
+    public ApiException(final int status, final String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,613 @@
+package com.amazon.http;
+
+import com.amazon.controller.AuthenticationController;
+import com.amazon.controller.ProductController;
+import com.amazon.controller.UserController;
+import com.amazon.exception.DBException;
+import com.amazon.exception.UnavailableQuantityException;
+import com.amazon.model.BatchResult;
+import com.amazon.model.Cart;
+import com.amazon.model.Order;
+import com.amazon.model.Product;
+import com.amazon.model.Session;
+import com.amazon.model.User;
+import com.amazon.validation.UserRules;
+import com.amazon.validation.ValidationError;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Represents the JSON API over the {@link AuthenticationController}, {@link UserController} and
+ * {@link ProductController}, every request is routed by its method and path to one endpoint
+ * </p>
+ *
+ * <p>
+ * A user signs up or signs in to get a session token, which is sent back as a Bearer token in the Authorization
+ * header of the later requests. The products, cart rows and orders of other users can be read where the
+ * console views allow it but are changed only by their owner. Lists are returned a page at a time with the
+ * cursor of the next page. The body of every request is read to the end and every response is sent with its
+ * length, so the connection is kept alive for the next request of the client
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class ApiHandler implements HttpHandler {
+
+    private static final Logger LOGGER = Logger.getLogger(ApiHandler.class.getName());
+    private static final String BEARER = "Bearer ";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final AuthenticationController authenticationController;
+    private final UserController userController;
+    private final ProductController productController;
+    private final List<Route> routes;
+    private final int maxBodyBytes;
+
+    public ApiHandler(final int maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+        authenticationController = AuthenticationController.getInstance();
+        userController = UserController.getInstance();
+        productController = ProductController.getInstance();
+        routes = new ArrayList<>();
+
+        add("POST", "/api/users", false, this::signUp);
+        add("POST", "/api/sessions", false, this::signIn);
+        add("DELETE", "/api/sessions", true, this::signOut);
+        add("GET", "/api/users", true, this::getUserPage);
+        add("GET", "/api/users/me", true, this::getProfile);
+        add("PUT", "/api/users/me", true, this::updateProfile);
+        add("GET", "/api/users/me/products", true, this::getUserProductPage);
+        add("GET", "/api/products", false, this::getProductPage);
+        add("POST", "/api/products", true, this::addProduct);
+        add("GET", "/api/products/{id}", false, this::getProduct);
+        add("PUT", "/api/products/{id}", true, this::updateProduct);
+        add("DELETE", "/api/products/{id}", true, this::deleteProduct);
+        add("GET", "/api/cart", true, this::getCartList);
+        add("POST", "/api/cart", true, this::addToCart);
+        add("DELETE", "/api/cart/{id}", true, this::removeCart);
+        add("POST", "/api/cart/checkout", true, this::checkoutCart);
+        add("GET", "/api/orders", true, this::getOrderPage);
+        add("POST", "/api/orders", true, this::order);
+        add("GET", "/api/orders/{id}", true, this::getOrder);
+        add("DELETE", "/api/orders/{id}", true, this::cancelOrder);
+    }
+
+    @Override
+    public void handle(final HttpExchange exchange) throws IOException {
+        Response response;
+
+        try {
+            final String body = readBody(exchange);
+
+            response = route(exchange, body);
+        } catch (ApiException exception) {
+            response = error(exception.getStatus(), exception.getMessage());
+        } catch (UnavailableQuantityException exception) {
+            response = error(409, exception.getMessage());
+        } catch (IllegalArgumentException exception) {
+            response = error(400, exception.getMessage());
+        } catch (DBException exception) {
+            LOGGER.log(Level.WARNING, String.format("%s %s failed", exchange.getRequestMethod(),
+                    exchange.getRequestURI().getPath()), exception);
+            response = error(500, "The request could not be completed");
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.SEVERE, String.format("%s %s failed", exchange.getRequestMethod(),
+                    exchange.getRequestURI().getPath()), exception);
+            response = error(500, "The request could not be completed");
+        }
+        send(exchange, response);
+    }
+
+    private void add(final String method, final String path, final boolean isSignInRequired, final Endpoint endpoint) {
+        routes.add(new Route(method, path.substring(1).split("/"), isSignInRequired, endpoint));
+    }
+
+    /**
+     * <p>
+     * Finds the route of the request and calls its endpoint, a path served under another method is answered
+     * with 405 and an unknown path with 404
+     * </p>
+     */
+    private Response route(final HttpExchange exchange, final String body) throws UnavailableQuantityException {
+        final String method = exchange.getRequestMethod();
+        final String[] segments = exchange.getRequestURI().getPath().substring(1).split("/");
+        boolean isPathFound = false;
+
+        for (final Route route : routes) {
+            final List<Long> pathIds = route.match(segments);
+
+            if (null == pathIds) {
+                continue;
+            }
+            isPathFound = true;
+
+            if (!route.method.equals(method)) {
+                continue;
+            }
+            final String sessionId = getSessionId(exchange);
+            final ApiRequest request = new ApiRequest(pathIds, exchange.getRequestURI().getRawQuery(), body, sessionId);
+
+            if (null != sessionId) {
+                request.setSession(authenticationController.getSession(sessionId));
+            }
+
+            if (route.isSignInRequired) {
+                request.getSession();
+            }
+            return route.endpoint.handle(request);
+        }
+        throw new ApiException(isPathFound ? 405 : 404, isPathFound ? "Method not allowed" : "Not found");
+    }
+
+    private Response signUp(final ApiRequest request) {
+        final User user = JsonMapper.readUser(request.getJsonBody(), new User());
+
+        validate(user);
+
+        if (authenticationController.isUserEmailExists(user.getEmail())) {
+            throw new ApiException(409, "Email already exists");
+        }
+
+        if (authenticationController.isNumberExists(user.getPhoneNumber())) {
+            throw new ApiException(409, "Phone number already exists");
+        }
+
+        if (!authenticationController.signUp(user)) {
+            throw new ApiException(500, "The user could not be signed up");
+        }
+        return ok(201, toJson(authenticationController.signIn(user.getEmail(), user.getPassword())));
+    }
+
+    private Response signIn(final ApiRequest request) {
+        final Map<String, Object> body = request.getJsonBody();
+        final Session session = authenticationController.signIn(JsonMapper.getString(body, "email", true),
+                JsonMapper.getString(body, "password", true));
+
+        if (null == session) {
+            throw new ApiException(401, "Invalid email or password");
+        }
+        return ok(201, toJson(session));
+    }
+
+    private Response signOut(final ApiRequest request) {
+        authenticationController.signOut(request.getSessionId());
+
+        return noContent();
+    }
+
+    private Response getUserPage(final ApiRequest request) {
+        final JsonWriter json = new JsonWriter();
+
+        JsonMapper.write(json, userController.getUserPage(request.getQuery("cursor"), getPageSize(request)),
+                (writer, user) -> JsonMapper.write(writer, user.getProfile()));
+
+        return ok(200, json.toString());
+    }
+
+    private Response getProfile(final ApiRequest request) {
+        return ok(200, toJson(getUser(request.getSession().getUserId())));
+    }
+
+    /**
+     * <p>
+     * Updates the fields given in the body, the other fields keep their value
+     * </p>
+     */
+    private Response updateProfile(final ApiRequest request) {
+        final Long userId = request.getSession().getUserId();
+        final User user = getUser(userId);
+        final String email = user.getEmail();
+        final String phoneNumber = user.getPhoneNumber();
+
+        JsonMapper.readUser(request.getJsonBody(), user);
+        validate(user);
+
+        if (!email.equals(user.getEmail()) && authenticationController.isUserEmailExists(user.getEmail())) {
+            throw new ApiException(409, "Email already exists");
+        }
+
+        if (!phoneNumber.equals(user.getPhoneNumber())
+                && authenticationController.isNumberExists(user.getPhoneNumber())) {
+            throw new ApiException(409, "Phone number already exists");
+        }
+        userController.update(user, userId);
+
+        return ok(200, toJson(user));
+    }
+
+    private Response getUserProductPage(final ApiRequest request) {
+        final JsonWriter json = new JsonWriter();
+
+        JsonMapper.write(json, productController.getUserProductPage(request.getSession().getUserId(),
+                request.getQuery("cursor"), getPageSize(request)), JsonMapper::write);
+
+        return ok(200, json.toString());
+    }
+
+    private Response getProductPage(final ApiRequest request) {
+        final JsonWriter json = new JsonWriter();
+
+        JsonMapper.write(json, productController.getProductPage(request.getQuery("cursor"), getPageSize(request)),
+                JsonMapper::write);
+
+        return ok(200, json.toString());
+    }
+
+    private Response getProduct(final ApiRequest request) {
+        return ok(200, toJson(getProduct(request.getPathId())));
+    }
+
+    /**
+     * <p>
+     * Adds the product for the signed in seller, it is added through the batch insert so its generated id is
+     * returned
+     * </p>
+     */
+    private Response addProduct(final ApiRequest request) {
+        final Product product = JsonMapper.readProduct(request.getJsonBody(), new Product());
+
+        product.setUserId(request.getSession().getUserId());
+        final BatchResult result = productController.addAll(Collections.singletonList(product));
+
+        if (!result.getFailures().isEmpty()) {
+            throw new ApiException(400, result.getFailures().get(0));
+        }
+        return ok(201, toJson(product));
+    }
+
+    private Response updateProduct(final ApiRequest request) {
+        final Product product = getOwnProduct(request);
+
+        JsonMapper.readProduct(request.getJsonBody(), product);
+        productController.update(product.getId(), product);
+
+        return ok(200, toJson(product));
+    }
+
+    private Response deleteProduct(final ApiRequest request) {
+        productController.delete(getOwnProduct(request).getId());
+
+        return noContent();
+    }
+
+    private Response getCartList(final ApiRequest request) {
+        final JsonWriter json = new JsonWriter();
+
+        JsonMapper.write(json, productController.getCartList(request.getSession().getUserId()), JsonMapper::write);
+
+        return ok(200, json.toString());
+    }
+
+    /**
+     * <p>
+     * Adds the product to the cart of the signed in user with the name and price it has now, the quantity is
+     * one unless it is given
+     * </p>
+     */
+    private Response addToCart(final ApiRequest request) {
+        final Map<String, Object> body = request.getJsonBody();
+        final Product product = getProduct(JsonMapper.getLong(body, "productId"));
+        final Long quantity = body.containsKey("quantity") ? JsonMapper.getLong(body, "quantity") : 1L;
+        final Cart cart = new Cart();
+
+        if (quantity <= 0) {
+            throw new ApiException(400, "Quantity must be greater than zero");
+        }
+        cart.setProductId(product.getId());
+        cart.setProductName(product.getName());
+        cart.setPrice(product.getPrice());
+        cart.setQuantity(quantity);
+        cart.setUserId(request.getSession().getUserId());
+        productController.addToCart(cart);
+
+        return ok(201, toJson(cart));
+    }
+
+    private Response removeCart(final ApiRequest request) {
+        final Cart cart = productController.getCart(request.getPathId());
+
+        if (null == cart || !cart.getUserId().equals(request.getSession().getUserId())) {
+            throw new ApiException(404, "Cart item not found");
+        }
+        productController.removeCart(cart.getId());
+
+        return noContent();
+    }
+
+    private Response checkoutCart(final ApiRequest request) throws UnavailableQuantityException {
+        final Order.Payment paymentType = JsonMapper.getEnum(request.getJsonBody(), "paymentType", Order.Payment.class);
+        final JsonWriter json = new JsonWriter();
+
+        JsonMapper.write(json, productController.checkoutCart(request.getSession().getUserId(), paymentType),
+                JsonMapper::write);
+
+        return ok(201, json.toString());
+    }
+
+    private Response getOrderPage(final ApiRequest request) {
+        final JsonWriter json = new JsonWriter();
+
+        JsonMapper.write(json, productController.getOrderPage(request.getSession().getUserId(),
+                request.getQuery("cursor"), getPageSize(request)), JsonMapper::write);
+
+        return ok(200, json.toString());
+    }
+
+    private Response order(final ApiRequest request) throws UnavailableQuantityException {
+        final Map<String, Object> body = request.getJsonBody();
+        final Order order = new Order();
+
+        order.setProductId(JsonMapper.getLong(body, "productId"));
+        order.setQuantity(body.containsKey("quantity") ? JsonMapper.getLong(body, "quantity") : 1L);
+        order.setPaymentType(JsonMapper.getEnum(body, "paymentType", Order.Payment.class));
+        order.setUserId(request.getSession().getUserId());
+        productController.order(order);
+
+        return ok(201, toJson(order));
+    }
+
+    private Response getOrder(final ApiRequest request) {
+        return ok(200, toJson(getOwnOrder(request)));
+    }
+
+    private Response cancelOrder(final ApiRequest request) {
+        if (!productController.cancelOrder(getOwnOrder(request).getId())) {
+            throw new ApiException(409, "The order could not be cancelled");
+        }
+        return noContent();
+    }
+
+    private User getUser(final Long userId) {
+        final User user = userController.getDetail(userId);
+
+        if (null == user) {
+            throw new ApiException(404, "User not found");
+        }
+        return user;
+    }
+
+    private Product getProduct(final Long productId) {
+        final Product product = productController.get(productId);
+
+        if (null == product) {
+            throw new ApiException(404, "Product not found");
+        }
+        return product;
+    }
+
+    /**
+     * <p>
+     * Represents the product of the path, a product of another seller can be read but not changed
+     * </p>
+     */
+    private Product getOwnProduct(final ApiRequest request) {
+        final Product product = getProduct(request.getPathId());
+
+        if (!product.getUserId().equals(request.getSession().getUserId())) {
+            throw new ApiException(403, "The product belongs to another seller");
+        }
+        return product;
+    }
+
+    /**
+     * <p>
+     * Represents the order of the path, the orders of other users are reported as not found
+     * </p>
+     */
+    private Order getOwnOrder(final ApiRequest request) {
+        final Order order = productController.getOrder(request.getPathId());
+
+        if (null == order || !order.getUserId().equals(request.getSession().getUserId())) {
+            throw new ApiException(404, "Order not found");
+        }
+        return order;
+    }
+
+    private static void validate(final User user) {
+        final List<ValidationError> errors = UserRules.USER.validate(user);
+
+        if (!errors.isEmpty()) {
+            throw new ApiException(400, errors.stream().map(ValidationError::getMessage)
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private static int getPageSize(final ApiRequest request) {
+        final int pageSize = request.getQueryInt("size", DEFAULT_PAGE_SIZE);
+
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new ApiException(400, String.format("Page size must be between 1 and %d", MAX_PAGE_SIZE));
+        }
+        return pageSize;
+    }
+
+    private static String getSessionId(final HttpExchange exchange) {
+        final String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+
+        if (null == authorization || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            return null;
+        }
+        final String sessionId = authorization.substring(BEARER.length()).trim();
+
+        return sessionId.isEmpty() ? null : sessionId;
+    }
+
+    /**
+     * <p>
+     * Reads the whole body, so the connection can carry the next request, a body over the limit is refused
+     * </p>
+     */
+    private String readBody(final HttpExchange exchange) throws IOException {
+        try (final InputStream input = exchange.getRequestBody()) {
+            final byte[] body = input.readNBytes(maxBodyBytes + 1);
+
+            if (body.length > maxBodyBytes) {
+                throw new ApiException(413, String.format("The body is larger than %d bytes", maxBodyBytes));
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void send(final HttpExchange exchange, final Response response) throws IOException {
+        try {
+            if (null == response.body) {
+                exchange.sendResponseHeaders(response.status, -1);
+
+                return;
+            }
+            final byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, body.length);
+
+            try (final OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String toJson(final Product product) {
+        final JsonWriter json = new JsonWriter();
+
+        JsonMapper.write(json, product);
+
+        return json.toString();
+    }
+
+    private static String toJson(final Cart cart) {
+        final JsonWriter json = new JsonWriter();
+
+        JsonMapper.write(json, cart);
+
+        return json.toString();
+    }
+
+    private static String toJson(final Order order) {
+        final JsonWriter json = new JsonWriter();
+
+        JsonMapper.write(json, order);
+
+        return json.toString();
+    }
+
+    private static String toJson(final User user) {
+        final JsonWriter json = new JsonWriter();
+
+        JsonMapper.write(json, user);
+
+        return json.toString();
+    }
+
+    private static String toJson(final Session session) {
+        final JsonWriter json = new JsonWriter();
+
+        JsonMapper.write(json, session);
+
+        return json.toString();
+    }
+
+    private static Response ok(final int status, final String body) {
+        return new Response(status, body);
+    }
+
+    private static Response noContent() {
+        return new Response(204, null);
+    }
+
+    private static Response error(final int status, final String message) {
+        return new Response(status, new JsonWriter().beginObject().name("error").value(message).endObject().toString());
+    }
+
+    /**
+     * <p>
+     * Represents an endpoint of the API
+     * </p>
+     */
+    private interface Endpoint {
+
+        Response handle(final ApiRequest request) throws UnavailableQuantityException;
+    }
+
+    /**
+     * <p>
+     * Represents the status and JSON body of a response, the body is null for 204
+     * </p>
+     */
+    private static final class Response {
+
+        private final int status;
+        private final String body;
+
+        private Response(final int status, final String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the method and path of an endpoint, an {id} segment matches a number
+     * </p>
+     */
+    private static final class Route {
+
+        private final String method;
+        private final String[] segments;
+        private final boolean isSignInRequired;
+        private final Endpoint endpoint;
+
+        private Route(final String method, final String[] segments, final boolean isSignInRequired,
+                      final Endpoint endpoint) {
+            this.method = method;
+            this.segments = segments;
+            this.isSignInRequired = isSignInRequired;
+            this.endpoint = endpoint;
+        }
+
+        /**
+         * @return Represents the ids of the {id} segments or null if the path does not match
+         */
+        private List<Long> match(final String[] pathSegments) {
+            if (pathSegments.length != segments.length) {
+                return null;
+            }
+            List<Long> pathIds = Collections.emptyList();
+
+            for (int index = 0; index < segments.length; index++) {
+                if (!"{id}".equals(segments[index])) {
+                    if (!segments[index].equals(pathSegments[index])) {
+                        return null;
+                    }
+                    continue;
+                }
+
+                try {
+                    if (pathIds.isEmpty()) {
+                        pathIds = new ArrayList<>(1);
+                    }
+                    pathIds.add(Long.parseLong(pathSegments[index]));
+                } catch (NumberFormatException exception) {
+                    return null;
+                }
+            }
+            return pathIds;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.amazon.http;
+
+import com.amazon.model.Session;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Represents a request routed to an API endpoint, with the ids taken from its path, its query parameters,
+ * its JSON body and the {@link Session} of the user who sent it
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class ApiRequest {
+
+    private final List<Long> pathIds;
+    private final Map<String, String> query;
+    private final String body;
+    private final String sessionId;
+    private Session session;
+    private Map<String, Object> jsonBody;
+
+    ApiRequest(final List<Long> pathIds, final String rawQuery, final String body, final String sessionId) {
+        this.pathIds = pathIds;
+        this.query = parseQuery(rawQuery);
+        this.body = body;
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * @return Represents the id in the path of the request, the first {id} of the route
+     */
+    public Long getPathId() {
+        return pathIds.get(0);
+    }
+
+    /**
+     * @return Represents the query parameter or null if it is not given
+     */
+    public String getQuery(final String name) {
+        return query.get(name);
+    }
+
+    /**
+     * @return Represents the query parameter as an int, or the default value if it is not given
+     * @throws ApiException if the parameter is not a number
+     */
+    public int getQueryInt(final String name, final int defaultValue) {
+        final String value = query.get(name);
+
+        if (null == value) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException exception) {
+            throw new ApiException(400, String.format("Query parameter %s must be a number", name));
+        }
+    }
+
+    /**
+     * @return Represents the body of the request read as a JSON object
+     * @throws ApiException if the body is missing or is not a JSON object
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getJsonBody() {
+        if (null == jsonBody) {
+            if (null == body || body.isBlank()) {
+                throw new ApiException(400, "The request has no body");
+            }
+            final Object value;
+
+            try {
+                value = JsonReader.read(body);
+            } catch (IllegalArgumentException exception) {
+                throw new ApiException(400, "Malformed JSON: " + exception.getMessage());
+            }
+
+            if (!(value instanceof Map)) {
+                throw new ApiException(400, "The body must be a JSON object");
+            }
+            jsonBody = (Map<String, Object>) value;
+        }
+        return jsonBody;
+    }
+
+    /**
+     * @return Represents the session id given by the Authorization header, or null
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * @return Represents the {@link Session} of the signed in user
+     * @throws ApiException if the request is not signed in or its session has expired
+     */
+    public Session getSession() {
+        if (null == session) {
+            throw new ApiException(401, "Sign in is required");
+        }
+        return session;
+    }
+
+    void setSession(final Session session) {
+        this.session = session;
+    }
+
+    private static Map<String, String> parseQuery(final String rawQuery) {
+        if (null == rawQuery || rawQuery.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> query = new HashMap<>();
+
+        for (final String parameter : rawQuery.split("&")) {
+            final int separator = parameter.indexOf('=');
+
+            if (0 < separator) {
+                query.putIfAbsent(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+}
@@ -0,0 +1,116 @@
+package com.amazon.http;
+
+import com.amazon.dao.impl.DBConfiguration;
+import com.amazon.dao.impl.DBConnection;
+import com.amazon.dao.impl.DaoExecutor;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Represents the embedded HTTP server of the JSON API, built on the HTTP server of the JDK
+ * </p>
+ *
+ * <p>
+ * On a runtime with virtual threads every request runs on a virtual thread of its own, so a request waiting
+ * for a connection of the pool holds no platform thread and the throughput is bound by the cores and the
+ * connection pool only. On older runtimes a fixed pool of platform threads is used, sized to the connection
+ * pool plus one thread per core so the requests that do not wait for the database still run while the
+ * others do. Connections are kept alive between requests, the http.max_idle_connections key sets how many
+ * idle ones are kept open
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class HttpApiServer {
+
+    private static final int STOP_DELAY_SECONDS = 2;
+
+    private final int port;
+    private final int backlog;
+    private final int maxBodyBytes;
+    private HttpServer server;
+    private ExecutorService executor;
+    private boolean isVirtualThreads;
+
+    public HttpApiServer(final DBConfiguration configuration) {
+        port = configuration.getInt("http.port", 8080);
+        backlog = configuration.getInt("http.backlog", 1024);
+        maxBodyBytes = configuration.getInt("http.max_body_bytes", 1 << 20);
+
+        if (null == System.getProperty("sun.net.httpserver.maxIdleConnections")) {
+            System.setProperty("sun.net.httpserver.maxIdleConnections",
+                    Integer.toString(configuration.getInt("http.max_idle_connections", 1000)));
+        }
+    }
+
+    /**
+     * <p>
+     * Opens the connection pool and starts taking requests
+     * </p>
+     *
+     * @throws IOException Represents any error occur while binding the port
+     */
+    public synchronized void start() throws IOException {
+        final int poolSize = DBConnection.getInstance().getStatistics().getMaxSize();
+
+        executor = DaoExecutor.newVirtualThreadExecutor();
+        isVirtualThreads = null != executor;
+
+        if (!isVirtualThreads) {
+            final AtomicInteger threadCount = new AtomicInteger();
+
+            executor = Executors.newFixedThreadPool(poolSize + Runtime.getRuntime().availableProcessors(),
+                    runnable -> new Thread(runnable, "http-api-" + threadCount.incrementAndGet()));
+        }
+        server = HttpServer.create(new InetSocketAddress(port), backlog);
+        server.createContext("/api/", new ApiHandler(maxBodyBytes));
+        server.setExecutor(executor);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "http-api-shutdown"));
+        System.out.printf("HTTP API listening on port %d, requests run on %s\n", getPort(), isVirtualThreads
+                ? "virtual threads" : String.format("%d platform threads", poolSize
+                + Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * <p>
+     * Stops taking requests and lets the running ones finish
+     * </p>
+     */
+    public synchronized void stop() {
+        if (null == server) {
+            return;
+        }
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+
+        try {
+            executor.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    /**
+     * @return Represents the port the server is bound to, the configured port until it is started
+     */
+    public int getPort() {
+        return null == server ? port : server.getAddress().getPort();
+    }
+
+    /**
+     * @return True if the requests run on virtual threads
+     */
+    public boolean isVirtualThreads() {
+        return isVirtualThreads;
+    }
+}
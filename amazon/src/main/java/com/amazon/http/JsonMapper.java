@@ -0,0 +1,220 @@
+package com.amazon.http;
+
+import com.amazon.model.Cart;
+import com.amazon.model.Order;
+import com.amazon.model.Page;
+import com.amazon.model.Product;
+import com.amazon.model.Session;
+import com.amazon.model.User;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Represents the JSON form of the models served by the API, the models are written field by field and the
+ * request bodies are read back into them
+ * </p>
+ *
+ * <p>
+ * The password of a {@link User} is read from a request but never written. The read methods report a missing
+ * or mistyped field by an {@link ApiException} with status 400
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public final class JsonMapper {
+
+    private JsonMapper() {
+    }
+
+    public static void write(final JsonWriter json, final Product product) {
+        json.beginObject()
+                .name("id").value(product.getId())
+                .name("name").value(product.getName())
+                .name("description").value(product.getDescription())
+                .name("price").value(product.getPrice())
+                .name("available").value(product.getAvailable())
+                .name("category").value(product.getCategory())
+                .name("sellerId").value(product.getUserId())
+                .name("updatedTime").value(null == product.getUpdatedTime() ? null
+                        : product.getUpdatedTime().toInstant().toString())
+                .endObject();
+    }
+
+    public static void write(final JsonWriter json, final Cart cart) {
+        json.beginObject()
+                .name("id").value(cart.getId())
+                .name("productId").value(cart.getProductId())
+                .name("productName").value(cart.getProductName())
+                .name("quantity").value(cart.getQuantity())
+                .name("price").value(cart.getPrice())
+                .endObject();
+    }
+
+    public static void write(final JsonWriter json, final Order order) {
+        json.beginObject()
+                .name("id").value(order.getId())
+                .name("productId").value(order.getProductId())
+                .name("productName").value(order.getProductName())
+                .name("quantity").value(order.getQuantity())
+                .name("price").value(order.getPrice())
+                .name("paymentType").value(order.getPaymentType())
+                .endObject();
+    }
+
+    /**
+     * <p>
+     * Writes the profile of the user, the password is left out
+     * </p>
+     */
+    public static void write(final JsonWriter json, final User user) {
+        json.beginObject()
+                .name("id").value(user.getId())
+                .name("name").value(user.getName())
+                .name("email").value(user.getEmail())
+                .name("phoneNumber").value(user.getPhoneNumber())
+                .name("address").value(user.getAddress())
+                .endObject();
+    }
+
+    public static void write(final JsonWriter json, final Session session) {
+        json.beginObject().name("token").value(session.getId()).name("user");
+        write(json, session.getUser());
+        json.endObject();
+    }
+
+    public static <T> void write(final JsonWriter json, final Collection<T> items,
+                                 final BiConsumer<JsonWriter, T> itemWriter) {
+        json.beginArray();
+
+        for (final T item : items) {
+            itemWriter.accept(json, item);
+        }
+        json.endArray();
+    }
+
+    /**
+     * <p>
+     * Writes the items of the page with the cursor of the next page, the cursor is null on the last page
+     * </p>
+     */
+    public static <T> void write(final JsonWriter json, final Page<T> page, final BiConsumer<JsonWriter, T> itemWriter) {
+        json.beginObject().name("items");
+        write(json, page.getItems(), itemWriter);
+        json.name("nextCursor").value(page.getNextCursor()).endObject();
+    }
+
+    /**
+     * <p>
+     * Reads the given fields of the body onto the product, the fields left out keep their value
+     * </p>
+     */
+    public static Product readProduct(final Map<String, Object> body, final Product product) {
+        if (body.containsKey("name")) {
+            product.setName(getString(body, "name", true));
+        }
+
+        if (body.containsKey("description")) {
+            product.setDescription(getString(body, "description", false));
+        }
+
+        if (body.containsKey("price")) {
+            product.setPrice(getDouble(body, "price"));
+        }
+
+        if (body.containsKey("available")) {
+            product.setAvailable(getLong(body, "available"));
+        }
+
+        if (body.containsKey("category")) {
+            product.setCategory(getEnum(body, "category", Product.Category.class));
+        }
+        return product;
+    }
+
+    /**
+     * <p>
+     * Reads the given fields of the body onto the user, the fields left out keep their value
+     * </p>
+     */
+    public static User readUser(final Map<String, Object> body, final User user) {
+        if (body.containsKey("name")) {
+            user.setName(getString(body, "name", true));
+        }
+
+        if (body.containsKey("email")) {
+            user.setEmail(getString(body, "email", true));
+        }
+
+        if (body.containsKey("password")) {
+            user.setPassword(getString(body, "password", true));
+        }
+
+        if (body.containsKey("phoneNumber")) {
+            user.setPhoneNumber(getString(body, "phoneNumber", true));
+        }
+
+        if (body.containsKey("address")) {
+            user.setAddress(getString(body, "address", true));
+        }
+        return user;
+    }
+
+    /**
+     * @return Represents the string field, or null if an optional field is null or left out
+     */
+    public static String getString(final Map<String, Object> body, final String name, final boolean isRequired) {
+        final Object value = body.get(name);
+
+        if (value instanceof String) {
+            return (String) value;
+        }
+
+        if (null == value && !isRequired) {
+            return null;
+        }
+        throw invalid(name, "a string");
+    }
+
+    public static Long getLong(final Map<String, Object> body, final String name) {
+        final Object value = body.get(name);
+
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        throw invalid(name, "a whole number");
+    }
+
+    public static Double getDouble(final Map<String, Object> body, final String name) {
+        final Object value = body.get(name);
+
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        throw invalid(name, "a number");
+    }
+
+    /**
+     * @return Represents the enum constant named by the field, the name is matched ignoring case
+     */
+    public static <E extends Enum<E>> E getEnum(final Map<String, Object> body, final String name, final Class<E> type) {
+        final Object value = body.get(name);
+
+        if (value instanceof String) {
+            for (final E constant : type.getEnumConstants()) {
+                if (constant.name().equalsIgnoreCase((String) value)) {
+                    return constant;
+                }
+            }
+        }
+        throw invalid(name, "one of " + Arrays.toString(type.getEnumConstants()));
+    }
+
+    private static ApiException invalid(final String name, final String expected) {
+        return new ApiException(400, String.format("Field %s must be %s", name, expected));
+    }
+}
@@ -0,0 +1,278 @@
+package com.amazon.http;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Represents a reader of one JSON document, objects are read into a {@link Map}, arrays into a {@link List},
+ * numbers into a {@link Long} or {@link Double}, and true, false and null into a {@link Boolean} or null
+ * </p>
+ *
+ * <p>
+ * The document is read from a string that is already in memory, a malformed document is reported by an
+ * {@link IllegalArgumentException} with the position of the error
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public final class JsonReader {
+
+    private static final int MAX_DEPTH = 64;
+
+    private final String json;
+    private int position;
+    private int depth;
+
+    private JsonReader(final String json) {
+        this.json = json;
+    }
+
+    /**
+     * @param json Represents the JSON document
+     * @return Represents the value of the document
+     */
+    public static Object read(final String json) {
+        final JsonReader reader = new JsonReader(json);
+        final Object value = reader.readValue();
+
+        reader.skipWhitespace();
+
+        if (reader.position != json.length()) {
+            throw reader.error("Unexpected text after the document");
+        }
+        return value;
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+
+        if (position == json.length()) {
+            throw error("Unexpected end of the document");
+        }
+        final char character = json.charAt(position);
+
+        switch (character) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                return readLiteral("true", Boolean.TRUE);
+            case 'f':
+                return readLiteral("false", Boolean.FALSE);
+            case 'n':
+                return readLiteral("null", null);
+            default:
+                if ('-' == character || isDigit(character)) {
+                    return readNumber();
+                }
+                throw error("Unexpected character '" + character + "'");
+        }
+    }
+
+    private Map<String, Object> readObject() {
+        final Map<String, Object> object = new LinkedHashMap<>();
+
+        enter();
+        position++;
+        skipWhitespace();
+
+        if (consume('}')) {
+            depth--;
+
+            return object;
+        }
+
+        do {
+            skipWhitespace();
+
+            if (position == json.length() || '"' != json.charAt(position)) {
+                throw error("Expected a member name");
+            }
+            final String name = readString();
+
+            skipWhitespace();
+            expect(':');
+            object.put(name, readValue());
+            skipWhitespace();
+        } while (consume(','));
+        expect('}');
+        depth--;
+
+        return object;
+    }
+
+    private List<Object> readArray() {
+        final List<Object> array = new ArrayList<>();
+
+        enter();
+        position++;
+        skipWhitespace();
+
+        if (consume(']')) {
+            depth--;
+
+            return array;
+        }
+
+        do {
+            array.add(readValue());
+            skipWhitespace();
+        } while (consume(','));
+        expect(']');
+        depth--;
+
+        return array;
+    }
+
+    private String readString() {
+        final StringBuilder value = new StringBuilder();
+
+        position++;
+
+        while (position < json.length()) {
+            final char character = json.charAt(position++);
+
+            if ('"' == character) {
+                return value.toString();
+            }
+
+            if ('\\' != character) {
+                if (character < 0x20) {
+                    throw error("Unescaped control character in a string");
+                }
+                value.append(character);
+                continue;
+            }
+
+            if (position == json.length()) {
+                break;
+            }
+            final char escaped = json.charAt(position++);
+
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    value.append(escaped);
+                    break;
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'u':
+                    if (position + 4 > json.length()) {
+                        throw error("Incomplete unicode escape");
+                    }
+
+                    try {
+                        value.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                    } catch (NumberFormatException exception) {
+                        throw error("Invalid unicode escape");
+                    }
+                    position += 4;
+                    break;
+                default:
+                    throw error("Invalid escape '\\" + escaped + "'");
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private Number readNumber() {
+        final int start = position;
+        boolean isDecimal = false;
+
+        while (position < json.length()) {
+            final char character = json.charAt(position);
+
+            if ('.' == character || 'e' == character || 'E' == character) {
+                isDecimal = true;
+            } else if (!isDigit(character) && '-' != character && '+' != character) {
+                break;
+            }
+            position++;
+        }
+        final String number = json.substring(start, position);
+
+        try {
+            return isDecimal ? (Number) Double.valueOf(number) : (Number) Long.valueOf(number);
+        } catch (NumberFormatException exception) {
+            position = start;
+
+            throw error("Invalid number '" + number + "'");
+        }
+    }
+
+    /**
+     * <p>
+     * Represents whether the character is an ASCII digit, the only digits JSON allows. Other Unicode digits
+     * are refused here since {@link Long#valueOf(String)} would read them as numbers
+     * </p>
+     */
+    private static boolean isDigit(final char character) {
+        return '0' <= character && character <= '9';
+    }
+
+    private Object readLiteral(final String literal, final Object value) {
+        if (!json.startsWith(literal, position)) {
+            throw error("Unexpected literal");
+        }
+        position += literal.length();
+
+        return value;
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw error("The document is nested too deep");
+        }
+    }
+
+    private boolean consume(final char character) {
+        if (position < json.length() && character == json.charAt(position)) {
+            position++;
+
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(final char character) {
+        if (!consume(character)) {
+            throw error("Expected '" + character + "'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length()) {
+            final char character = json.charAt(position);
+
+            if (' ' != character && '\t' != character && '\n' != character && '\r' != character) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(final String message) {
+        return new IllegalArgumentException(String.format("%s at position %d", message, position));
+    }
+}
@@ -0,0 +1,157 @@
+package com.amazon.http;
+
+/**
+ * <p>
+ * Represents a writer of one JSON document into a string, the values are appended as they are given
+ * </p>
+ *
+ * <p>
+ * The writer keeps whether the current object or array already has a member and adds the commas, it does not
+ * check that the names and values are given in a valid order. Null values are written as null
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class JsonWriter {
+
+    private final StringBuilder json;
+    private boolean[] hasMembers;
+    private int depth;
+
+    public JsonWriter() {
+        json = new StringBuilder(256);
+        hasMembers = new boolean[8];
+    }
+
+    public JsonWriter beginObject() {
+        return begin('{');
+    }
+
+    public JsonWriter endObject() {
+        return end('}');
+    }
+
+    public JsonWriter beginArray() {
+        return begin('[');
+    }
+
+    public JsonWriter endArray() {
+        return end(']');
+    }
+
+    public JsonWriter name(final String name) {
+        separate();
+        writeString(name);
+        json.append(':');
+        hasMembers[depth] = false;
+
+        return this;
+    }
+
+    public JsonWriter value(final String value) {
+        separate();
+
+        if (null == value) {
+            json.append("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    public JsonWriter value(final Number value) {
+        separate();
+
+        if (value instanceof Double && !Double.isFinite((Double) value)) {
+            json.append("null");
+        } else {
+            json.append(value);
+        }
+        return this;
+    }
+
+    public JsonWriter value(final boolean value) {
+        separate();
+        json.append(value);
+
+        return this;
+    }
+
+    public JsonWriter value(final Enum<?> value) {
+        return value(null == value ? null : value.name());
+    }
+
+    public String toString() {
+        return json.toString();
+    }
+
+    private JsonWriter begin(final char bracket) {
+        separate();
+        json.append(bracket);
+
+        if (++depth == hasMembers.length) {
+            final boolean[] grown = new boolean[hasMembers.length * 2];
+
+            System.arraycopy(hasMembers, 0, grown, 0, hasMembers.length);
+            hasMembers = grown;
+        }
+        hasMembers[depth] = false;
+
+        return this;
+    }
+
+    private JsonWriter end(final char bracket) {
+        json.append(bracket);
+        depth--;
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Adds the comma before every member but the first, a value right after its name is not a new member
+     * </p>
+     */
+    private void separate() {
+        final char last = 0 == json.length() ? 0 : json.charAt(json.length() - 1);
+
+        if (hasMembers[depth] && ':' != last) {
+            json.append(',');
+        }
+        hasMembers[depth] = true;
+    }
+
+    private void writeString(final String value) {
+        json.append('"');
+
+        for (int index = 0; index < value.length(); index++) {
+            final char character = value.charAt(index);
+
+            switch (character) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20 || character == '\u2028' || character == '\u2029') {
+                        json.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        json.append(character);
+                    }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,250 @@
+package com.amazon.metrics;
+
+import com.amazon.dao.impl.DBConfiguration;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * <p>
+ * Represents the latency histograms and error counts of every instrumented DAO method and of the connection
+ * pool waits
+ * </p>
+ *
+ * <p>
+ * A DAO is instrumented by wrapping it in a proxy of its interface that times every call. The time a call
+ * spends in the pool is handed in by the connection pool and taken off the query time of the call, it is kept
+ * per thread so the calls of other threads do not mix in. A method returning a stream is timed until the
+ * stream is returned, not until it is read. Every method is published as a JMX MBean under the com.amazon
+ * domain next to this one, and the same numbers are printed as a plain text table by {@link #dump()}. The
+ * metrics.enabled key turns the instrumentation off, the DAOs are then used without the proxy
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class DaoMetrics implements DaoMetricsMBean {
+
+    private static final String DOMAIN = "com.amazon";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static DaoMetrics DAO_METRICS;
+
+    private final boolean isEnabled;
+    private final Map<String, OperationMetrics> operations;
+    private final LatencyHistogram poolWaitTime;
+    private final ThreadLocal<long[]> threadPoolWaits;
+
+    private DaoMetrics(final boolean isEnabled) {
+        this.isEnabled = isEnabled;
+        operations = new ConcurrentSkipListMap<>();
+        poolWaitTime = new LatencyHistogram();
+        threadPoolWaits = ThreadLocal.withInitial(() -> new long[2]);
+    }
+
+    /**
+     * <p>
+     * Represents the object of {@link DaoMetrics} can be created for only once, it is turned on or off by the
+     * metrics.enabled key
+     * </p>
+     *
+     * @return Represents {@link DaoMetrics}
+     */
+    public static synchronized DaoMetrics getInstance() {
+        if (null == DAO_METRICS) {
+            DAO_METRICS = new DaoMetrics(DBConfiguration.getInstance().getBoolean("metrics.enabled", true));
+
+            if (DAO_METRICS.isEnabled) {
+                register("type=DaoMetrics", DAO_METRICS);
+            }
+        }
+        return DAO_METRICS;
+    }
+
+    /**
+     * <p>
+     * Wraps the DAO in a proxy that records every call of the methods of its interface
+     * </p>
+     *
+     * @param type   Represents the DAO interface
+     * @param target Represents the DAO implementation
+     * @return Represents the instrumented DAO, or the DAO itself if the metrics are turned off
+     */
+    public <T> T instrument(final Class<T> type, final T target) {
+        if (!isEnabled) {
+            return target;
+        }
+        final Map<String, Integer> nameCounts = new HashMap<>();
+        final Map<Method, OperationMetrics> methods = new HashMap<>();
+
+        for (final Method method : type.getMethods()) {
+            nameCounts.merge(method.getName(), 1, Integer::sum);
+        }
+
+        for (final Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            final String methodName = 1 == nameCounts.get(method.getName()) ? method.getName() : getOverloadName(method);
+            final OperationMetrics operation = new OperationMetrics(type.getSimpleName() + "." + methodName);
+
+            operations.put(operation.getName(), operation);
+            methods.put(method, operation);
+            register(String.format("type=DaoOperation,dao=%s,name=%s", type.getSimpleName(), methodName), operation);
+        }
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new MetricsHandler(target, methods)));
+    }
+
+    /**
+     * <p>
+     * Records the time a connection was waited for, called by the connection pool on the waiting thread
+     * </p>
+     *
+     * @param waitNanos Represents the wait in nanoseconds
+     */
+    public void recordPoolWait(final long waitNanos) {
+        if (!isEnabled) {
+            return;
+        }
+        final long[] poolWaits = threadPoolWaits.get();
+
+        poolWaitTime.record(waitNanos);
+        poolWaits[0] += waitNanos;
+        poolWaits[1]++;
+    }
+
+    public long getPoolWaitCount() {
+        return poolWaitTime.getCount();
+    }
+
+    public double getPoolWaitMeanMillis() {
+        return poolWaitTime.getMeanNanos() / NANOS_PER_MILLI;
+    }
+
+    public double getPoolWaitP99Millis() {
+        return poolWaitTime.getPercentileMillis(99);
+    }
+
+    public double getPoolWaitMaxMillis() {
+        return poolWaitTime.getMaxNanos() / NANOS_PER_MILLI;
+    }
+
+    public String dump() {
+        return toString();
+    }
+
+    public void reset() {
+        poolWaitTime.reset();
+        operations.values().forEach(OperationMetrics::reset);
+    }
+
+    public String toString() {
+        if (!isEnabled) {
+            return "dao metrics are turned off\n";
+        }
+        final StringBuilder table = new StringBuilder(String.format("%-45s %9s %7s %9s %9s %9s %9s %9s %9s %9s %9s\n",
+                "operation", "calls", "errors", "mean ms", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms",
+                "wait ms", "wait p99"));
+
+        for (final OperationMetrics operation : operations.values()) {
+            if (0 < operation.getCallCount()) {
+                table.append(operation).append('\n');
+            }
+        }
+        return table.append(String.format("pool waits : %d, mean %.3f ms, p99 %.3f ms, max %.3f ms\n",
+                getPoolWaitCount(), getPoolWaitMeanMillis(), getPoolWaitP99Millis(), getPoolWaitMaxMillis())).toString();
+    }
+
+    /**
+     * @return Represents the method name followed by its parameter types, so the overloads get their own metrics
+     */
+    private static String getOverloadName(final Method method) {
+        final StringBuilder name = new StringBuilder(method.getName());
+
+        for (final Class<?> parameterType : method.getParameterTypes()) {
+            name.append('-').append(parameterType.getSimpleName());
+        }
+        return name.toString();
+    }
+
+    /**
+     * <p>
+     * Registers the MBean under the com.amazon domain, replacing an MBean left under the same name
+     * </p>
+     */
+    private static void register(final String properties, final Object mBean) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            final ObjectName objectName = new ObjectName(DOMAIN + ":" + properties);
+
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(mBean, objectName);
+        } catch (JMException exception) {
+            exception.printStackTrace();
+        }
+    }
+
+    /**
+     * <p>
+     * Times the calls of the proxy, the methods of {@link Object} are passed on untimed
+     * </p>
+     */
+    private class MetricsHandler implements InvocationHandler {
+
+        private final Object target;
+        private final Map<Method, OperationMetrics> methods;
+
+        private MetricsHandler(final Object target, final Map<Method, OperationMetrics> methods) {
+            this.target = target;
+            this.methods = methods;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final OperationMetrics operation = methods.get(method);
+
+            if (null == operation) {
+                return invokeTarget(method, args);
+            }
+            final long[] poolWaits = threadPoolWaits.get();
+            final long waitBefore = poolWaits[0];
+            final long acquiresBefore = poolWaits[1];
+            final long start = System.nanoTime();
+            boolean isFailed = true;
+
+            try {
+                final Object result = invokeTarget(method, args);
+
+                isFailed = false;
+
+                return result;
+            } finally {
+                final long waitNanos = poolWaits[0] - waitBefore;
+
+                operation.record(System.nanoTime() - start - waitNanos, poolWaits[1] > acquiresBefore ? waitNanos : -1,
+                        isFailed);
+            }
+        }
+
+        private Object invokeTarget(final Method method, final Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.amazon.metrics;
+
+/**
+ * <p>
+ * Represents the JMX view of the {@link DaoMetrics}, the times are in milliseconds
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public interface DaoMetricsMBean {
+
+    long getPoolWaitCount();
+
+    double getPoolWaitMeanMillis();
+
+    double getPoolWaitP99Millis();
+
+    double getPoolWaitMaxMillis();
+
+    /**
+     * @return Represents the plain text table of every DAO method that was called
+     */
+    String dump();
+
+    void reset();
+}
@@ -0,0 +1,149 @@
+package com.amazon.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Represents a concurrent histogram of latencies in nanoseconds with a fixed footprint however many values
+ * are recorded
+ * </p>
+ *
+ * <p>
+ * Values below 256 nanoseconds have a bucket each, above that every power of two is split into 128 buckets,
+ * so a percentile is reported within 1% of the recorded value. Values above about 18 minutes fall in the
+ * last bucket. Recording is a few atomic increments and takes no lock, reading a percentile walks the
+ * buckets of a moment and may miss values recorded meanwhile
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder totalNanos;
+    private final LongAccumulator maxNanos;
+
+    public LatencyHistogram() {
+        buckets = new AtomicLongArray(BUCKET_COUNT);
+        count = new LongAdder();
+        totalNanos = new LongAdder();
+        maxNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * @param nanos Represents the latency in nanoseconds, negative values are recorded as 0
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+
+        buckets.incrementAndGet(getBucket(value));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public double getMeanNanos() {
+        final long currentCount = count.sum();
+
+        return 0 == currentCount ? 0 : (double) totalNanos.sum() / currentCount;
+    }
+
+    /**
+     * @param percentile Represents the percentile between 0 and 100, for example 99.9
+     * @return Represents the highest latency of the bucket the percentile falls in, 0 if nothing is recorded
+     */
+    public long getPercentileNanos(final double percentile) {
+        long total = 0;
+
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            total += buckets.get(bucket);
+        }
+
+        if (0 == total) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+        long seen = 0;
+
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += buckets.get(bucket);
+
+            if (seen >= rank) {
+                return Math.min(getHighestValue(bucket), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    public double getPercentileMillis(final double percentile) {
+        return getPercentileNanos(percentile) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * <p>
+     * Clears the recorded values, values recorded while it runs may be partly kept
+     * </p>
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            buckets.set(bucket, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    private static int getBucket(final long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long getHighestValue(final int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+
+        if (BUCKET_COUNT - 1 == bucket) {
+            return Long.MAX_VALUE;
+        }
+        final int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+        final long subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKET_COUNT;
+        final int shift = exponent - SUB_BUCKET_BITS;
+
+        return ((1L << exponent) | (subBucket << shift)) + (1L << shift) - 1;
+    }
+
+    public String toString() {
+        return String.format("count : %d\nmean : %.3f ms\np50 : %.3f ms\np95 : %.3f ms\np99 : %.3f ms\np999 : %.3f ms\nmax : %.3f ms\n",
+                getCount(), getMeanNanos() / 1_000_000, getPercentileMillis(50), getPercentileMillis(95),
+                getPercentileMillis(99), getPercentileMillis(99.9), getMaxNanos() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,114 @@
+package com.amazon.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Represents the call count, error count and latencies of one DAO method
+ * </p>
+ *
+ * <p>
+ * The time spent waiting for a pooled connection is kept apart from the rest of the call, so the query time
+ * of a method does not grow when the pool runs dry and the pool wait shows which methods suffer from it
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class OperationMetrics implements OperationMetricsMBean {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String name;
+    private final LatencyHistogram queryTime;
+    private final LatencyHistogram poolWaitTime;
+    private final LongAdder errorCount;
+
+    public OperationMetrics(final String name) {
+        this.name = name;
+        queryTime = new LatencyHistogram();
+        poolWaitTime = new LatencyHistogram();
+        errorCount = new LongAdder();
+    }
+
+    /**
+     * @param queryNanos    Represents the time of the call without the pool wait
+     * @param poolWaitNanos Represents the time the call waited for connections, negative if it took none
+     * @param isFailed      True if the call threw
+     */
+    public void record(final long queryNanos, final long poolWaitNanos, final boolean isFailed) {
+        queryTime.record(queryNanos);
+
+        if (0 <= poolWaitNanos) {
+            poolWaitTime.record(poolWaitNanos);
+        }
+
+        if (isFailed) {
+            errorCount.increment();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCallCount() {
+        return queryTime.getCount();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    public double getMeanMillis() {
+        return queryTime.getMeanNanos() / NANOS_PER_MILLI;
+    }
+
+    public double getP50Millis() {
+        return queryTime.getPercentileMillis(50);
+    }
+
+    public double getP95Millis() {
+        return queryTime.getPercentileMillis(95);
+    }
+
+    public double getP99Millis() {
+        return queryTime.getPercentileMillis(99);
+    }
+
+    public double getP999Millis() {
+        return queryTime.getPercentileMillis(99.9);
+    }
+
+    public double getMaxMillis() {
+        return queryTime.getMaxNanos() / NANOS_PER_MILLI;
+    }
+
+    public long getPoolWaitCount() {
+        return poolWaitTime.getCount();
+    }
+
+    public double getPoolWaitMeanMillis() {
+        return poolWaitTime.getMeanNanos() / NANOS_PER_MILLI;
+    }
+
+    public double getPoolWaitP99Millis() {
+        return poolWaitTime.getPercentileMillis(99);
+    }
+
+    public double getPoolWaitMaxMillis() {
+        return poolWaitTime.getMaxNanos() / NANOS_PER_MILLI;
+    }
+
+    public void reset() {
+        queryTime.reset();
+        poolWaitTime.reset();
+        errorCount.reset();
+    }
+
+    public String toString() {
+        return String.format("%-45s %9d %7d %9.3f %9.3f %9.3f %9.3f %9.3f %9.3f %9.3f %9.3f", name, getCallCount(),
+                getErrorCount(), getMeanMillis(), getP50Millis(), getP95Millis(), getP99Millis(), getP999Millis(),
+                getMaxMillis(), getPoolWaitMeanMillis(), getPoolWaitP99Millis());
+    }
+}
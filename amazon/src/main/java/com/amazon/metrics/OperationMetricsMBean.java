@@ -0,0 +1,40 @@
+package com.amazon.metrics;
+
+/**
+ * <p>
+ * Represents the JMX view of the {@link OperationMetrics} of one DAO method, the times are in milliseconds
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public interface OperationMetricsMBean {
+
+    String getName();
+
+    long getCallCount();
+
+    long getErrorCount();
+
+    double getMeanMillis();
+
+    double getP50Millis();
+
+    double getP95Millis();
+
+    double getP99Millis();
+
+    double getP999Millis();
+
+    double getMaxMillis();
+
+    long getPoolWaitCount();
+
+    double getPoolWaitMeanMillis();
+
+    double getPoolWaitP99Millis();
+
+    double getPoolWaitMaxMillis();
+
+    void reset();
+}
@@ -0,0 +1,54 @@
+package com.amazon.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p> Represents the outcome of a bulk operation, row by row in the order the rows were given </p>
+ *
+ * @author Roshan
+ * @version 1.0
+ */
+public class BatchResult {
+
+    private final List<Long> ids;
+    private final Map<Integer, String> failures;
+
+    public BatchResult(final int size) {
+        ids = new ArrayList<>(Collections.nCopies(size, null));
+        failures = new TreeMap<>();
+    }
+
+    public void setId(final int row, final Long id) {
+        ids.set(row, id);
+    }
+
+    public void addFailure(final int row, final String reason) {
+        failures.put(row, reason);
+    }
+
+    /**
+     * @return Represents the generated id of every row, null for the rows that failed
+     */
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    /**
+     * @return Represents the failure reason of every rejected row keyed by the row index
+     */
+    public Map<Integer, String> getFailures() {
+        return failures;
+    }
+
+    public int getSuccessCount() {
+        return ids.size() - failures.size();
+    }
+
+    public String toString() {
+        return String.format("rows : %d\nsucceeded : %d\nfailed : %d\n", ids.size(), getSuccessCount(), failures.size());
+    }
+}
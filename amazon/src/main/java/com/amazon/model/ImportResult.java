@@ -0,0 +1,43 @@
+package com.amazon.model;
+
+/**
+ * <p> Represents the outcome of a bulk import, the rejected rows themselves are written to the report of the import </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class ImportResult {
+
+    private final long rowCount;
+    private final long importedCount;
+    private final long rejectedCount;
+    private final long elapsedMillis;
+
+    public ImportResult(final long rowCount, final long importedCount, final long rejectedCount, final long elapsedMillis) {
+        this.rowCount = rowCount;
+        this.importedCount = importedCount;
+        this.rejectedCount = rejectedCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public String toString() {
+        return String.format("rows : %d\nimported : %d\nrejected : %d\ntime : %d ms\n", rowCount, importedCount,
+                rejectedCount, elapsedMillis);
+    }
+}
@@ -0,0 +1,97 @@
+package com.amazon.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * <p> Represents one page of a listing together with the cursor of the next page </p>
+ *
+ * <p>
+ * The cursor is opaque to callers, it holds the id of the last row of the page so the next page
+ * continues after it instead of skipping rows with an offset
+ * </p>
+ *
+ * @param <T> Represents the type of the rows
+ * @author Roshan
+ * @version 1.0
+ */
+public class Page<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public Page(final List<T> items, final String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return Represents the cursor of the next page or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return null != nextCursor;
+    }
+
+    /**
+     * <p>
+     * Represents the cursor that continues after the given id
+     * </p>
+     *
+     * @param lastId Represents the id of the last row returned
+     * @return Represents the opaque cursor
+     */
+    public static String encodeCursor(final long lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * <p>
+     * Represents the id a cursor continues after, a null cursor starts from the beginning
+     * </p>
+     *
+     * @param cursor Represents the opaque cursor
+     * @return Represents the last id returned before the cursor
+     * @throws IllegalArgumentException if the cursor was not created by {@link #encodeCursor(long)}
+     */
+    public static long decodeCursor(final String cursor) {
+        if (null == cursor) {
+            return 0;
+        }
+
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("Invalid page cursor " + cursor);
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the page size checked before a page is read, a page holds at least one item so the cursor of
+     * the next page always moves forward
+     * </p>
+     *
+     * @param pageSize Represents the maximum number of items in the page
+     * @return Represents the page size
+     * @throws IllegalArgumentException if the page size is less than one
+     */
+    public static int requirePageSize(final int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Invalid page size " + pageSize);
+        }
+        return pageSize;
+    }
+
+    public String toString() {
+        return String.format("%s\n%s", items, hasNext() ? "more rows available" : "end of list");
+    }
+}
@@ -0,0 +1,42 @@
+package com.amazon.model;
+
+/**
+ * <p> Represents the session of a signed in {@link User} </p>
+ *
+ * <p>
+ * The session carries the id and the profile of the user so the views do not look the user up again for
+ * every action. The profile never holds the password
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class Session {
+
+    private final String id;
+    private final User user;
+
+    public Session(final String id, final User user) {
+        this.id = id;
+        this.user = user;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return user.getId();
+    }
+
+    /**
+     * @return Represents the profile of the {@link User} without the password
+     */
+    public User getUser() {
+        return user;
+    }
+
+    public String toString() {
+        return user.toString();
+    }
+}
@@ -62,6 +62,21 @@ public class User {
         return phoneNumber;
     }
 
+    /**
+     * @return Represents a copy of the user without the password
+     */
+    public User getProfile() {
+        final User profile = new User();
+
+        profile.setId(id);
+        profile.setName(name);
+        profile.setEmail(email);
+        profile.setAddress(address);
+        profile.setPhoneNumber(phoneNumber);
+
+        return profile;
+    }
+
     public String toString() {
         return String.format("user id -%d\nusername - %s\nemail -%s\naddress - %s\nphone no - %s\n", id, name, email, address, phoneNumber);
     }
@@ -0,0 +1,268 @@
+package com.amazon.service;
+
+import com.amazon.service.Impl2.AsyncProductServiceImpl2;
+import com.amazon.exception.UnavailableQuantityException;
+import com.amazon.model.BatchResult;
+import com.amazon.model.Cart;
+import com.amazon.model.Order;
+import com.amazon.model.Page;
+import com.amazon.model.Product;
+import com.amazon.model.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>
+ * Provides asynchronous services for {@link Product}, every operation of {@link ProductService} returns a
+ * {@link CompletableFuture} instead of blocking the caller
+ * </p>
+ *
+ * @author Roshan
+ * @version 1.0
+ */
+public interface AsyncProductService {
+
+    /**
+     * <p>
+     * Represents the {@link AsyncProductService} interface implemented class object can be created for only one time
+     * </p>
+     *
+     * @return Represents the object of {@link AsyncProductServiceImpl2}
+     */
+    static AsyncProductService getInstance() {
+        return AsyncProductServiceImpl2.getInstance();
+    }
+
+    /**
+     * <p>
+     * Adds the product to the product list, asynchronously
+     * </p>
+     *
+     * @param product Represents {@link Product}
+     * @return Represents the {@link CompletableFuture} of True if the {@link Product} is added successfully
+     */
+    CompletableFuture<Boolean> add(final Product product);
+
+    /**
+     * <p>
+     * Adds the products to the product list in batches, asynchronously
+     * </p>
+     *
+     * @param products Represents the {@link Product} list to add
+     * @return Represents the {@link CompletableFuture} of the generated id and the failure reason of every row
+     */
+    CompletableFuture<BatchResult> addAll(final List<Product> products);
+
+    /**
+     * <p>
+     * Provides the collection view of the products value, asynchronously
+     * </p>
+     *
+     * @return Represents the {@link CompletableFuture} of Collection view of {@link Product}
+     */
+    CompletableFuture<Collection<Product>> getAllProducts();
+
+    /**
+     * <p>
+     * Provides one page of the products ordered by id, asynchronously
+     * </p>
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link CompletableFuture} of the {@link Page} of {@link Product}
+     */
+    CompletableFuture<Page<Product>> getProductPage(final String cursor, final int pageSize);
+
+    /**
+     * <p>
+     * Represents the product details that the user create, asynchronously
+     * </p>
+     *
+     * @param userId Represents admin id
+     * @return Represents the {@link CompletableFuture} of {@link Product} list created by the user
+     */
+    CompletableFuture<Map<Long, Product>> getUserProduct(final Long userId);
+
+    /**
+     * <p>
+     * Provides one page of the products that the user create ordered by id, asynchronously
+     * </p>
+     *
+     * @param userId   Represents admin id
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link CompletableFuture} of the {@link Page} of {@link Product} created by the user
+     */
+    CompletableFuture<Page<Product>> getUserProductPage(final Long userId, final String cursor, final int pageSize);
+
+    /**
+     * <p>
+     * Gets the product from product list using productId, asynchronously
+     * </p>
+     *
+     * @param productId product id of the product object
+     * @return Represents the {@link CompletableFuture} of {@link Product} in product list
+     */
+    CompletableFuture<Product> get(final Long productId);
+
+    /**
+     * <p>
+     * Updates product object in product list, asynchronously
+     * </p>
+     *
+     * @param id      Product id of the product
+     * @param product Represent {@link Product}
+     * @return Represents the {@link CompletableFuture} of True if the {@link Product} is updated successfully
+     */
+    CompletableFuture<Boolean> update(final Long id, final Product product);
+
+    /**
+     * <p>
+     * Deletes the product object from the product list, asynchronously
+     * </p>
+     *
+     * @param id id of the product object
+     * @return Represents the {@link CompletableFuture} of True if the {@link Product} is deleted successfully
+     */
+    CompletableFuture<Boolean> delete(final Long id);
+
+    /**
+     * <p>
+     * Represents adding the product to cart list, asynchronously
+     * </p>
+     *
+     * @param cart Represents {@link Cart}
+     * @return Represents the {@link CompletableFuture} of True if the product is added to cart successfully
+     */
+    CompletableFuture<Boolean> addToCart(final Cart cart);
+
+    /**
+     * <p>
+     * Represents the Product details from the cart for a particular user, asynchronously
+     * </p>
+     *
+     * @param userId Represents the id of {@link User}
+     * @return Represents the {@link CompletableFuture} of Collection of products from the cart
+     */
+    CompletableFuture<List<Cart>> getCartList(final Long userId);
+
+    /**
+     * <p>
+     * Represents the particular id details of entered cart id, asynchronously
+     * </p>
+     *
+     * @param id Represents the id of the cart
+     * @return Represents the {@link CompletableFuture} of {@link Cart}
+     */
+    CompletableFuture<Cart> getCart(final Long id);
+
+    /**
+     * <p>
+     * Represents the removal of product for the particular cart id, asynchronously
+     * </p>
+     *
+     * @param cartId Represents the id of the cart
+     * @return Represents the {@link CompletableFuture} of True if the Product is removed successfully
+     */
+    CompletableFuture<Boolean> removeCart(final Long cartId);
+
+    /**
+     * <p>
+     * Represents the product id's of the user's cart, asynchronously
+     * </p>
+     *
+     * @param userId Represents the id of the {@link User}
+     * @return Represents the {@link CompletableFuture} of List of product id's
+     */
+    CompletableFuture<List<Long>> getCartProductIds(final Long userId);
+
+    /**
+     * <p>
+     * Represents updating the quantity of product in {@link Cart}, asynchronously
+     * </p>
+     *
+     * @param quantity  Quantity need to add with available products
+     * @param productId Represents the id of the product need to update the quantity
+     * @return Represents the {@link CompletableFuture} of True if the product quantity updated successfully
+     */
+    CompletableFuture<Boolean> updateQuantityInCart(final Long quantity, final Long productId);
+
+    /**
+     * <p>
+     * Represents updating the quantity of product in {@link Product}, asynchronously
+     * </p>
+     *
+     * @param quantity  Quantity need to add with available products
+     * @param productId Represents the id of the product need to update the quantity
+     * @return Represents the {@link CompletableFuture} of True if the product quantity updated successfully
+     */
+    CompletableFuture<Boolean> updateQuantityInProduct(final Long quantity, final Long productId);
+
+    /**
+     * <p>
+     * Represents the order of {@link Product}, asynchronously
+     * </p>
+     *
+     * @param order Represents {@link Order}
+     * @return Represents the {@link CompletableFuture} of True if the order is added to the order list, completed
+     * with {@link UnavailableQuantityException} if the quantity is not available
+     */
+    CompletableFuture<Boolean> order(final Order order);
+
+    /**
+     * <p>
+     * Retrieve the List of {@link Order}, asynchronously
+     * </p>
+     *
+     * @param userId Represents the id of {@link User}
+     * @return Represents the {@link CompletableFuture} of collection of {@link Order}
+     */
+    CompletableFuture<List<Order>> getOrderList(final Long userId);
+
+    /**
+     * <p>
+     * Provides one page of the orders of the user ordered by id, asynchronously
+     * </p>
+     *
+     * @param userId   Represents the id of the {@link User}
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of orders in the page
+     * @return Represents the {@link CompletableFuture} of the {@link Page} of {@link Order}
+     */
+    CompletableFuture<Page<Order>> getOrderPage(final Long userId, final String cursor, final int pageSize);
+
+    /**
+     * <p>
+     * Represents the order details of the particular order id, asynchronously
+     * </p>
+     *
+     * @param orderId Represents the id of the {@link Order}
+     * @return Represents the {@link CompletableFuture} of {@link Order}
+     */
+    CompletableFuture<Order> getOrder(final Long orderId);
+
+    /**
+     * <p>
+     * Represents the cancelling the order of the particular order id, asynchronously
+     * </p>
+     *
+     * @param orderId Represents the id of the {@link Order}
+     * @return Represents the {@link CompletableFuture} of True if the order is cancelled successfully
+     */
+    CompletableFuture<Boolean> cancelOrder(final Long orderId);
+
+    /**
+     * <p>
+     * Represents the order of every product in the cart of the user, asynchronously
+     * </p>
+     *
+     * @param userId      Represents the id of the {@link User}
+     * @param paymentType Represents the payment type of the orders
+     * @return Represents the {@link CompletableFuture} of the placed {@link Order} of every cart line, completed
+     * with {@link UnavailableQuantityException} if any quantity is not available
+     */
+    CompletableFuture<List<Order>> checkoutCart(final Long userId, final Order.Payment paymentType);
+}
@@ -1,5 +1,6 @@
 package com.amazon.service;
 
+import com.amazon.model.Session;
 import com.amazon.model.User;
 
 /**
@@ -19,9 +20,32 @@ public interface AuthenticationService {
      *
      * @param email    User's email id
      * @param password User's password
-     * @return True if email and password match the user from the users list
+     * @return Represents the new {@link Session} of the user or null if the email and password do not match
      */
-    boolean signIn(final String email, final String password);
+    Session signIn(final String email, final String password);
+
+    /**
+     * <p>
+     * Gets the session of a signed in {@link User} without a lookup of the user
+     * </p>
+     *
+     * @param sessionId Represents the id of the {@link Session}
+     * @return Represents the {@link Session} or null if it does not exist or has expired
+     */
+    default Session getSession(final String sessionId) {
+        return SessionStore.getInstance().get(sessionId);
+    }
+
+    /**
+     * <p>
+     * Ends the session
+     * </p>
+     *
+     * @param sessionId Represents the id of the {@link Session}
+     */
+    default void signOut(final String sessionId) {
+        SessionStore.getInstance().remove(sessionId);
+    }
 
     /**
      * <p>
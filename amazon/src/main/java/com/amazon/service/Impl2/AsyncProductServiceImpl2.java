@@ -0,0 +1,327 @@
+package com.amazon.service.Impl2;
+
+import com.amazon.dao.AsyncProductServiceDao;
+import com.amazon.exception.UnavailableQuantityException;
+import com.amazon.model.BatchResult;
+import com.amazon.model.Cart;
+import com.amazon.model.Order;
+import com.amazon.model.Page;
+import com.amazon.model.Product;
+import com.amazon.model.User;
+import com.amazon.service.AsyncProductService;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>
+ * Implements the {@link AsyncProductService} to provide asynchronous services for {@link  Product}
+ * </p>
+ *
+ * @author Roshan
+ * @version 1.0
+ */
+public class AsyncProductServiceImpl2 implements AsyncProductService {
+
+    private static final AsyncProductService ASYNC_PRODUCT_SERVICE = new AsyncProductServiceImpl2();
+    private final AsyncProductServiceDao asyncProductServiceDao;
+    private final ProductCache productCache;
+
+    private AsyncProductServiceImpl2() {
+        asyncProductServiceDao = AsyncProductServiceDao.getInstance();
+        productCache = ProductCache.getInstance();
+    }
+
+    /**
+     * <p>
+     * Represents the object of {@link AsyncProductService} class can be created for only one time
+     * </p>
+     *
+     * @return Represents object of {@link AsyncProductService}
+     */
+    public static AsyncProductService getInstance() {
+        return ASYNC_PRODUCT_SERVICE;
+    }
+
+    /**
+     * <p>
+     * Adds the product to the product list, asynchronously
+     * </p>
+     *
+     * @param product Represents {@link Product}
+     * @return Represents the {@link CompletableFuture} of True if the {@link Product} is added successfully
+     */
+    public CompletableFuture<Boolean> add(final Product product) {
+        return asyncProductServiceDao.add(product);
+    }
+
+    /**
+     * <p>
+     * Adds the products to the product list in batches, asynchronously
+     * </p>
+     *
+     * @param products Represents the {@link Product} list to add
+     * @return Represents the {@link CompletableFuture} of the generated id and the failure reason of every row
+     */
+    public CompletableFuture<BatchResult> addAll(final List<Product> products) {
+        return asyncProductServiceDao.addAll(products);
+    }
+
+    /**
+     * <p>
+     * Provides the collection view of the products value, asynchronously
+     * </p>
+     *
+     * @return Represents the {@link CompletableFuture} of Collection view of {@link Product}
+     */
+    public CompletableFuture<Collection<Product>> getAllProducts() {
+        return asyncProductServiceDao.getAllProducts();
+    }
+
+    /**
+     * <p>
+     * Provides one page of the products ordered by id, asynchronously
+     * </p>
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link CompletableFuture} of the {@link Page} of {@link Product}
+     */
+    public CompletableFuture<Page<Product>> getProductPage(final String cursor, final int pageSize) {
+        return asyncProductServiceDao.getProductPage(cursor, pageSize);
+    }
+
+    /**
+     * <p>
+     * Represents the product details that the user create, asynchronously
+     * </p>
+     *
+     * @param userId Represents admin id
+     * @return Represents the {@link CompletableFuture} of {@link Product} list created by the user
+     */
+    public CompletableFuture<Map<Long, Product>> getUserProduct(final Long userId) {
+        return asyncProductServiceDao.getUserProduct(userId);
+    }
+
+    /**
+     * <p>
+     * Provides one page of the products that the user create ordered by id, asynchronously
+     * </p>
+     *
+     * @param userId   Represents admin id
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link CompletableFuture} of the {@link Page} of {@link Product} created by the user
+     */
+    public CompletableFuture<Page<Product>> getUserProductPage(final Long userId, final String cursor, final int pageSize) {
+        return asyncProductServiceDao.getUserProductPage(userId, cursor, pageSize);
+    }
+
+    /**
+     * <p>
+     * Gets the product from product list using productId, asynchronously
+     * </p>
+     *
+     * @param productId product id of the product object
+     * @return Represents the {@link CompletableFuture} of {@link Product} in product list
+     */
+    public CompletableFuture<Product> get(final Long productId) {
+        return asyncProductServiceDao.get(productId);
+    }
+
+    /**
+     * <p>
+     * Updates product object in product list, asynchronously
+     * </p>
+     *
+     * @param id      Product id of the product
+     * @param product Represent {@link Product}
+     * @return Represents the {@link CompletableFuture} of True if the {@link Product} is updated successfully
+     */
+    public CompletableFuture<Boolean> update(final Long id, final Product product) {
+        return asyncProductServiceDao.update(id, product).whenComplete((result, exception) -> productCache.invalidate(id));
+    }
+
+    /**
+     * <p>
+     * Deletes the product object from the product list, asynchronously
+     * </p>
+     *
+     * @param id id of the product object
+     * @return Represents the {@link CompletableFuture} of True if the {@link Product} is deleted successfully
+     */
+    public CompletableFuture<Boolean> delete(final Long id) {
+        return asyncProductServiceDao.delete(id).whenComplete((result, exception) -> productCache.invalidate(id));
+    }
+
+    /**
+     * <p>
+     * Represents adding the product to cart list, asynchronously
+     * </p>
+     *
+     * @param cart Represents {@link Cart}
+     * @return Represents the {@link CompletableFuture} of True if the product is added to cart successfully
+     */
+    public CompletableFuture<Boolean> addToCart(final Cart cart) {
+        return asyncProductServiceDao.addToCart(cart);
+    }
+
+    /**
+     * <p>
+     * Represents the Product details from the cart for a particular user, asynchronously
+     * </p>
+     *
+     * @param userId Represents the id of {@link User}
+     * @return Represents the {@link CompletableFuture} of Collection of products from the cart
+     */
+    public CompletableFuture<List<Cart>> getCartList(final Long userId) {
+        return asyncProductServiceDao.getCartList(userId);
+    }
+
+    /**
+     * <p>
+     * Represents the particular id details of entered cart id, asynchronously
+     * </p>
+     *
+     * @param id Represents the id of the cart
+     * @return Represents the {@link CompletableFuture} of {@link Cart}
+     */
+    public CompletableFuture<Cart> getCart(final Long id) {
+        return asyncProductServiceDao.getCart(id);
+    }
+
+    /**
+     * <p>
+     * Represents the removal of product for the particular cart id, asynchronously
+     * </p>
+     *
+     * @param cartId Represents the id of the cart
+     * @return Represents the {@link CompletableFuture} of True if the Product is removed successfully
+     */
+    public CompletableFuture<Boolean> removeCart(final Long cartId) {
+        return asyncProductServiceDao.removeCart(cartId);
+    }
+
+    /**
+     * <p>
+     * Represents the product id's of the user's cart, asynchronously
+     * </p>
+     *
+     * @param userId Represents the id of the {@link User}
+     * @return Represents the {@link CompletableFuture} of List of product id's
+     */
+    public CompletableFuture<List<Long>> getCartProductIds(final Long userId) {
+        return asyncProductServiceDao.getCartProductIds(userId);
+    }
+
+    /**
+     * <p>
+     * Represents updating the quantity of product in {@link Cart}, asynchronously
+     * </p>
+     *
+     * @param quantity  Quantity need to add with available products
+     * @param productId Represents the id of the product need to update the quantity
+     * @return Represents the {@link CompletableFuture} of True if the product quantity updated successfully
+     */
+    public CompletableFuture<Boolean> updateQuantityInCart(final Long quantity, final Long productId) {
+        return asyncProductServiceDao.updateQuantityInCart(quantity, productId);
+    }
+
+    /**
+     * <p>
+     * Represents updating the quantity of product in {@link Product}, asynchronously
+     * </p>
+     *
+     * @param quantity  Quantity need to add with available products
+     * @param productId Represents the id of the product need to update the quantity
+     * @return Represents the {@link CompletableFuture} of True if the product quantity updated successfully
+     */
+    public CompletableFuture<Boolean> updateQuantityInProduct(final Long quantity, final Long productId) {
+        return asyncProductServiceDao.updateQuantityInProduct(quantity, productId)
+                .whenComplete((result, exception) -> productCache.invalidate(productId));
+    }
+
+    /**
+     * <p>
+     * Represents the order of {@link Product}, asynchronously
+     * </p>
+     *
+     * @param order Represents {@link Order}
+     * @return Represents the {@link CompletableFuture} of True if the order is added to the order list
+     */
+    public CompletableFuture<Boolean> order(final Order order) {
+        return asyncProductServiceDao.order(order).whenComplete((result, exception) -> productCache.invalidate(order.getProductId()));
+    }
+
+    /**
+     * <p>
+     * Retrieve the List of {@link Order}, asynchronously
+     * </p>
+     *
+     * @param userId Represents the id of {@link User}
+     * @return Represents the {@link CompletableFuture} of collection of {@link Order}
+     */
+    public CompletableFuture<List<Order>> getOrderList(final Long userId) {
+        return asyncProductServiceDao.getOrderList(userId);
+    }
+
+    /**
+     * <p>
+     * Provides one page of the orders of the user ordered by id, asynchronously
+     * </p>
+     *
+     * @param userId   Represents the id of the {@link User}
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of orders in the page
+     * @return Represents the {@link CompletableFuture} of the {@link Page} of {@link Order}
+     */
+    public CompletableFuture<Page<Order>> getOrderPage(final Long userId, final String cursor, final int pageSize) {
+        return asyncProductServiceDao.getOrderPage(userId, cursor, pageSize);
+    }
+
+    /**
+     * <p>
+     * Represents the order details of the particular order id, asynchronously
+     * </p>
+     *
+     * @param orderId Represents the id of the {@link Order}
+     * @return Represents the {@link CompletableFuture} of {@link Order}
+     */
+    public CompletableFuture<Order> getOrder(final Long orderId) {
+        return asyncProductServiceDao.getOrder(orderId);
+    }
+
+    /**
+     * <p>
+     * Represents the cancelling the order of the particular order id, asynchronously
+     * </p>
+     *
+     * @param orderId Represents the id of the {@link Order}
+     * @return Represents the {@link CompletableFuture} of True if the order is cancelled successfully
+     */
+    public CompletableFuture<Boolean> cancelOrder(final Long orderId) {
+        return asyncProductServiceDao.cancelOrder(orderId)
+                .whenComplete((productId, exception) -> productCache.invalidate(productId))
+                .thenApply(productId -> null != productId);
+    }
+
+    /**
+     * <p>
+     * Represents the order of every product in the cart of the user, asynchronously
+     * </p>
+     *
+     * @param userId      Represents the id of the {@link User}
+     * @param paymentType Represents the payment type of the orders
+     * @return Represents the {@link CompletableFuture} of the placed {@link Order} of every cart line, completed
+     * with {@link UnavailableQuantityException} if any quantity is not available
+     */
+    public CompletableFuture<List<Order>> checkoutCart(final Long userId, final Order.Payment paymentType) {
+        return asyncProductServiceDao.checkoutCart(userId, paymentType).whenComplete((orderList, exception) -> {
+            if (null != orderList) {
+                orderList.forEach(order -> productCache.invalidate(order.getProductId()));
+            }
+        });
+    }
+}
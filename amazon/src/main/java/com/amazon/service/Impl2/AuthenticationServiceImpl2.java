@@ -1,8 +1,10 @@
 package com.amazon.service.Impl2;
 
 import com.amazon.dao.AuthenticationServiceDao;
+import com.amazon.model.Session;
 import com.amazon.model.User;
 import com.amazon.service.AuthenticationService;
+import com.amazon.service.SessionStore;
 
 /**
  * <p>
@@ -16,10 +18,12 @@ public class AuthenticationServiceImpl2 implements AuthenticationService {
 
     private static final AuthenticationService AUTHENTICATION_SERVICE = new AuthenticationServiceImpl2();
     private final AuthenticationServiceDao authenticationServiceDao;
+    private final SessionStore sessionStore;
 
     private AuthenticationServiceImpl2() {
 
         authenticationServiceDao = AuthenticationServiceDao.getInstance();
+        sessionStore = SessionStore.getInstance();
     }
 
     /**
@@ -40,10 +44,12 @@ public class AuthenticationServiceImpl2 implements AuthenticationService {
      *
      * @param email    User's email id
      * @param password User's password
-     * @return True if email and password match the user from the users list
+     * @return Represents the new {@link Session} of the user or null if the email and password do not match
      */
-    public boolean signIn(String email, String password) {
-        return authenticationServiceDao.signIn(email, password);
+    public Session signIn(String email, String password) {
+        final User user = authenticationServiceDao.signIn(email, password);
+
+        return null == user ? null : sessionStore.create(user);
     }
 
     /**
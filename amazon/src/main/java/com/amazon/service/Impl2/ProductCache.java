@@ -0,0 +1,211 @@
+package com.amazon.service.Impl2;
+
+import com.amazon.dao.impl.DBConfiguration;
+import com.amazon.model.Product;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Represents the bounded read through cache of {@link Product} kept in front of the product DAO
+ * </p>
+ *
+ * <p>
+ * Entries expire after the configured time to live. When the cache grows past its maximum size the
+ * expired entries are dropped first and then the entries loaded the longest time ago among a small sample,
+ * so eviction never walks or locks the whole cache. Callers always get their own copy of the product
+ * because the views change the product they are given before updating it
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class ProductCache {
+
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+    private static ProductCache PRODUCT_CACHE;
+    private final Map<Long, Entry> entries;
+    private final int maxEntries;
+    private final long timeToLiveNanos;
+    private final AtomicLong invalidations;
+    private final AtomicLong hitCount;
+    private final AtomicLong missCount;
+    private final AtomicLong evictionCount;
+
+    private ProductCache(final int maxEntries, final long timeToLiveMillis) {
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = timeToLiveMillis * 1_000_000L;
+        entries = new ConcurrentHashMap<>();
+        invalidations = new AtomicLong();
+        hitCount = new AtomicLong();
+        missCount = new AtomicLong();
+        evictionCount = new AtomicLong();
+    }
+
+    /**
+     * <p>
+     * Represents the object of {@link ProductCache} can be created for only once, its size and time to live
+     * are read from the product.cache.max_entries and product.cache.ttl_ms keys
+     * </p>
+     *
+     * @return Represents {@link ProductCache}
+     */
+    public static synchronized ProductCache getInstance() {
+        if (null == PRODUCT_CACHE) {
+            final DBConfiguration configuration = DBConfiguration.getInstance();
+
+            PRODUCT_CACHE = new ProductCache(Math.max(0, configuration.getInt("product.cache.max_entries", 10000)),
+                    Math.max(0, configuration.getLong("product.cache.ttl_ms", 60000)));
+        }
+        return PRODUCT_CACHE;
+    }
+
+    /**
+     * <p>
+     * Gets the product from the cache or loads it when it is missing or expired. A product that is
+     * invalidated while it is being loaded is not kept, so a stale row never outlives a write
+     * </p>
+     *
+     * @param productId Represents the id of the {@link Product}
+     * @param loader    Represents the lookup used on a miss
+     * @return Represents a copy of the {@link Product} or null if the product does not exist
+     */
+    public Product get(final Long productId, final Function<Long, Product> loader) {
+        if (0 == maxEntries || null == productId) {
+            return loader.apply(productId);
+        }
+        final Entry entry = entries.get(productId);
+
+        if (null != entry && entry.expiresAt - System.nanoTime() > 0) {
+            hitCount.incrementAndGet();
+
+            return copy(entry.product);
+        }
+        missCount.incrementAndGet();
+        final long invalidationStamp = invalidations.get();
+        final Product product = loader.apply(productId);
+
+        if (null != product) {
+            entries.put(productId, new Entry(copy(product), System.nanoTime() + timeToLiveNanos));
+
+            if (invalidationStamp != invalidations.get()) {
+                entries.remove(productId);
+            } else if (entries.size() > maxEntries) {
+                evict();
+            }
+        }
+
+        return product;
+    }
+
+    /**
+     * <p>
+     * Removes the product from the cache, called after every write that changes the product
+     * </p>
+     *
+     * @param productId Represents the id of the {@link Product}
+     */
+    public void invalidate(final Long productId) {
+        invalidations.incrementAndGet();
+
+        if (null != productId) {
+            entries.remove(productId);
+        }
+    }
+
+    public void clear() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public double getHitRatio() {
+        final long requests = hitCount.get() + missCount.get();
+
+        return 0 == requests ? 0 : (double) hitCount.get() / requests;
+    }
+
+    /**
+     * <p>
+     * Drops the expired entries met while sampling and then the oldest sampled entries until the cache is
+     * back within its maximum size
+     * </p>
+     */
+    private void evict() {
+        final long now = System.nanoTime();
+
+        while (entries.size() > maxEntries) {
+            final Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+            Map.Entry<Long, Entry> oldest = null;
+
+            for (int sample = 0; sample < EVICTION_SAMPLE_SIZE && iterator.hasNext(); sample++) {
+                final Map.Entry<Long, Entry> candidate = iterator.next();
+
+                if (candidate.getValue().expiresAt - now <= 0) {
+                    oldest = candidate;
+                    break;
+                } else if (null == oldest || candidate.getValue().expiresAt < oldest.getValue().expiresAt) {
+                    oldest = candidate;
+                }
+            }
+
+            if (null == oldest) {
+                return;
+            }
+
+            if (entries.remove(oldest.getKey(), oldest.getValue())) {
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    private static Product copy(final Product product) {
+        final Product copy = new Product();
+
+        copy.setId(product.getId());
+        copy.setName(product.getName());
+        copy.setDescription(product.getDescription());
+        copy.setAvailable(product.getAvailable());
+        copy.setPrice(product.getPrice());
+        copy.setCategory(product.getCategory());
+        copy.setUpdatedTime(product.getUpdatedTime());
+        copy.setUserId(product.getUserId());
+
+        return copy;
+    }
+
+    public String toString() {
+        return String.format("size : %d/%d\nhits : %d\nmisses : %d\nevictions : %d\nhit ratio : %.2f\n",
+                size(), maxEntries, getHitCount(), getMissCount(), getEvictionCount(), getHitRatio());
+    }
+
+    private static class Entry {
+
+        private final Product product;
+        private final long expiresAt;
+
+        private Entry(final Product product, final long expiresAt) {
+            this.product = product;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.amazon.service.Impl2;
 
 import com.amazon.dao.ProductServiceDao;
+import com.amazon.exception.UnavailableQuantityException;
+import com.amazon.model.BatchResult;
 import com.amazon.model.Cart;
 import com.amazon.model.Order;
+import com.amazon.model.Page;
 import com.amazon.model.Product;
 import com.amazon.model.User;
 import com.amazon.service.ProductService;
@@ -10,6 +13,7 @@ import com.amazon.service.ProductService;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -23,9 +27,11 @@ public class ProductServiceImpl2 implements ProductService {
 
     private static final ProductService PRODUCT_SERVICE = new ProductServiceImpl2();
     private final ProductServiceDao productServiceDao;
+    private final ProductCache productCache;
 
     private ProductServiceImpl2() {
         productServiceDao = ProductServiceDao.getInstance();
+        productCache = ProductCache.getInstance();
     }
 
     /**
@@ -51,6 +57,18 @@ public class ProductServiceImpl2 implements ProductService {
         return productServiceDao.add(product);
     }
 
+    /**
+     * <p>
+     * Adds the products to the product list in batches
+     * </p>
+     *
+     * @param products Represents the {@link Product} list to add
+     * @return Represents the generated id and the failure reason of every row as {@link BatchResult}
+     */
+    public BatchResult addAll(final List<Product> products) {
+        return productServiceDao.addAll(products);
+    }
+
     /**
      * <p>
      * Provide the collection view of the products value
@@ -62,6 +80,30 @@ public class ProductServiceImpl2 implements ProductService {
         return productServiceDao.getAllProducts();
     }
 
+    /**
+     * <p>
+     * Provides the products one by one, the stream must be closed once it is no longer needed
+     * </p>
+     *
+     * @return Represents the {@link Stream} of {@link Product}
+     */
+    public Stream<Product> streamAllProducts() {
+        return productServiceDao.streamAllProducts();
+    }
+
+    /**
+     * <p>
+     * Provides one page of the products ordered by id
+     * </p>
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link Page} of {@link Product}
+     */
+    public Page<Product> getProductPage(final String cursor, final int pageSize) {
+        return productServiceDao.getProductPage(cursor, Page.requirePageSize(pageSize));
+    }
+
     /**
      * Represents the product details that the user create
      *
@@ -74,14 +116,29 @@ public class ProductServiceImpl2 implements ProductService {
 
     /**
      * <p>
-     * Gets the product from product list using productId
+     * Provides one page of the products that the user create ordered by id
+     * </p>
+     *
+     * @param userId   Represents admin id
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link Page} of {@link Product} created by the user
+     */
+    public Page<Product> getUserProductPage(final Long userId, final String cursor, final int pageSize) {
+        return productServiceDao.getUserProductPage(userId, cursor, Page.requirePageSize(pageSize));
+    }
+
+    /**
+     * <p>
+     * Gets the product from product list using productId, served from the {@link ProductCache} when the
+     * product was read recently
      * </p>
      *
      * @param productId product id of the product object
      * @return Represent {@link Product} in product list
      */
     public Product get(final Long productId) {
-        return productServiceDao.get(productId);
+        return productCache.get(productId, productServiceDao::get);
     }
 
     /**
@@ -94,7 +151,11 @@ public class ProductServiceImpl2 implements ProductService {
      * @return True if the {@link Product} is updated successfully in the product list otherwise return false
      */
     public boolean update(final Long id, final Product product) {
-        return productServiceDao.update(id, product);
+        try {
+            return productServiceDao.update(id, product);
+        } finally {
+            productCache.invalidate(id);
+        }
     }
 
     /**
@@ -106,7 +167,11 @@ public class ProductServiceImpl2 implements ProductService {
      * @return True if the {@link Product} deleted successfully in the product list otherwise return false
      */
     public boolean delete(final Long id) {
-        return productServiceDao.delete(id);
+        try {
+            return productServiceDao.delete(id);
+        } finally {
+            productCache.invalidate(id);
+        }
     }
 
     /**
@@ -114,9 +179,14 @@ public class ProductServiceImpl2 implements ProductService {
      *
      * @param order Represents {@link Order}
      * @return True if the order is added to the order list
+     * @throws UnavailableQuantityException if the product does not have the ordered quantity available
      */
-    public boolean order(final Order order) {
-        return productServiceDao.order(order);
+    public boolean order(final Order order) throws UnavailableQuantityException {
+        try {
+            return productServiceDao.order(order);
+        } finally {
+            productCache.invalidate(order.getProductId());
+        }
     }
 
     /**
@@ -129,6 +199,20 @@ public class ProductServiceImpl2 implements ProductService {
         return productServiceDao.getOrderList(userId);
     }
 
+    /**
+     * <p>
+     * Provides one page of the orders of the user ordered by id
+     * </p>
+     *
+     * @param userId   Represents the id of the {@link User}
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of orders in the page
+     * @return Represents the {@link Page} of {@link Order}
+     */
+    public Page<Order> getOrderPage(final Long userId, final String cursor, final int pageSize) {
+        return productServiceDao.getOrderPage(userId, cursor, Page.requirePageSize(pageSize));
+    }
+
     /**
      * Represents the order details of the particular order id
      * @param orderId Represents the id of the {@link Product}
@@ -139,12 +223,40 @@ public class ProductServiceImpl2 implements ProductService {
     }
 
     /**
-     * Represents the cancelling the order of the particular order id
-     * @param orderId Represents the id of the {@link Product}
-     * @return Represents {@link Order}
+     * Represents the cancelling the order of the particular order id, the product of the order is taken from
+     * the cancelling query so it is invalidated in the cache without reading the order first
+     * @param orderId Represents the id of the {@link Order}
+     * @return True if the order was cancelled, false if there is no such order
      */
     public boolean cancelOrder(final Long orderId) {
-        return productServiceDao.cancelOrder(orderId);
+        Long productId = null;
+
+        try {
+            productId = productServiceDao.cancelOrder(orderId);
+
+            return null != productId;
+        } finally {
+            productCache.invalidate(productId);
+        }
+    }
+
+    /**
+     * Represents the order of every product in the cart of the user, the cart is emptied and the stock is
+     * taken in one transaction
+     *
+     * @param userId      Represents the id of the {@link User}
+     * @param paymentType Represents the payment type of the orders
+     * @return Represents the placed {@link Order} of every cart line, empty if the cart is empty
+     * @throws UnavailableQuantityException if any product does not have the quantity in the cart available
+     */
+    public List<Order> checkoutCart(final Long userId, final Order.Payment paymentType) throws UnavailableQuantityException {
+        final List<Order> orderList = productServiceDao.checkoutCart(userId, paymentType);
+
+        for (final Order order : orderList) {
+            productCache.invalidate(order.getProductId());
+        }
+
+        return orderList;
     }
 
     /**
@@ -210,6 +322,10 @@ public class ProductServiceImpl2 implements ProductService {
      * @return True if the product quantity updated successfully
      */
     public boolean updateQuantityInProduct(final Long quantity, final Long productId) {
-        return productServiceDao.updateQuantityInProduct(quantity, productId);
+        try {
+            return productServiceDao.updateQuantityInProduct(quantity, productId);
+        } finally {
+            productCache.invalidate(productId);
+        }
     }
 }
@@ -2,10 +2,15 @@ package com.amazon.service.Impl2;
 
 import com.amazon.dao.UserServiceDao;
 import com.amazon.dao.impl.UserServiceDaoImpl;
+import com.amazon.model.BatchResult;
+import com.amazon.model.Page;
 import com.amazon.model.User;
+import com.amazon.service.SessionStore;
 import com.amazon.service.UserService;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -19,9 +24,11 @@ public class UserServiceImpl2 implements UserService {
 
     private static final UserService USER_SERVICE = new UserServiceImpl2();
     private final UserServiceDao userServiceDao ;
+    private final SessionStore sessionStore;
 
     private UserServiceImpl2() {
         userServiceDao = UserServiceDaoImpl.getInstance();
+        sessionStore = SessionStore.getInstance();
     }
 
     public static UserService getInstance() {
@@ -49,18 +56,62 @@ public class UserServiceImpl2 implements UserService {
      * @return Boolean true is the user is deleted successfully
      */
     public boolean delete(Long userId) {
-        return userServiceDao.deleteUser(userId);
+        final boolean isDeleted = userServiceDao.deleteUser(userId);
+
+        sessionStore.removeUser(userId);
+
+        return isDeleted;
     }
 
     /**
      * Represents all the {@link User} details in the usersList
      *
      * @return Represents collection of {@link User}
+     * @deprecated Loads every user into memory at once, use {@link #streamAllUsers()} or
+     * {@link #getUserPage(String, int)} instead
      */
+    @Deprecated
     public Collection<User> getAllUser() {
         return userServiceDao.getAllUser();
     }
 
+    /**
+     * <p>
+     * Provides the users without the passwords one by one, the stream must be closed once it is no longer
+     * needed
+     * </p>
+     *
+     * @return Represents the {@link Stream} of {@link User}
+     */
+    public Stream<User> streamAllUsers() {
+        return userServiceDao.streamAllUsers();
+    }
+
+    /**
+     * <p>
+     * Provides one page of the users without the passwords ordered by id
+     * </p>
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of users in the page
+     * @return Represents the {@link Page} of {@link User}
+     */
+    public Page<User> getUserPage(final String cursor, final int pageSize) {
+        return userServiceDao.getUserPage(cursor, Page.requirePageSize(pageSize));
+    }
+
+    /**
+     * <p>
+     * Adds the users to the user list in batches
+     * </p>
+     *
+     * @param users Represents the {@link User} list to add
+     * @return Represents the generated id and the failure reason of every row as {@link BatchResult}
+     */
+    public BatchResult addAll(final List<User> users) {
+        return userServiceDao.addAll(users);
+    }
+
     /**
      * Represents the update of {@link User}
      *
@@ -69,6 +120,11 @@ public class UserServiceImpl2 implements UserService {
      * @return True if the user is updated successfully
      */
     public boolean update(final User user, final Long id) {
-        return userServiceDao.update(user, id);
+        final boolean isUpdated = userServiceDao.update(user, id);
+
+        if (isUpdated) {
+            sessionStore.updateUser(id, user);
+        }
+        return isUpdated;
     }
 }
@@ -1,7 +1,10 @@
 package com.amazon.service;
 
+import com.amazon.exception.UnavailableQuantityException;
+import com.amazon.model.BatchResult;
 import com.amazon.model.Cart;
 import com.amazon.model.Order;
+import com.amazon.model.Page;
 import com.amazon.model.Product;
 import com.amazon.model.User;
 import com.amazon.service.impl.ProductServiceImpl;
@@ -9,6 +12,7 @@ import com.amazon.service.impl.ProductServiceImpl;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -41,6 +45,16 @@ public interface ProductService {
      */
     boolean add(final Product product);
 
+    /**
+     * <p>
+     * Adds the products to the product list in batches
+     * </p>
+     *
+     * @param products Represents the {@link Product} list to add
+     * @return Represents the generated id and the failure reason of every row as {@link BatchResult}
+     */
+    BatchResult addAll(final List<Product> products);
+
     /**
      * <p>
      * Provide the collection view of the products value
@@ -50,6 +64,26 @@ public interface ProductService {
      */
     Collection<Product> getAllProducts();
 
+    /**
+     * <p>
+     * Provides the products one by one, the stream must be closed once it is no longer needed
+     * </p>
+     *
+     * @return Represents the {@link Stream} of {@link Product}
+     */
+    Stream<Product> streamAllProducts();
+
+    /**
+     * <p>
+     * Provides one page of the products ordered by id
+     * </p>
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link Page} of {@link Product}
+     */
+    Page<Product> getProductPage(final String cursor, final int pageSize);
+
     /**
      * Represents the product details that the user create
      *
@@ -58,6 +92,18 @@ public interface ProductService {
      */
     Map<Long, Product> getUserProduct(final Long userId);
 
+    /**
+     * <p>
+     * Provides one page of the products that the user create ordered by id
+     * </p>
+     *
+     * @param userId   Represents admin id
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link Page} of {@link Product} created by the user
+     */
+    Page<Product> getUserProductPage(final Long userId, final String cursor, final int pageSize);
+
     /**
      * <p>
      * Gets the product from product list using productId
@@ -90,12 +136,13 @@ public interface ProductService {
     boolean delete(final Long id);
 
     /**
-     * Represents the order of {@link Product}
+     * Represents the order of {@link Product}, the stock is taken and the order is added atomically
      *
      * @param order Represents {@link Order}
      * @return True if the order is added to the order list
+     * @throws UnavailableQuantityException if the product does not have the ordered quantity available
      */
-    boolean order(final Order order);
+    boolean order(final Order order) throws UnavailableQuantityException;
 
     /**
      * Retrieve the List of {@link Order}
@@ -104,6 +151,18 @@ public interface ProductService {
      */
     List<Order> getOrderList(final Long userId);
 
+    /**
+     * <p>
+     * Provides one page of the orders of the user ordered by id
+     * </p>
+     *
+     * @param userId   Represents the id of the {@link User}
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of orders in the page
+     * @return Represents the {@link Page} of {@link Order}
+     */
+    Page<Order> getOrderPage(final Long userId, final String cursor, final int pageSize);
+
     /**
      * Represents the order details of the particular order id
      * @param orderId Represents the id of the {@link Product}
@@ -118,6 +177,17 @@ public interface ProductService {
      */
     boolean cancelOrder(final Long orderId);
 
+    /**
+     * Represents the order of every product in the cart of the user, the cart is emptied and the stock is
+     * taken in one transaction
+     *
+     * @param userId      Represents the id of the {@link User}
+     * @param paymentType Represents the payment type of the orders
+     * @return Represents the placed {@link Order} of every cart line, empty if the cart is empty
+     * @throws UnavailableQuantityException if any product does not have the quantity in the cart available
+     */
+    List<Order> checkoutCart(final Long userId, final Order.Payment paymentType) throws UnavailableQuantityException;
+
     /**
      * Represents adding the product to cart list
      * @param cart Represents {@link Cart}
@@ -0,0 +1,173 @@
+package com.amazon.service;
+
+import com.amazon.dao.impl.DBConfiguration;
+import com.amazon.model.Session;
+import com.amazon.model.User;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Represents the concurrent store of the {@link Session} of the signed in users, shared by every
+ * {@link AuthenticationService}
+ * </p>
+ *
+ * <p>
+ * A session expires once it is not used for the configured idle time, every use moves its expiry forward.
+ * Expired sessions are dropped when they are met and by a sweep of the whole store at most once per idle
+ * time. When a user is updated or deleted every session of the user is updated or dropped with it, so the
+ * cached profile never outlives the row
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class SessionStore {
+
+    private static final int TOKEN_BYTES = 24;
+    private static SessionStore SESSION_STORE;
+    private final Map<String, Entry> sessions;
+    private final SecureRandom random;
+    private final long idleTimeoutNanos;
+    private final AtomicLong lastSweepTime;
+
+    private SessionStore(final long idleTimeoutMillis) {
+        sessions = new ConcurrentHashMap<>();
+        random = new SecureRandom();
+        idleTimeoutNanos = idleTimeoutMillis * 1_000_000L;
+        lastSweepTime = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * <p>
+     * Represents the object of {@link SessionStore} can be created for only once, its idle time is read from
+     * the session.idle_timeout_ms key
+     * </p>
+     *
+     * @return Represents {@link SessionStore}
+     */
+    public static synchronized SessionStore getInstance() {
+        if (null == SESSION_STORE) {
+            SESSION_STORE = new SessionStore(Math.max(1, DBConfiguration.getInstance().getLong("session.idle_timeout_ms", 1800000)));
+        }
+        return SESSION_STORE;
+    }
+
+    /**
+     * <p>
+     * Opens a new session for the user
+     * </p>
+     *
+     * @param user Represents the signed in {@link User}
+     * @return Represents the new {@link Session}
+     */
+    public Session create(final User user) {
+        final byte[] token = new byte[TOKEN_BYTES];
+
+        random.nextBytes(token);
+        final Session session = new Session(Base64.getUrlEncoder().withoutPadding().encodeToString(token), user.getProfile());
+
+        sweep();
+        sessions.put(session.getId(), new Entry(session, System.nanoTime() + idleTimeoutNanos));
+
+        return session;
+    }
+
+    /**
+     * <p>
+     * Gets the session and moves its expiry forward
+     * </p>
+     *
+     * @param sessionId Represents the id of the {@link Session}
+     * @return Represents the {@link Session} or null if it does not exist or has expired
+     */
+    public Session get(final String sessionId) {
+        final Entry entry = null == sessionId ? null : sessions.get(sessionId);
+
+        if (null == entry) {
+            return null;
+        }
+        final long now = System.nanoTime();
+
+        if (entry.expiresAt - now <= 0) {
+            sessions.remove(sessionId, entry);
+
+            return null;
+        }
+        entry.expiresAt = now + idleTimeoutNanos;
+
+        return entry.session;
+    }
+
+    public void remove(final String sessionId) {
+        if (null != sessionId) {
+            sessions.remove(sessionId);
+        }
+    }
+
+    /**
+     * <p>
+     * Replaces the profile held by every session of the user
+     * </p>
+     *
+     * @param userId Represents the id of the {@link User}
+     * @param user   Represents the updated {@link User}
+     */
+    public void updateUser(final Long userId, final User user) {
+        final User profile = user.getProfile();
+
+        profile.setId(userId);
+
+        for (final Map.Entry<String, Entry> session : sessions.entrySet()) {
+            if (Objects.equals(session.getValue().session.getUserId(), userId)) {
+                sessions.computeIfPresent(session.getKey(), (sessionId, entry) ->
+                        new Entry(new Session(sessionId, profile), entry.expiresAt));
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Drops every session of the user
+     * </p>
+     *
+     * @param userId Represents the id of the deleted {@link User}
+     */
+    public void removeUser(final Long userId) {
+        sessions.values().removeIf(entry -> Objects.equals(entry.session.getUserId(), userId));
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * <p>
+     * Drops the expired sessions, at most one caller sweeps per idle time
+     * </p>
+     */
+    private void sweep() {
+        final long now = System.nanoTime();
+        final long lastSweep = lastSweepTime.get();
+
+        if (now - lastSweep >= idleTimeoutNanos && lastSweepTime.compareAndSet(lastSweep, now)) {
+            sessions.values().removeIf(entry -> entry.expiresAt - now <= 0);
+        }
+    }
+
+    private static class Entry {
+
+        private final Session session;
+        private volatile long expiresAt;
+
+        private Entry(final Session session, final long expiresAt) {
+            this.session = session;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
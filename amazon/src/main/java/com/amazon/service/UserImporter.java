@@ -0,0 +1,458 @@
+package com.amazon.service;
+
+import com.amazon.dao.impl.DBConfiguration;
+import com.amazon.exception.DBException;
+import com.amazon.model.BatchResult;
+import com.amazon.model.ImportResult;
+import com.amazon.model.User;
+import com.amazon.validation.UserRules;
+import com.amazon.validation.ValidationError;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Represents the bulk import of {@link User} rows from a CSV stream into a {@link UserService}
+ * </p>
+ *
+ * <p>
+ * The rows are read in chunks by the calling thread and every chunk is checked against the {@link UserRules#USER}
+ * rule set on a pool of validator threads. The checked chunks are taken back in the order they were read, so the
+ * first row of an email or phone number wins whatever thread checked it, and the emails and phone numbers are
+ * deduplicated in memory against the rows before them and the users already in the service. The remaining
+ * rows of a chunk are added with {@link UserService#addAll(List)} on a pool of writer threads, each with its own
+ * connection. Only a bounded number of chunks wait for a validator or a writer, so the file is never held in
+ * memory. Every rejected row is written to the report with its line number and the reason
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class UserImporter {
+
+    private static final String[] COLUMNS = {"NAME", "EMAIL", "PASSWORD", "ADDRESS", "PHONE_NUMBER"};
+    private static final int NAME = 0;
+    private static final int EMAIL = 1;
+    private static final int PASSWORD = 2;
+    private static final int ADDRESS = 3;
+    private static final int PHONE_NUMBER = 4;
+
+    private final UserService userService;
+    private final int chunkSize;
+    private final int validatorCount;
+    private final int writerCount;
+
+    /**
+     * <p>
+     * Creates the importer of the user service, the chunk size and the number of writers are read from the
+     * user.import.chunk_size and user.import.writers keys
+     * </p>
+     *
+     * @param userService Represents the {@link UserService} the users are added to
+     */
+    public UserImporter(final UserService userService) {
+        final DBConfiguration configuration = DBConfiguration.getInstance();
+
+        this.userService = userService;
+        chunkSize = Math.max(1, configuration.getInt("user.import.chunk_size", 1000));
+        validatorCount = Math.max(1, Runtime.getRuntime().availableProcessors());
+        writerCount = Math.max(1, configuration.getInt("user.import.writers", 4));
+    }
+
+    /**
+     * <p>
+     * Imports the users of the CSV stream. The first line is the header naming the NAME, EMAIL, PASSWORD,
+     * ADDRESS and PHONE_NUMBER columns in any order, fields may be quoted
+     * </p>
+     *
+     * @param csv          Represents the CSV stream of the users
+     * @param rejectedRows Represents the report the rejected rows are written to as LINE,REASON,ROW
+     * @return Represents the counts of the import as {@link ImportResult}
+     * @throws IOException Represents any error occur while reading the rows or writing the report
+     */
+    public ImportResult importUsers(final Reader csv, final Writer rejectedRows) throws IOException {
+        final long startTime = System.nanoTime();
+        final BufferedReader reader = new BufferedReader(csv);
+        final String header = reader.readLine();
+
+        if (null == header) {
+            return new ImportResult(0, 0, 0, 0);
+        }
+        final int[] columnIndexes = getColumnIndexes(header);
+        final ExecutorService validators = newExecutor(validatorCount, "user-import-validator");
+        final ExecutorService writers = newExecutor(writerCount, "user-import-writer");
+        final Import userImport = new Import(columnIndexes, rejectedRows, validators, writers);
+
+        try {
+            rejectedRows.write("LINE,REASON,ROW\n");
+            userImport.loadExistingUsers();
+            long lineNumber = 1;
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            String line;
+
+            while (null != (line = reader.readLine())) {
+                lineNumber++;
+
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(new Row(lineNumber, line));
+
+                if (chunk.size() >= chunkSize) {
+                    userImport.validate(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                userImport.validate(chunk);
+            }
+            userImport.finish();
+            rejectedRows.flush();
+
+            return new ImportResult(userImport.rowCount, userImport.importedCount, userImport.rejectedCount,
+                    (System.nanoTime() - startTime) / 1_000_000L);
+        } finally {
+            validators.shutdownNow();
+            writers.shutdownNow();
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the index of every column in the header
+     * </p>
+     */
+    private int[] getColumnIndexes(final String header) {
+        final List<String> names = parseLine(header);
+
+        if (null == names) {
+            throw new IllegalArgumentException("The header has an unterminated quote");
+        }
+        final int[] indexes = new int[COLUMNS.length];
+
+        for (int column = 0; column < COLUMNS.length; column++) {
+            indexes[column] = -1;
+
+            for (int index = 0; index < names.size(); index++) {
+                if (COLUMNS[column].equals(names.get(index).trim().toUpperCase(Locale.ROOT))) {
+                    indexes[column] = index;
+                }
+            }
+
+            if (-1 == indexes[column]) {
+                throw new IllegalArgumentException(String.format("The header has no %s column", COLUMNS[column]));
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * <p>
+     * Parses the rows of the chunk and checks the parsed users with the {@link UserRules#USER} rule set in a
+     * single batch, every broken rule of a row is part of its reason. Runs on the validator threads
+     * </p>
+     */
+    private List<Row> validate(final List<Row> chunk, final int[] columnIndexes) {
+        final List<Row> parsedRows = new ArrayList<>(chunk.size());
+        final List<User> users = new ArrayList<>(chunk.size());
+
+        for (final Row row : chunk) {
+            parse(row, columnIndexes);
+
+            if (null != row.user) {
+                parsedRows.add(row);
+                users.add(row.user);
+            }
+        }
+
+        for (final ValidationError error : UserRules.USER.validateAll(users)) {
+            final Row row = parsedRows.get(error.getIndex());
+
+            row.user = null;
+            row.reason = null == row.reason ? error.getMessage() : String.join(", ", row.reason, error.getMessage());
+        }
+        return chunk;
+    }
+
+    private void parse(final Row row, final int[] columnIndexes) {
+        final List<String> fields = parseLine(row.line);
+
+        if (null == fields) {
+            row.reason = "The row has an unterminated quote";
+
+            return;
+        }
+        final String[] values = new String[COLUMNS.length];
+
+        for (int column = 0; column < COLUMNS.length; column++) {
+            if (columnIndexes[column] >= fields.size()) {
+                row.reason = String.format("The row has no %s field", COLUMNS[column]);
+
+                return;
+            }
+            values[column] = fields.get(columnIndexes[column]).trim();
+        }
+        final User user = new User();
+
+        user.setName(values[NAME]);
+        user.setEmail(values[EMAIL]);
+        user.setPassword(values[PASSWORD]);
+        user.setAddress(values[ADDRESS]);
+        user.setPhoneNumber(values[PHONE_NUMBER]);
+        row.user = user;
+    }
+
+    /**
+     * <p>
+     * Splits a CSV line into its fields, a quoted field may hold commas and doubled quotes
+     * </p>
+     *
+     * @return Represents the fields or null if a quote is not terminated
+     */
+    private static List<String> parseLine(final String line) {
+        final List<String> fields = new ArrayList<>(COLUMNS.length);
+        final StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+
+        for (int index = 0; index < line.length(); index++) {
+            final char character = line.charAt(index);
+
+            if (isQuoted) {
+                if ('"' != character) {
+                    field.append(character);
+                } else if (index + 1 < line.length() && '"' == line.charAt(index + 1)) {
+                    field.append('"');
+                    index++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if ('"' == character) {
+                isQuoted = true;
+            } else if (',' == character) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(character);
+            }
+        }
+
+        if (isQuoted) {
+            return null;
+        }
+        fields.add(field.toString());
+
+        return fields;
+    }
+
+    private static String quote(final String value) {
+        return String.join("", "\"", value.replace("\"", "\"\""), "\"");
+    }
+
+    private static ExecutorService newExecutor(final int threadCount, final String name) {
+        return Executors.newFixedThreadPool(threadCount, runnable -> {
+            final Thread thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * <p>
+     * Represents one line of the CSV stream, the validator fills either the user or the reason
+     * </p>
+     */
+    private static class Row {
+
+        private final long lineNumber;
+        private final String line;
+        private User user;
+        private String reason;
+
+        private Row(final long lineNumber, final String line) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the state of one import, it is only touched by the calling thread
+     * </p>
+     */
+    private class Import {
+
+        private final int[] columnIndexes;
+        private final Writer rejectedRows;
+        private final ExecutorService validators;
+        private final ExecutorService writers;
+        private final Set<String> emails;
+        private final Set<String> phoneNumbers;
+        private final Deque<CompletableFuture<List<Row>>> validations;
+        private final Deque<Write> writes;
+        private long rowCount;
+        private long importedCount;
+        private long rejectedCount;
+
+        private Import(final int[] columnIndexes, final Writer rejectedRows, final ExecutorService validators,
+                       final ExecutorService writers) {
+            this.columnIndexes = columnIndexes;
+            this.rejectedRows = rejectedRows;
+            this.validators = validators;
+            this.writers = writers;
+            emails = new HashSet<>();
+            phoneNumbers = new HashSet<>();
+            validations = new ArrayDeque<>();
+            writes = new ArrayDeque<>();
+        }
+
+        private void loadExistingUsers() {
+            try (final Stream<User> users = userService.streamAllUsers()) {
+                users.forEach(user -> {
+                    emails.add(user.getEmail());
+                    phoneNumbers.add(user.getPhoneNumber());
+                });
+            }
+        }
+
+        /**
+         * <p>
+         * Hands the chunk to a validator, once twice as many chunks as validators are waiting the oldest one
+         * is taken back
+         * </p>
+         */
+        private void validate(final List<Row> chunk) throws IOException {
+            validations.add(CompletableFuture.supplyAsync(() -> UserImporter.this.validate(chunk, columnIndexes),
+                    validators));
+
+            if (validations.size() > 2 * validatorCount) {
+                deduplicate(join(validations.poll()));
+            }
+        }
+
+        /**
+         * <p>
+         * Rejects the rows whose email or phone number is taken and hands the rest of the chunk to a writer,
+         * once as many chunks as writers are waiting the oldest one is taken back
+         * </p>
+         */
+        private void deduplicate(final List<Row> chunk) throws IOException {
+            final List<Row> rows = new ArrayList<>(chunk.size());
+            final List<User> users = new ArrayList<>(chunk.size());
+
+            for (final Row row : chunk) {
+                rowCount++;
+
+                if (null != row.reason) {
+                    reject(row, row.reason);
+                } else if (emails.contains(row.user.getEmail())) {
+                    reject(row, "Email already exists");
+                } else if (phoneNumbers.contains(row.user.getPhoneNumber())) {
+                    reject(row, "Phone number already exists");
+                } else {
+                    emails.add(row.user.getEmail());
+                    phoneNumbers.add(row.user.getPhoneNumber());
+                    rows.add(row);
+                    users.add(row.user);
+                }
+            }
+
+            if (users.isEmpty()) {
+                return;
+            }
+            writes.add(new Write(rows, CompletableFuture.supplyAsync(() -> userService.addAll(users), writers)));
+
+            if (writes.size() >= writerCount) {
+                complete(writes.poll());
+            }
+        }
+
+        private void complete(final Write write) throws IOException {
+            final BatchResult batchResult;
+
+            try {
+                batchResult = join(write.result);
+            } catch (DBException exception) {
+                for (final Row row : write.rows) {
+                    reject(row, exception.getMessage());
+                }
+                return;
+            }
+
+            for (final Map.Entry<Integer, String> failure : batchResult.getFailures().entrySet()) {
+                reject(write.rows.get(failure.getKey()), failure.getValue());
+            }
+            importedCount += batchResult.getSuccessCount();
+        }
+
+        private void finish() throws IOException {
+            while (!validations.isEmpty()) {
+                deduplicate(join(validations.poll()));
+            }
+
+            while (!writes.isEmpty()) {
+                complete(writes.poll());
+            }
+        }
+
+        private void reject(final Row row, final String reason) throws IOException {
+            rejectedCount++;
+            rejectedRows.write(String.join(",", Long.toString(row.lineNumber), quote(reason), quote(row.line)));
+            rejectedRows.write('\n');
+        }
+
+        /**
+         * <p>
+         * Waits for the future, rethrowing the exception it failed with
+         * </p>
+         */
+        private <T> T join(final CompletableFuture<T> future) {
+            try {
+                return future.join();
+            } catch (CompletionException exception) {
+                if (exception.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) exception.getCause();
+                }
+                throw exception;
+            } catch (CancellationException exception) {
+                throw new IllegalStateException("The import was cancelled", exception);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Represents a chunk handed to a writer, the rows are in the order of the users given to the service so
+     * a failed row of the {@link BatchResult} is found by its index
+     * </p>
+     */
+    private static class Write {
+
+        private final List<Row> rows;
+        private final CompletableFuture<BatchResult> result;
+
+        private Write(final List<Row> rows, final CompletableFuture<BatchResult> result) {
+            this.rows = rows;
+            this.result = result;
+        }
+    }
+}
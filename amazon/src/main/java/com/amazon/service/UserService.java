@@ -1,9 +1,13 @@
 package com.amazon.service;
 
+import com.amazon.model.BatchResult;
+import com.amazon.model.Page;
 import com.amazon.model.User;
 import com.amazon.service.impl.UserServiceImpl;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -48,12 +52,46 @@ public interface UserService {
     boolean delete(final Long user_id);
 
     /**
-     * Represents all the {@link User} details in the usersList
+     * Represents all the {@link User} details in the usersList without the passwords
      *
      * @return Represents collection of {@link User}
+     * @deprecated Loads every user into memory at once, use {@link #streamAllUsers()} or
+     * {@link #getUserPage(String, int)} instead
      */
+    @Deprecated
     Collection<User> getAllUser();
 
+    /**
+     * <p>
+     * Provides the users without the passwords one by one, the stream must be closed once it is no longer
+     * needed
+     * </p>
+     *
+     * @return Represents the {@link Stream} of {@link User}
+     */
+    Stream<User> streamAllUsers();
+
+    /**
+     * <p>
+     * Provides one page of the users without the passwords ordered by id
+     * </p>
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of users in the page
+     * @return Represents the {@link Page} of {@link User}
+     */
+    Page<User> getUserPage(final String cursor, final int pageSize);
+
+    /**
+     * <p>
+     * Adds the users to the user list in batches
+     * </p>
+     *
+     * @param users Represents the {@link User} list to add
+     * @return Represents the generated id and the failure reason of every row as {@link BatchResult}
+     */
+    BatchResult addAll(final List<User> users);
+
     /**
      * Represents the update of {@link User}
      *
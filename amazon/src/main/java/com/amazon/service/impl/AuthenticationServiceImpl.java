@@ -1,15 +1,19 @@
 package com.amazon.service.impl;
 
+import com.amazon.model.Session;
 import com.amazon.model.User;
 import com.amazon.service.AuthenticationService;
+import com.amazon.service.SessionStore;
 
 public class AuthenticationServiceImpl implements AuthenticationService {
 
     private static final AuthenticationServiceImpl AUTHENTICATION_SERVICE = new AuthenticationServiceImpl();
-    private static Long userId;
+    private final UserStore userStore;
+    private final SessionStore sessionStore;
 
     private AuthenticationServiceImpl() {
-        userId = 1L;
+        userStore = UserStore.getInstance();
+        sessionStore = SessionStore.getInstance();
     }
 
     public static AuthenticationService getInstance() {
@@ -22,20 +26,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
      * </p>
      *
      * @param user User object is passed as a parameter
+     * @return True if the user is added, false if the email or phone number is already taken
      */
     public boolean signUp(User user) {
-        try {
-            final Long id = generateId();
-
-            user.setId(id);
-            UserServiceImpl.usersList.put(id, user);
-
-            return true;
-        } catch (Exception exception) {
-            System.out.println(exception.getMessage());
-        }
-
-        return false;
+        return null != user && userStore.add(user);
     }
 
     /**
@@ -43,17 +37,13 @@ public class AuthenticationServiceImpl implements AuthenticationService {
      *
      * @param email    Represents user's email
      * @param password Represents user's password
-     * @return True if email and password match the user from the users list
+     * @return Represents the new {@link Session} of the user or null if the email and password do not match
      */
-    public boolean signIn(final String email, final String password) {
-        for (final User existingUser : UserServiceImpl.usersList.values()) {
+    public Session signIn(final String email, final String password) {
+        final User existingUser = userStore.getByEmail(email);
 
-            if ((existingUser.getEmail().equals(email)) && (existingUser.getPassword().equals(password))) {
-                return true;
-            }
-        }
-
-        return false;
+        return null != existingUser && null != password && password.equals(existingUser.getPassword())
+                ? sessionStore.create(existingUser) : null;
     }
 
     /**
@@ -63,14 +53,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
      * @return True If the email is already exists
      */
     public boolean isUserEmailExists(String email) {
-        for (final User user : UserServiceImpl.usersList.values()) {
-
-            if (user.getEmail().equals(email)) {
-                return true;
-            }
-        }
-
-        return false;
+        return null != userStore.getByEmail(email);
     }
 
     /**
@@ -80,21 +63,6 @@ public class AuthenticationServiceImpl implements AuthenticationService {
      * @return True If the email is already exists
      */
     public boolean isNumberExists(String phoneNumber) {
-        for (final User user : UserServiceImpl.usersList.values()) {
-
-            if (user.getPhoneNumber().equals(phoneNumber)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * Represent generating Id for {@link User}
-     * @return Represents userId
-     */
-    private Long generateId() {
-        return userId++;
+        return null != userStore.getByPhoneNumber(phoneNumber);
     }
 }
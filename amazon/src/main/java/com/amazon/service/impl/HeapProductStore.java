@@ -0,0 +1,196 @@
+package com.amazon.service.impl;
+
+import com.amazon.collection.ConcurrentLongHashMap;
+import com.amazon.collection.ConcurrentLongMultimap;
+import com.amazon.collection.ConcurrentLongSortedSet;
+import com.amazon.model.Product;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Represents the {@link ProductStore} that keeps the {@link Product} objects on the heap in a primitive long
+ * keyed map, with the ids of all the products and of the products of every user in sorted indexes
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+final class HeapProductStore implements ProductStore {
+
+    private final ConcurrentLongHashMap<Product> products;
+    private final ConcurrentLongSortedSet productIds;
+    private final ConcurrentLongMultimap userProductIds;
+    private final AtomicLong productId;
+
+    HeapProductStore() {
+        products = new ConcurrentLongHashMap<>();
+        productIds = new ConcurrentLongSortedSet();
+        userProductIds = new ConcurrentLongMultimap();
+        productId = new AtomicLong(1);
+    }
+
+    public long add(final Product product) {
+        final long id = productId.getAndIncrement();
+
+        product.setId(id);
+        products.put(id, product);
+        productIds.add(id);
+        index(product.getUserId(), id);
+
+        return id;
+    }
+
+    public Product get(final long id) {
+        return products.get(id);
+    }
+
+    public boolean update(final long id, final Product product) {
+        final Product[] previous = new Product[1];
+
+        products.computeIfPresent(id, current -> {
+            previous[0] = current;
+
+            return product;
+        });
+
+        if (null == previous[0]) {
+            return false;
+        }
+
+        if (previous[0] != product && !Objects.equals(previous[0].getUserId(), product.getUserId())
+                && null != previous[0].getUserId()) {
+            userProductIds.remove(previous[0].getUserId(), id);
+        }
+        index(product.getUserId(), id);
+
+        return true;
+    }
+
+    public boolean remove(final long id) {
+        final Product product = products.remove(id);
+
+        if (null == product) {
+            return false;
+        }
+        productIds.remove(id);
+
+        if (null != product.getUserId()) {
+            userProductIds.remove(product.getUserId(), id);
+        }
+        return true;
+    }
+
+    /**
+     * <p>
+     * Takes the stock while holding the map entry of the product
+     * </p>
+     */
+    public boolean takeStock(final long id, final long quantity) {
+        final boolean[] isTaken = new boolean[1];
+
+        products.computeIfPresent(id, product -> {
+            if (null != product.getAvailable() && product.getAvailable() >= quantity) {
+                product.setAvailable(product.getAvailable() - quantity);
+                isTaken[0] = true;
+            }
+            return product;
+        });
+
+        return isTaken[0];
+    }
+
+    public boolean returnStock(final long id, final long quantity) {
+        return null != products.computeIfPresent(id, product -> {
+            product.setAvailable(null == product.getAvailable() ? quantity : product.getAvailable() + quantity);
+
+            return product;
+        });
+    }
+
+    public Collection<Product> values() {
+        return products.values();
+    }
+
+    public long[] ids() {
+        return products.keys();
+    }
+
+    public List<Product> getUserProducts(final long userId) {
+        return getProducts(userProductIds.get(userId), userId, Integer.MAX_VALUE);
+    }
+
+    /**
+     * <p>
+     * Walks the user index, or the index of every product when every user is wanted, from the cursor so only
+     * the ids of the page are visited however many products were removed before it
+     * </p>
+     */
+    public List<Product> getPage(final Long userId, final long afterId, final int limit) {
+        if (null == userId) {
+            final List<Product> page = new ArrayList<>();
+            long lastId = afterId;
+
+            while (page.size() < limit) {
+                final long[] ids = productIds.getAfter(lastId, limit - page.size());
+
+                if (0 == ids.length) {
+                    break;
+                }
+
+                for (final long id : ids) {
+                    final Product product = products.get(id);
+
+                    if (null != product) {
+                        page.add(product);
+                    }
+                }
+                lastId = ids[ids.length - 1];
+            }
+            return page;
+        }
+        final List<Product> page = new ArrayList<>();
+        long lastId = afterId;
+
+        while (page.size() < limit) {
+            final long[] ids = userProductIds.getAfter(userId, lastId, limit - page.size());
+
+            if (0 == ids.length) {
+                break;
+            }
+            page.addAll(getProducts(ids, userId, limit - page.size()));
+            lastId = ids[ids.length - 1];
+        }
+        return page;
+    }
+
+    /**
+     * <p>
+     * Represents the products of the indexed ids that still belong to the user. The products are changed in
+     * place by the views before they are updated, so an index entry left under the previous user is skipped
+     * here
+     * </p>
+     */
+    private List<Product> getProducts(final long[] ids, final long userId, final int limit) {
+        final List<Product> productList = new ArrayList<>(Math.min(ids.length, limit));
+
+        for (int index = 0; index < ids.length && productList.size() < limit; index++) {
+            final Product product = products.get(ids[index]);
+
+            if (null != product && null != product.getUserId() && userId == product.getUserId()) {
+                productList.add(product);
+            }
+        }
+        return productList;
+    }
+
+    private void index(final Long userId, final long id) {
+        if (null != userId) {
+            userProductIds.put(userId, id);
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package com.amazon.service.impl;
+
+import com.amazon.collection.StringArena;
+import com.amazon.model.Product;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Represents the {@link ProductStore} that keeps the fields of the products in columns outside the java heap,
+ * so tens of millions of products cost the garbage collector next to nothing
+ * </p>
+ *
+ * <p>
+ * The rows are grouped in chunks of direct buffers, each chunk holding one column after the other, and the
+ * names and descriptions are kept in a {@link StringArena}. The id of a product is its row number plus one,
+ * so it needs no column and no map. A {@link Product} is only built when one is asked for, and the user
+ * filters scan the user id column of every chunk without building any object for the rows that do not match.
+ * Every row is guarded by one of a fixed set of striped locks
+ * </p>
+ *
+ * <p>
+ * An update keeps the strings that did not change and hands the slots of the changed ones back to the arena,
+ * so updates do not grow the memory. Ids are never reused, so a removed row stays empty, and a full chunk is
+ * freed once its last row is removed
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+final class OffHeapProductStore implements ProductStore {
+
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_ROWS = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_ROWS - 1;
+    private static final int LOCK_STRIPES = 64;
+
+    private static final byte PRESENT = 1;
+    private static final byte HAS_AVAILABLE = 1 << 1;
+    private static final byte HAS_PRICE = 1 << 2;
+    private static final byte HAS_UPDATED_TIME = 1 << 3;
+    private static final byte HAS_USER_ID = 1 << 4;
+
+    private static final int FLAGS_COLUMN = 0;
+    private static final int CATEGORY_COLUMN = FLAGS_COLUMN + CHUNK_ROWS;
+    private static final int AVAILABLE_COLUMN = CATEGORY_COLUMN + CHUNK_ROWS;
+    private static final int PRICE_COLUMN = AVAILABLE_COLUMN + Long.BYTES * CHUNK_ROWS;
+    private static final int UPDATED_TIME_COLUMN = PRICE_COLUMN + Double.BYTES * CHUNK_ROWS;
+    private static final int USER_ID_COLUMN = UPDATED_TIME_COLUMN + Long.BYTES * CHUNK_ROWS;
+    private static final int NAME_COLUMN = USER_ID_COLUMN + Long.BYTES * CHUNK_ROWS;
+    private static final int DESCRIPTION_COLUMN = NAME_COLUMN + Long.BYTES * CHUNK_ROWS;
+    private static final int CHUNK_BYTES = DESCRIPTION_COLUMN + Long.BYTES * CHUNK_ROWS;
+
+    private static final Product.Category[] CATEGORIES = Product.Category.values();
+
+    private final StringArena strings;
+    private final Object[] locks;
+    private final AtomicLong size;
+    private volatile ByteBuffer[] chunks;
+    private volatile AtomicInteger[] liveRows;
+    private volatile long rowCount;
+
+    OffHeapProductStore() {
+        strings = new StringArena();
+        locks = new Object[LOCK_STRIPES];
+        size = new AtomicLong();
+        chunks = new ByteBuffer[0];
+        liveRows = new AtomicInteger[0];
+
+        for (int index = 0; index < LOCK_STRIPES; index++) {
+            locks[index] = new Object();
+        }
+    }
+
+    /**
+     * <p>
+     * Appends the product as a new row, one product is appended at a time
+     * </p>
+     */
+    public synchronized long add(final Product product) {
+        final long row = rowCount;
+        final int chunkIndex = (int) (row >>> CHUNK_SHIFT);
+
+        if (chunkIndex == chunks.length) {
+            final ByteBuffer[] grown = Arrays.copyOf(chunks, chunkIndex + 1);
+            final AtomicInteger[] grownLiveRows = Arrays.copyOf(liveRows, chunkIndex + 1);
+
+            grown[chunkIndex] = ByteBuffer.allocateDirect(CHUNK_BYTES);
+            grownLiveRows[chunkIndex] = new AtomicInteger();
+            liveRows = grownLiveRows;
+            chunks = grown;
+        }
+
+        synchronized (lock(row)) {
+            write(row, product, true);
+        }
+        liveRows[chunkIndex].incrementAndGet();
+        size.incrementAndGet();
+        rowCount = row + 1;
+        product.setId(row + 1);
+
+        return row + 1;
+    }
+
+    public Product get(final long id) {
+        final long row = id - 1;
+
+        if (row < 0 || row >= rowCount) {
+            return null;
+        }
+
+        synchronized (lock(row)) {
+            return isPresent(row) ? read(row) : null;
+        }
+    }
+
+    public boolean update(final long id, final Product product) {
+        final long row = id - 1;
+
+        if (row < 0 || row >= rowCount) {
+            return false;
+        }
+
+        synchronized (lock(row)) {
+            if (!isPresent(row)) {
+                return false;
+            }
+            write(row, product, false);
+
+            return true;
+        }
+    }
+
+    public boolean remove(final long id) {
+        final long row = id - 1;
+
+        if (row < 0 || row >= rowCount) {
+            return false;
+        }
+
+        synchronized (lock(row)) {
+            if (!isPresent(row)) {
+                return false;
+            }
+            releaseStrings(row);
+            chunk(row).put(FLAGS_COLUMN + offset(row), (byte) 0);
+            size.decrementAndGet();
+        }
+        final int chunkIndex = (int) (row >>> CHUNK_SHIFT);
+
+        if (0 == liveRows[chunkIndex].decrementAndGet()) {
+            freeChunk(chunkIndex);
+        }
+        return true;
+    }
+
+    public boolean takeStock(final long id, final long quantity) {
+        final long row = id - 1;
+
+        if (row < 0 || row >= rowCount) {
+            return false;
+        }
+
+        synchronized (lock(row)) {
+            final ByteBuffer chunk = chunk(row);
+
+            if (null == chunk) {
+                return false;
+            }
+            final int offset = offset(row);
+            final byte flags = chunk.get(FLAGS_COLUMN + offset);
+            final int availableIndex = AVAILABLE_COLUMN + Long.BYTES * offset;
+
+            if (0 == (flags & PRESENT) || 0 == (flags & HAS_AVAILABLE) || chunk.getLong(availableIndex) < quantity) {
+                return false;
+            }
+            chunk.putLong(availableIndex, chunk.getLong(availableIndex) - quantity);
+
+            return true;
+        }
+    }
+
+    public boolean returnStock(final long id, final long quantity) {
+        final long row = id - 1;
+
+        if (row < 0 || row >= rowCount) {
+            return false;
+        }
+
+        synchronized (lock(row)) {
+            final ByteBuffer chunk = chunk(row);
+
+            if (null == chunk) {
+                return false;
+            }
+            final int offset = offset(row);
+            final byte flags = chunk.get(FLAGS_COLUMN + offset);
+            final int availableIndex = AVAILABLE_COLUMN + Long.BYTES * offset;
+
+            if (0 == (flags & PRESENT)) {
+                return false;
+            }
+
+            if (0 == (flags & HAS_AVAILABLE)) {
+                chunk.put(FLAGS_COLUMN + offset, (byte) (flags | HAS_AVAILABLE));
+                chunk.putLong(availableIndex, quantity);
+            } else {
+                chunk.putLong(availableIndex, chunk.getLong(availableIndex) + quantity);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * <p>
+     * Represents a view of the products that builds every {@link Product} only when the iterator reaches it
+     * </p>
+     */
+    public Collection<Product> values() {
+        return new AbstractCollection<>() {
+
+            public Iterator<Product> iterator() {
+                return new ProductIterator(null);
+            }
+
+            public int size() {
+                return (int) Math.min(Integer.MAX_VALUE, size.get());
+            }
+        };
+    }
+
+    public long[] ids() {
+        final long rows = rowCount;
+        long[] ids = new long[(int) Math.min(rows, size.get())];
+        int count = 0;
+
+        for (long row = 0; row < rows; row++) {
+            if (null == chunk(row)) {
+                row |= CHUNK_MASK;
+            } else if (isPresent(row)) {
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, Math.max(16, count * 2));
+                }
+                ids[count++] = row + 1;
+            }
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    public List<Product> getUserProducts(final long userId) {
+        return getPage(userId, 0, Integer.MAX_VALUE);
+    }
+
+    public List<Product> getPage(final Long userId, final long afterId, final int limit) {
+        final List<Product> page = new ArrayList<>();
+        final Iterator<Product> iterator = new ProductIterator(userId, Math.max(0, afterId));
+
+        while (page.size() < limit && iterator.hasNext()) {
+            page.add(iterator.next());
+        }
+        return page;
+    }
+
+    private Object lock(final long row) {
+        return locks[(int) (row & (LOCK_STRIPES - 1))];
+    }
+
+    /**
+     * @return Represents the chunk of the row or null if the chunk was freed
+     */
+    private ByteBuffer chunk(final long row) {
+        return chunks[(int) (row >>> CHUNK_SHIFT)];
+    }
+
+    /**
+     * <p>
+     * Frees the chunk once no row of it is left, the chunk rows are still being appended to is kept
+     * </p>
+     */
+    private synchronized void freeChunk(final int chunkIndex) {
+        if (null == chunks[chunkIndex] || 0 != liveRows[chunkIndex].get() || (chunkIndex + 1L) * CHUNK_ROWS > rowCount) {
+            return;
+        }
+        final ByteBuffer[] remaining = chunks.clone();
+
+        remaining[chunkIndex] = null;
+        chunks = remaining;
+    }
+
+    /**
+     * @return Represents the bytes reserved outside the heap for the rows and the strings
+     */
+    long getReservedBytes() {
+        long chunkCount = 0;
+
+        for (final ByteBuffer chunk : chunks) {
+            if (null != chunk) {
+                chunkCount++;
+            }
+        }
+        return chunkCount * CHUNK_BYTES + strings.getCapacity();
+    }
+
+    private static int offset(final long row) {
+        return (int) (row & CHUNK_MASK);
+    }
+
+    private boolean isPresent(final long row) {
+        final ByteBuffer chunk = chunk(row);
+
+        return null != chunk && 0 != (chunk.get(FLAGS_COLUMN + offset(row)) & PRESENT);
+    }
+
+    /**
+     * <p>
+     * Writes every field of the product in the row, called while holding the lock of the row. The strings of
+     * an existing row are replaced so the unchanged ones keep their slot
+     * </p>
+     */
+    private void write(final long row, final Product product, final boolean isNew) {
+        final ByteBuffer chunk = chunk(row);
+        final int offset = offset(row);
+        byte flags = PRESENT;
+
+        if (null != product.getAvailable()) {
+            flags |= HAS_AVAILABLE;
+            chunk.putLong(AVAILABLE_COLUMN + Long.BYTES * offset, product.getAvailable());
+        }
+
+        if (null != product.getPrice()) {
+            flags |= HAS_PRICE;
+            chunk.putDouble(PRICE_COLUMN + Double.BYTES * offset, product.getPrice());
+        }
+
+        if (null != product.getUpdatedTime()) {
+            final Instant updatedTime = product.getUpdatedTime().toInstant();
+
+            flags |= HAS_UPDATED_TIME;
+            chunk.putLong(UPDATED_TIME_COLUMN + Long.BYTES * offset,
+                    updatedTime.getEpochSecond() * 1_000_000_000L + updatedTime.getNano());
+        }
+
+        if (null != product.getUserId()) {
+            flags |= HAS_USER_ID;
+            chunk.putLong(USER_ID_COLUMN + Long.BYTES * offset, product.getUserId());
+        }
+        chunk.put(CATEGORY_COLUMN + offset, (byte) (null == product.getCategory() ? 0 : product.getCategory().ordinal() + 1));
+        writeString(chunk, NAME_COLUMN + Long.BYTES * offset, product.getName(), isNew);
+        writeString(chunk, DESCRIPTION_COLUMN + Long.BYTES * offset, product.getDescription(), isNew);
+        chunk.put(FLAGS_COLUMN + offset, flags);
+    }
+
+    /**
+     * <p>
+     * Builds the {@link Product} of the row, called while holding the lock of the row
+     * </p>
+     */
+    private Product read(final long row) {
+        final ByteBuffer chunk = chunk(row);
+        final int offset = offset(row);
+        final byte flags = chunk.get(FLAGS_COLUMN + offset);
+        final byte category = chunk.get(CATEGORY_COLUMN + offset);
+        final Product product = new Product();
+
+        product.setId(row + 1);
+        product.setName(strings.get(chunk.getLong(NAME_COLUMN + Long.BYTES * offset)));
+        product.setDescription(strings.get(chunk.getLong(DESCRIPTION_COLUMN + Long.BYTES * offset)));
+        product.setCategory(0 == category ? null : CATEGORIES[category - 1]);
+
+        if (0 != (flags & HAS_AVAILABLE)) {
+            product.setAvailable(chunk.getLong(AVAILABLE_COLUMN + Long.BYTES * offset));
+        }
+
+        if (0 != (flags & HAS_PRICE)) {
+            product.setPrice(chunk.getDouble(PRICE_COLUMN + Double.BYTES * offset));
+        }
+
+        if (0 != (flags & HAS_UPDATED_TIME)) {
+            product.setUpdatedTime(Timestamp.from(Instant.ofEpochSecond(0, chunk.getLong(UPDATED_TIME_COLUMN + Long.BYTES * offset))));
+        }
+
+        if (0 != (flags & HAS_USER_ID)) {
+            product.setUserId(chunk.getLong(USER_ID_COLUMN + Long.BYTES * offset));
+        }
+        return product;
+    }
+
+    private void writeString(final ByteBuffer chunk, final int index, final String value, final boolean isNew) {
+        chunk.putLong(index, isNew ? strings.add(value) : strings.replace(chunk.getLong(index), value));
+    }
+
+    private void releaseStrings(final long row) {
+        final ByteBuffer chunk = chunk(row);
+        final int offset = offset(row);
+
+        strings.release(chunk.getLong(NAME_COLUMN + Long.BYTES * offset));
+        strings.release(chunk.getLong(DESCRIPTION_COLUMN + Long.BYTES * offset));
+    }
+
+    /**
+     * <p>
+     * Walks the rows in id order, the flags and user id columns are read without a lock to skip rows cheaply
+     * and every match is checked again while building it under the lock of its row
+     * </p>
+     */
+    private class ProductIterator implements Iterator<Product> {
+
+        private final Long userId;
+        private final long rows;
+        private long row;
+        private Product next;
+
+        private ProductIterator(final Long userId) {
+            this(userId, 0);
+        }
+
+        private ProductIterator(final Long userId, final long fromRow) {
+            this.userId = userId;
+            this.rows = rowCount;
+            this.row = fromRow;
+        }
+
+        public boolean hasNext() {
+            while (null == next && row < rows) {
+                final ByteBuffer chunk = chunk(row);
+                final int offset = offset(row);
+
+                if (null == chunk) {
+                    row = (row | CHUNK_MASK) + 1;
+
+                    continue;
+                }
+
+                if (isMatch(chunk, offset)) {
+                    synchronized (lock(row)) {
+                        if (isMatch(chunk, offset)) {
+                            next = read(row);
+                        }
+                    }
+                }
+                row++;
+            }
+            return null != next;
+        }
+
+        public Product next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Product product = next;
+
+            next = null;
+
+            return product;
+        }
+
+        private boolean isMatch(final ByteBuffer chunk, final int offset) {
+            final byte flags = chunk.get(FLAGS_COLUMN + offset);
+
+            if (0 == (flags & PRESENT)) {
+                return false;
+            }
+            return null == userId
+                    || (0 != (flags & HAS_USER_ID) && userId == chunk.getLong(USER_ID_COLUMN + Long.BYTES * offset));
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.amazon.service.impl;
 
+import com.amazon.collection.ConcurrentLongHashMap;
+import com.amazon.collection.ConcurrentLongMultimap;
+import com.amazon.dao.impl.DBConfiguration;
+import com.amazon.exception.UnavailableQuantityException;
+import com.amazon.model.BatchResult;
 import com.amazon.model.Cart;
 import com.amazon.model.Order;
+import com.amazon.model.Page;
 import com.amazon.model.Product;
 import com.amazon.model.User;
 import com.amazon.service.ProductService;
@@ -13,35 +19,50 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 /**
  * <p>
  * Implements the {@link ProductService} to provide services for {@link  Product}
  * </p>
  *
+ * <p>
+ * The orders and carts are kept in concurrent primitive long keyed maps with ids taken from atomic counters,
+ * so many sessions can use the service at once without a boxed key and a node per entry. The ids of the
+ * orders and carts of every user are kept in sorted primitive indexes so the per user lookups and pages only
+ * touch the user's own rows. The products are kept in a {@link ProductStore}, on the heap by default or in
+ * off heap columns when the product.store key is offheap. Every change of the stock of a product is made
+ * atomically by the store, so concurrent orders can not oversell
+ * </p>
+ *
  * @author Roshan
  * @version 1.0
  */
 public class ProductServiceImpl implements ProductService {
 
-    private final Map<Long, Product> productList;
-    private final Map<Long, Order> orderList;
-    private final Map<Long, Cart> cartList;
-    private Long productId;
-    private Long cartId;
-    private Long orderId;
+    private final ProductStore productStore;
+    private final ConcurrentLongHashMap<Order> orderList;
+    private final ConcurrentLongHashMap<Cart> cartList;
+    private final ConcurrentLongMultimap userOrderIds;
+    private final ConcurrentLongMultimap userCartIds;
+    private final ConcurrentLongMultimap productCartIds;
+    private final AtomicLong cartId;
+    private final AtomicLong orderId;
     private static final ProductServiceImpl AMAZON_PRODUCT_SERVICE = new ProductServiceImpl();
 
     private ProductServiceImpl() {
-        productList = new LinkedHashMap<>();
-        orderList = new HashMap<>();
-        cartList = new HashMap<>();
-        productId = 1L;
-        cartId = 1L;
-        orderId = 1L;
+        productStore = "offheap".equalsIgnoreCase(DBConfiguration.getInstance().get("product.store"))
+                ? new OffHeapProductStore() : new HeapProductStore();
+        orderList = new ConcurrentLongHashMap<>();
+        cartList = new ConcurrentLongHashMap<>();
+        userOrderIds = new ConcurrentLongMultimap();
+        userCartIds = new ConcurrentLongMultimap();
+        productCartIds = new ConcurrentLongMultimap();
+        cartId = new AtomicLong(1);
+        orderId = new AtomicLong(1);
     }
 
     /**
@@ -66,15 +87,31 @@ public class ProductServiceImpl implements ProductService {
             return false;
         }
 
-        try {
-            final Long id = generateId("product");
-            product.setId(id);
-            productList.put(id, product);
+        productStore.add(product);
 
-            return true;
-        } catch (ClassCastException exception) {
-            return false;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param products Represents the {@link Product} list to add
+     * @return Represents the generated id and the failure reason of every row as {@link BatchResult}
+     */
+    public BatchResult addAll(final List<Product> products) {
+        final BatchResult batchResult = new BatchResult(products.size());
+
+        for (int row = 0; row < products.size(); row++) {
+            final Product product = products.get(row);
+
+            if (add(product)) {
+                batchResult.setId(row, product.getId());
+            } else {
+                batchResult.addFailure(row, "product is missing");
+            }
         }
+
+        return batchResult;
     }
 
     /**
@@ -83,7 +120,27 @@ public class ProductServiceImpl implements ProductService {
      * @return Collection view of product's
      */
     public Collection<Product> getAllProducts() {
-        return productList.values();
+        return productStore.values();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return Represents the {@link Stream} of {@link Product}
+     */
+    public Stream<Product> streamAllProducts() {
+        return productStore.values().stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link Page} of {@link Product}
+     */
+    public Page<Product> getProductPage(final String cursor, final int pageSize) {
+        return getProductPage(null, cursor, Page.requirePageSize(pageSize));
     }
 
     /**
@@ -93,24 +150,37 @@ public class ProductServiceImpl implements ProductService {
      * @return Represents {@link Product} list created by the user
      */
     public Map<Long, Product> getUserProduct(final Long userId) {
-        final Map<Long, Product> products = new HashMap<>();
-
-        for (final Product product : productList.values()) {
+        final Map<Long, Product> products = new LinkedHashMap<>();
 
-            if (product.getUserId().equals(userId)) {
+        if (null != userId) {
+            for (final Product product : productStore.getUserProducts(userId)) {
                 products.put(product.getId(), product);
             }
         }
         return products;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId   Represents admin id
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of products in the page
+     * @return Represents the {@link Page} of {@link Product} created by the user
+     */
+    public Page<Product> getUserProductPage(final Long userId, final String cursor, final int pageSize) {
+        Page.requirePageSize(pageSize);
+
+        return null == userId ? new Page<>(new ArrayList<>(), null) : getProductPage(userId, cursor, pageSize);
+    }
+
     /**
      * {@inheritDoc}
      *
      * @return {@link Product} from the product list
      */
     public Product get(final Long productId) {
-        return productList.get(productId);
+        return null == productId ? null : productStore.get(productId);
     }
 
     /**
@@ -121,13 +191,12 @@ public class ProductServiceImpl implements ProductService {
      * @return True if the product name is updated successfully
      */
     public boolean update(Long id, Product product) {
-        if (null == product) {
+        if (null == id || null == product) {
             return false;
         }
         product.setUpdatedTime(Timestamp.from(Instant.now()));
-        productList.put(id, product);
 
-        return true;
+        return productStore.update(id, product);
     }
 
     /**
@@ -137,13 +206,7 @@ public class ProductServiceImpl implements ProductService {
      * @return True if the product is deleted successfully
      */
     public boolean delete(final Long id) {
-        if (getIds().contains(id)) {
-            productList.remove(id);
-
-            return true;
-        }
-
-        return false;
+        return null != id && productStore.remove(id);
     }
 
     /**
@@ -154,9 +217,7 @@ public class ProductServiceImpl implements ProductService {
     public Collection<Long> getIds() {
         final Collection<Long> productsId = new HashSet<>();
 
-        for (final Product product : productList.values()) {
-            final long productId = product.getId();
-
+        for (final long productId : productStore.ids()) {
             productsId.add(productId);
         }
 
@@ -168,20 +229,39 @@ public class ProductServiceImpl implements ProductService {
      *
      * @param order Represents {@link Order}
      * @return True if the order is added to the order list
+     * @throws UnavailableQuantityException if the product does not have the ordered quantity available
      */
-    public boolean order(final Order order) {
-        try {
-            order.setId(generateId("order"));
-            orderList.put(order.getId(), order);
-            final Product product = get(order.getProductId());
+    public boolean order(final Order order) throws UnavailableQuantityException {
+        if (null == order.getQuantity() || order.getQuantity() <= 0 || !takeStock(order.getProductId(), order.getQuantity())) {
+            throw new UnavailableQuantityException("Un available quantity");
+        }
+        order.setId(orderId.getAndIncrement());
+        orderList.put(order.getId(), order);
+        index(userOrderIds, order.getUserId(), order.getId());
 
-            product.setAvailable(product.getAvailable() - order.getQuantity());
-            productList.put(order.getProductId(), product);
+        return true;
+    }
 
-            return true;
-        } catch (ClassCastException exception) {
-            return false;
-        }
+    /**
+     * <p>
+     * Takes the quantity from the available stock of the product only when enough is available
+     * </p>
+     *
+     * @return True if the stock was taken
+     */
+    private boolean takeStock(final Long productId, final long quantity) {
+        return null != productId && productStore.takeStock(productId, quantity);
+    }
+
+    /**
+     * <p>
+     * Gives the quantity back to the available stock of the product
+     * </p>
+     *
+     * @return True if the product exists
+     */
+    private boolean returnStock(final Long productId, final long quantity) {
+        return null != productId && productStore.returnStock(productId, quantity);
     }
 
     /**
@@ -190,15 +270,70 @@ public class ProductServiceImpl implements ProductService {
      * @return Represents collection of {@link Order}
      */
     public List<Order> getOrderList(final Long userId) {
-        final List<Order> orderList = new ArrayList<>();
+        return getValues(getIndex(userOrderIds, userId), orderList);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId   Represents the id of the {@link User}
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of orders in the page
+     * @return Represents the {@link Page} of {@link Order}
+     */
+    public Page<Order> getOrderPage(final Long userId, final String cursor, final int pageSize) {
+        return getPage(userOrderIds, userId, orderList, cursor, Page.requirePageSize(pageSize));
+    }
 
-        for (Order order : this.orderList.values()) {
+    /**
+     * <p>
+     * Represents the page of the products ordered by id that continues after the id held by the cursor
+     * </p>
+     */
+    private Page<Product> getProductPage(final Long userId, final String cursor, final int pageSize) {
+        final List<Product> rows = productStore.getPage(userId, Page.decodeCursor(cursor), pageSize + 1);
+
+        if (rows.size() <= pageSize) {
+            return new Page<>(rows, null);
+        }
+        final List<Product> items = new ArrayList<>(rows.subList(0, pageSize));
 
-            if (order.getUserId() == userId) {
-                orderList.add(order);
+        return new Page<>(items, Page.encodeCursor(items.get(pageSize - 1).getId()));
+    }
+
+    /**
+     * <p>
+     * Represents the page of the indexed values that continues after the id held by the cursor, only the
+     * ids of the page are visited
+     * </p>
+     */
+    private <T> Page<T> getPage(final ConcurrentLongMultimap index, final Long key, final ConcurrentLongHashMap<T> values,
+                                final String cursor, final int pageSize) {
+        final List<T> items = new ArrayList<>(pageSize);
+        long lastId = Page.decodeCursor(cursor);
+
+        if (null == key) {
+            return new Page<>(items, null);
+        }
+
+        while (items.size() < pageSize) {
+            final long[] ids = index.getAfter(key, lastId, pageSize - items.size());
+
+            if (0 == ids.length) {
+                return new Page<>(items, null);
             }
+
+            for (final long id : ids) {
+                final T value = values.get(id);
+
+                if (null != value) {
+                    items.add(value);
+                }
+            }
+            lastId = ids[ids.length - 1];
         }
-        return orderList;
+
+        return new Page<>(items, index.getAfter(key, lastId, 1).length > 0 ? Page.encodeCursor(lastId) : null);
     }
 
     /**
@@ -208,7 +343,7 @@ public class ProductServiceImpl implements ProductService {
      * @return Represents {@link Order}
      */
     public Order getOrder(Long orderId) {
-        return orderList.get(orderId);
+        return null == orderId ? null : orderList.get(orderId);
     }
 
     /**
@@ -217,18 +352,70 @@ public class ProductServiceImpl implements ProductService {
      * @return True if removed successfully
      */
     public boolean cancelOrder(final Long orderId) {
-        try {
-            orderList.remove(orderId);
-            final Order order = getOrder(orderId);
-            final Product product = get(order.getProductId());
+        final Order order = null == orderId ? null : orderList.remove(orderId);
 
-            product.setAvailable(product.getAvailable() + order.getQuantity());
-            productList.put(order.getProductId(), product);
-
-            return true;
-        } catch (Exception exception) {
+        if (null == order) {
             return false;
         }
+        unindex(userOrderIds, order.getUserId(), orderId);
+
+        return returnStock(order.getProductId(), order.getQuantity());
+    }
+
+    /**
+     * Represents the order of every product in the cart of the user, nothing is ordered when any product is
+     * short
+     *
+     * <p>
+     * Every cart line is claimed by removing it before any stock is taken, so concurrent checkouts of the same
+     * cart order each line only once, a line already claimed by another checkout is skipped. The price of
+     * every product is read before its stock is taken, so a product deleted meanwhile does not fail the
+     * checkout after the stock was taken. When any product is short the taken stock is given back and the
+     * claimed lines are put back in the cart
+     * </p>
+     *
+     * @param userId      Represents the id of the {@link User}
+     * @param paymentType Represents the payment type of the orders
+     * @return Represents the placed {@link Order} of every cart line, empty if the cart is empty
+     * @throws UnavailableQuantityException if any product does not have the quantity in the cart available
+     */
+    public List<Order> checkoutCart(final Long userId, final Order.Payment paymentType) throws UnavailableQuantityException {
+        final List<Cart> claimedCartList = new ArrayList<>();
+        final Map<Long, Long> productQuantities = new HashMap<>();
+
+        for (final Cart cart : getCartList(userId)) {
+            if (removeCart(cart.getId())) {
+                claimedCartList.add(cart);
+                productQuantities.merge(cart.getProductId(), cart.getQuantity(), Long::sum);
+            }
+        }
+        final Map<Long, Long> takenQuantities = new HashMap<>();
+        final Map<Long, Double> productPrices = new HashMap<>();
+
+        for (final Map.Entry<Long, Long> productQuantity : productQuantities.entrySet()) {
+            final Product product = get(productQuantity.getKey());
+
+            if (null == product || !takeStock(productQuantity.getKey(), productQuantity.getValue())) {
+                takenQuantities.forEach(this::returnStock);
+                claimedCartList.forEach(this::restoreCart);
+                throw new UnavailableQuantityException("Un available quantity for the product " + productQuantity.getKey());
+            }
+            takenQuantities.put(productQuantity.getKey(), productQuantity.getValue());
+            productPrices.put(productQuantity.getKey(), product.getPrice());
+        }
+        final List<Order> orderList = new ArrayList<>(claimedCartList.size());
+
+        for (final Cart cart : claimedCartList) {
+            final Order order = new Order(cart, paymentType);
+
+            order.setPrice(productPrices.get(cart.getProductId()));
+            order.setId(orderId.getAndIncrement());
+            this.orderList.put(order.getId(), order);
+            index(userOrderIds, order.getUserId(), order.getId());
+            orderList.add(order);
+        }
+
+        return orderList;
     }
 
     /**
@@ -238,13 +425,15 @@ public class ProductServiceImpl implements ProductService {
      * @return True if the product is added to cart successfully
      */
     public boolean addToCart(final Cart cart) {
-        try {
-            cart.setId(generateId("cart"));
-            cartList.put(cart.getId(), cart);
-            return true;
-        } catch (Exception exception) {
+        if (null == cart) {
             return false;
         }
+        cart.setId(cartId.getAndIncrement());
+        cartList.put(cart.getId(), cart);
+        index(userCartIds, cart.getUserId(), cart.getId());
+        index(productCartIds, cart.getProductId(), cart.getId());
+
+        return true;
     }
 
     /**
@@ -254,15 +443,7 @@ public class ProductServiceImpl implements ProductService {
      * @return Collection of products from the cart
      */
     public List<Cart> getCartList(final Long userId) {
-        final List<Cart> cartList = new LinkedList<>();
-
-        for (Cart cart : this.cartList.values()) {
-
-            if (cart.getUserId() == userId) {
-                cartList.add(cart);
-            }
-        }
-        return cartList;
+        return getValues(getIndex(userCartIds, userId), cartList);
     }
 
     /**
@@ -272,13 +453,7 @@ public class ProductServiceImpl implements ProductService {
      * @return Represents {@link Cart}
      */
     public Cart getCart(Long id) {
-        for (Cart cart : cartList.values()) {
-
-            if (cart.getId() == id) {
-                return cart;
-            }
-        }
-        return null;
+        return null == id ? null : cartList.get(id);
     }
 
     /**
@@ -300,15 +475,29 @@ public class ProductServiceImpl implements ProductService {
      * Represents the removal of product for the particular cart id
      *
      * @param cartId Represents the id of the cart
-     * @return True if the Product is removed successfully
+     * @return True if the cart line was removed by this call, false if it does not exist or was removed already
      */
     public boolean removeCart(final Long cartId) {
-        try {
-            cartList.remove(cartId);
-            return true;
-        } catch (ClassCastException exception) {
+        final Cart cart = null == cartId ? null : cartList.remove(cartId);
+
+        if (null == cart) {
             return false;
         }
+        unindex(userCartIds, cart.getUserId(), cartId);
+        unindex(productCartIds, cart.getProductId(), cartId);
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Puts a claimed cart line back under its own id
+     * </p>
+     */
+    private void restoreCart(final Cart cart) {
+        cartList.put(cart.getId(), cart);
+        index(userCartIds, cart.getUserId(), cart.getId());
+        index(productCartIds, cart.getProductId(), cart.getId());
     }
 
     /**
@@ -319,10 +508,10 @@ public class ProductServiceImpl implements ProductService {
      * @return True if the product quantity updated successfully
      */
     public boolean updateQuantityInCart(Long quantity, Long productId) {
-        for (Cart cart : cartList.values()) {
-            if (cart.getProductId() == productId) {
-                final Double price = cart.getPrice()/ cartList.size();
-                System.out.println(price);
+        for (final Cart cart : getValues(getIndex(productCartIds, productId), cartList)) {
+            synchronized (cart) {
+                final Double price = cart.getPrice() / cart.getQuantity();
+
                 cart.setQuantity(cart.getQuantity() + quantity);
                 cart.setPrice(cart.getPrice() + (quantity * price));
 
@@ -340,33 +529,45 @@ public class ProductServiceImpl implements ProductService {
      * @return True if the product quantity updated successfully
      */
     public boolean updateQuantityInProduct(Long quantity, Long productId) {
-        for (Product product : productList.values()) {
-            if (product.getId() == productId) {
-                product.setAvailable(product.getAvailable() + quantity);
+        return returnStock(productId, quantity);
+    }
 
-                return true;
-            }
+    /**
+     * <p>
+     * Represents the sorted ids kept for the key, empty if the key has none
+     * </p>
+     */
+    private long[] getIndex(final ConcurrentLongMultimap index, final Long key) {
+        return null == key ? new long[0] : index.get(key);
+    }
+
+    private void index(final ConcurrentLongMultimap index, final Long key, final Long id) {
+        if (null != key) {
+            index.put(key, id);
+        }
+    }
+
+    private void unindex(final ConcurrentLongMultimap index, final Long key, final Long id) {
+        if (null != key) {
+            index.remove(key, id);
         }
-        return false;
     }
 
     /**
      * <p>
-     * Represent the id creation for product that is added to the product list
+     * Represents the values of the ids in id order, ids removed meanwhile are skipped
      * </p>
-     *
-     * @return Represents the product id
-     */
-    public Long generateId(final String value) {
-        switch (value) {
-            case "product":
-                return productId++;
-            case "order":
-                return orderId++;
-            case "cart":
-                return cartId ++;
-            default:
-                return null;
+     */
+    private <T> List<T> getValues(final long[] ids, final ConcurrentLongHashMap<T> values) {
+        final List<T> valueList = new ArrayList<>(ids.length);
+
+        for (final long id : ids) {
+            final T value = values.get(id);
+
+            if (null != value) {
+                valueList.add(value);
+            }
         }
+        return valueList;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package com.amazon.service.impl;
+
+import com.amazon.model.Product;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * Represents where the {@link ProductServiceImpl} keeps its products, chosen by the product.store key
+ * </p>
+ *
+ * <p>
+ * The ids are handed out by the store in increasing order. Every change of the available stock is made
+ * atomically by the store so concurrent orders can not oversell
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+interface ProductStore {
+
+    /**
+     * @return Represents the id given to the {@link Product}, also set on the product
+     */
+    long add(final Product product);
+
+    /**
+     * @return Represents the {@link Product} or null if there is no product with the id
+     */
+    Product get(final long id);
+
+    /**
+     * @return True if the product existed and was replaced
+     */
+    boolean update(final long id, final Product product);
+
+    /**
+     * @return True if the product existed and was removed
+     */
+    boolean remove(final long id);
+
+    /**
+     * @return True if the product had the quantity available and it was taken
+     */
+    boolean takeStock(final long id, final long quantity);
+
+    /**
+     * @return True if the product exists and the quantity was given back
+     */
+    boolean returnStock(final long id, final long quantity);
+
+    Collection<Product> values();
+
+    long[] ids();
+
+    /**
+     * @return Represents the products created by the user ordered by id
+     */
+    List<Product> getUserProducts(final long userId);
+
+    /**
+     * @param userId  Represents the user whose products are wanted, null for the products of every user
+     * @param afterId Represents the id the page continues after
+     * @param limit   Represents the maximum number of products
+     * @return Represents the products ordered by id
+     */
+    List<Product> getPage(final Long userId, final long afterId, final int limit);
+}
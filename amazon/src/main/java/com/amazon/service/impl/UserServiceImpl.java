@@ -1,11 +1,15 @@
 package com.amazon.service.impl;
 
+import com.amazon.service.SessionStore;
 import com.amazon.service.UserService;
+import com.amazon.model.BatchResult;
+import com.amazon.model.Page;
 import com.amazon.model.User;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -18,10 +22,12 @@ import java.util.Map;
 public class UserServiceImpl implements UserService {
 
     private static final UserServiceImpl USER_SERVICE = new UserServiceImpl();
-
-    public static final Map<Long, User> usersList = new HashMap<>();
+    private final UserStore userStore;
+    private final SessionStore sessionStore;
 
     private UserServiceImpl() {
+        userStore = UserStore.getInstance();
+        sessionStore = SessionStore.getInstance();
     }
 
     /**
@@ -43,7 +49,7 @@ public class UserServiceImpl implements UserService {
      * @return Represents {@link User}
      */
     public User get(final Long id) {
-        return usersList.get(id);
+        return null == id ? null : userStore.get(id);
     }
 
     /**
@@ -53,10 +59,11 @@ public class UserServiceImpl implements UserService {
      * @return True is the user is deleted successfully
      */
     public boolean delete(final Long user_id) {
-        if (0 == user_id) {
+        if (null == user_id || 0 == user_id) {
             return false;
         }
-        usersList.remove(user_id);
+        userStore.remove(user_id);
+        sessionStore.removeUser(user_id);
 
         return true;
     }
@@ -65,9 +72,64 @@ public class UserServiceImpl implements UserService {
      * {@inheritDoc}
      *
      * @return Represents Collection of {@link User} in the usersList
+     * @deprecated Loads every user into memory at once, use {@link #streamAllUsers()} or
+     * {@link #getUserPage(String, int)} instead
      */
+    @Deprecated
     public Collection<User> getAllUser() {
-        return usersList.values();
+        final Collection<User> profiles = new ArrayList<>();
+
+        for (final User user : userStore.values()) {
+            profiles.add(user.getProfile());
+        }
+        return profiles;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return Represents the {@link Stream} of {@link User}
+     */
+    public Stream<User> streamAllUsers() {
+        return userStore.values().stream().map(User::getProfile);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param cursor   Represents the cursor of the page, null for the first page
+     * @param pageSize Represents the maximum number of users in the page
+     * @return Represents the {@link Page} of {@link User}
+     */
+    public Page<User> getUserPage(final String cursor, final int pageSize) {
+        final List<User> rows = userStore.getPage(Page.decodeCursor(cursor), Page.requirePageSize(pageSize) + 1);
+        final List<User> users = new ArrayList<>(Math.min(rows.size(), pageSize));
+
+        for (int index = 0; index < rows.size() && index < pageSize; index++) {
+            users.add(rows.get(index).getProfile());
+        }
+        return new Page<>(users, rows.size() > pageSize ? Page.encodeCursor(users.get(pageSize - 1).getId()) : null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param users Represents the {@link User} list to add
+     * @return Represents the generated id and the failure reason of every row as {@link BatchResult}
+     */
+    public BatchResult addAll(final List<User> users) {
+        final BatchResult batchResult = new BatchResult(users.size());
+
+        for (int row = 0; row < users.size(); row++) {
+            final User user = users.get(row);
+
+            if (userStore.add(user)) {
+                batchResult.setId(row, user.getId());
+            } else {
+                batchResult.addFailure(row, "The email or the phone number is already taken");
+            }
+        }
+        return batchResult;
     }
 
     /**
@@ -75,15 +137,15 @@ public class UserServiceImpl implements UserService {
      *
      * @param user Represents {@link User}
      * @param id   Represents the id of user
-     * @return True if the user is updated successfully
+     * @return True if the user is updated successfully, false if the email or phone number belongs to
+     * another user
      */
     public boolean update(User user, Long id) {
-        try {
-            usersList.put(id, user);
-
-            return true;
-        } catch (Exception exception) {
+        if (null == user || null == id || !userStore.update(id, user)) {
             return false;
         }
+        sessionStore.updateUser(id, user);
+
+        return true;
     }
-}
\ No newline at end of file
+}
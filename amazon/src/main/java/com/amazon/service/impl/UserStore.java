@@ -0,0 +1,207 @@
+package com.amazon.service.impl;
+
+import com.amazon.collection.ConcurrentLongHashMap;
+import com.amazon.collection.ConcurrentLongSortedSet;
+import com.amazon.model.User;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Represents the in-memory users shared by the {@link UserServiceImpl} and the {@link AuthenticationServiceImpl}
+ * </p>
+ *
+ * <p>
+ * Besides the users by id, the users are kept by email and by phone number so sign in and the sign up checks
+ * are single lookups, and their ids are kept in a sorted index for the pages. Every user is kept with the email and phone number it was indexed under, because the
+ * views change a user in place before updating it and the old keys could not be found from the user itself.
+ * Writes are serialized so the maps and the index always agree, reads take no lock
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+final class UserStore {
+
+    private static final UserStore USER_STORE = new UserStore();
+
+    private final ConcurrentLongHashMap<Entry> users;
+    private final ConcurrentLongSortedSet userIds;
+    private final Map<String, Entry> usersByEmail;
+    private final Map<String, Entry> usersByPhoneNumber;
+    private final AtomicLong userId;
+
+    private UserStore() {
+        users = new ConcurrentLongHashMap<>();
+        userIds = new ConcurrentLongSortedSet();
+        usersByEmail = new ConcurrentHashMap<>();
+        usersByPhoneNumber = new ConcurrentHashMap<>();
+        userId = new AtomicLong(1);
+    }
+
+    static UserStore getInstance() {
+        return USER_STORE;
+    }
+
+    /**
+     * <p>
+     * Adds the user with a new id
+     * </p>
+     *
+     * @return False if another user already has the email or the phone number
+     */
+    synchronized boolean add(final User user) {
+        if (isTaken(usersByEmail, user.getEmail(), null) || isTaken(usersByPhoneNumber, user.getPhoneNumber(), null)) {
+            return false;
+        }
+        final long id = userId.getAndIncrement();
+
+        user.setId(id);
+        index(id, new Entry(user));
+        userIds.add(id);
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Replaces the user with the id
+     * </p>
+     *
+     * @return False if there is no user with the id or another user already has the email or the phone number
+     */
+    synchronized boolean update(final long id, final User user) {
+        final Entry previous = users.get(id);
+
+        if (null == previous || isTaken(usersByEmail, user.getEmail(), previous)
+                || isTaken(usersByPhoneNumber, user.getPhoneNumber(), previous)) {
+            return false;
+        }
+        user.setId(id);
+        index(id, new Entry(user));
+        unindex(previous);
+
+        return true;
+    }
+
+    synchronized boolean remove(final long id) {
+        final Entry entry = users.remove(id);
+
+        if (null == entry) {
+            return false;
+        }
+        userIds.remove(id);
+        unindex(entry);
+
+        return true;
+    }
+
+    User get(final long id) {
+        return getUser(users.get(id));
+    }
+
+    User getByEmail(final String email) {
+        return null == email ? null : getUser(usersByEmail.get(email));
+    }
+
+    User getByPhoneNumber(final String phoneNumber) {
+        return null == phoneNumber ? null : getUser(usersByPhoneNumber.get(phoneNumber));
+    }
+
+    /**
+     * @return Represents at most limit users with an id greater than the given one, ordered by id. The page is
+     * read from the sorted index, so the users removed before it are not visited
+     */
+    List<User> getPage(final long afterId, final int limit) {
+        final List<User> page = new ArrayList<>();
+        long lastId = afterId;
+
+        while (page.size() < limit) {
+            final long[] ids = userIds.getAfter(lastId, limit - page.size());
+
+            if (0 == ids.length) {
+                break;
+            }
+
+            for (final long id : ids) {
+                final Entry entry = users.get(id);
+
+                if (null != entry) {
+                    page.add(entry.user);
+                }
+            }
+            lastId = ids[ids.length - 1];
+        }
+        return page;
+    }
+
+    Collection<User> values() {
+        final Collection<User> userList = new ArrayList<>();
+
+        for (final Entry entry : users.values()) {
+            userList.add(entry.user);
+        }
+        return userList;
+    }
+
+    private void index(final long id, final Entry entry) {
+        users.put(id, entry);
+
+        if (null != entry.email) {
+            usersByEmail.put(entry.email, entry);
+        }
+
+        if (null != entry.phoneNumber) {
+            usersByPhoneNumber.put(entry.phoneNumber, entry);
+        }
+    }
+
+    /**
+     * <p>
+     * Drops the keys still indexed for the entry, keys already taken over by a newer entry are kept
+     * </p>
+     */
+    private void unindex(final Entry entry) {
+        if (null != entry.email) {
+            usersByEmail.remove(entry.email, entry);
+        }
+
+        if (null != entry.phoneNumber) {
+            usersByPhoneNumber.remove(entry.phoneNumber, entry);
+        }
+    }
+
+    /**
+     * @return True if the key is indexed for a user other than the one of the given entry
+     */
+    private static boolean isTaken(final Map<String, Entry> index, final String key, final Entry owner) {
+        if (null == key) {
+            return false;
+        }
+        final Entry entry = index.get(key);
+
+        return null != entry && entry != owner;
+    }
+
+    private static User getUser(final Entry entry) {
+        return null == entry ? null : entry.user;
+    }
+
+    private static class Entry {
+
+        private final User user;
+        private final String email;
+        private final String phoneNumber;
+
+        private Entry(final User user) {
+            this.user = user;
+            this.email = user.getEmail();
+            this.phoneNumber = user.getPhoneNumber();
+        }
+    }
+}
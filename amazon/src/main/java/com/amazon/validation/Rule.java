@@ -0,0 +1,19 @@
+package com.amazon.validation;
+
+/**
+ * <p>
+ * Represents one validation rule of a field value, a rule is built once and is safe to share between threads
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface Rule {
+
+    /**
+     * @param value Represents the value of the field, never null
+     * @return True if the value follows the rule
+     */
+    boolean isValid(final String value);
+}
@@ -0,0 +1,110 @@
+package com.amazon.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Represents the {@link Rule} of every field of a record type. The rules are built and added once, after
+ * that the rule set only reads them and is safe to share between threads
+ * </p>
+ *
+ * @param <T> Represents the type of the validated records
+ * @author Roshan B
+ * @version 1.0
+ */
+public class RuleSet<T> {
+
+    private final List<FieldRule<T>> fieldRules = new ArrayList<>();
+
+    /**
+     * <p>
+     * Adds the rule of a field, a field whose value is null breaks its rule
+     * </p>
+     *
+     * @param field   Represents the name of the field
+     * @param getter  Represents the getter of the field value
+     * @param rule    Represents the {@link Rule} of the field
+     * @param message Represents the message of the {@link ValidationError} when the rule is broken
+     * @return Represents this {@link RuleSet}
+     */
+    public RuleSet<T> add(final String field, final Function<T, String> getter, final Rule rule, final String message) {
+        fieldRules.add(new FieldRule<>(field, getter, rule, message));
+
+        return this;
+    }
+
+    /**
+     * @param record Represents the record to validate
+     * @return Represents the {@link ValidationError} of every broken rule in the order the rules were added,
+     * empty if the record is valid
+     */
+    public List<ValidationError> validate(final T record) {
+        final List<ValidationError> errors = new ArrayList<>(0);
+
+        addErrors(0, record, errors);
+
+        return errors.isEmpty() ? Collections.emptyList() : errors;
+    }
+
+    /**
+     * <p>
+     * Validates the records one after the other, the errors of every record are collected in a single list
+     * </p>
+     *
+     * @param records Represents the records to validate
+     * @return Represents the {@link ValidationError} of every broken rule ordered by the record index, empty
+     * if every record is valid
+     */
+    public List<ValidationError> validateAll(final List<T> records) {
+        final List<ValidationError> errors = new ArrayList<>();
+
+        for (int index = 0; index < records.size(); index++) {
+            addErrors(index, records.get(index), errors);
+        }
+        return errors;
+    }
+
+    /**
+     * @return True if the record breaks none of the rules, without collecting the errors
+     */
+    public boolean isValid(final T record) {
+        for (final FieldRule<T> fieldRule : fieldRules) {
+            if (!fieldRule.isValid(record)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addErrors(final int index, final T record, final List<ValidationError> errors) {
+        for (final FieldRule<T> fieldRule : fieldRules) {
+            if (!fieldRule.isValid(record)) {
+                errors.add(new ValidationError(index, fieldRule.field, fieldRule.message));
+            }
+        }
+    }
+
+    private static class FieldRule<T> {
+
+        private final String field;
+        private final Function<T, String> getter;
+        private final Rule rule;
+        private final String message;
+
+        private FieldRule(final String field, final Function<T, String> getter, final Rule rule, final String message) {
+            this.field = field;
+            this.getter = getter;
+            this.rule = rule;
+            this.message = message;
+        }
+
+        private boolean isValid(final T record) {
+            final String value = getter.apply(record);
+
+            return null != value && rule.isValid(value);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.amazon.validation;
+
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Provides the {@link Rule} implementations. A regular expression is compiled once when its rule is built,
+ * the simple patterns have hand written rules that check the characters without a matcher
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public final class Rules {
+
+    private Rules() {
+    }
+
+    /**
+     * @param regex Represents the regular expression the whole value has to match
+     * @return Represents the {@link Rule} of the compiled expression
+     */
+    public static Rule pattern(final String regex) {
+        final Pattern pattern = Pattern.compile(regex);
+
+        return value -> pattern.matcher(value).matches();
+    }
+
+    /**
+     * @return Represents the {@link Rule} of ^[0-9]+$
+     */
+    public static Rule digits() {
+        return value -> !value.isEmpty() && isDigits(value, 0);
+    }
+
+    /**
+     * @return Represents the {@link Rule} of ^[6-9][0-9]{9}$, a ten digit mobile number
+     */
+    public static Rule phoneNumber() {
+        return value -> 10 == value.length() && value.charAt(0) >= '6' && value.charAt(0) <= '9'
+                && isDigits(value, 1);
+    }
+
+    /**
+     * @param minLength Represents the minimum length of the value
+     * @param maxLength Represents the maximum length of the value
+     * @return Represents the {@link Rule} of ^[a-zA-Z][a-zA-Z0-9]{minLength - 1,maxLength - 1}$
+     */
+    public static Rule alphanumeric(final int minLength, final int maxLength) {
+        return value -> {
+            if (value.length() < minLength || value.length() > maxLength || !isLetter(value.charAt(0))) {
+                return false;
+            }
+
+            for (int index = 1; index < value.length(); index++) {
+                final char character = value.charAt(index);
+
+                if (!isLetter(character) && !isDigit(character)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static boolean isDigits(final String value, final int fromIndex) {
+        for (int index = fromIndex; index < value.length(); index++) {
+            if (!isDigit(value.charAt(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(final char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean isLetter(final char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z');
+    }
+}
@@ -0,0 +1,31 @@
+package com.amazon.validation;
+
+import com.amazon.model.User;
+
+/**
+ * <p>
+ * Represents the compiled rules of the {@link User} fields shared by the validators, the interactive views
+ * check one value at a time and the bulk import checks whole records with the {@link #USER} rule set
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public final class UserRules {
+
+    public static final Rule NAME = Rules.alphanumeric(4, 17);
+    public static final Rule EMAIL = Rules.pattern("^[a-zA-z]+[a-zA-Z0-9_.\\S]+@[a-z]{3,}\\.[a-z\\S]{2,3}$");
+    public static final Rule PASSWORD = Rules.pattern("^(?=.*\\d)(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%]).\\S{7,20}$");
+    public static final Rule ADDRESS = Rules.pattern("^[0-9]+/[0-9]{1,3}[\\w*\\s*[0-9]*]{2,}");
+    public static final Rule PHONE_NUMBER = Rules.phoneNumber();
+    public static final Rule ID = Rules.digits();
+    public static final RuleSet<User> USER = new RuleSet<User>()
+            .add("NAME", User::getName, NAME, "Invalid name")
+            .add("EMAIL", User::getEmail, EMAIL, "Invalid email")
+            .add("PASSWORD", User::getPassword, PASSWORD, "Invalid password")
+            .add("ADDRESS", User::getAddress, ADDRESS, "Invalid address")
+            .add("PHONE_NUMBER", User::getPhoneNumber, PHONE_NUMBER, "Invalid phone number");
+
+    private UserRules() {
+    }
+}
@@ -0,0 +1,41 @@
+package com.amazon.validation;
+
+/**
+ * <p>
+ * Represents a field of a record that broke its {@link Rule}
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+public class ValidationError {
+
+    private final int index;
+    private final String field;
+    private final String message;
+
+    public ValidationError(final int index, final String field, final String message) {
+        this.index = index;
+        this.field = field;
+        this.message = message;
+    }
+
+    /**
+     * @return Represents the index of the record in the validated list, 0 for a single record
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String toString() {
+        return String.format("%d %s : %s", index, field, message);
+    }
+}
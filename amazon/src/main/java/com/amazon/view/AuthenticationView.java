@@ -2,6 +2,7 @@ package com.amazon.view;
 
 import com.amazon.controller.AuthenticationController;
 import com.amazon.exception.DBException;
+import com.amazon.model.Session;
 import com.amazon.model.User;
 
 /**
@@ -63,9 +64,11 @@ public class AuthenticationView extends View {
      */
     public void signIn() {
         try {
-            if (authenticationController.signIn(USER_VIEW.obtainEmail(), USER_VIEW.obtainPassword())) {
+            final Session session = authenticationController.signIn(USER_VIEW.obtainEmail(), USER_VIEW.obtainPassword());
+
+            if (null != session) {
                 System.out.println("Sign in successful");
-                USER_VIEW.obtainUserOptions();
+                USER_VIEW.startSession(session);
             } else {
                 System.out.println("Sign in unsuccessful");
                 signIn();
@@ -97,9 +100,12 @@ public class AuthenticationView extends View {
             user.setName(USER_VIEW.obtainName());
             user.setAddress(USER_VIEW.obtainAddress());
 
-            if (authenticationController.signUp(user)) {
+            final Session session = authenticationController.signUp(user)
+                    ? authenticationController.signIn(user.getEmail(), user.getPassword()) : null;
+
+            if (null != session) {
                 System.out.println("Sing up successful");
-                USER_VIEW.obtainUserOptions();
+                USER_VIEW.startSession(session);
             } else {
                 System.out.println("Sign up unsuccessful");
                 displayMenu();
@@ -13,9 +13,7 @@ import com.amazon.view.builder.OrderBuilder;
 import com.amazon.view.builder.ProductBuilder;
 import com.amazon.view.validation.ProductValidator;
 
-import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 /**
  * <p>
@@ -444,12 +442,10 @@ public class ProductView extends View {
      */
     public void viewProduct(final Long userId) {
         try {
-            final Collection<Product> products = productController.getAllProduct();
-            if (products == null) {
+            if (0 == browsePages(cursor -> productController.getProductPage(cursor, PAGE_SIZE))) {
                 System.out.println("The product list is empty");
                 userView.obtainUserOptions();
             }
-            System.out.println(products);
             System.out.println("Do you want to add product to cart press yes(y) else no(n)");
 
             if (productValidator.toContinueValidation(SCANNER.nextLine().trim())) {
@@ -475,13 +471,10 @@ public class ProductView extends View {
      */
     private void viewUserProduct(final Long userId) {
         try {
-            final Map<Long, Product> products = productController.getUserProduct(userId);
-
-            if (products.isEmpty()) {
+            if (0 == browsePages(cursor -> productController.getUserProductPage(userId, cursor, PAGE_SIZE))) {
                 System.out.println("The product list is empty");
                 accessProduct(userId);
             }
-            System.out.println(products.values());
         } catch (DBException exception) {
             System.out.println(exception.getMessage());
         }
@@ -552,7 +545,9 @@ public class ProductView extends View {
      */
     public void getOrderList(final Long userId) {
         try {
-            System.out.println(productController.getOrderList(userId));
+            if (0 == browsePages(cursor -> productController.getOrderPage(userId, cursor, PAGE_SIZE))) {
+                System.out.println("The order list is empty");
+            }
         } catch (DBException exception) {
             System.out.println(exception.getMessage());
         }
@@ -719,7 +714,7 @@ public class ProductView extends View {
         try {
             final List<Cart> cartList = productController.getCartList(userId);
 
-            if (null == cartList) {
+            if (null == cartList || cartList.isEmpty()) {
                 System.out.println("Your cart is empty");
                 userView.obtainUserOptions();
             } else {
@@ -727,19 +722,7 @@ public class ProductView extends View {
                 System.out.println("do you want to order the products");
 
                 if (productValidator.toContinueValidation(SCANNER.nextLine().trim())) {
-                    System.out.println("Enter the cart id");
-
-                    try {
-                        final Cart cart = productController.getCart(Long.parseLong(SCANNER.nextLine().trim()));
-                        if (null == cart) {
-                            System.out.println("Enter the valid cart id ");
-                            getCart(userId);
-                        }
-                        cartToOrder(cart);
-                    } catch (NumberFormatException exception) {
-                        System.out.println(exception.getMessage());
-                        getCart(userId);
-                    }
+                    checkoutCart(userId);
                 }
                 System.out.println("Do you want to exit press yes(y) else no(n)");
 
@@ -756,16 +739,16 @@ public class ProductView extends View {
 
     /**
      * <p>
-     * Represents order the product from the cart
+     * Represents order every product in the cart
      * </p>
      *
-     * @param cart Represents the {@link Cart}
+     * @param userId Represents the id of {@link User}
      */
-    public void cartToOrder(final Cart cart) {
+    public void checkoutCart(final Long userId) {
         try {
-            final Order order = new Order(cart, obtainPaymentType());
-            productController.order(order);
-        }  catch (DBException exception) {
+            System.out.println(productController.checkoutCart(userId, obtainPaymentType()));
+            System.out.println("Products ordered successfully");
+        }  catch (UnavailableQuantityException | DBException exception) {
             System.out.println(exception.getMessage());
         }
     }
@@ -1,10 +1,19 @@
 package com.amazon.view;
 
+import com.amazon.controller.AuthenticationController;
 import com.amazon.controller.UserController;
+import com.amazon.exception.DBException;
+import com.amazon.model.ImportResult;
+import com.amazon.model.Session;
 import com.amazon.model.User;
 import com.amazon.view.validation.UserValidator;
 
-import java.util.Collection;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * <p>
@@ -20,12 +29,15 @@ public class UserView extends View {
     private final UserValidator userValidator;
     private final AuthenticationView authenticationView;
     private final UserController userController;
+    private final AuthenticationController authenticationController;
     private final ProductView productView ;
+    private String sessionId;
 
     private UserView() {
         userValidator = UserValidator.getInstance();
         authenticationView = AuthenticationView.getInstance();
         userController = UserController.getInstance();
+        authenticationController = AuthenticationController.getInstance();
         productView = ProductView.getInstance();
     }
 
@@ -53,7 +65,7 @@ public class UserView extends View {
 
         switch (userOption) {
             case ONE:
-                System.out.println(get(userId));
+                System.out.println(getProfile(userId));
                 break;
             case TWO:
                 update(userId);
@@ -98,6 +110,21 @@ public class UserView extends View {
         }
     }
 
+    /**
+     * <p>
+     * Gets the profile of the signed in user from the session, the user list is only read when the
+     * session belongs to another user
+     * </p>
+     *
+     * @param userId Represents the id of {@link User}
+     * @return Represents the {@link User} without the password
+     */
+    private User getProfile(final Long userId) {
+        final Session session = authenticationController.getSession(sessionId);
+
+        return null != session && userId.equals(session.getUserId()) ? session.getUser() : get(userId);
+    }
+
     /**
      * <p>
      * Updates the Admin details in user list using user object
@@ -405,18 +432,41 @@ public class UserView extends View {
 
     /**
      * <p>
-     * Provides option for access user details and the products details and logout
+     * Keeps the session of the signed in user and shows the user options
+     * </p>
+     *
+     * @param session Represents the {@link Session} returned by sign in
+     */
+    public void startSession(final Session session) {
+        sessionId = session.getId();
+        obtainUserOptions();
+    }
+
+    /**
+     * <p>
+     * Provides option for access user details and the products details and logout, the user is taken from
+     * the session
      * </p>
      */
     public void obtainUserOptions() {
+        final Session session = authenticationController.getSession(sessionId);
+
+        if (null == session) {
+            System.out.println("The session has expired, sign in again");
+            authenticationView.displayMenu();
+
+            return;
+        }
         System.out.println(String.join("", "Choose from the options\n1.admin details\n",
-                "2.sell product\n3.view products\n4.cart details\n5.order details\n6.get all user\n7.logout"));
+                "2.sell product\n3.view products\n4.cart details\n5.order details\n6.get all user\n7.logout\n8.import users\n9.dao metrics"));
         final UserChoice userOption = obtainUserChoice();
 
         if (userOption.equals(UserChoice.SEVEN)) {
+            authenticationController.signOut(sessionId);
+            sessionId = null;
             authenticationView.displayMenu();
         }
-        final Long userId = USER_VIEW.obtainId();
+        final Long userId = session.getUserId();
 
         switch (userOption) {
             case ONE:
@@ -437,6 +487,13 @@ public class UserView extends View {
             case SIX:
                 getAllUsers();
                 break;
+            case EIGHT:
+                importUsers();
+                break;
+            case NINE:
+                System.out.println(userController.getDaoMetrics());
+                obtainUserOptions();
+                break;
             default:
                 System.out.println("Enter the correct option");
                 obtainUserOptions();
@@ -449,12 +506,37 @@ public class UserView extends View {
      * </p>
      */
     public void getAllUsers() {
-        final Collection<User> users = userController.getAllUser();
+        try {
+            if (0 == browsePages(cursor -> userController.getUserPage(cursor, PAGE_SIZE))) {
+                System.out.println("The user list is empty");
+            }
+        } catch (DBException exception) {
+            System.out.println(exception.getMessage());
+        }
+        obtainUserOptions();
+    }
 
-        if (users.isEmpty()) {
-            System.out.println("The user list is empty");
-        } else {
-            System.out.println(users);
+    /**
+     * <p>
+     * Imports the users of a CSV file, the rejected rows are written next to the file
+     * </p>
+     */
+    public void importUsers() {
+        System.out.println("Enter the path of the CSV file with the NAME, EMAIL, PASSWORD, ADDRESS and PHONE_NUMBER columns");
+        final Path path = Path.of(SCANNER.nextLine().trim());
+        final Path reportPath = Path.of(path + ".rejected.csv");
+
+        try (final Reader csv = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+             final Writer rejectedRows = Files.newBufferedWriter(reportPath, StandardCharsets.UTF_8)) {
+            final ImportResult importResult = userController.importUsers(csv, rejectedRows);
+
+            System.out.println(importResult);
+
+            if (0 < importResult.getRejectedCount()) {
+                System.out.println(String.format("The rejected rows are written to %s", reportPath));
+            }
+        } catch (IOException | IllegalArgumentException | DBException exception) {
+            System.out.println(exception.getMessage());
         }
         obtainUserOptions();
     }
@@ -1,6 +1,10 @@
 package com.amazon.view;
 
+import com.amazon.model.Page;
+import com.amazon.view.validation.CommonValidator;
+
 import java.util.Scanner;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -13,6 +17,7 @@ import java.util.Scanner;
  */
 public class View {
     protected static final Scanner SCANNER = new Scanner(System.in);
+    protected static final int PAGE_SIZE = 10;
 
     /**
      * <p>
@@ -62,4 +67,36 @@ public class View {
             }
         }
     }
+
+    /**
+     * <p>
+     * Prints the rows page by page, the next page is only loaded when the user asks for it so no
+     * connection is held while waiting for input
+     * </p>
+     *
+     * @param pageLoader Represents the loader of the page for a cursor
+     * @return Represents the number of rows printed
+     */
+    protected <T> long browsePages(final Function<String, Page<T>> pageLoader) {
+        String cursor = null;
+        long count = 0;
+
+        do {
+            final Page<T> page = pageLoader.apply(cursor);
+
+            for (final T item : page.getItems()) {
+                System.out.println(item);
+            }
+            count += page.getItems().size();
+            cursor = page.getNextCursor();
+        } while (null != cursor && isNextPage());
+
+        return count;
+    }
+
+    private boolean isNextPage() {
+        System.out.println("Do you want to see the next page press yes(y) else no(n)");
+
+        return CommonValidator.getInstance().toContinueValidation(SCANNER.nextLine().trim());
+    }
 }
@@ -1,7 +1,6 @@
 package com.amazon.view.builder;
 
 import com.amazon.controller.ProductController;
-import com.amazon.exception.UnavailableQuantityException;
 import com.amazon.model.Order;
 import com.amazon.model.User;
 import com.amazon.model.Product;
@@ -46,13 +45,10 @@ public class OrderBuilder extends View {
      * @param userId      Represents the id og the {@link User}
      * @return Represents {@link Order}
      */
-    public Order buildOrder(final Long productId, final Long quantity, final Order.Payment paymentType, final Long userId) throws UnavailableQuantityException {
+    public Order buildOrder(final Long productId, final Long quantity, final Order.Payment paymentType, final Long userId) {
 
         final Product product = productView.getProductController().get(productId);
         System.out.println(product);
-        if (product.getAvailable() < quantity) {
-            throw new UnavailableQuantityException("Un available quantity");
-        }
         final Order order = new Order();
 
         order.setProductId(productId);
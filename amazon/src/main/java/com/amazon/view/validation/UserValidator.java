@@ -1,8 +1,10 @@
 package com.amazon.view.validation;
 
+import com.amazon.validation.UserRules;
+
 /**
  * <p>
- * Validates the user details
+ * Validates the user details with the compiled {@link UserRules}
  * </p>
  *
  * @author Roshan
@@ -35,9 +37,7 @@ public class UserValidator extends CommonValidator {
      * @return True if the email is matches pattern otherwise return false
      */
     public boolean validateEmail(final String email) {
-        final String emailRegex = "^[a-zA-z]+[a-zA-Z0-9_.\\S]+@[a-z]{3,}\\.[a-z\\S]{2,3}$";
-
-        return email.matches(emailRegex);
+        return UserRules.EMAIL.isValid(email);
     }
 
     /**
@@ -49,9 +49,7 @@ public class UserValidator extends CommonValidator {
      * @return True if the email is matches pattern otherwise return false
      */
     public boolean validateId(final String email) {
-        final String idRegex = "^[0-9]+$";
-
-        return email.matches(idRegex);
+        return UserRules.ID.isValid(email);
     }
 
     /**
@@ -63,9 +61,7 @@ public class UserValidator extends CommonValidator {
      * @return True if the password matches the pattern otherwise return false
      */
     public boolean validatePassword(final String password) {
-        final String passwordRegex = "^(?=.*\\d)(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%]).\\S{7,20}$";
-
-        return password.matches(passwordRegex);
+        return UserRules.PASSWORD.isValid(password);
     }
 
     /**
@@ -77,9 +73,7 @@ public class UserValidator extends CommonValidator {
      * @return True if the users name matches the pattern
      */
     public boolean validateUserName(final String userName) {
-        final String nameRegex = "^[a-zA-Z][a-zA-Z0-9]{3,16}";
-
-        return userName.matches(nameRegex);
+        return UserRules.NAME.isValid(userName);
     }
 
     /**
@@ -91,9 +85,7 @@ public class UserValidator extends CommonValidator {
      * @return True if the address is valid
      */
     public boolean validateAddress(final String address) {
-        final String addressRegex = "^[0-9]+/[0-9]{1,3}[\\w*\\s*[0-9]*]{2,}";
-
-        return address.matches(addressRegex);
+        return UserRules.ADDRESS.isValid(address);
     }
 
     /**
@@ -105,8 +97,6 @@ public class UserValidator extends CommonValidator {
      * @return True if the Phone number matches the pattern otherwise returns false
      */
     public boolean validatePhone(final String phoneNumber) {
-        final String phoneNumberRegex = "^[6-9][0-9]{9}+$";
-
-        return phoneNumber.matches(phoneNumberRegex);
+        return UserRules.PHONE_NUMBER.isValid(phoneNumber);
     }
 }
\ No newline at end of file
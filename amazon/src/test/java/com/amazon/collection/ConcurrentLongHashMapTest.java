@@ -0,0 +1,158 @@
+package com.amazon.collection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Compares {@link ConcurrentLongHashMap} against {@link HashMap} under random operations, for every section
+ * count including a single section
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+class ConcurrentLongHashMapTest {
+
+    private static final int OPERATIONS = 200_000;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 16, 64})
+    void matchesHashMapUnderRandomOperations(final int sectionCount) {
+        final Random random = new Random(sectionCount);
+        final ConcurrentLongHashMap<Long> map = new ConcurrentLongHashMap<>(16, sectionCount);
+        final Map<Long, Long> expected = new HashMap<>();
+
+        for (int operation = 0; operation < OPERATIONS; operation++) {
+            final long key = randomKey(random);
+            final long value = random.nextLong();
+
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    assertEquals(expected.put(key, value), map.put(key, value));
+                    break;
+                case 2:
+                    assertEquals(expected.putIfAbsent(key, value), map.putIfAbsent(key, value));
+                    break;
+                case 3:
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                case 4:
+                    assertEquals(expected.computeIfPresent(key, (ignored, current) -> 0 == current % 3 ? null : current + 1),
+                            map.computeIfPresent(key, current -> 0 == current % 3 ? null : current + 1));
+                    break;
+                default:
+                    assertEquals(expected.get(key), map.get(key));
+                    assertEquals(expected.containsKey(key), map.containsKey(key));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        assertSameKeys(expected, map);
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.keys().length);
+    }
+
+    @Test
+    void singleSectionHoldsEveryKey() {
+        final ConcurrentLongHashMap<String> map = new ConcurrentLongHashMap<>(16, 1);
+
+        for (long key = -1_000; key < 1_000; key++) {
+            map.put(key, Long.toString(key));
+        }
+
+        for (long key = -1_000; key < 1_000; key++) {
+            assertEquals(Long.toString(key), map.get(key));
+        }
+        assertEquals(2_000, map.size());
+    }
+
+    @Test
+    void rejectsNullValues() {
+        final ConcurrentLongHashMap<String> map = new ConcurrentLongHashMap<>();
+
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+        assertNull(map.get(1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 16})
+    void keepsEveryKeyWrittenByConcurrentThreads(final int sectionCount) throws Exception {
+        final int threadCount = 8;
+        final int keysPerThread = 20_000;
+        final ConcurrentLongHashMap<Long> map = new ConcurrentLongHashMap<>(16, sectionCount);
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < threadCount; thread++) {
+            final long firstKey = (long) thread * keysPerThread;
+
+            futures.add(executor.submit(() -> {
+                start.await();
+
+                for (long key = firstKey; key < firstKey + keysPerThread; key++) {
+                    map.put(key, key);
+                    map.compute(key, current -> current + 1);
+
+                    if (0 == key % 2) {
+                        map.remove(key);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(threadCount * keysPerThread / 2, map.size());
+
+        for (long key = 0; key < (long) threadCount * keysPerThread; key++) {
+            assertEquals(0 == key % 2 ? null : key + 1, map.get(key));
+        }
+    }
+
+    /**
+     * <p>
+     * Represents keys from a small range so the same keys are hit again, with some spread over the whole range
+     * </p>
+     */
+    private static long randomKey(final Random random) {
+        return 0 == random.nextInt(10) ? random.nextLong() : random.nextInt(5_000) - 1_000;
+    }
+
+    private static void assertSameKeys(final Map<Long, Long> expected, final ConcurrentLongHashMap<Long> map) {
+        final long[] keys = map.keys();
+        final long[] expectedKeys = expected.keySet().stream().mapToLong(Long::longValue).toArray();
+
+        Arrays.sort(keys);
+        Arrays.sort(expectedKeys);
+        assertArrayEquals(expectedKeys, keys);
+        assertEquals(expected.size(), map.values().size());
+    }
+}
@@ -0,0 +1,124 @@
+package com.amazon.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Compares {@link ConcurrentLongMultimap} against a map of sorted sets under random operations, including
+ * keys that hold many values
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+class ConcurrentLongMultimapTest {
+
+    @Test
+    void matchesSortedSetsUnderRandomOperations() {
+        final Random random = new Random(7);
+        final ConcurrentLongMultimap multimap = new ConcurrentLongMultimap();
+        final Map<Long, NavigableSet<Long>> expected = new HashMap<>();
+
+        for (int operation = 0; operation < 100_000; operation++) {
+            final long key = random.nextInt(50);
+            final long value = random.nextInt(500);
+
+            switch (random.nextInt(5)) {
+                case 0:
+                case 1:
+                    assertEquals(expected.computeIfAbsent(key, ignored -> new TreeSet<>()).add(value),
+                            multimap.put(key, value));
+                    break;
+                case 2:
+                    final NavigableSet<Long> values = expected.get(key);
+                    final boolean isRemoved = null != values && values.remove(value);
+
+                    if (null != values && values.isEmpty()) {
+                        expected.remove(key);
+                    }
+                    assertEquals(isRemoved, multimap.remove(key, value));
+                    break;
+                case 3:
+                    final int limit = random.nextInt(10);
+
+                    assertArrayEquals(toArray(expected.getOrDefault(key, new TreeSet<>()).tailSet(value, false), limit),
+                            multimap.getAfter(key, value, limit));
+                    break;
+                default:
+                    assertArrayEquals(toArray(expected.getOrDefault(key, new TreeSet<>()), Integer.MAX_VALUE),
+                            multimap.get(key));
+                    assertEquals(expected.containsKey(key), multimap.containsKey(key));
+            }
+        }
+        assertEquals(expected.size(), multimap.size());
+
+        for (final Map.Entry<Long, NavigableSet<Long>> entry : expected.entrySet()) {
+            assertArrayEquals(toArray(entry.getValue(), Integer.MAX_VALUE), multimap.removeAll(entry.getKey()));
+        }
+        assertEquals(0, multimap.size());
+    }
+
+    @Test
+    void holdsManyValuesUnderOneKey() {
+        final int count = 100_000;
+        final ConcurrentLongMultimap multimap = new ConcurrentLongMultimap();
+
+        for (long value = 1; value <= count; value++) {
+            assertTrue(multimap.put(42, value));
+        }
+        final long[] values = multimap.get(42);
+
+        assertEquals(count, values.length);
+
+        for (int index = 0; index < count; index++) {
+            assertEquals(index + 1, values[index]);
+        }
+        assertArrayEquals(new long[]{50_001, 50_002, 50_003}, multimap.getAfter(42, 50_000, 3));
+        assertEquals(count - 1, multimap.getAfter(42, 1, Integer.MAX_VALUE).length);
+
+        for (long value = 2; value <= count; value += 2) {
+            assertTrue(multimap.remove(42, value));
+        }
+        assertArrayEquals(new long[]{50_001, 50_003}, multimap.getAfter(42, 50_000, 2));
+        assertEquals(count / 2, multimap.get(42).length);
+    }
+
+    @Test
+    void keepsOrderForRandomInsertsAndRemovesUnderOneKey() {
+        final Random random = new Random(13);
+        final ConcurrentLongMultimap multimap = new ConcurrentLongMultimap();
+        final NavigableSet<Long> expected = new TreeSet<>();
+
+        for (int operation = 0; operation < 200_000; operation++) {
+            final long value = random.nextInt(20_000);
+
+            if (random.nextInt(3) > 0) {
+                assertEquals(expected.add(value), multimap.put(1, value));
+            } else {
+                assertEquals(expected.remove(value), multimap.remove(1, value));
+            }
+        }
+        assertArrayEquals(toArray(expected, Integer.MAX_VALUE), multimap.get(1));
+        assertArrayEquals(toArray(expected.tailSet(10_000L, false), 1_000), multimap.getAfter(1, 10_000, 1_000));
+
+        for (final long value : toArray(expected, Integer.MAX_VALUE)) {
+            assertTrue(multimap.remove(1, value));
+        }
+        assertFalse(multimap.containsKey(1));
+    }
+
+    private static long[] toArray(final NavigableSet<Long> values, final int limit) {
+        return values.stream().limit(limit).mapToLong(Long::longValue).toArray();
+    }
+}
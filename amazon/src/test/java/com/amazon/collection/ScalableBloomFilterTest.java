@@ -0,0 +1,66 @@
+package com.amazon.collection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Checks that {@link ScalableBloomFilter} never misses an added string and keeps its false positive rate
+ * after it grows past the expected count
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+class ScalableBloomFilterTest {
+
+    @Test
+    void neverMissesAnAddedStringAfterGrowing() {
+        final ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+
+        for (int index = 0; index < 20_000; index++) {
+            filter.add("user" + index + "@mail.com");
+        }
+        assertTrue(filter.getLayerCount() > 1);
+        assertEquals(20_000, filter.getCount());
+
+        for (int index = 0; index < 20_000; index++) {
+            assertTrue(filter.mightContain("user" + index + "@mail.com"));
+        }
+    }
+
+    @Test
+    void keepsTheFalsePositiveRate() {
+        final double falsePositiveRate = 0.01;
+        final ScalableBloomFilter filter = new ScalableBloomFilter(1_000, falsePositiveRate);
+        final int lookups = 100_000;
+        int falsePositives = 0;
+
+        for (int index = 0; index < 10_000; index++) {
+            filter.add("9" + index);
+        }
+
+        for (int index = 0; index < lookups; index++) {
+            if (filter.mightContain("8" + index)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < lookups * falsePositiveRate * 1.5,
+                String.format("%d false positives in %d lookups", falsePositives, lookups));
+    }
+
+    @Test
+    void ignoresNullAndRejectsInvalidRate() {
+        final ScalableBloomFilter filter = new ScalableBloomFilter(10, 0.1);
+
+        filter.add(null);
+        assertFalse(filter.mightContain(null));
+        assertEquals(0, filter.getCount());
+        assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(10, 1));
+    }
+}
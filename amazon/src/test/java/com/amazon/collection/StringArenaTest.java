@@ -0,0 +1,114 @@
+package com.amazon.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Checks that {@link StringArena} returns every string it was given, across chunk boundaries, and reuses the
+ * slots of released strings
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+class StringArenaTest {
+
+    private static final int CHUNK_SIZE = 1 << 24;
+    private static final int SMALL_SLOT = 16;
+
+    @Test
+    void returnsEveryStringAcrossChunks() {
+        final Random random = new Random(11);
+        final StringArena arena = new StringArena();
+        final List<String> values = new ArrayList<>();
+        final List<Long> references = new ArrayList<>();
+
+        while (arena.getCapacity() < 3L * CHUNK_SIZE) {
+            final String value = randomString(random, random.nextInt(0 == random.nextInt(100) ? 200_000 : 64));
+
+            values.add(value);
+            references.add(arena.add(value));
+        }
+
+        for (int index = 0; index < values.size(); index++) {
+            assertEquals(values.get(index), arena.get(references.get(index)));
+        }
+    }
+
+    @Test
+    void reusesReleasedSlots() {
+        final StringArena arena = new StringArena();
+        final long reference = arena.add("café");
+
+        arena.add("kept");
+        assertEquals(2 * SMALL_SLOT, arena.getUsedBytes());
+        arena.release(reference);
+        assertEquals(SMALL_SLOT, arena.getReleasedBytes());
+        assertEquals(SMALL_SLOT, arena.getUsedBytes());
+        assertEquals(reference, arena.add("same slot"));
+        assertEquals(0, arena.getReleasedBytes());
+        assertEquals("same slot", arena.get(reference));
+    }
+
+    @Test
+    void replaceKeepsUnchangedStrings() {
+        final StringArena arena = new StringArena();
+        final long reference = arena.add("name");
+
+        assertEquals(reference, arena.replace(reference, "name"));
+        assertEquals(0, arena.getReleasedBytes());
+        assertEquals(StringArena.NULL, arena.replace(reference, null));
+        assertEquals(SMALL_SLOT, arena.getReleasedBytes());
+        assertEquals("other", arena.get(arena.replace(StringArena.NULL, "other")));
+    }
+
+    @Test
+    void keepsItsSizeWhenStringsAreReplaced() {
+        final Random random = new Random(5);
+        final StringArena arena = new StringArena();
+        final long[] references = new long[2_000];
+
+        for (int index = 0; index < references.length; index++) {
+            references[index] = arena.add(randomString(random, random.nextInt(2_000)));
+        }
+        final long usedBytes = arena.getUsedBytes();
+
+        for (int round = 0; round < 20; round++) {
+            for (int index = 0; index < references.length; index++) {
+                final String value = randomString(random, random.nextInt(2_000));
+
+                references[index] = arena.replace(references[index], value);
+                assertEquals(value, arena.get(references[index]));
+            }
+        }
+        assertEquals(CHUNK_SIZE, arena.getCapacity());
+        assertTrue(arena.getUsedBytes() < 2 * usedBytes);
+    }
+
+    @Test
+    void handlesNullAndRejectsOversizedStrings() {
+        final StringArena arena = new StringArena();
+
+        assertEquals(StringArena.NULL, arena.add(null));
+        assertNull(arena.get(StringArena.NULL));
+        assertThrows(IllegalArgumentException.class, () -> arena.add("x".repeat(CHUNK_SIZE)));
+    }
+
+    private static String randomString(final Random random, final int length) {
+        final StringBuilder value = new StringBuilder(length);
+
+        for (int index = 0; index < length; index++) {
+            value.append((char) (0 == random.nextInt(8) ? 0x400 + random.nextInt(0x100) : 'a' + random.nextInt(26)));
+        }
+        return value.toString();
+    }
+}
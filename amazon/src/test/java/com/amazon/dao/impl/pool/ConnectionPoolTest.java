@@ -0,0 +1,279 @@
+package com.amazon.dao.impl.pool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Checks the {@link ConnectionPool} against an in-memory H2 database, keeping the physical connections it
+ * opened so the tests can break them behind the pool's back
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+class ConnectionPoolTest {
+
+    private static final AtomicInteger DATABASE_COUNT = new AtomicInteger();
+
+    private final List<Connection> physicalConnections = new CopyOnWriteArrayList<>();
+    private final String url = "jdbc:h2:mem:pool" + DATABASE_COUNT.incrementAndGet() + ";DB_CLOSE_DELAY=-1";
+
+    @Test
+    void acquireTimesOutWhenEveryConnectionIsBorrowed() throws Exception {
+        final PoolConfiguration configuration = newConfiguration(1, 1);
+
+        configuration.setAcquireTimeoutMillis(100);
+
+        try (final ConnectionPool pool = newPool(configuration)) {
+            final Connection borrowed = pool.acquire();
+            final long start = System.nanoTime();
+
+            assertThrows(SQLException.class, pool::acquire);
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+            assertEquals(1, pool.getStatistics().getTimeoutCount());
+
+            borrowed.close();
+            try (final Connection connection = pool.acquire()) {
+                assertEquals(1, selectOne(connection));
+            }
+        }
+    }
+
+    @Test
+    void evictsBrokenConnectionsOnBorrow() throws Exception {
+        final PoolConfiguration configuration = newConfiguration(1, 2);
+
+        configuration.setValidationIntervalMillis(0);
+
+        try (final ConnectionPool pool = newPool(configuration)) {
+            pool.fill(1);
+            physicalConnections.get(0).close();
+
+            try (final Connection connection = pool.acquire()) {
+                assertEquals(1, selectOne(connection));
+            }
+            assertEquals(1, pool.getStatistics().getEvictionCount());
+            assertEquals(1, pool.getStatistics().getTotalConnections());
+            assertEquals(2, physicalConnections.size());
+        }
+    }
+
+    @Test
+    void evictsConnectionsClosedWhileBorrowed() throws Exception {
+        try (final ConnectionPool pool = newPool(newConfiguration(1, 1))) {
+            final Connection connection = pool.acquire();
+
+            physicalConnections.get(0).close();
+            connection.close();
+            assertEquals(1, pool.getStatistics().getEvictionCount());
+            assertEquals(0, pool.getStatistics().getTotalConnections());
+
+            try (final Connection replacement = pool.acquire()) {
+                assertEquals(1, selectOne(replacement));
+            }
+        }
+    }
+
+    @Test
+    void closingAHandleTwiceDoesNotReturnTheNextBorrow() throws Exception {
+        try (final ConnectionPool pool = newPool(newConfiguration(1, 1))) {
+            final Connection first = pool.acquire();
+
+            first.close();
+            final Connection second = pool.acquire();
+
+            first.close();
+            assertNotSame(first, second);
+            assertTrue(first.isClosed());
+            assertFalse(second.isClosed());
+            assertThrows(SQLException.class, first::createStatement);
+            assertEquals(1, pool.getStatistics().getActiveConnections());
+            assertEquals(1, selectOne(second));
+            assertSame(second, second.unwrap(Connection.class));
+            second.close();
+            assertEquals(0, pool.getStatistics().getActiveConnections());
+            assertEquals(1, pool.getStatistics().getIdleConnections());
+        }
+    }
+
+    @Test
+    void housekeepingFillsBackToTheMinimumSize() throws Exception {
+        final PoolConfiguration configuration = newConfiguration(2, 4);
+
+        configuration.setValidationIntervalMillis(0);
+        configuration.setHousekeepingPeriodMillis(20);
+
+        try (final ConnectionPool pool = newPool(configuration)) {
+            assertEquals(2, pool.fill(2));
+
+            for (final Connection connection : physicalConnections) {
+                connection.close();
+            }
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+            while (pool.getStatistics().getEvictionCount() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, pool.getStatistics().getEvictionCount());
+
+            while (pool.getStatistics().getIdleConnections() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, pool.getStatistics().getTotalConnections());
+            assertEquals(4, physicalConnections.size());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void reportsLeaksWithATraceOnlyWhenAskedFor(final boolean isLeakTraceEnabled) throws Exception {
+        final PoolConfiguration configuration = newConfiguration(1, 1);
+        final Logger logger = Logger.getLogger(ConnectionPool.class.getName());
+        final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        final Handler handler = new Handler() {
+
+            public void publish(final LogRecord record) {
+                records.add(record);
+            }
+
+            public void flush() {
+            }
+
+            public void close() {
+            }
+        };
+
+        configuration.setLeakDetectionThresholdMillis(20);
+        configuration.setHousekeepingPeriodMillis(20);
+        configuration.setLeakTraceEnabled(isLeakTraceEnabled);
+        logger.addHandler(handler);
+
+        try (final ConnectionPool pool = newPool(configuration); final Connection ignored = pool.acquire()) {
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+            while (records.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, pool.getStatistics().getLeakCount());
+            assertTrue(records.get(0).getMessage().contains(Thread.currentThread().getName()));
+            assertEquals(isLeakTraceEnabled, null != records.get(0).getThrown());
+        } finally {
+            logger.removeHandler(handler);
+        }
+        assertFalse(new PoolConfiguration().isLeakTraceEnabled());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void neverHandsOutThePhysicalConnection(final boolean isSlowQueryLogged, @TempDir final Path directory)
+            throws Exception {
+        final PoolConfiguration configuration = newConfiguration(1, 1);
+
+        if (isSlowQueryLogged) {
+            configuration.setSlowQueryThresholdMillis(60_000);
+            configuration.setSlowQueryLogFile(directory.resolve("slow-query.log").toString());
+        }
+
+        try (final ConnectionPool pool = newPool(configuration)) {
+            try (final Connection connection = pool.acquire()) {
+                connection.createStatement().execute("CREATE TABLE ITEM (ID BIGINT AUTO_INCREMENT PRIMARY KEY, NAME VARCHAR(10))");
+
+                for (int round = 0; round < 2; round++) {
+                    final PreparedStatement statement = connection.prepareStatement("SELECT ?");
+
+                    statement.setInt(1, 1);
+                    final ResultSet result = statement.executeQuery();
+
+                    assertSame(statement, result.getStatement());
+                    assertSame(connection, result.getStatement().getConnection());
+                    assertThrows(SQLException.class, () -> result.unwrap(org.h2.jdbc.JdbcResultSet.class));
+                    assertThrows(SQLException.class, () -> statement.unwrap(org.h2.jdbc.JdbcPreparedStatement.class));
+                    assertSame(statement, statement.unwrap(PreparedStatement.class));
+                    result.close();
+                    statement.close();
+                }
+                final PreparedStatement insert = connection.prepareStatement("INSERT INTO ITEM (NAME) VALUES (?)",
+                        new String[]{"ID"});
+
+                insert.setString(1, "first");
+                insert.executeUpdate();
+                final ResultSet generatedKeys = insert.getGeneratedKeys();
+
+                assertTrue(generatedKeys.next());
+                assertSame(connection, generatedKeys.getStatement().getConnection());
+                generatedKeys.close();
+                insert.close();
+
+                final Statement statement = connection.createStatement();
+
+                assertSame(connection, statement.getConnection());
+                assertSame(connection, statement.executeQuery("SELECT 1").getStatement().getConnection());
+                statement.close();
+
+                final PreparedStatement uncached = connection.prepareStatement("SELECT 1",
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+
+                assertSame(connection, uncached.executeQuery().getStatement().getConnection());
+                uncached.close();
+            }
+            assertFalse(physicalConnections.get(0).isClosed());
+            assertEquals(1, pool.getStatistics().getIdleConnections());
+        }
+    }
+
+    private PoolConfiguration newConfiguration(final int minSize, final int maxSize) {
+        final PoolConfiguration configuration = new PoolConfiguration();
+
+        configuration.setMinSize(minSize);
+        configuration.setMaxSize(maxSize);
+        configuration.setAcquireTimeoutMillis(5_000);
+        configuration.setHousekeepingPeriodMillis(60_000);
+        configuration.setSlowQueryThresholdMillis(-1);
+
+        return configuration;
+    }
+
+    private ConnectionPool newPool(final PoolConfiguration configuration) {
+        return new ConnectionPool(() -> {
+            final Connection connection = DriverManager.getConnection(url, "sa", "");
+
+            physicalConnections.add(connection);
+
+            return connection;
+        }, configuration);
+    }
+
+    private static int selectOne(final Connection connection) throws SQLException {
+        try (final Statement statement = connection.createStatement();
+             final ResultSet result = statement.executeQuery("SELECT 1")) {
+            result.next();
+
+            return result.getInt(1);
+        }
+    }
+}
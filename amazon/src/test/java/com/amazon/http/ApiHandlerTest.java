@@ -0,0 +1,226 @@
+package com.amazon.http;
+
+import com.amazon.dao.impl.DBConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Checks the routing, the limits and the ownership checks of the {@link ApiHandler} through an
+ * {@link HttpApiServer} on a free port, backed by an in-memory H2 database in PostgreSQL mode
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+class ApiHandlerTest {
+
+    private static final String URL = "jdbc:h2:mem:api;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE";
+    private static final int MAX_BODY_BYTES = 1024;
+    private static final AtomicInteger USER_COUNT = new AtomicInteger();
+    private static HttpApiServer server;
+    private static HttpClient client;
+
+    @BeforeAll
+    static void startServer() throws Exception {
+        System.setProperty("database_url", URL);
+        System.setProperty("user", "sa");
+        System.setProperty("password", "");
+        System.setProperty("http.port", "0");
+        System.setProperty("http.max_body_bytes", Integer.toString(MAX_BODY_BYTES));
+        runSchema();
+        server = new HttpApiServer(DBConfiguration.getInstance());
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    void answersUnknownPathsWith404AndOtherMethodsWith405() throws Exception {
+        assertEquals(404, send("GET", "/api/unknown", null, null).statusCode());
+        assertEquals(404, send("GET", "/api/products/1/extra", null, null).statusCode());
+        assertEquals(404, send("GET", "/api/products/abc", null, null).statusCode());
+        assertEquals(405, send("PATCH", "/api/products", null, null).statusCode());
+        assertEquals(405, send("POST", "/api/products/1", null, "{}").statusCode());
+        assertEquals(405, send("GET", "/api/cart/checkout", null, null).statusCode());
+    }
+
+    @Test
+    void routesCheckoutApartFromCartIds() throws Exception {
+        final String token = signUp();
+
+        assertEquals(405, send("DELETE", "/api/cart/checkout", token, null).statusCode());
+        assertEquals(404, send("DELETE", "/api/cart/999999", token, null).statusCode());
+        assertEquals(405, send("POST", "/api/cart/999999", token, "{}").statusCode());
+
+        final HttpResponse<String> checkout = send("POST", "/api/cart/checkout", token, "{}");
+
+        assertEquals(400, checkout.statusCode());
+        assertTrue(checkout.body().contains("paymentType"), checkout.body());
+    }
+
+    @Test
+    void requiresSignIn() throws Exception {
+        assertEquals(401, send("GET", "/api/cart", null, null).statusCode());
+        assertEquals(401, send("GET", "/api/cart", "unknown-token", null).statusCode());
+        assertEquals(200, send("GET", "/api/products", null, null).statusCode());
+    }
+
+    @Test
+    void refusesBodiesOverTheLimit() throws Exception {
+        final String token = signUp();
+        final HttpResponse<String> response = send("POST", "/api/products", token,
+                "{\"name\":\"" + "x".repeat(MAX_BODY_BYTES) + "\"}");
+
+        assertEquals(413, response.statusCode());
+        assertEquals(200, send("GET", "/api/products", null, null).statusCode());
+    }
+
+    @Test
+    void refusesMalformedBodies() throws Exception {
+        final String token = signUp();
+
+        assertEquals(400, send("POST", "/api/products", token, "{\"name\":").statusCode());
+        assertEquals(400, send("POST", "/api/products", token, "[1]").statusCode());
+        assertEquals(400, send("POST", "/api/products", token, "[".repeat(100) + "]".repeat(100)).statusCode());
+        assertEquals(400, send("POST", "/api/products", token, null).statusCode());
+    }
+
+    @Test
+    void letsOnlyTheSellerChangeAProduct() throws Exception {
+        final String seller = signUp();
+        final String other = signUp();
+        final HttpResponse<String> added = send("POST", "/api/products", seller, "{\"name\":\"phone\","
+                + "\"description\":\"a phone\",\"price\":100.5,\"available\":10,\"category\":\"MOBILE_PHONES\"}");
+
+        assertEquals(201, added.statusCode(), added.body());
+        final long productId = getId(added.body());
+        final String path = "/api/products/" + productId;
+
+        assertEquals(200, send("GET", path, other, null).statusCode());
+        assertEquals(403, send("PUT", path, other, "{\"price\":1}").statusCode());
+        assertEquals(403, send("DELETE", path, other, null).statusCode());
+        assertEquals(200, send("PUT", path, seller, "{\"price\":99}").statusCode());
+        assertEquals(99.0, ((Map<?, ?>) JsonReader.read(send("GET", path, other, null).body())).get("price"));
+        assertEquals(204, send("DELETE", path, seller, null).statusCode());
+        assertEquals(404, send("GET", path, seller, null).statusCode());
+    }
+
+    @Test
+    void hidesTheCartAndOrdersOfOtherUsers() throws Exception {
+        final String seller = signUp();
+        final String owner = signUp();
+        final String other = signUp();
+        final long productId = getId(send("POST", "/api/products", seller, "{\"name\":\"shoe\",\"price\":20,"
+                + "\"available\":5,\"category\":\"FOOTWEAR\"}").body());
+        final HttpResponse<String> cart = send("POST", "/api/cart", owner, "{\"productId\":" + productId + "}");
+
+        assertEquals(201, cart.statusCode(), cart.body());
+        final String cartPath = "/api/cart/" + getId(cart.body());
+
+        assertEquals(404, send("DELETE", cartPath, other, null).statusCode());
+        assertEquals(1, ((List<?>) JsonReader.read(send("GET", "/api/cart", owner, null).body())).size());
+        assertEquals(204, send("DELETE", cartPath, owner, null).statusCode());
+
+        final String orderPath = "/api/orders/" + addOrder(productId, getUserId(owner));
+
+        assertEquals(200, send("GET", orderPath, owner, null).statusCode());
+        assertEquals(404, send("GET", orderPath, other, null).statusCode());
+        assertEquals(404, send("DELETE", orderPath, other, null).statusCode());
+    }
+
+    private static String signUp() throws Exception {
+        final int index = USER_COUNT.incrementAndGet();
+        final HttpResponse<String> response = send("POST", "/api/users", null, String.format("{\"name\":\"api%d\","
+                + "\"email\":\"api%d@amazon.com\",\"password\":\"Api@12345\",\"phoneNumber\":\"9%09d\","
+                + "\"address\":\"12/34 api street\"}", index, index, index));
+
+        assertEquals(201, response.statusCode(), response.body());
+
+        return (String) ((Map<?, ?>) JsonReader.read(response.body())).get("token");
+    }
+
+    private static long getUserId(final String token) throws Exception {
+        return getId(send("GET", "/api/users/me", token, null).body());
+    }
+
+    private static long getId(final String json) {
+        return (Long) ((Map<?, ?>) JsonReader.read(json)).get("id");
+    }
+
+    /**
+     * <p>
+     * Adds the order straight to the table, placing it through the API needs PostgreSQL
+     * </p>
+     */
+    private static long addOrder(final long productId, final long userId) throws Exception {
+        try (final Connection connection = DriverManager.getConnection(URL, "sa", "");
+             final PreparedStatement statement = connection.prepareStatement("INSERT INTO ORDERS (PRODUCT_ID, "
+                     + "QUANTITY, PRICE, PRODUCT_NAME, USER_ID, PAYMENT_TYPE) VALUES (?, 1, 20, 'shoe', ?, "
+                     + "'CASH_ON_DELIVERY')", Statement.RETURN_GENERATED_KEYS)) {
+            statement.setLong(1, productId);
+            statement.setLong(2, userId);
+            statement.executeUpdate();
+
+            try (final ResultSet keys = statement.getGeneratedKeys()) {
+                keys.next();
+
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    private static HttpResponse<String> send(final String method, final String path, final String token,
+                                             final String body) throws IOException, InterruptedException {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:"
+                + server.getPort() + path)).method(method, null == body ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body));
+
+        if (null != token) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void runSchema() throws Exception {
+        final String script;
+
+        try (final InputStream resource = ApiHandlerTest.class.getClassLoader().getResourceAsStream("schema.sql")) {
+            script = new String(resource.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        try (final Connection connection = DriverManager.getConnection(URL, "sa", "");
+             final Statement statement = connection.createStatement()) {
+            for (final String sql : script.replaceAll("(?m)^--.*$", "").split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.amazon.http;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Checks that the {@link JsonReader} reads valid documents into maps, lists and numbers and refuses the
+ * malformed ones
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+class JsonReaderTest {
+
+    @Test
+    void readsObjectsAndArraysInOrder() {
+        final Object value = JsonReader.read(" {\"name\": \"phone\", \"tags\": [1, true, null, {}], \"empty\": []} ");
+
+        assertEquals(Map.of("name", "phone", "tags", Arrays.asList(1L, true, null, Map.of()), "empty", List.of()),
+                value);
+        assertEquals(List.of("name", "tags", "empty"), List.copyOf(((Map<?, ?>) value).keySet()));
+    }
+
+    @Test
+    void readsEscapes() {
+        assertEquals("\" \\ / \b \f \n \r \t", JsonReader.read("\"\\\" \\\\ \\/ \\b \\f \\n \\r \\t\""));
+    }
+
+    @Test
+    void readsUnicodeEscapes() {
+        assertEquals("\u00e9", JsonReader.read("\"\\u00e9\""));
+        assertEquals("\u00c9A", JsonReader.read("\"\\u00C9\\u0041\""));
+        assertEquals("\uD83D\uDE00", JsonReader.read("\"\\ud83d\\ude00\""));
+        assertEquals("\u0000", JsonReader.read("\"\\u0000\""));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"\\u12\"", "\"\\u12g4\"", "\"\\u\"", "\"\\x\"", "\"abc", "\"\\", "\"a\nb\""})
+    void refusesMalformedStrings(final String json) {
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.read(json));
+    }
+
+    @Test
+    void readsNumbers() {
+        assertEquals(0L, JsonReader.read("0"));
+        assertEquals(-42L, JsonReader.read("-42"));
+        assertEquals(Long.MAX_VALUE, JsonReader.read(Long.toString(Long.MAX_VALUE)));
+        assertEquals(2.5, JsonReader.read("2.5"));
+        assertEquals(-1.5e3, JsonReader.read("-1.5e3"));
+        assertEquals(2e-2, JsonReader.read("2E-2"));
+        assertEquals(List.of(1L, 2L), JsonReader.read("[1,2]"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\u0661\u0662", "1\u0662", "[\u0967]", "\uff11", "--1", "1-", "1.2.3", "+1", "9223372036854775808"})
+    void refusesNumbersThatAreNotAsciiJson(final String json) {
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.read(json));
+    }
+
+    @Test
+    void readsDocumentsUpToTheDepthLimit() {
+        final String json = "[".repeat(64) + "]".repeat(64);
+        Object value = JsonReader.read(json);
+
+        for (int depth = 1; depth < 64; depth++) {
+            value = ((List<?>) value).get(0);
+        }
+        assertTrue(((List<?>) value).isEmpty());
+    }
+
+    @Test
+    void refusesDocumentsOverTheDepthLimit() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> JsonReader.read("[".repeat(65) + "]".repeat(65)));
+
+        assertTrue(exception.getMessage().startsWith("The document is nested too deep"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.read("{\"a\":".repeat(65) + "1"
+                + "}".repeat(65)));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.read("[".repeat(100_000)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "{", "[1,]", "{\"a\"}", "{\"a\":1,}", "{a:1}", "tru", "nul", "{} {}", "[1] x"})
+    void refusesMalformedDocuments(final String json) {
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.read(json));
+    }
+
+    @Test
+    void readsLiterals() {
+        assertEquals(Boolean.TRUE, JsonReader.read("true"));
+        assertEquals(Boolean.FALSE, JsonReader.read(" false "));
+        assertNull(JsonReader.read("null"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.amazon.http;
+
+import com.amazon.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <p>
+ * Checks that the {@link JsonWriter} separates the members, escapes the strings and that what it writes is
+ * read back by the {@link JsonReader}
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+class JsonWriterTest {
+
+    @Test
+    void separatesMembersAndValues() {
+        final String json = new JsonWriter().beginObject()
+                .name("id").value(1L)
+                .name("tags").beginArray().value("a").value(2.5).value(true).beginObject().endObject().endArray()
+                .name("empty").beginArray().endArray()
+                .name("nested").beginObject().name("x").value((String) null).endObject()
+                .endObject().toString();
+
+        assertEquals("{\"id\":1,\"tags\":[\"a\",2.5,true,{}],\"empty\":[],\"nested\":{\"x\":null}}", json);
+    }
+
+    @Test
+    void escapesStrings() {
+        assertEquals("\"\\\" \\\\ \\n \\r \\t \\u0001 \\u001f \\u2028 \\u2029 / \u00e9\"",
+                new JsonWriter().value("\" \\ \n \r \t \u0001 \u001f \u2028 \u2029 / \u00e9").toString());
+    }
+
+    @Test
+    void writesNonFiniteNumbersAsNull() {
+        assertEquals("[null,null,null,1.0]", new JsonWriter().beginArray().value(Double.NaN)
+                .value(Double.POSITIVE_INFINITY).value((Number) null).value(1.0).endArray().toString());
+    }
+
+    @Test
+    void writesEnumsByName() {
+        assertEquals("[\"BOOKS\",null]", new JsonWriter().beginArray().value(Product.Category.BOOKS)
+                .value((Enum<?>) null).endArray().toString());
+    }
+
+    @Test
+    void isReadBackByTheReader() {
+        final StringBuilder text = new StringBuilder();
+
+        for (char character = 0; character < 0x300; character++) {
+            text.append(character);
+        }
+        text.append("\u2028\u2029\uD83D\uDE00");
+        final JsonWriter json = new JsonWriter().beginObject().name(text.toString()).value(text.toString())
+                .name("list").beginArray();
+
+        for (int depth = 0; depth < 20; depth++) {
+            json.beginArray();
+        }
+
+        for (int depth = 0; depth < 20; depth++) {
+            json.endArray();
+        }
+        json.value(-7L).endArray().endObject();
+
+        final Map<?, ?> value = (Map<?, ?>) JsonReader.read(json.toString());
+
+        assertEquals(text.toString(), value.get(text.toString()));
+        assertEquals(-7L, ((List<?>) value.get("list")).get(1));
+        assertEquals(Arrays.asList(text.toString(), "list"), List.copyOf(value.keySet()));
+    }
+}
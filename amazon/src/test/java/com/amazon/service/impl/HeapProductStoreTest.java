@@ -0,0 +1,99 @@
+package com.amazon.service.impl;
+
+import com.amazon.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Checks that {@link HeapProductStore} pages every product and the products of a user in id order, skipping
+ * the removed ones
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+class HeapProductStoreTest {
+
+    @Test
+    void pagesPastRemovedProducts() {
+        final HeapProductStore store = new HeapProductStore();
+        final List<Long> kept = new ArrayList<>();
+
+        for (int index = 0; index < 200_000; index++) {
+            final long id = store.add(newProduct(index % 5));
+
+            if (index < 199_990 && 0 != index % 50_000) {
+                store.remove(id);
+            } else {
+                kept.add(id);
+            }
+        }
+        assertEquals(kept, getIds(store.getPage(null, 0, 100)));
+        assertEquals(kept.subList(1, 4), getIds(store.getPage(null, kept.get(0), 3)));
+        assertEquals(kept.subList(4, 6), getIds(store.getPage(null, kept.get(3) + 1, 2)));
+        assertTrue(store.getPage(null, kept.get(kept.size() - 1), 10).isEmpty());
+    }
+
+    @Test
+    void pagesEveryProductAndTheProductsOfAUser() {
+        final HeapProductStore store = new HeapProductStore();
+        final List<Long> allIds = new ArrayList<>();
+        final List<Long> userIds = new ArrayList<>();
+
+        for (int index = 0; index < 3_000; index++) {
+            final long userId = index % 3;
+            final long id = store.add(newProduct(userId));
+
+            if (0 == index % 7) {
+                store.remove(id);
+                continue;
+            }
+            allIds.add(id);
+
+            if (1 == userId) {
+                userIds.add(id);
+            }
+        }
+        assertEquals(allIds, pageAll(store, null));
+        assertEquals(userIds, pageAll(store, 1L));
+    }
+
+    private static List<Long> pageAll(final HeapProductStore store, final Long userId) {
+        final List<Long> paged = new ArrayList<>();
+        long afterId = 0;
+        List<Product> page;
+
+        while (!(page = store.getPage(userId, afterId, 50)).isEmpty()) {
+            assertTrue(page.size() <= 50);
+            paged.addAll(getIds(page));
+            afterId = page.get(page.size() - 1).getId();
+        }
+        return paged;
+    }
+
+    private static Product newProduct(final long userId) {
+        final Product product = new Product();
+
+        product.setName("product");
+        product.setAvailable(100L);
+        product.setPrice(9.99);
+        product.setUserId(userId);
+
+        return product;
+    }
+
+    private static List<Long> getIds(final List<Product> products) {
+        final List<Long> ids = new ArrayList<>();
+
+        for (final Product product : products) {
+            ids.add(product.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,201 @@
+package com.amazon.service.impl;
+
+import com.amazon.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Checks that {@link OffHeapProductStore} gives back every field it was given, keeps its memory under updates
+ * and removals, and filters the rows by user
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+class OffHeapProductStoreTest {
+
+    private static final int CHUNK_ROWS = 1 << 16;
+
+    @Test
+    void roundTripsEveryField() {
+        final OffHeapProductStore store = new OffHeapProductStore();
+        final Product product = newProduct("Téléphone 📱", 7L);
+
+        product.setUpdatedTime(Timestamp.valueOf("2024-02-29 13:45:10.123456789"));
+
+        assertEquals(1, store.add(product));
+        assertEquals(2, store.add(newProduct("second", 7L)));
+        assertEquals(1L, product.getId());
+        assertSameProduct(product, store.get(1));
+        assertNull(store.get(0));
+        assertNull(store.get(3));
+    }
+
+    @Test
+    void keepsNullFields() {
+        final OffHeapProductStore store = new OffHeapProductStore();
+        final long id = store.add(new Product());
+        final Product stored = store.get(id);
+
+        assertNull(stored.getName());
+        assertNull(stored.getDescription());
+        assertNull(stored.getCategory());
+        assertNull(stored.getAvailable());
+        assertNull(stored.getPrice());
+        assertNull(stored.getUpdatedTime());
+        assertNull(stored.getUserId());
+        assertFalse(store.takeStock(id, 1));
+        assertTrue(store.returnStock(id, 3));
+        assertEquals(3L, store.get(id).getAvailable());
+    }
+
+    @Test
+    void updatesAndRemovesRows() {
+        final OffHeapProductStore store = new OffHeapProductStore();
+        final long id = store.add(newProduct("before", 1L));
+        final Product updated = newProduct("after", 2L);
+
+        updated.setName(null);
+        updated.setPrice(null);
+        assertTrue(store.update(id, updated));
+        assertSameProduct(updated, store.get(id));
+        assertTrue(store.takeStock(id, 10));
+        assertFalse(store.takeStock(id, 1_000));
+        assertEquals(90L, store.get(id).getAvailable());
+
+        assertTrue(store.remove(id));
+        assertNull(store.get(id));
+        assertFalse(store.remove(id));
+        assertFalse(store.update(id, updated));
+        assertFalse(store.takeStock(id, 1));
+        assertFalse(store.returnStock(id, 1));
+        assertEquals(0, store.ids().length);
+        assertEquals(0, store.values().size());
+    }
+
+    @Test
+    void filtersAndPagesByUser() {
+        final OffHeapProductStore store = new OffHeapProductStore();
+        final List<List<Long>> userIds = List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+
+        for (int index = 0; index < 3_000; index++) {
+            final long userId = index % 3;
+            final long id = store.add(newProduct("product" + index, userId));
+
+            if (0 == index % 7) {
+                store.remove(id);
+            } else {
+                userIds.get((int) userId).add(id);
+            }
+        }
+
+        for (int userId = 0; userId < 3; userId++) {
+            assertEquals(userIds.get(userId), getIds(store.getUserProducts(userId)));
+            final List<Long> paged = new ArrayList<>();
+            long afterId = 0;
+            List<Product> page;
+
+            while (!(page = store.getPage((long) userId, afterId, 50)).isEmpty()) {
+                assertTrue(page.size() <= 50);
+                paged.addAll(getIds(page));
+                afterId = page.get(page.size() - 1).getId();
+            }
+            assertEquals(userIds.get(userId), paged);
+        }
+        assertEquals(List.of(6L, 7L, 9L), getIds(store.getPage(null, 5, 3)));
+        assertEquals(userIds.stream().mapToInt(List::size).sum(), store.ids().length);
+        assertEquals(store.ids().length, store.values().size());
+    }
+
+    @Test
+    void keepsMemoryUnderUpdates() {
+        final OffHeapProductStore store = new OffHeapProductStore();
+
+        for (int index = 0; index < 1_000; index++) {
+            store.add(newProduct("product" + index, 1L));
+        }
+        final long reservedBytes = store.getReservedBytes();
+
+        for (int round = 0; round < 2_000; round++) {
+            for (long id = 1; id <= 1_000; id++) {
+                final Product product = newProduct(0 == round % 2 ? "product" + id : "renamed" + id, 1L);
+
+                product.setPrice(round + 0.5);
+                assertTrue(store.update(id, product));
+            }
+        }
+        assertEquals(reservedBytes, store.getReservedBytes());
+        assertEquals("renamed1", store.get(1).getName());
+        assertEquals(1_999.5, store.get(1).getPrice());
+    }
+
+    @Test
+    void freesChunksWhoseRowsAreAllRemoved() {
+        final OffHeapProductStore store = new OffHeapProductStore();
+
+        for (int index = 0; index < 2 * CHUNK_ROWS + 10; index++) {
+            store.add(newProduct(null, (long) index % 2));
+        }
+        final long reservedBytes = store.getReservedBytes();
+
+        for (long id = 1; id <= CHUNK_ROWS; id++) {
+            assertTrue(store.remove(id));
+        }
+        assertTrue(store.getReservedBytes() < reservedBytes);
+        assertNull(store.get(1));
+        assertFalse(store.takeStock(CHUNK_ROWS, 1));
+        assertFalse(store.update(CHUNK_ROWS, newProduct("again", 0L)));
+        assertEquals(CHUNK_ROWS + 10, store.ids().length);
+        assertEquals(CHUNK_ROWS + 1, store.ids()[0]);
+        assertEquals(List.of(CHUNK_ROWS + 1L, CHUNK_ROWS + 3L), getIds(store.getPage(0L, 0, 2)));
+        assertArrayEquals(store.ids(), store.values().stream().mapToLong(Product::getId).toArray());
+
+        for (long id = 2 * CHUNK_ROWS + 1; id <= 2 * CHUNK_ROWS + 10; id++) {
+            assertTrue(store.remove(id));
+        }
+        assertEquals(CHUNK_ROWS, store.ids().length);
+        assertEquals(2 * CHUNK_ROWS + 11, store.add(newProduct("last", 1L)));
+    }
+
+    private static Product newProduct(final String name, final Long userId) {
+        final Product product = new Product();
+
+        product.setName(name);
+        product.setDescription(null == name ? null : name + " description");
+        product.setCategory(Product.Category.ELECTRONICS);
+        product.setAvailable(100L);
+        product.setPrice(9.99);
+        product.setUserId(userId);
+
+        return product;
+    }
+
+    private static List<Long> getIds(final List<Product> products) {
+        final List<Long> ids = new ArrayList<>();
+
+        for (final Product product : products) {
+            ids.add(product.getId());
+        }
+        return ids;
+    }
+
+    private static void assertSameProduct(final Product expected, final Product actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getCategory(), actual.getCategory());
+        assertEquals(expected.getAvailable(), actual.getAvailable());
+        assertEquals(expected.getPrice(), actual.getPrice());
+        assertEquals(expected.getUpdatedTime(), actual.getUpdatedTime());
+        assertEquals(expected.getUserId(), actual.getUserId());
+    }
+}
@@ -0,0 +1,62 @@
+package com.amazon.service.impl;
+
+import com.amazon.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * Checks that the {@link UserStore} pages its users in id order, skipping the removed ones
+ * </p>
+ *
+ * @author Roshan B
+ * @version 1.0
+ */
+class UserStoreTest {
+
+    @Test
+    void pagesPastRemovedUsers() {
+        final UserStore store = UserStore.getInstance();
+        final long runId = System.nanoTime();
+        final List<Long> kept = new ArrayList<>();
+        long firstId = 0;
+
+        for (int index = 0; index < 100_000; index++) {
+            final User user = new User();
+
+            user.setName("user" + index);
+            user.setEmail(String.format("store%d.%d@amazon.com", runId, index));
+            user.setPhoneNumber(String.format("%d.%d", runId, index));
+            assertTrue(store.add(user));
+            firstId = 0 == index ? user.getId() : firstId;
+
+            if (index < 99_990 && 0 != index % 25_000) {
+                assertTrue(store.remove(user.getId()));
+            } else {
+                kept.add(user.getId());
+            }
+        }
+        final List<Long> paged = new ArrayList<>();
+        long afterId = firstId - 1;
+        List<User> page;
+
+        while (!(page = store.getPage(afterId, 4)).isEmpty()) {
+            assertTrue(page.size() <= 4);
+
+            for (final User user : page) {
+                paged.add(user.getId());
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+        assertEquals(kept, paged);
+
+        for (final long id : kept) {
+            store.remove(id);
+        }
+    }
+}
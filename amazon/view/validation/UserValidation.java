@@ -1,5 +1,7 @@
 package com.amazon.view.validation;
 
+import com.amazon.validation.UserRules;
+
 /**
  * <p>
  * Validates the email, password, username, address, phone number
@@ -35,7 +37,7 @@ public class UserValidation extends Validation {
      * @return True if the email is matches pattern otherwise return false
      */
     public boolean validateEmail(final String email) {
-        return email.matches("^[a-zA-z]+[a-zA-Z0-9_.\\S]+@[a-z]{3,}\\.[a-z\\S]{2,3}$");
+        return UserRules.EMAIL.isValid(email);
     }
 
     /**
@@ -47,7 +49,7 @@ public class UserValidation extends Validation {
      * @return True if the email is matches pattern otherwise return false
      */
     public boolean validateId(final String email) {
-        return email.matches("^[0-9]+$");
+        return UserRules.ID.isValid(email);
     }
 
     /**
@@ -59,7 +61,7 @@ public class UserValidation extends Validation {
      * @return True if the password matches the pattern otherwise return false
      */
     public boolean validatePassword(final String password) {
-        return password.matches("^(?=.*\\d)(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%]).\\S{7,20}$");
+        return UserRules.PASSWORD.isValid(password);
     }
 
     /**
@@ -71,7 +73,7 @@ public class UserValidation extends Validation {
      * @return True if the users name matches the pattern
      */
     public boolean validateUserName(final String userName) {
-        return userName.matches("^[a-zA-Z][a-zA-Z0-9]{3,16}");
+        return UserRules.NAME.isValid(userName);
     }
 
     /**
@@ -83,7 +85,7 @@ public class UserValidation extends Validation {
      * @return True if the address is valid
      */
     public boolean validateAddress(final String address) {
-        return address.matches("^[0-9]+/[0-9]{1,3}[\\w*\\s*[0-9]*]{2,}");
+        return UserRules.ADDRESS.isValid(address);
     }
 
     /**
@@ -95,7 +97,7 @@ public class UserValidation extends Validation {
      * @return True if the Phone number matches the pattern otherwise returns false
      */
     public boolean validatePhone(final String phoneNumber) {
-        return phoneNumber.matches("^[6-9][0-9]{9}+$");
+        return UserRules.PHONE_NUMBER.isValid(phoneNumber);
     }
 
     /**